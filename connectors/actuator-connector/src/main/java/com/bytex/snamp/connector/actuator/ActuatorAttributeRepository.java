@@ -6,9 +6,12 @@ import com.sun.jersey.api.client.WebResource;
 import org.codehaus.jackson.JsonNode;
 
 import javax.management.openmbean.OpenDataException;
+import java.time.Duration;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.logging.Level;
 
 /**
  * Repository of metrics provided by Spring Actuator.
@@ -17,16 +20,24 @@ import java.util.Optional;
  * @since 2.0
  */
 final class ActuatorAttributeRepository extends AbstractAttributeRepository<SpringMetric> {
-    private final WebResource metricsResource;
+    private final MetricsSnapshotCache metrics;
 
-        ActuatorAttributeRepository(final String resourceName, final WebResource metricsResource) {
+    ActuatorAttributeRepository(final String resourceName,
+                                final WebResource metricsResource,
+                                final Duration metricsFreshness) {
         super(resourceName, SpringMetric.class);
-        this.metricsResource = metricsResource;
+        metrics = new MetricsSnapshotCache(() -> metricsResource.get(JsonNode.class), metricsFreshness);
     }
 
     @Override
     public Map<String, AttributeDescriptor> discoverAttributes() {
-        final JsonNode metrics = metricsResource.get(JsonNode.class);
+        final JsonNode metrics;
+        try {
+            metrics = this.metrics.get();
+        } catch (final Exception e) {
+            failedToExpand(Level.WARNING, e);
+            return Collections.emptyMap();
+        }
         final Map<String, AttributeDescriptor> result = new HashMap<>();
         metrics.getFields().forEachRemaining(field -> result.put(field.getKey(), createDescriptor()));
         return result;
@@ -57,7 +68,7 @@ final class ActuatorAttributeRepository extends AbstractAttributeRepository<Spri
 
     @Override
     protected SpringMetric<?> connectAttribute(final String attributeName, final AttributeDescriptor descriptor) throws Exception {
-        final JsonNode node = metricsResource.get(JsonNode.class);
+        final JsonNode node = metrics.get();
         final String metricName = descriptor.getAlternativeName().orElse(attributeName);
         if (node.isObject())
             return connectAttribute(attributeName, node.get(metricName), descriptor)
@@ -68,7 +79,7 @@ final class ActuatorAttributeRepository extends AbstractAttributeRepository<Spri
 
     @Override
     protected Object getAttribute(final SpringMetric metadata) throws Exception {
-        return metadata.getValue(metricsResource);
+        return metadata.extractValue(metrics.get());
     }
 
     @Override
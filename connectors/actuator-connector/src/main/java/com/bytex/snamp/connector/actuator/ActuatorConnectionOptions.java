@@ -8,6 +8,7 @@ import com.sun.jersey.api.client.config.DefaultClientConfig;
 import com.sun.jersey.api.client.filter.ClientFilter;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.Map;
 
 /**
@@ -18,6 +19,7 @@ import java.util.Map;
 final class ActuatorConnectionOptions implements SafeCloseable {
     private final WebResource healthResource;
     private final WebResource metricsResource;
+    private final Duration metricsFreshness;
 
     ActuatorConnectionOptions(final URI actuatorUri,
                               final Map<String, String> configuration){
@@ -30,6 +32,7 @@ final class ActuatorConnectionOptions implements SafeCloseable {
         final WebResource actuatorRoot = actuatorClient.resource(actuatorUri);
         metricsResource = actuatorClient.resource(actuatorRoot.getUriBuilder().segment(provider.getMetricsPath(configuration)).build());
         healthResource = actuatorClient.resource(actuatorRoot.getUriBuilder().segment(provider.getHealthPath(configuration)).build());
+        metricsFreshness = provider.getMetricsFreshness(configuration);
     }
 
     private static void setupAuthentication(final Client actuatorClient,
@@ -48,6 +51,10 @@ final class ActuatorConnectionOptions implements SafeCloseable {
         return metricsResource;
     }
 
+    Duration getMetricsFreshness(){
+        return metricsFreshness;
+    }
+
     @Override
     public void close() {
 
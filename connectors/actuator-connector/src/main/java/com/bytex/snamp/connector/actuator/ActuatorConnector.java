@@ -38,7 +38,7 @@ final class ActuatorConnector extends AbstractManagedResourceConnector implement
     ActuatorConnector(final String resourceName,
                               final ActuatorConnectionOptions options) {
         healthResource = options.getHealthResource();
-        attributes = new ActuatorAttributeRepository(resourceName, options.getMetricsResource());
+        attributes = new ActuatorAttributeRepository(resourceName, options.getMetricsResource(), options.getMetricsFreshness());
     }
 
     ActuatorConnector(final String resourceName,
@@ -9,8 +9,11 @@ import com.sun.jersey.api.client.filter.ClientFilter;
 import com.sun.jersey.api.client.filter.HTTPBasicAuthFilter;
 import com.sun.jersey.api.client.filter.HTTPDigestAuthFilter;
 
+import java.time.Duration;
 import java.util.Map;
 
+import static com.bytex.snamp.MapUtils.getValueAsLong;
+
 /**
  * @author Roman Sakno
  * @version 2.0
@@ -22,6 +25,8 @@ final class ActuatorConnectorDescriptionProvider extends ConfigurationEntityDesc
     private static final String PASSWORD_PARAM = "password";
     private static final String METRICS_PATH_PARAM = "metricsPath";
     private static final String HEALTH_PATH_PARAM = "healthPath";
+    private static final String METRICS_FRESHNESS_PARAM = "metricsFreshness";
+    private static final long DEFAULT_METRICS_FRESHNESS = 1000L;
     private static final LazyReference<ActuatorConnectorDescriptionProvider> INSTANCE = LazyReference.soft();
 
     private static final class ConnectorConfigurationDescriptor extends ResourceBasedConfigurationEntityDescription<ManagedResourceConfiguration>{
@@ -34,7 +39,8 @@ final class ActuatorConnectorDescriptionProvider extends ConfigurationEntityDesc
                     USER_NAME_PARAM,
                     PASSWORD_PARAM,
                     METRICS_PATH_PARAM,
-                    HEALTH_PATH_PARAM);
+                    HEALTH_PATH_PARAM,
+                    METRICS_FRESHNESS_PARAM);
 
         }
     }
@@ -70,4 +76,8 @@ final class ActuatorConnectorDescriptionProvider extends ConfigurationEntityDesc
     String getHealthPath(final Map<String, String> parameters){
         return parameters.getOrDefault(HEALTH_PATH_PARAM, "health.json");
     }
+
+    Duration getMetricsFreshness(final Map<String, String> parameters){
+        return Duration.ofMillis(getValueAsLong(parameters, METRICS_FRESHNESS_PARAM, Long::parseLong).orElse(DEFAULT_METRICS_FRESHNESS));
+    }
 }
@@ -0,0 +1,43 @@
+package com.bytex.snamp.connector.actuator;
+
+import com.bytex.snamp.concurrent.SingleFlightValue;
+import org.codehaus.jackson.JsonNode;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+
+/**
+ * Represents cache of metrics document obtained from Spring Actuator.
+ * <p>
+ *     The document is loaded once per freshness window and shared across all attribute reads in this window.
+ *     Concurrent readers of the stale snapshot wait for the single in-flight request.
+ * @author Roman Sakno
+ * @version 2.0
+ * @since 2.0
+ */
+final class MetricsSnapshotCache {
+    private final Callable<? extends JsonNode> loader;
+    private final Duration freshness;
+    private final SingleFlightValue<JsonNode> snapshot;
+
+    /**
+     * Initializes a new cache.
+     * @param loader Loader of the metrics document.
+     * @param freshness Freshness window of the loaded document.
+     */
+    MetricsSnapshotCache(final Callable<? extends JsonNode> loader, final Duration freshness) {
+        this.loader = Objects.requireNonNull(loader);
+        this.freshness = Objects.requireNonNull(freshness);
+        this.snapshot = new SingleFlightValue<>();
+    }
+
+    /**
+     * Gets metrics document.
+     * @return Metrics document.
+     * @throws Exception Unable to load metrics document.
+     */
+    JsonNode get() throws Exception {
+        return snapshot.get(freshness, loader);
+    }
+}
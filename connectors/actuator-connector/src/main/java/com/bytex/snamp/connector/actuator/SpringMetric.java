@@ -3,7 +3,6 @@ package com.bytex.snamp.connector.actuator;
 import com.bytex.snamp.connector.attributes.AbstractOpenAttributeInfo;
 import com.bytex.snamp.connector.attributes.AttributeDescriptor;
 import com.bytex.snamp.connector.attributes.AttributeSpecifier;
-import com.sun.jersey.api.client.WebResource;
 import org.codehaus.jackson.JsonNode;
 
 import javax.management.openmbean.OpenDataException;
@@ -26,15 +25,14 @@ abstract class SpringMetric<T> extends AbstractOpenAttributeInfo {
 
     abstract T getValue(final JsonNode valueNode) throws Exception;
 
-    final T getValue(final WebResource actuatorRoot) throws Exception{
-        final JsonNode node = actuatorRoot.get(JsonNode.class);
-        if (node.isObject()) {
-            final JsonNode valueNode = node.get(name);
+    final T extractValue(final JsonNode metrics) throws Exception{
+        if (metrics.isObject()) {
+            final JsonNode valueNode = metrics.get(name);
             if(valueNode.isValueNode())
                 return getValue(valueNode);
             else
                 throw new OpenDataException(String.format("'%s' is not a scalar value", valueNode));
         } else
-            throw new OpenDataException(String.format("Unexpected metrics: %s", node));
+            throw new OpenDataException(String.format("Unexpected metrics: %s", metrics));
     }
 }
@@ -0,0 +1,54 @@
+package com.bytex.snamp.connector.actuator;
+
+import org.codehaus.jackson.JsonNode;
+import org.codehaus.jackson.node.JsonNodeFactory;
+import org.codehaus.jackson.node.ObjectNode;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author Roman Sakno
+ * @version 2.0
+ * @since 2.0
+ */
+public final class MetricsSnapshotCacheTest extends Assert {
+    private static JsonNode createMetrics(final int value){
+        final ObjectNode result = JsonNodeFactory.instance.objectNode();
+        result.put("counter", value);
+        return result;
+    }
+
+    @Test
+    public void freshnessTest() throws Exception {
+        final AtomicInteger requests = new AtomicInteger(0);
+        final MetricsSnapshotCache cache = new MetricsSnapshotCache(() -> createMetrics(requests.incrementAndGet()), Duration.ofMillis(200));
+        for (int i = 0; i < 80; i++)
+            assertEquals(1, cache.get().get("counter").getIntValue());
+        assertEquals(1, requests.get());
+        Thread.sleep(300);
+        assertEquals(2, cache.get().get("counter").getIntValue());
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    public void failedRequestTest() throws Exception {
+        final AtomicInteger requests = new AtomicInteger(0);
+        final MetricsSnapshotCache cache = new MetricsSnapshotCache(() -> {
+            if (requests.incrementAndGet() == 1)
+                throw new IOException("Connection refused");
+            return createMetrics(requests.get());
+        }, Duration.ofMinutes(1));
+        try {
+            cache.get();
+            fail("Exception expected");
+        } catch (final IOException e) {
+            assertEquals("Connection refused", e.getMessage());
+        }
+        //failed request should not be cached
+        assertEquals(2, cache.get().get("counter").getIntValue());
+    }
+}
@@ -144,7 +144,11 @@ final class AttributeComposition extends DistributedAttributeRepository<Abstract
     public void handleNotification(final Notification notification, final Object handback) {
         forEach(attribute -> Convert
                 .toType(attribute, NotificationListener.class)
-                .ifPresent(listener -> listener.handleNotification(notification, handback)));
+                .ifPresent(listener -> {
+                    listener.handleNotification(notification, handback);
+                    if (attribute instanceof DistributedAttribute)
+                        attributeModified(attribute);
+                }));
     }
 
     @Override
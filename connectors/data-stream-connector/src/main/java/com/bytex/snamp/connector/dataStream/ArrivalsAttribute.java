@@ -7,7 +7,6 @@ import org.osgi.framework.InvalidSyntaxException;
 
 import javax.management.openmbean.CompositeData;
 import javax.management.openmbean.CompositeType;
-import java.time.Duration;
 
 import static com.bytex.snamp.jmx.MetricsConverter.ARRIVALS_TYPE;
 import static com.bytex.snamp.jmx.MetricsConverter.fromArrivals;
@@ -24,7 +23,7 @@ final class ArrivalsAttribute extends MetricHolderAttribute<ArrivalsRecorder, Ti
 
     ArrivalsAttribute(final String name, final AttributeDescriptor descriptor) throws InvalidSyntaxException {
         super(TimeMeasurementNotification.class, name, TYPE, descriptor, metricName -> {
-            final ArrivalsRecorder recorder = new ArrivalsRecorder(metricName);
+            final ArrivalsRecorder recorder = new ArrivalsRecorder(metricName, DataStreamConnectorConfigurationDescriptionProvider.parseReservoir(descriptor));
             recorder.setChannels(DataStreamConnectorConfigurationDescriptionProvider.parseChannels(descriptor));
             return recorder;
         });
@@ -37,7 +36,7 @@ final class ArrivalsAttribute extends MetricHolderAttribute<ArrivalsRecorder, Ti
 
     @Override
     void updateMetric(final ArrivalsRecorder metric, final TimeMeasurementNotification notification) {
-        metric.accept(notification.getMeasurement().convertTo(Duration.class));
+        metric.record(notification.getMeasurement().toNanos());
     }
 
     @Override
@@ -156,13 +156,7 @@ public abstract class DataStreamConnector extends AbstractManagedResourceConnect
     @SpecialUse(SpecialUse.Case.REFLECTION)
     @ManagementOperation(description = "Resets the specified metrics")
     public boolean resetMetric(@OperationParameter(name = "attributeName", description = "The name of the attribute to reset") final String attributeName) {
-        return attributes.getAttributeInfo(attributeName)
-                .flatMap(Convert.toType(MetricHolderAttribute.class))
-                .map(attribute -> {
-                    attribute.reset();
-                    return true;
-                })
-                .orElse(false);
+        return attributes.resetMetric(attributeName);
     }
 
     public final void dispatch(final Map<String, ?> headers, final Object body) throws Exception {
@@ -6,6 +6,9 @@ import com.bytex.snamp.configuration.*;
 import com.bytex.snamp.connector.ManagedResourceDescriptionProvider;
 import com.bytex.snamp.connector.attributes.AttributeDescriptor;
 import com.bytex.snamp.connector.dataStream.groovy.GroovyNotificationFilterFactory;
+import com.bytex.snamp.moa.DoubleHistogram;
+import com.bytex.snamp.moa.DoubleReservoir;
+import com.bytex.snamp.moa.Reservoir;
 import com.bytex.snamp.parser.ParseException;
 import com.google.common.collect.ObjectArrays;
 
@@ -35,6 +38,9 @@ public abstract class DataStreamConnectorConfigurationDescriptionProvider extend
     private static final String FILTER_PARAM = "filter";
     private static final String GAUGE_TYPE_PARAM = "gauge";
     private static final String HEARTBEAT_PARAM = "heartbeat";
+    private static final String RESERVOIR_PARAM = "reservoir";
+    private static final String SORTED_RESERVOIR = "sorted";
+    private static final String HISTOGRAM_RESERVOIR = "histogram";
 
     protected static class ConnectorConfigurationDescription extends ResourceBasedConfigurationEntityDescription<ManagedResourceConfiguration>{
         private static final String RESOURCE_NAME = "ConnectorConfiguration";
@@ -70,7 +76,7 @@ public abstract class DataStreamConnectorConfigurationDescriptionProvider extend
     protected static class AttributeConfigurationDescription extends ResourceBasedConfigurationEntityDescription<AttributeConfiguration>{
         private static final String RESOURCE_NAME = "AttributeConfiguration";
         private final ResourceReader fallbackReader;
-        private static final String[] DEFAULT_PARAMS = {RANGE_START_PARAM, RANGE_END_PARAM, CHANNELS_PARAM, FILTER_PARAM, GAUGE_TYPE_PARAM};
+        private static final String[] DEFAULT_PARAMS = {RANGE_START_PARAM, RANGE_END_PARAM, CHANNELS_PARAM, FILTER_PARAM, GAUGE_TYPE_PARAM, RESERVOIR_PARAM};
 
         /**
          * Initializes a new resource-based descriptor.
@@ -190,6 +196,27 @@ public abstract class DataStreamConnectorConfigurationDescriptionProvider extend
                 .orElse(1);
     }
 
+    /**
+     * Creates reservoir used by metric recorder to compute quantiles.
+     * <p>
+     *     {@code sorted} reservoir is used by default.
+     *     {@code histogram} reservoir is lock-free and should be used for attributes with high rate of measurements.
+     * @param descriptor Attribute descriptor.
+     * @return A new instance of reservoir.
+     * @throws IllegalArgumentException Unknown type of reservoir.
+     */
+    static Reservoir parseReservoir(final AttributeDescriptor descriptor) {
+        final String reservoirType = getField(descriptor, RESERVOIR_PARAM, String::valueOf).orElse(SORTED_RESERVOIR);
+        switch (reservoirType) {
+            case SORTED_RESERVOIR:
+                return new DoubleReservoir(DoubleReservoir.DEFAULT_SAMPLING_SIZE);
+            case HISTOGRAM_RESERVOIR:
+                return new DoubleHistogram();
+            default:
+                throw new IllegalArgumentException(String.format("Unknown reservoir type '%s'. Expected '%s' or '%s'", reservoirType, SORTED_RESERVOIR, HISTOGRAM_RESERVOIR));
+        }
+    }
+
     public SyntheticAttributeFactory parseGaugeType(final AttributeDescriptor descriptor) throws DSConnectorAbsentConfigurationParameterException, ParseException {
         final String gaugeType =
                 getFieldIfPresent(descriptor, GAUGE_TYPE_PARAM, String::valueOf, DSConnectorAbsentConfigurationParameterException::new);
@@ -203,6 +230,12 @@ public abstract class DataStreamConnectorConfigurationDescriptionProvider extend
         return filterFactory.create(filter);
     }
 
+    static NotificationRoute parseNotificationRoute(final Descriptor descriptor) {
+        return getField(descriptor, FILTER_PARAM, String::valueOf)
+                .map(NotificationRoute::parseFilter)
+                .orElse(NotificationRoute.ANY);
+    }
+
     protected Optional<Duration> getHeartbeat(final Map<String, String> parameters) {
         return getValue(parameters, HEARTBEAT_PARAM, Long::parseLong).map(Duration::ofMillis);
     }
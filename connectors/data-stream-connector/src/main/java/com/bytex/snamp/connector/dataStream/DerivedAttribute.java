@@ -31,4 +31,9 @@ public abstract class DerivedAttribute<T> extends SyntheticAttribute {
     protected NotificationProcessingResult handleNotification(final Notification notification) {
         return notificationIgnored();
     }
+
+    @Override
+    NotificationRoute createRoute() {
+        return NotificationRoute.NONE;
+    }
 }
@@ -23,7 +23,7 @@ final class Gauge64Attribute extends MetricHolderAttribute<RatedGauge64Recorder,
     private static final long serialVersionUID = -5234028741040752357L;
 
     Gauge64Attribute(final String name, final AttributeDescriptor descriptor) throws InvalidSyntaxException {
-        super(ValueMeasurementNotification.class, name, TYPE, descriptor, RatedGauge64Recorder::new);
+        super(ValueMeasurementNotification.class, name, TYPE, descriptor, n -> new RatedGauge64Recorder(n, DataStreamConnectorConfigurationDescriptionProvider.parseReservoir(descriptor)));
     }
 
     @Override
@@ -23,7 +23,7 @@ final class GaugeFPAttribute extends MetricHolderAttribute<RatedGaugeFPRecorder,
     static final String NAME = "gaugeFP";
 
     GaugeFPAttribute(final String name, final AttributeDescriptor descriptor) throws InvalidSyntaxException {
-        super(ValueMeasurementNotification.class, name, TYPE, descriptor, RatedGaugeFPRecorder::new);
+        super(ValueMeasurementNotification.class, name, TYPE, descriptor, n -> new RatedGaugeFPRecorder(n, DataStreamConnectorConfigurationDescriptionProvider.parseReservoir(descriptor)));
     }
 
     @Override
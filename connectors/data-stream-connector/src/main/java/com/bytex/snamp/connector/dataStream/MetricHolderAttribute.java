@@ -76,9 +76,21 @@ abstract class MetricHolderAttribute<M extends AbstractMetric, N extends Notific
 
     abstract void updateMetric(final M metric, final N notification);
 
+    /**
+     * Creates route describing notifications that can be handled by this attribute.
+     * @return Route of this attribute.
+     * @implSpec Metric can be updated only by notification which represents the measurement with the same name as the attribute.
+     */
+    @Override
+    final NotificationRoute createRoute() {
+        return NotificationRoute.byName(AttributeDescriptor.getName(this));
+    }
+
     @Override
     protected final CompositeData changeAttributeValue(final N notification) {
         final M metric = this.metric;
+        if (metric == null)     //attribute is disconnected but notification is still in flight
+            return null;
         updateMetric(metric, notification);
         return getValue(metric);
     }
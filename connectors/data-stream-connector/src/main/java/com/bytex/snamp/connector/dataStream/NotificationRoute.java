@@ -0,0 +1,151 @@
+package com.bytex.snamp.connector.dataStream;
+
+import com.bytex.snamp.instrumentation.measurements.jmx.MeasurementNotification;
+
+import javax.annotation.concurrent.Immutable;
+import javax.management.Notification;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Represents statically known constraints of notifications that can be handled by attribute.
+ * <p>
+ *     Routing name of measurement notification is a name of measurement. Routing name of any other notification is its type.
+ * @author Roman Sakno
+ * @version 2.0
+ * @since 2.0
+ */
+@Immutable
+final class NotificationRoute {
+    /**
+     * Represents route that accepts any notification.
+     */
+    static final NotificationRoute ANY = new NotificationRoute(null, null, null, true);
+    /**
+     * Represents route that doesn't accept any notification.
+     */
+    static final NotificationRoute NONE = new NotificationRoute(null, null, null, false);
+
+    private static final String LITERAL = "(?:'([^'\\\\]*)'|\"([^\"\\\\$]*)\")";
+    private static final Pattern CLAUSE = Pattern.compile("\\s*(type|measurement\\.name|measurement\\.componentName)\\s*==\\s*" + LITERAL + "\\s*(&&|$)");
+    private static final Pattern RETURN = Pattern.compile("^\\s*(?:return\\s+)?(.*?)\\s*;?\\s*$", Pattern.DOTALL);
+
+    private final String type;
+    private final String routingName;
+    private final String componentName;
+    private final boolean reachable;
+
+    private NotificationRoute(final String type,
+                              final String routingName,
+                              final String componentName,
+                              final boolean reachable) {
+        this.type = type;
+        this.routingName = routingName;
+        this.componentName = componentName;
+        this.reachable = reachable;
+    }
+
+    static NotificationRoute byName(final String routingName) {
+        return new NotificationRoute(null, Objects.requireNonNull(routingName), null, true);
+    }
+
+    static String getRoutingName(final Notification notification) {
+        return notification instanceof MeasurementNotification<?> ?
+                ((MeasurementNotification<?>) notification).getMeasurement().getName() :
+                notification.getType();
+    }
+
+    private static String merge(final String left, final String right) throws IllegalArgumentException {
+        if (left == null)
+            return right;
+        else if (right == null || left.equals(right))
+            return left;
+        else
+            throw new IllegalArgumentException(String.format("Constraints %s and %s are mutually exclusive", left, right));
+    }
+
+    /**
+     * Combines constraints of this route with constraints of another route.
+     * @param other Another route.
+     * @return A route accepting notifications that are accepted by both routes.
+     */
+    NotificationRoute and(final NotificationRoute other) {
+        if (reachable && other.reachable)
+            try {
+                return new NotificationRoute(merge(type, other.type),
+                        merge(routingName, other.routingName),
+                        merge(componentName, other.componentName),
+                        true);
+            } catch (final IllegalArgumentException e) {
+                return NONE;
+            }
+        else
+            return NONE;
+    }
+
+    boolean isReachable() {
+        return reachable;
+    }
+
+    Optional<String> getRoutingName() {
+        return Optional.ofNullable(routingName);
+    }
+
+    /**
+     * Checks constraints that are not covered by routing name.
+     * @param notification Notification to check.
+     * @return {@literal false}, if notification definitely cannot be handled by attribute.
+     */
+    boolean test(final Notification notification) {
+        if (type != null && !type.equals(notification.getType()))
+            return false;
+        else if (componentName != null && notification instanceof MeasurementNotification<?>)
+            return componentName.equals(((MeasurementNotification<?>) notification).getMeasurement().getComponentName());
+        else
+            return true;
+    }
+
+    /**
+     * Extracts route from Groovy-based filter.
+     * <p>
+     *     Only conjunction of equality checks of {@code type}, {@code measurement.name} and {@code measurement.componentName}
+     *     with string literals can be analyzed. Any other script is opaque and produces {@link #ANY}.
+     * @param script Groovy-based filter.
+     * @return Route extracted from the filter.
+     */
+    static NotificationRoute parseFilter(final String script) {
+        final Matcher body = RETURN.matcher(script);
+        if (!body.matches() || body.group(1).isEmpty())
+            return ANY;
+        final String expression = body.group(1);
+        final Matcher clause = CLAUSE.matcher(expression);
+        NotificationRoute result = ANY;
+        int position = 0;
+        while (position < expression.length() && clause.find(position) && clause.start() == position) {
+            final String value = clause.group(2) != null ? clause.group(2) : clause.group(3);
+            switch (clause.group(1)) {
+                case "type":
+                    result = result.and(new NotificationRoute(value, null, null, true));
+                    break;
+                case "measurement.name":
+                    result = result.and(byName(value));
+                    break;
+                default:
+                    result = result.and(new NotificationRoute(null, null, value, true));
+            }
+            position = clause.end();
+            if (clause.group(4).isEmpty())
+                return position == expression.length() ? result : ANY;
+        }
+        return ANY;
+    }
+
+    @Override
+    public String toString() {
+        return reachable ?
+                String.format("type=%s, name=%s, component=%s", type, routingName, componentName) :
+                "NONE";
+    }
+}
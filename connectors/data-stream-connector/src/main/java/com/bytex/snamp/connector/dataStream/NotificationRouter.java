@@ -0,0 +1,134 @@
+package com.bytex.snamp.connector.dataStream;
+
+import com.bytex.snamp.connector.FeatureModifiedEvent;
+import com.bytex.snamp.connector.ResourceEvent;
+import com.bytex.snamp.connector.ResourceEventListener;
+import com.google.common.collect.ImmutableMap;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import javax.management.Notification;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/**
+ * Represents dispatch index of synthetic attributes keyed by routing name of notification.
+ * <p>
+ *     The index is rebuilt when attribute is added or removed. Attributes without statically known
+ *     routing name are placed into residual list and receive every notification.
+ * @author Roman Sakno
+ * @version 2.0
+ * @since 2.0
+ * @see NotificationRoute
+ */
+@ThreadSafe
+final class NotificationRouter implements ResourceEventListener {
+    private static final class Route {
+        private final SyntheticAttribute attribute;
+        private final NotificationRoute constraints;
+
+        private Route(final SyntheticAttribute attribute, final NotificationRoute constraints) {
+            this.attribute = attribute;
+            this.constraints = constraints;
+        }
+
+        private boolean dispatch(final Notification notification,
+                                 final BiConsumer<? super SyntheticAttribute, ? super SyntheticAttribute.NotificationProcessingResult> callback) {
+            if (constraints.test(notification)) {
+                callback.accept(attribute, attribute.dispatch(notification));
+                return true;
+            } else
+                return false;
+        }
+    }
+
+    private static final class RoutingTable {
+        private static final Route[] EMPTY = new Route[0];
+        private static final RoutingTable EMPTY_TABLE = new RoutingTable(ImmutableMap.of(), EMPTY);
+        private final ImmutableMap<String, Route[]> routes;
+        private final Route[] residual;
+
+        private RoutingTable(final ImmutableMap<String, Route[]> routes, final Route[] residual) {
+            this.routes = routes;
+            this.residual = residual;
+        }
+
+        private static RoutingTable build(final Collection<SyntheticAttribute> attributes) {
+            final Map<String, List<Route>> routes = new HashMap<>();
+            final List<Route> residual = new ArrayList<>();
+            for (final SyntheticAttribute attribute : attributes) {
+                final NotificationRoute constraints = attribute.getRoute();
+                if (constraints.isReachable()) {
+                    final Route route = new Route(attribute, constraints);
+                    final Optional<String> routingName = constraints.getRoutingName();
+                    if (routingName.isPresent())
+                        routes.computeIfAbsent(routingName.get(), name -> new ArrayList<>()).add(route);
+                    else
+                        residual.add(route);
+                }
+            }
+            final ImmutableMap.Builder<String, Route[]> builder = ImmutableMap.builder();
+            routes.forEach((name, list) -> builder.put(name, list.toArray(EMPTY)));
+            return new RoutingTable(builder.build(), residual.toArray(EMPTY));
+        }
+
+        private Route[] getRoutes(final Notification notification) {
+            return routes.getOrDefault(NotificationRoute.getRoutingName(notification), EMPTY);
+        }
+    }
+
+    private final Map<String, SyntheticAttribute> attributes;
+    private volatile RoutingTable table;
+    private final LongAdder indexHits;
+    private final LongAdder residualScans;
+
+    NotificationRouter() {
+        attributes = new HashMap<>();
+        table = RoutingTable.EMPTY_TABLE;
+        indexHits = new LongAdder();
+        residualScans = new LongAdder();
+    }
+
+    @Override
+    public void resourceModified(@Nonnull final ResourceEvent event) {
+        if (event instanceof FeatureModifiedEvent<?>) {
+            final FeatureModifiedEvent<?> modification = (FeatureModifiedEvent<?>) event;
+            if (modification.getFeature() instanceof SyntheticAttribute) {
+                final SyntheticAttribute attribute = (SyntheticAttribute) modification.getFeature();
+                synchronized (attributes) {
+                    switch (modification.getModifier()) {
+                        case ADDED:
+                            attributes.put(attribute.getName(), attribute);
+                            break;
+                        case REMOVING:
+                            attributes.remove(attribute.getName());
+                            break;
+                    }
+                    table = RoutingTable.build(attributes.values());
+                }
+            }
+        }
+    }
+
+    void route(final Notification notification,
+               final BiConsumer<? super SyntheticAttribute, ? super SyntheticAttribute.NotificationProcessingResult> callback) {
+        final RoutingTable table = this.table;
+        long hits = 0L;
+        for (final Route route : table.getRoutes(notification))
+            if (route.dispatch(notification, callback))
+                hits += 1L;
+        indexHits.add(hits);
+        for (final Route route : table.residual)
+            route.dispatch(notification, callback);
+        residualScans.add(table.residual.length);
+    }
+
+    long getIndexHits() {
+        return indexHits.sum();
+    }
+
+    long getResidualScans() {
+        return residualScans.sum();
+    }
+}
@@ -23,7 +23,7 @@ final class RangedGauge64Attribute extends MetricHolderAttribute<RangedGauge64Re
     private static final long serialVersionUID = -5234028741040752357L;
 
     private RangedGauge64Attribute(final String name, final AttributeDescriptor descriptor, final long rangeStart, final long rangeEnd) throws InvalidSyntaxException {
-        super(ValueMeasurementNotification.class, name, TYPE, descriptor, (n) -> new RangedGauge64Recorder(n, rangeStart, rangeEnd));
+        super(ValueMeasurementNotification.class, name, TYPE, descriptor, (n) -> new RangedGauge64Recorder(n, rangeStart, rangeEnd, DataStreamConnectorConfigurationDescriptionProvider.parseReservoir(descriptor)));
     }
 
     RangedGauge64Attribute(final String name, final AttributeDescriptor descriptor) throws DSConnectorAbsentConfigurationParameterException, InvalidSyntaxException {
@@ -23,7 +23,7 @@ final class RangedGaugeFPAttribute extends MetricHolderAttribute<RangedGaugeFPRe
     private static final long serialVersionUID = -5234028741040752357L;
 
     private RangedGaugeFPAttribute(final String name, final AttributeDescriptor descriptor, final double rangeStart, final double rangeEnd) throws InvalidSyntaxException {
-        super(ValueMeasurementNotification.class, name, TYPE, descriptor, (n) -> new RangedGaugeFPRecorder(n, rangeStart, rangeEnd));
+        super(ValueMeasurementNotification.class, name, TYPE, descriptor, (n) -> new RangedGaugeFPRecorder(n, rangeStart, rangeEnd, DataStreamConnectorConfigurationDescriptionProvider.parseReservoir(descriptor)));
     }
 
     RangedGaugeFPAttribute(final String name, final AttributeDescriptor descriptor) throws DSConnectorAbsentConfigurationParameterException, InvalidSyntaxException {
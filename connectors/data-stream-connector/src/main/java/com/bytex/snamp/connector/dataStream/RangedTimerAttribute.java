@@ -23,7 +23,7 @@ final class RangedTimerAttribute extends MetricHolderAttribute<RangedTimerRecord
     private static final long serialVersionUID = -5234028741040752357L;
 
     private RangedTimerAttribute(final String name, final AttributeDescriptor descriptor, final Duration rangeStart, final Duration rangeEnd) throws InvalidSyntaxException {
-        super(TimeMeasurementNotification.class, name, TYPE, descriptor, (n) -> new RangedTimerRecorder(n, rangeStart, rangeEnd));
+        super(TimeMeasurementNotification.class, name, TYPE, descriptor, (n) -> new RangedTimerRecorder(n, rangeStart, rangeEnd, DataStreamConnectorConfigurationDescriptionProvider.parseReservoir(descriptor)));
     }
 
     RangedTimerAttribute(final String name, final AttributeDescriptor descriptor) throws DSConnectorAbsentConfigurationParameterException, InvalidSyntaxException {
@@ -40,7 +40,7 @@ final class RangedTimerAttribute extends MetricHolderAttribute<RangedTimerRecord
 
     @Override
     void updateMetric(final RangedTimerRecorder metric, final TimeMeasurementNotification notification) {
-        metric.accept(notification.getMeasurement().convertTo(Duration.class));
+        metric.record(notification.getMeasurement().toNanos());
     }
 
     @Override
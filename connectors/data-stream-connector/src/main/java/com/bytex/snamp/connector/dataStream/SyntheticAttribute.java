@@ -69,6 +69,7 @@ public abstract class SyntheticAttribute extends AbstractOpenAttributeInfo {
     };
 
     private NotificationFilter filter;
+    private NotificationRoute filterRoute;
 
     SyntheticAttribute(final String name,
                        final OpenType<?> type,
@@ -77,6 +78,7 @@ public abstract class SyntheticAttribute extends AbstractOpenAttributeInfo {
                        final AttributeDescriptor descriptor) {
         super(name, type, description, specifier, descriptor);
         filter = n -> true;
+        filterRoute = NotificationRoute.ANY;
     }
 
     /**
@@ -172,7 +174,24 @@ public abstract class SyntheticAttribute extends AbstractOpenAttributeInfo {
             return notificationIgnored();
     }
 
+    /**
+     * Creates route describing notifications that can be handled by this attribute.
+     * @return Route of this attribute; or {@link NotificationRoute#ANY}, if it cannot be determined statically.
+     */
+    NotificationRoute createRoute() {
+        return NotificationRoute.ANY;
+    }
+
+    /**
+     * Gets route of this attribute restricted by the filter.
+     * @return Route of this attribute.
+     */
+    final NotificationRoute getRoute() {
+        return createRoute().and(filterRoute);
+    }
+
     final void setupFilter(final DataStreamConnectorConfigurationDescriptionProvider configurationParser){
         filter = configurationParser.parseNotificationFilter(getDescriptor());
+        filterRoute = DataStreamConnectorConfigurationDescriptionProvider.parseNotificationRoute(getDescriptor());
     }
 }
@@ -28,10 +28,13 @@ public class SyntheticAttributeRepository extends DistributedAttributeRepository
 
     private ExecutorService threadPool;
     private DataStreamConnectorConfigurationDescriptionProvider configurationParser;
+    private final NotificationRouter router;
 
     public SyntheticAttributeRepository(final String resourceName,
                                         final Duration syncPeriod) {
         super(resourceName, SyntheticAttribute.class, syncPeriod);
+        router = new NotificationRouter();
+        addModelEventListener(router);
     }
 
     final void init(final ExecutorService threadPool, final DataStreamConnectorConfigurationDescriptionProvider parser) {
@@ -123,17 +126,57 @@ public class SyntheticAttributeRepository extends DistributedAttributeRepository
         throw SyntheticAttribute.cannotBeModified(attribute);
     }
 
+    /**
+     * Dispatches notification to the attributes that can handle it.
+     * @param notification Notification to dispatch.
+     * @param callback Callback invoked for each attribute received the notification.
+     */
     public final void handleNotification(final Notification notification, final BiConsumer<? super SyntheticAttribute, ? super SyntheticAttribute.NotificationProcessingResult> callback) {
-        forEach(attribute -> callback.accept(attribute, attribute.dispatch(notification)));
+        router.route(notification, (attribute, result) -> {
+            if (attribute instanceof DistributedAttribute<?, ?> && result.isProcessed() && !result.getProcessingError().isPresent())
+                attributeModified(attribute);
+            callback.accept(attribute, result);
+        });
+    }
+
+    /**
+     * Gets number of attributes received notification through dispatch index.
+     * @return Number of attributes received notification through dispatch index.
+     */
+    public final long getRoutingIndexHits() {
+        return router.getIndexHits();
+    }
+
+    /**
+     * Gets number of attributes received notification because their routes cannot be analyzed statically.
+     * @return Number of attributes received notification without dispatch index.
+     */
+    public final long getResidualScans() {
+        return router.getResidualScans();
+    }
+
+    private void resetMetric(final MetricHolderAttribute<?, ?> attribute) {
+        attribute.reset();
+        attributeModified(attribute);
     }
 
     final void resetAllMetrics() {
         forEach(attribute -> {
             if (attribute instanceof MetricHolderAttribute<?, ?>)
-                ((MetricHolderAttribute<?, ?>) attribute).reset();
+                resetMetric((MetricHolderAttribute<?, ?>) attribute);
         });
     }
 
+    final boolean resetMetric(final String attributeName) {
+        return getAttributeInfo(attributeName)
+                .flatMap(Convert.toType(MetricHolderAttribute.class))
+                .map(attribute -> {
+                    resetMetric(attribute);
+                    return true;
+                })
+                .orElse(false);
+    }
+
     @Override
     public void close() {
         threadPool = null;
@@ -7,7 +7,6 @@ import org.osgi.framework.InvalidSyntaxException;
 
 import javax.management.openmbean.CompositeData;
 import javax.management.openmbean.CompositeType;
-import java.time.Duration;
 
 import static com.bytex.snamp.jmx.MetricsConverter.RATED_TIMER_TYPE;
 import static com.bytex.snamp.jmx.MetricsConverter.fromRatedTimer;
@@ -21,7 +20,7 @@ final class TimerAttribute extends MetricHolderAttribute<RatedTimeRecorder, Time
     private static final long serialVersionUID = -5234028741040752357L;
 
     TimerAttribute(final String name, final AttributeDescriptor descriptor) throws InvalidSyntaxException {
-        super(TimeMeasurementNotification.class, name, TYPE, descriptor, RatedTimeRecorder::new);
+        super(TimeMeasurementNotification.class, name, TYPE, descriptor, n -> new RatedTimeRecorder(n, DataStreamConnectorConfigurationDescriptionProvider.parseReservoir(descriptor)));
     }
 
     @Override
@@ -31,7 +30,7 @@ final class TimerAttribute extends MetricHolderAttribute<RatedTimeRecorder, Time
 
     @Override
     void updateMetric(final RatedTimeRecorder metric, final TimeMeasurementNotification notification) {
-        metric.accept(notification.getMeasurement().convertTo(Duration.class));
+        metric.record(notification.getMeasurement().toNanos());
     }
 
     @Override
@@ -0,0 +1,47 @@
+package com.bytex.snamp.connector.dataStream;
+
+import com.bytex.snamp.instrumentation.measurements.IntegerMeasurement;
+import com.bytex.snamp.instrumentation.measurements.jmx.ValueMeasurementNotification;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.management.Notification;
+
+/**
+ * @author Roman Sakno
+ * @version 2.0
+ * @since 2.0
+ */
+public final class NotificationRouteTest extends Assert {
+    @Test
+    public void staticFilterTest(){
+        final NotificationRoute route = NotificationRoute.parseFilter("return measurement.name == 'requests' && measurement.componentName == \"frontend\";");
+        assertTrue(route.isReachable());
+        assertEquals("requests", route.getRoutingName().orElse(null));
+        final ValueMeasurementNotification<IntegerMeasurement> notification = ValueMeasurementNotification.ofInt(this, 42L);
+        notification.getMeasurement().setName("requests");
+        notification.getMeasurement().setComponentName("frontend");
+        assertEquals("requests", NotificationRoute.getRoutingName(notification));
+        assertTrue(route.test(notification));
+        notification.getMeasurement().setComponentName("backend");
+        assertFalse(route.test(notification));
+    }
+
+    @Test
+    public void opaqueFilterTest(){
+        assertSame(NotificationRoute.ANY, NotificationRoute.parseFilter("sequenceNumber == 42L"));
+        assertSame(NotificationRoute.ANY, NotificationRoute.parseFilter("type == 'a' || type == 'b'"));
+        assertSame(NotificationRoute.ANY, NotificationRoute.parseFilter("type == \"${prefix}.a\""));
+        assertSame(NotificationRoute.ANY, NotificationRoute.parseFilter(""));
+    }
+
+    @Test
+    public void combinationTest(){
+        final NotificationRoute route = NotificationRoute.byName("errors").and(NotificationRoute.parseFilter("type == 'app.error'"));
+        assertEquals("errors", route.getRoutingName().orElse(null));
+        assertTrue(route.test(new Notification("app.error", this, 0L)));
+        assertFalse(route.test(new Notification("app.warning", this, 0L)));
+        assertFalse(NotificationRoute.byName("errors").and(NotificationRoute.parseFilter("measurement.name == 'warnings'")).isReachable());
+        assertFalse(NotificationRoute.NONE.and(NotificationRoute.ANY).isReachable());
+    }
+}
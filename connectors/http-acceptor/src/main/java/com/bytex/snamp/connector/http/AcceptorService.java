@@ -9,13 +9,19 @@ import com.bytex.snamp.instrumentation.measurements.Measurement;
 import com.bytex.snamp.scripting.groovy.xml.XmlSlurperSlim;
 import com.sun.jersey.spi.resource.Singleton;
 import groovy.json.JsonSlurper;
+import org.codehaus.jackson.JsonParser;
+import org.codehaus.jackson.JsonProcessingException;
+import org.codehaus.jackson.JsonToken;
+import org.codehaus.jackson.map.ObjectMapper;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.Version;
 import org.xml.sax.SAXException;
 
 import javax.ws.rs.*;
 import javax.ws.rs.core.*;
-import java.io.StringReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
 import java.util.*;
 
 import static com.bytex.snamp.internal.Utils.getBundleContextOfObject;
@@ -29,6 +35,13 @@ import static com.bytex.snamp.internal.Utils.getBundleContextOfObject;
 @Singleton
 @Path("/")
 public final class AcceptorService {
+    /**
+     * Media type of newline-delimited JSON.
+     */
+    static final String NDJSON = "application/x-ndjson";
+    private static final int STREAM_CHUNK_SIZE = 512;
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
     private static final class Payload{
         private final Map<String, ?> headers;
         private final Object body;
@@ -54,10 +67,12 @@ public final class AcceptorService {
 
     private final JsonSlurper jsonParser;
     private final CustomPayloadDispatcher payloadDispatcher;
+    private final DataStreamConnectorCache connectors;
 
-    AcceptorService() {
+    AcceptorService(final DataStreamConnectorCache connectors) {
         jsonParser = new JsonSlurper();
         payloadDispatcher = new CustomPayloadDispatcher();
+        this.connectors = Objects.requireNonNull(connectors);
     }
 
     private static Map<String, ?> wrapHeaders(final HttpHeaders headers) {
@@ -90,36 +105,94 @@ public final class AcceptorService {
                 .build();
     }
 
+    private static Response worstResponse(final Response left, final Response right) {
+        return right.getStatus() > left.getStatus() ? right : left;
+    }
+
+    private Response dispatch(final Map<String, ?> headers, final Collection<? extends Measurement> measurements) {
+        final Map<String, List<Measurement>> groups = new HashMap<>();
+        for (final Measurement measurement : measurements)
+            groups.computeIfAbsent(measurement.getInstanceName(), instanceName -> new ArrayList<>()).add(measurement);
+        Response result = noContent();
+        for (final Map.Entry<String, List<Measurement>> group : groups.entrySet()) {
+            final List<Measurement> batch = group.getValue();
+            result = worstResponse(result, dispatch(group.getKey(), headers, batch.toArray(new Measurement[batch.size()])));
+        }
+        return result;
+    }
+
+    /**
+     * Consumes a batch of measurements from remote components.
+     * <p>
+     *     Measurements are grouped by the name of instance and each group is dispatched to the connector in one call.
+     * @param measurements Measurements to accept.
+     */
     @Path("/measurements")
     @POST
     @Produces(MediaType.TEXT_PLAIN)
     @Consumes(MediaType.APPLICATION_JSON)
     public Response acceptMeasurements(@Context final HttpHeaders headers, final Measurement[] measurements) {
-        return Arrays.stream(measurements)
-                .map(measurement -> acceptMeasurement(headers, measurement))
-                .reduce(noContent(), (result, response) -> response.getStatus() > result.getStatus() ? response : result);
+        return dispatch(wrapHeaders(headers), Arrays.asList(measurements));
+    }
+
+    /**
+     * Consumes a stream of measurements from remote components.
+     * <p>
+     *     Body can be a JSON array or a sequence of JSON objects separated by line breaks (NDJSON).
+     *     Measurements are dispatched in chunks while the body is still arriving so the whole batch is never
+     *     materialized in memory. Compressed body is supported through {@code Content-Encoding: gzip} header.
+     *     Chunks parsed before malformed measurement remain dispatched.
+     * @param body Stream of measurements.
+     */
+    @Path("/measurements/stream")
+    @POST
+    @Produces(MediaType.TEXT_PLAIN)
+    @Consumes({MediaType.APPLICATION_JSON, NDJSON})
+    public Response acceptMeasurementStream(@Context final HttpHeaders headers, final InputStream body) {
+        final Map<String, ?> requestHeaders = wrapHeaders(headers);
+        final List<Measurement> chunk = new ArrayList<>(STREAM_CHUNK_SIZE);
+        Response result = noContent();
+        try (final JsonParser parser = MAPPER.getJsonFactory().createJsonParser(body)) {
+            JsonToken token = parser.nextToken();
+            final boolean isArray = token == JsonToken.START_ARRAY;
+            if (isArray)
+                token = parser.nextToken();
+            while (token != null && token != JsonToken.END_ARRAY) {
+                chunk.add(MAPPER.readValue(parser, Measurement.class));
+                if (chunk.size() >= STREAM_CHUNK_SIZE) {
+                    result = worstResponse(result, dispatch(requestHeaders, chunk));
+                    chunk.clear();
+                }
+                token = parser.nextToken();
+            }
+        } catch (final JsonProcessingException e) {
+            result = worstResponse(result, Response.status(Response.Status.BAD_REQUEST).entity(e.getMessage()).build());
+        } catch (final IOException e) {
+            throw new WebApplicationException(e, Response.Status.INTERNAL_SERVER_ERROR);
+        }
+        return chunk.isEmpty() ? result : worstResponse(result, dispatch(requestHeaders, chunk));
     }
 
     private BundleContext getBundleContext(){
         return getBundleContextOfObject(this);
     }
 
-    private static Response acceptMeasurement(final ManagedResourceConnectorClient client,
-                                              final HttpHeaders headers,
-                                              final Measurement measurement) {
-        try {
-            return client.queryObject(DataStreamConnector.class)
+    private Response dispatch(final String instanceName, final Map<String, ?> headers, final Object body) {
+        //find the appropriate connector and redirect
+        final Optional<DataStreamConnectorCache.Lease> connector = connectors.acquire(instanceName);
+        if (!connector.isPresent())
+            return Response.status(Response.Status.NOT_FOUND).build();
+        try (final DataStreamConnectorCache.Lease lease = connector.get()) {
+            return lease.getClient().queryObject(DataStreamConnector.class)
                     .map(acceptor -> {
                         try {
-                            acceptor.dispatch(wrapHeaders(headers), measurement);
+                            acceptor.dispatch(headers, body);
                         } catch (final Exception e) {
                             return Response.status(Response.Status.INTERNAL_SERVER_ERROR).entity(e.toString()).build();
                         }
                         return noContent();
                     })
-                    .orElseGet(() -> Response.status(Response.Status.BAD_REQUEST).entity("Resource %s is not data stream processor").build());
-        } finally {
-            client.close();
+                    .orElseGet(() -> Response.status(Response.Status.BAD_REQUEST).entity(String.format("Resource %s is not data stream processor", instanceName)).build());
         }
     }
 
@@ -132,11 +205,7 @@ public final class AcceptorService {
     @Produces(MediaType.TEXT_PLAIN)
     @Path("/measurement")
     public Response acceptMeasurement(@Context final HttpHeaders headers, final Measurement measurement) {
-        //find the appropriate connector and redirect
-        final BundleContext context = getBundleContext();
-        return ManagedResourceConnectorClient.tryCreate(context, measurement.getInstanceName())
-                .map(client -> acceptMeasurement(client, headers, measurement))
-                .orElseGet(() -> Response.status(Response.Status.NOT_FOUND).build());
+        return dispatch(measurement.getInstanceName(), wrapHeaders(headers), measurement);
     }
 
     private void acceptCustomPayload(final Map<String, ?> headers, final Object body) throws Exception {
@@ -158,9 +227,9 @@ public final class AcceptorService {
     @Consumes({MediaType.APPLICATION_JSON})
     @POST
     @Produces({MediaType.TEXT_PLAIN})
-    public Response acceptJsonPayload(@Context final HttpHeaders headers, final String json){
-        try(final StringReader reader = new StringReader(json)) {
-            acceptCustomPayload(wrapHeaders(headers), jsonParser.parse(reader));
+    public Response acceptJsonPayload(@Context final HttpHeaders headers, final Reader json){
+        try {
+            acceptCustomPayload(wrapHeaders(headers), jsonParser.parse(json));
         } catch (final Exception e) {
             throw new WebApplicationException(e, Response.Status.INTERNAL_SERVER_ERROR);
         }
@@ -170,9 +239,9 @@ public final class AcceptorService {
     @Consumes({MediaType.APPLICATION_XML, MediaType.TEXT_XML})
     @POST
     @Produces({MediaType.TEXT_PLAIN})
-    public Response acceptXmlPayload(@Context final HttpHeaders headers, final String xml) {
-        try (final StringReader reader = new StringReader(xml)) {
-            acceptCustomPayload(wrapHeaders(headers), new XmlSlurperSlim().parse(reader));
+    public Response acceptXmlPayload(@Context final HttpHeaders headers, final Reader xml) {
+        try {
+            acceptCustomPayload(wrapHeaders(headers), new XmlSlurperSlim().parse(xml));
         } catch (final SAXException e) {
             throw new WebApplicationException(e, Response.Status.BAD_REQUEST);
         } catch (final Exception e) {
@@ -0,0 +1,124 @@
+package com.bytex.snamp.connector.http;
+
+import com.bytex.snamp.SafeCloseable;
+import com.bytex.snamp.connector.ManagedResourceConnectorClient;
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.Constants;
+import org.osgi.framework.ServiceEvent;
+import org.osgi.framework.ServiceListener;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.base.Strings.isNullOrEmpty;
+
+/**
+ * Represents cache of resource connectors used to route measurements by the name of instance.
+ * <p>
+ *     Cached connector is evicted when its OSGi service is unregistered or modified. Connector is acquired
+ *     for the time of dispatching, so the evicted connector is closed only when the last acquisition is released.
+ * @author Roman Sakno
+ * @version 2.0
+ * @since 2.0
+ */
+@ThreadSafe
+final class DataStreamConnectorCache implements ServiceListener, SafeCloseable {
+    /**
+     * Represents acquired connector. Must be closed when connector is no longer used.
+     */
+    static final class Lease implements SafeCloseable {
+        private final ManagedResourceConnectorClient client;
+        private final AtomicInteger references;
+
+        private Lease(final ManagedResourceConnectorClient client) {
+            this.client = client;
+            references = new AtomicInteger(1);  //reference owned by the cache
+        }
+
+        private boolean tryAcquire() {
+            for (int current; (current = references.get()) > 0; )
+                if (references.compareAndSet(current, current + 1))
+                    return true;
+            return false;   //connector is already closed
+        }
+
+        ManagedResourceConnectorClient getClient() {
+            return client;
+        }
+
+        @Override
+        public void close() {
+            if (references.decrementAndGet() == 0)
+                client.close();
+        }
+    }
+
+    private final BundleContext context;
+    private final ConcurrentMap<String, Lease> connectors;
+
+    DataStreamConnectorCache(final BundleContext context) {
+        this.context = Objects.requireNonNull(context);
+        connectors = new ConcurrentHashMap<>();
+        ManagedResourceConnectorClient.selector().addServiceListener(context, this);
+    }
+
+    private static boolean isValid(final ManagedResourceConnectorClient client) {
+        //bundle of the service reference is null if the service was unregistered
+        return client.getBundle() != null;
+    }
+
+    private Lease createLease(final String instanceName) {
+        return ManagedResourceConnectorClient.tryCreate(context, instanceName).map(Lease::new).orElse(null);
+    }
+
+    private void evict(final String instanceName, final Lease lease) {
+        if (connectors.remove(instanceName, lease))
+            lease.close();  //release reference owned by the cache
+    }
+
+    /**
+     * Acquires connector of the managed resource.
+     * @param instanceName Name of the managed resource.
+     * @return Acquired connector of the managed resource; or {@link Optional#empty()}, if resource doesn't exist.
+     */
+    Optional<Lease> acquire(final String instanceName) {
+        //measurement without instance name cannot be routed
+        if (isNullOrEmpty(instanceName))
+            return Optional.empty();
+        while (true) {
+            final Lease lease = connectors.computeIfAbsent(instanceName, this::createLease);
+            if (lease == null)
+                return Optional.empty();
+            else if (!isValid(lease.client))
+                evict(instanceName, lease);
+            else if (lease.tryAcquire())
+                return Optional.of(lease);
+            else    //lease is closed by concurrent eviction
+                connectors.remove(instanceName, lease);
+        }
+    }
+
+    @Override
+    public void serviceChanged(final ServiceEvent event) {
+        switch (event.getType()) {
+            case ServiceEvent.UNREGISTERING:
+            case ServiceEvent.MODIFIED:
+            case ServiceEvent.MODIFIED_ENDMATCH:
+                final Object serviceID = event.getServiceReference().getProperty(Constants.SERVICE_ID);
+                connectors.forEach((instanceName, lease) -> {
+                    if (Objects.equals(serviceID, lease.client.getProperty(Constants.SERVICE_ID)))
+                        evict(instanceName, lease);
+                });
+        }
+    }
+
+    @Override
+    public void close() {
+        context.removeServiceListener(this);
+        connectors.forEach(this::evict);
+    }
+}
@@ -9,6 +9,8 @@ import javax.annotation.Nonnull;
 import javax.ws.rs.core.Application;
 import java.util.Optional;
 
+import static com.bytex.snamp.internal.Utils.getBundleContext;
+
 /**
  * Represents customized servlet container.
  * @author Roman Sakno
@@ -18,20 +20,32 @@ import java.util.Optional;
 final class JerseyServletContainer extends ServletContainer implements ServletSupportService {
     private static final long serialVersionUID = 5710139261115306229L;
     static final String CONTEXT = "/snamp/data/acquisition";
+    private final DataStreamConnectorCache connectors;
+
+    private JerseyServletContainer(final DataStreamConnectorCache connectors) {
+        super(createAppConfig(connectors));
+        this.connectors = connectors;
+    }
 
     JerseyServletContainer() {
-        super(createAppConfig());
+        this(new DataStreamConnectorCache(getBundleContext(JerseyServletContainer.class)));
     }
 
-    private static Application createAppConfig() {
+    private static Application createAppConfig(final DataStreamConnectorCache connectors) {
         final DefaultResourceConfig result = new DefaultResourceConfig();
         result.getFeatures().put("com.sun.jersey.api.json.POJOMappingFeature", true);
         //support for GZIP compression over HTTP
         result.getContainerRequestFilters().add(new GZIPContentEncodingFilter());
-        result.getSingletons().add(new AcceptorService());
+        result.getSingletons().add(new AcceptorService(connectors));
         return result;
     }
 
+    @Override
+    public void destroy() {
+        connectors.close();
+        super.destroy();
+    }
+
     /**
      * Retrieves the aggregated object.
      *
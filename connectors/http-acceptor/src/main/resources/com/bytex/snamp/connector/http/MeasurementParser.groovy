@@ -10,6 +10,8 @@ private void parseMeasurement(Measurement measurement) {
 def parse(headers, body){
     if(body instanceof Measurement)
         parseMeasurement(body)
+    else if(body instanceof Measurement[])
+        body.each this.&parseMeasurement
     else
         return delegateParsing(headers, body)
 }
\ No newline at end of file
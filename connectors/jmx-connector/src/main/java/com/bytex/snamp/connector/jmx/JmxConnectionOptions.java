@@ -11,6 +11,7 @@ import javax.management.remote.JMXConnectorFactory;
 import javax.management.remote.JMXServiceURL;
 import java.io.IOException;
 import java.net.MalformedURLException;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
@@ -29,6 +30,7 @@ final class JmxConnectionOptions extends JMXServiceURL implements JmxConnectionF
     private final String login;
     private final String password;
     private final long watchDogPeriod;
+    private final Duration batchReadTimeout;
     private final ObjectName globalNamespace;
     private final ExecutorService threadPool;
 
@@ -40,6 +42,7 @@ final class JmxConnectionOptions extends JMXServiceURL implements JmxConnectionF
         this.login = userName.get();
         this.password = password.get();
         this.watchDogPeriod = parser.parseWatchDogPeriod(options);
+        this.batchReadTimeout = parser.parseBatchReadTimeout(options);
         this.globalNamespace = parser.parseRootObjectName(options);
         this.threadPool = parser.parseThreadPool(options);
     }
@@ -88,4 +91,12 @@ final class JmxConnectionOptions extends JMXServiceURL implements JmxConnectionF
     ExecutorService getThreadPool() {
         return threadPool;
     }
+
+    /**
+     * Gets timeout of reading attributes of several MBeans in batch mode.
+     * @return Timeout of reading attributes.
+     */
+    Duration getBatchReadTimeout() {
+        return batchReadTimeout;
+    }
 }
\ No newline at end of file
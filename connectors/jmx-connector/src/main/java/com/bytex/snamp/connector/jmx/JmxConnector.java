@@ -1,5 +1,6 @@
 package com.bytex.snamp.connector.jmx;
 
+import com.bytex.snamp.ArrayUtils;
 import com.bytex.snamp.configuration.ManagedResourceInfo;
 import com.bytex.snamp.connector.AbstractManagedResourceConnector;
 import com.bytex.snamp.connector.ResourceEventListener;
@@ -16,6 +17,7 @@ import com.bytex.snamp.connector.operations.AbstractOperationRepository;
 import com.bytex.snamp.connector.operations.OperationDescriptor;
 import com.bytex.snamp.connector.operations.OperationDescriptorRead;
 import com.bytex.snamp.core.LoggerProvider;
+import com.google.common.util.concurrent.UncheckedTimeoutException;
 
 import javax.annotation.Nonnull;
 import javax.management.*;
@@ -23,8 +25,13 @@ import javax.management.openmbean.*;
 import java.io.IOException;
 import java.io.Serializable;
 import java.net.MalformedURLException;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -291,13 +298,119 @@ final class JmxConnector extends AbstractManagedResourceConnector implements Hea
     private static final class JmxAttributeRepository extends AbstractAttributeRepository<JmxAttributeInfo> {
         private final JmxConnectionManager connectionManager;
         private final ObjectName globalObjectName;
+        private final ExecutorService threadPool;
+        private final Duration batchReadTimeout;
 
         private JmxAttributeRepository(final String resourceName,
                                        final ObjectName globalName,
-                                       final JmxConnectionManager connectionManager){
+                                       final JmxConnectionManager connectionManager,
+                                       final ExecutorService threadPool,
+                                       final Duration batchReadTimeout){
             super(resourceName, JmxAttributeInfo.class);
             this.globalObjectName = globalName;
             this.connectionManager = connectionManager;
+            this.threadPool = Objects.requireNonNull(threadPool);
+            this.batchReadTimeout = Objects.requireNonNull(batchReadTimeout);
+        }
+
+        private Logger getLogger(){
+            return LoggerProvider.getLoggerForObject(this);
+        }
+
+        /**
+         * Reads attributes of the single MBean using one remote call.
+         * Attributes that were not returned by the remote MBean are read one by one.
+         */
+        private List<Attribute> getAttributes(final ObjectName owner, final Collection<JmxAttributeInfo> attributes) {
+            final Map<String, Object> values = new HashMap<>();
+            try {
+                final String[] names = attributes.stream().map(JmxAttributeInfo::getAlias).distinct().toArray(String[]::new);
+                for (final Attribute attribute : connectionManager.handleConnection(connection -> connection.getAttributes(owner, names)).asList())
+                    values.put(attribute.getName(), attribute.getValue());
+            } catch (final Exception e) {
+                getLogger().log(Level.WARNING, String.format("Unable to read attributes of %s in batch mode", owner), e);
+            }
+            final List<Attribute> result = new ArrayList<>(attributes.size());
+            for (final JmxAttributeInfo attribute : attributes)
+                if (values.containsKey(attribute.getAlias()))
+                    result.add(new Attribute(attribute.getName(), values.get(attribute.getAlias())));
+                else    //fallback to reading of the single attribute
+                    try {
+                        result.add(new Attribute(attribute.getName(), getAttribute(attribute)));
+                    } catch (final Exception e) {
+                        getLogger().log(Level.SEVERE, String.format("Failed to get attribute '%s'", attribute.getName()), e);
+                    }
+            return result;
+        }
+
+        private AttributeList getAttributes(final Collection<JmxAttributeInfo> attributes) {
+            final AttributeList result = new AttributeList(attributes.size());
+            final Map<ObjectName, List<JmxAttributeInfo>> groups = readCachedAttributes(attributes, result).stream()
+                    .collect(Collectors.groupingBy(JmxAttributeInfo::getOwner, LinkedHashMap::new, Collectors.toList()));
+            try {
+                //MBeans are read in parallel. The first MBean is read in the caller thread
+                final Iterator<Map.Entry<ObjectName, List<JmxAttributeInfo>>> iterator = groups.entrySet().iterator();
+                if (!iterator.hasNext())
+                    return result;
+                final Map.Entry<ObjectName, List<JmxAttributeInfo>> first = iterator.next();
+                final Map<ObjectName, Future<List<Attribute>>> tasks = new LinkedHashMap<>();
+                iterator.forEachRemaining(group -> tasks.put(group.getKey(), threadPool.submit(() -> getAttributes(group.getKey(), group.getValue()))));
+                result.addAll(getAttributes(first.getKey(), first.getValue()));
+                final long deadline = System.nanoTime() + batchReadTimeout.toNanos();
+                final List<ObjectName> timedOut = new LinkedList<>();
+                for (final Map.Entry<ObjectName, Future<List<Attribute>>> task : tasks.entrySet())
+                    try {
+                        result.addAll(task.getValue().get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+                    } catch (final ExecutionException e) {
+                        getLogger().log(Level.SEVERE, String.format("Failed to read attributes of %s", task.getKey()), e);
+                    } catch (final TimeoutException e) {
+                        task.getValue().cancel(true);
+                        timedOut.add(task.getKey());
+                    } catch (final InterruptedException e) {
+                        tasks.values().forEach(future -> future.cancel(true));
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                if (!timedOut.isEmpty())
+                    throw new UncheckedTimeoutException(String.format("Attributes of %s are not read in %s", timedOut, batchReadTimeout));
+            } finally {
+                attributesRead();
+            }
+            return result;
+        }
+
+        /**
+         * Get the values of several attributes of the managed resource.
+         * <p>
+         *     Attributes are grouped by the owner MBean and each group is obtained using single remote call.
+         * @param attributes A list of the attributes to be retrieved.
+         * @return The list of attributes retrieved.
+         * @throws UncheckedTimeoutException Attributes of one or more MBeans are not read in batch read timeout.
+         */
+        @Override
+        public AttributeList getAttributes(final String[] attributes) {
+            if (ArrayUtils.isNullOrEmpty(attributes))
+                return new AttributeList();
+            final List<JmxAttributeInfo> metadata = new ArrayList<>(attributes.length);
+            for (final String attributeName : attributes)
+                getAttributeInfo(attributeName).ifPresent(metadata::add);
+            return getAttributes(metadata);
+        }
+
+        /**
+         * Gets values of all attributes.
+         * <p>
+         *     Attributes are grouped by the owner MBean and each group is obtained using single remote call.
+         * @return The list of attributes retrieved.
+         * @throws MBeanException Attributes of one or more MBeans are not read in batch read timeout.
+         */
+        @Override
+        public AttributeList getAttributes() throws MBeanException {
+            try {
+                return getAttributes(Arrays.asList(getAttributeInfo()));
+            } catch (final UncheckedTimeoutException e) {
+                throw new MBeanException(e, e.getMessage());
+            }
         }
 
         private static JmxAttributeInfo createPlainAttribute(final JmxConnectionManager connectionManager,
@@ -688,7 +801,11 @@ final class JmxConnector extends AbstractManagedResourceConnector implements Hea
                 connectionOptions.getThreadPool());
         this.notifications.setSource(this);
         canExpand = connectionOptions.getGlobalObjectName() != null;
-        this.attributes = new JmxAttributeRepository(resourceName, connectionOptions.getGlobalObjectName(), connectionManager);
+        this.attributes = new JmxAttributeRepository(resourceName,
+                connectionOptions.getGlobalObjectName(),
+                connectionManager,
+                connectionOptions.getThreadPool(),
+                connectionOptions.getBatchReadTimeout());
         this.operations = new JmxOperationRepository(resourceName, connectionOptions.getGlobalObjectName(), connectionManager);
     }
 
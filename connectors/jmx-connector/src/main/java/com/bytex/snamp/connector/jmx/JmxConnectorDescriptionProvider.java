@@ -11,10 +11,12 @@ import com.google.common.base.Splitter;
 import javax.management.*;
 import javax.management.remote.JMXConnector;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.*;
 import java.util.function.Consumer;
 
 import static com.bytex.snamp.MapUtils.getValueAsInt;
+import static com.bytex.snamp.MapUtils.getValueAsLong;
 import static com.bytex.snamp.configuration.ManagedResourceConfiguration.SMART_MODE_KEY;
 import static com.bytex.snamp.jmx.DescriptorUtils.*;
 
@@ -31,6 +33,11 @@ final class JmxConnectorDescriptionProvider extends ConfigurationEntityDescripti
      * Connection watchdog control period (in milliseconds).
      */
     private static final String CONNECTION_CHECK_PERIOD = "connectionCheckPeriod";
+    /**
+     * Timeout of reading attributes of several MBeans in batch mode (in milliseconds).
+     */
+    private static final String BATCH_READ_TIMEOUT = "batchReadTimeout";
+    private static final long DEFAULT_BATCH_READ_TIMEOUT = 30_000L;
     static final String OBJECT_NAME_PROPERTY = "objectName";
     private static final String SEVERITY_PARAM = NotificationDescriptor.SEVERITY_PARAM;
     private static final String USE_REGEXP_PARAM = "useRegexp";
@@ -59,6 +66,7 @@ final class JmxConnectorDescriptionProvider extends ConfigurationEntityDescripti
                     JMX_LOGIN,
                     JMX_PASSWORD,
                     CONNECTION_CHECK_PERIOD,
+                    BATCH_READ_TIMEOUT,
                     SMART_MODE_KEY,
                     OBJECT_NAME_PROPERTY);
         }
@@ -155,6 +163,10 @@ final class JmxConnectorDescriptionProvider extends ConfigurationEntityDescripti
         return getValueAsInt(parameters, CONNECTION_CHECK_PERIOD, Integer::parseInt).orElse(3000);
     }
 
+    Duration parseBatchReadTimeout(final Map<String, String> parameters){
+        return Duration.ofMillis(getValueAsLong(parameters, BATCH_READ_TIMEOUT, Long::parseLong).orElse(DEFAULT_BATCH_READ_TIMEOUT));
+    }
+
     ObjectName parseRootObjectName(final Map<String, String> parameters) throws MalformedObjectNameException{
         return parameters.containsKey(OBJECT_NAME_PROPERTY) ? new ObjectName(parameters.get(OBJECT_NAME_PROPERTY)) : null;
     }
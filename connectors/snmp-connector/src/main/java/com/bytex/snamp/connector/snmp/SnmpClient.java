@@ -34,6 +34,10 @@ import static com.bytex.snamp.ArrayUtils.emptyArray;
  */
 abstract class SnmpClient extends Snmp implements Closeable, Aggregator {
     private static final AtomicInteger engineBoots = new AtomicInteger(0);
+    static final int DEFAULT_MAX_VAR_BINDINGS = 64;
+    static final int DEFAULT_MAX_REPETITIONS = 50;
+    //space reserved in the request for message header, security parameters and PDU fields
+    private static final int PDU_HEADER_RESERVE = 256;
 
     private static final class SnmpResponseListener extends CompletableFuture<ResponseEvent> implements ResponseListener {
 
@@ -109,9 +113,34 @@ abstract class SnmpClient extends Snmp implements Closeable, Aggregator {
         }
     }
 
+    private volatile int maxVarBindings;
+    private volatile int maxRepetitions;
+
     private SnmpClient(final MessageDispatcher dispatcher,
                        final TransportMapping<?> transport){
         super(dispatcher, transport);
+        maxVarBindings = DEFAULT_MAX_VAR_BINDINGS;
+        maxRepetitions = DEFAULT_MAX_REPETITIONS;
+    }
+
+    /**
+     * Sets maximum number of variable bindings packed into the single GET request.
+     * @param value Maximum number of variable bindings in the single request.
+     */
+    final void setMaxVarBindings(final int value){
+        if(value < 1)
+            throw new IllegalArgumentException(String.format("Invalid number of variable bindings %s", value));
+        maxVarBindings = value;
+    }
+
+    /**
+     * Sets number of rows requested by the single GETBULK request during table walk.
+     * @param value Number of repetitions.
+     */
+    final void setMaxRepetitions(final int value){
+        if(value < 1)
+            throw new IllegalArgumentException(String.format("Invalid number of repetitions %s", value));
+        maxRepetitions = value;
     }
 
     static SnmpClient create(final Address connectionAddress,
@@ -283,6 +312,106 @@ abstract class SnmpClient extends Snmp implements Closeable, Aggregator {
         return get(PDU.GET, variables, timeout);
     }
 
+    private Future<ResponseEvent> sendAsync(final List<OID> variables, final Target target) throws IOException {
+        final PDU request = createPDU(PDU.GET);
+        for (final OID oid : variables)
+            request.add(new VariableBinding(oid));
+        final SnmpResponseListener listener = new SnmpResponseListener();
+        send(request, target, null, listener);
+        return listener;
+    }
+
+    private static IOException createException(final Collection<OID> variables, final PDU response) {
+        return new IOException(String.format("Unable to get %s variables. Status is %s(%s).", variables, response.getErrorStatusText(), response.getErrorStatus()));
+    }
+
+    private static Duration getRemainingTime(final Duration timeout, final Stopwatch timer) {
+        final Duration result = timeout.minus(timer.elapsed(TimeUnit.NANOSECONDS), ChronoUnit.NANOS);
+        return result.isNegative() ? Duration.ZERO : result;
+    }
+
+    private void getAll(final List<OID> variables,
+                        final Future<ResponseEvent> awaitor,
+                        final Target target,
+                        final Duration timeout,
+                        final Map<OID, Variable> output) throws IOException, TimeoutException, InterruptedException, ExecutionException {
+        final PDU response = waitForResponseEvent(awaitor, timeout).getResponse();
+        switch (response.getErrorStatus()) {
+            case SnmpConstants.SNMP_ERROR_SUCCESS:
+                for (final VariableBinding binding : response.getVariableBindings())
+                    output.put(binding.getOid(), binding.getVariable());
+                return;
+            case SnmpConstants.SNMP_ERROR_TOO_BIG:
+                //agent cannot fit response into its message size, so split the request into two halves
+                if (variables.size() > 1) {
+                    final List<OID> head = variables.subList(0, variables.size() / 2);
+                    final List<OID> tail = variables.subList(head.size(), variables.size());
+                    final Future<ResponseEvent> headResponse = sendAsync(head, target);
+                    final Future<ResponseEvent> tailResponse = sendAsync(tail, target);
+                    getAll(head, headResponse, target, timeout, output);
+                    getAll(tail, tailResponse, target, timeout, output);
+                    return;
+                }
+                //single variable cannot be split
+                throw createException(variables, response);
+            default:
+                //SNMPv1 agent rejects the whole request because of the first failed variable (noSuchName, for example).
+                //This variable is excluded from the output and remaining variables are requested again
+                final int errorIndex = response.getErrorIndex();
+                if (errorIndex > 0 && errorIndex <= variables.size()) {
+                    final List<OID> remaining = new ArrayList<>(variables);
+                    remaining.remove(errorIndex - 1);
+                    if (!remaining.isEmpty())
+                        getAll(remaining, sendAsync(remaining, target), target, timeout, output);
+                    return;
+                }
+                throw createException(variables, response);
+        }
+    }
+
+    /**
+     * Reads many variables using as few GET requests as possible.
+     * <p>
+     *     Variables are packed into requests bounded by the number of variable bindings
+     *     and the maximum request size supported by the agent. All requests are sent concurrently.
+     * @param variables Variables to read.
+     * @param timeout Response timeout.
+     * @return Read variables. Variables rejected by the agent are not included.
+     */
+    final Map<OID, Variable> getAll(final Collection<OID> variables, final Duration timeout) throws IOException, TimeoutException, InterruptedException, ExecutionException {
+        final Target target = createTarget(timeout);
+        final int maxSize = target.getMaxSizeRequestPDU() - PDU_HEADER_RESERVE;
+        final int maxBindings = maxVarBindings;
+        final List<List<OID>> requests = new LinkedList<>();
+        List<OID> request = new ArrayList<>(Math.min(maxBindings, variables.size()));
+        int requestSize = 0;
+        for (final OID oid : variables) {
+            final int bindingSize = new VariableBinding(oid).getBERLength();
+            if (!request.isEmpty() && (request.size() >= maxBindings || requestSize + bindingSize > maxSize)) {
+                requests.add(request);
+                request = new ArrayList<>(Math.min(maxBindings, variables.size()));
+                requestSize = 0;
+            }
+            request.add(oid);
+            requestSize += bindingSize;
+        }
+        if (!request.isEmpty())
+            requests.add(request);
+        final List<Future<ResponseEvent>> responses = new ArrayList<>(requests.size());
+        for (final List<OID> r : requests)
+            responses.add(sendAsync(r, target));
+        final Map<OID, Variable> result = Maps.newHashMapWithExpectedSize(variables.size());
+        final Stopwatch timer = Stopwatch.createStarted();
+        final Iterator<Future<ResponseEvent>> awaitors = responses.iterator();
+        for (final List<OID> r : requests)
+            getAll(r,
+                    awaitors.next(),
+                    target,
+                    timeout == null ? null : getRemainingTime(timeout, timer),
+                    result);
+        return result;
+    }
+
     public final Map<OID, Variable> getBulk(final OID[] variables, final Duration timeout) throws IOException, TimeoutException, InterruptedException, ExecutionException {
         return get(PDU.GETBULK, variables, timeout);
     }
@@ -298,6 +427,7 @@ abstract class SnmpClient extends Snmp implements Closeable, Aggregator {
 
     private void walk(final OID root, final Duration timeout, final Collection<VariableBinding> output) throws TimeoutException, InterruptedException, ExecutionException {
         final TreeUtils tree = new TreeUtils(this, new DefaultPDUFactory());
+        tree.setMaxRepetitions(maxRepetitions);    //walk through tables using GETBULK with many rows per response
         final SnmpTreeListener listener = new SnmpTreeListener(100);
         tree.walk(createTarget(timeout), new OID[]{root}, null, listener);
         output.addAll(listener.get(timeout.toNanos(), TimeUnit.NANOSECONDS));
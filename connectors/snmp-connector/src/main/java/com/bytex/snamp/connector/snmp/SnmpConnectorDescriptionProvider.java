@@ -45,6 +45,8 @@ final class SnmpConnectorDescriptionProvider extends ConfigurationEntityDescript
     private static final long DEFAULT_RESPONSE_TIMEOUT = 6000;
     private static final String DISCOVERY_TIMEOUT_PROPERTY = "discoveryTimeout";
     private static final long DEFAULT_DISCOVERY_TIMEOUT = 5000;
+    private static final String MAX_VAR_BINDINGS_PARAM = "maxVarBindings";
+    private static final String MAX_REPETITIONS_PARAM = "maxRepetitions";
     //attribute related parameters
     static final String SNMP_CONVERSION_FORMAT_PARAM = "snmpConversionFormat";
     //event related parameters
@@ -87,7 +89,9 @@ final class SnmpConnectorDescriptionProvider extends ConfigurationEntityDescript
                     SECURITY_CONTEXT_PARAM,
                     THREAD_POOL_KEY,
                     SMART_MODE_KEY,
-                    DISCOVERY_TIMEOUT_PROPERTY);
+                    DISCOVERY_TIMEOUT_PROPERTY,
+                    MAX_VAR_BINDINGS_PARAM,
+                    MAX_REPETITIONS_PARAM);
         }
     }
 
@@ -159,9 +163,15 @@ final class SnmpConnectorDescriptionProvider extends ConfigurationEntityDescript
         final OctetString securityContext = getValue(parameters, SECURITY_CONTEXT_PARAM, OctetString::new).orElse(null);
         final int socketTimeout = getValueAsInt(parameters, SOCKET_TIMEOUT_PARAM, Integer::parseInt).orElse(DEFAULT_SOCKET_TIMEOUT);
 
-        return userName == null ?
+        final int maxVarBindings = getValueAsInt(parameters, MAX_VAR_BINDINGS_PARAM, Integer::parseInt).orElse(SnmpClient.DEFAULT_MAX_VAR_BINDINGS);
+        final int maxRepetitions = getValueAsInt(parameters, MAX_REPETITIONS_PARAM, Integer::parseInt).orElse(SnmpClient.DEFAULT_MAX_REPETITIONS);
+
+        final SnmpClient client = userName == null ?
                 SnmpClient.create(connectionAddress, community, localAddress, socketTimeout, threadPool):
                 SnmpClient.create(connectionAddress, engineID, userName, authProtocol, password, encryptionProtocol, encryptionKey, securityContext, localAddress, socketTimeout, threadPool);
+        client.setMaxVarBindings(maxVarBindings);
+        client.setMaxRepetitions(maxRepetitions);
+        return client;
     }
 
     Duration parseDiscoveryTimeout(final Map<String, String> configuration) {
@@ -564,21 +564,23 @@ final class SnmpResourceConnector extends AbstractManagedResourceConnector {
          * @return The value of the attribute retrieved.
          * @throws Exception Internal connector error.
          */
-        @SuppressWarnings("unchecked")
         @Override
         protected Object getAttribute(final SnmpAttributeInfo metadata) throws Exception {
-            return client.read(client -> {
-                final Variable attribute = client.get(metadata.getAttributeID(), metadata.getDescriptor().getReadWriteTimeout());
-                switch (attribute.getSyntax()){
-                    case SMIConstants.EXCEPTION_END_OF_MIB_VIEW:
-                    case SMIConstants.EXCEPTION_NO_SUCH_INSTANCE:
-                    case SMIConstants.EXCEPTION_NO_SUCH_OBJECT:
-                        throw new AttributeNotFoundException(String.format("SNMP Object %s doesn't exist. Error info: %s",
-                                metadata.getAttributeID(),
-                                attribute.getSyntax()));
-                    default: return metadata.convert(attribute);
-                }
-            });
+            return client.read(client -> convert(metadata, client.get(metadata.getAttributeID(), metadata.getDescriptor().getReadWriteTimeout())));
+        }
+
+        @SuppressWarnings("unchecked")
+        private static Object convert(final SnmpAttributeInfo metadata, final Variable attribute) throws AttributeNotFoundException {
+            switch (attribute.getSyntax()) {
+                case SMIConstants.EXCEPTION_END_OF_MIB_VIEW:
+                case SMIConstants.EXCEPTION_NO_SUCH_INSTANCE:
+                case SMIConstants.EXCEPTION_NO_SUCH_OBJECT:
+                    throw new AttributeNotFoundException(String.format("SNMP Object %s doesn't exist. Error info: %s",
+                            metadata.getAttributeID(),
+                            attribute.getSyntax()));
+                default:
+                    return metadata.convert(attribute);
+            }
         }
 
         /**
@@ -602,17 +604,56 @@ final class SnmpResourceConnector extends AbstractManagedResourceConnector {
             return LoggerProvider.getLoggerForObject(this);
         }
 
+        /**
+         * Reads attributes using as few GET requests as possible.
+         * Attributes missing in the response are read one by one.
+         */
+        private AttributeList getAttributes(final Collection<SnmpAttributeInfo> attributes) throws MBeanException {
+            final AttributeList result = new AttributeList(attributes.size());
+            final List<SnmpAttributeInfo> uncachedAttributes = readCachedAttributes(attributes, result);
+            final Map<OID, Variable> values;
+            try {
+                final Set<OID> variables = new LinkedHashSet<>();
+                uncachedAttributes.forEach(metadata -> variables.add(metadata.getAttributeID()));
+                values = client.read(client -> client.getAll(variables, BATCH_READ_WRITE_TIMEOUT));
+            } catch (final Exception e) {
+                getLogger().log(Level.WARNING, "Unable to read attributes in batch mode", e);
+                result.addAll(getAttributesParallel(executor,
+                        uncachedAttributes.stream().map(SnmpAttributeInfo::getName).toArray(String[]::new),
+                        BATCH_READ_WRITE_TIMEOUT));
+                return result;
+            }
+            try {
+                for (final SnmpAttributeInfo metadata : uncachedAttributes) {
+                    final Variable value = values.get(metadata.getAttributeID());
+                    try {
+                        result.add(new Attribute(metadata.getName(), value == null ? getAttribute(metadata) : convert(metadata, value)));
+                    } catch (final Exception e) {
+                        getLogger().log(Level.SEVERE, String.format("Failed to get attribute '%s'", metadata.getName()), e);
+                    }
+                }
+            } finally {
+                attributesRead();
+            }
+            return result;
+        }
+
         /**
          * Get the values of several attributes of the managed resource.
-         *
+         * <p>
+         *     SNMP objects are packed into multi-variable GET requests.
          * @param attributes A list of the attributes to be retrieved.
          * @return The list of attributes retrieved.
-         * @see #getAttributesParallel(java.util.concurrent.ExecutorService, String[], Duration)
          */
         @Override
         public AttributeList getAttributes(final String[] attributes) {
+            if (ArrayUtils.isNullOrEmpty(attributes))
+                return new AttributeList();
+            final List<SnmpAttributeInfo> metadata = new ArrayList<>(attributes.length);
+            for (final String attributeName : attributes)
+                getAttributeInfo(attributeName).ifPresent(metadata::add);
             try {
-                return getAttributesParallel(executor, attributes, BATCH_READ_WRITE_TIMEOUT);
+                return getAttributes(metadata);
             } catch (final MBeanException e) {
                 getLogger().log(Level.SEVERE, "Unable to read attributes", e.getCause());
                 return new AttributeList();
@@ -637,9 +678,16 @@ final class SnmpResourceConnector extends AbstractManagedResourceConnector {
             }
         }
 
+        /**
+         * Gets values of all attributes.
+         * <p>
+         *     SNMP objects are packed into multi-variable GET requests.
+         * @return The list of attributes retrieved.
+         * @throws MBeanException Unable to read attributes.
+         */
         @Override
         public AttributeList getAttributes() throws MBeanException {
-            return getAttributesParallel(executor, BATCH_READ_WRITE_TIMEOUT);
+            return getAttributes(Arrays.asList(getAttributeInfo()));
         }
 
         private Map<String, AttributeDescriptor> expandImpl(final SnmpClient client) throws InterruptedException, ExecutionException, TimeoutException {
@@ -0,0 +1,125 @@
+package com.bytex.snamp.connector.snmp;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.snmp4j.CommandResponder;
+import org.snmp4j.CommandResponderEvent;
+import org.snmp4j.MessageException;
+import org.snmp4j.PDU;
+import org.snmp4j.Snmp;
+import org.snmp4j.mp.SnmpConstants;
+import org.snmp4j.mp.StatusInformation;
+import org.snmp4j.smi.*;
+import org.snmp4j.transport.DefaultUdpTransportMapping;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Represents tests for {@link SnmpClient} with local fake agent.
+ * @author Roman Sakno
+ * @version 2.0
+ * @since 2.0
+ */
+public final class SnmpClientTest extends Assert {
+    private static final String AGENT_ADDRESS = "127.0.0.1/31161";
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final OID MISSING_VARIABLE = new OID("1.6.3.0");
+
+    /**
+     * Agent which answers tooBig for requests with more than two variables and
+     * rejects the whole request with noSuchName like SNMPv1 agent does.
+     */
+    private static final class FakeAgent implements CommandResponder {
+        private final AtomicInteger requests = new AtomicInteger(0);
+
+        @Override
+        public void processPdu(final CommandResponderEvent event) {
+            requests.incrementAndGet();
+            final PDU response = new PDU(event.getPDU());
+            response.setType(PDU.RESPONSE);
+            if (response.size() > 2)
+                response.setErrorStatus(SnmpConstants.SNMP_ERROR_TOO_BIG);
+            else
+                for (int i = 0; i < response.size(); i++) {
+                    final VariableBinding binding = response.get(i);
+                    if (MISSING_VARIABLE.equals(binding.getOid())) {
+                        response.setErrorStatus(SnmpConstants.SNMP_ERROR_NO_SUCH_NAME);
+                        response.setErrorIndex(i + 1);
+                        break;
+                    } else
+                        binding.setVariable(new Integer32(binding.getOid().get(binding.getOid().size() - 2)));
+                }
+            try {
+                event.getMessageDispatcher().returnResponsePdu(event.getMessageProcessingModel(),
+                        event.getSecurityModel(),
+                        event.getSecurityName(),
+                        event.getSecurityLevel(),
+                        response,
+                        event.getMaxSizeResponsePDU(),
+                        event.getStateReference(),
+                        new StatusInformation());
+            } catch (final MessageException e) {
+                fail(e.getMessage());
+            }
+            event.setProcessed(true);
+        }
+    }
+
+    private FakeAgent agent;
+    private Snmp agentSession;
+    private ExecutorService threadPool;
+    private SnmpClient client;
+
+    @Before
+    public void startAgent() throws Exception {
+        agent = new FakeAgent();
+        agentSession = new Snmp(new DefaultUdpTransportMapping(new UdpAddress(AGENT_ADDRESS)));
+        agentSession.addCommandResponder(agent);
+        agentSession.listen();
+        threadPool = Executors.newSingleThreadExecutor();
+        client = SnmpClient.create(GenericAddress.parse("udp:" + AGENT_ADDRESS), new OctetString("public"), null, 3000, threadPool);
+        client.listen();
+    }
+
+    @After
+    public void stopAgent() throws Exception {
+        client.close();
+        agentSession.close();
+        threadPool.shutdown();
+    }
+
+    @Test
+    public void tooBigTest() throws Exception {
+        final Map<OID, Variable> result = client.getAll(ImmutableList.of(new OID("1.6.1.0"), new OID("1.6.2.0"), new OID("1.6.4.0"), new OID("1.6.5.0")), TIMEOUT);
+        assertEquals(4, result.size());
+        assertEquals(new Integer32(1), result.get(new OID("1.6.1.0")));
+        assertEquals(new Integer32(5), result.get(new OID("1.6.5.0")));
+        //rejected request and its two halves
+        assertEquals(3, agent.requests.get());
+    }
+
+    @Test
+    public void noSuchNameTest() throws Exception {
+        final Map<OID, Variable> result = client.getAll(ImmutableList.of(new OID("1.6.1.0"), MISSING_VARIABLE), TIMEOUT);
+        assertEquals(1, result.size());
+        assertEquals(new Integer32(1), result.get(new OID("1.6.1.0")));
+        assertFalse(result.containsKey(MISSING_VARIABLE));
+        //rejected request and the request without missing variable
+        assertEquals(2, agent.requests.get());
+    }
+
+    @Test
+    public void tooBigAndNoSuchNameTest() throws Exception {
+        final Map<OID, Variable> result = client.getAll(ImmutableList.of(new OID("1.6.1.0"), new OID("1.6.2.0"), MISSING_VARIABLE, new OID("1.6.4.0")), TIMEOUT);
+        assertEquals(3, result.size());
+        assertFalse(result.containsKey(MISSING_VARIABLE));
+        assertEquals(new Integer32(4), result.get(new OID("1.6.4.0")));
+    }
+}
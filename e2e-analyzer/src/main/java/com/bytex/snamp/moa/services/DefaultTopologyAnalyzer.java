@@ -11,6 +11,7 @@ import com.bytex.snamp.core.ServiceSelector;
 import com.bytex.snamp.instrumentation.measurements.jmx.SpanNotification;
 import com.bytex.snamp.moa.topology.ComponentVertex;
 import com.bytex.snamp.moa.topology.TopologyAnalyzer;
+import com.bytex.snamp.moa.topology.TopologySnapshot;
 import org.osgi.framework.Filter;
 import org.osgi.framework.ServiceReference;
 
@@ -20,6 +21,7 @@ import javax.management.InstanceNotFoundException;
 import javax.management.ListenerNotFoundException;
 import javax.management.Notification;
 import javax.management.NotificationListener;
+import java.time.Duration;
 import java.util.logging.Level;
 
 /**
@@ -53,6 +55,11 @@ final class DefaultTopologyAnalyzer extends AbstractFrameworkServiceTracker<Mana
         graph.forEach(visitor);
     }
 
+    @Override
+    public TopologySnapshot getSnapshot(final Duration window) {
+        return graph.getSnapshot(window);
+    }
+
     /**
      * Returns filter used to query managed resource connectors from OSGi environment.
      *
@@ -26,8 +26,8 @@ public final class ComponentVertex extends ConcurrentLinkedQueue<ComponentVertex
     private final ArrivalsRecorder arrivals;
     private final AtomicLong lastUpdate; //time since last update
 
-    ComponentVertex(final Span span) {
-        id = new ComponentVertexIdentity(span);
+    ComponentVertex(final ComponentVertexIdentity id) {
+        this.id = id;
         final ConcurrentLinkedHashMap<String, Boolean> instances = new ConcurrentLinkedHashMap.Builder<String, Boolean>()
                 .concurrencyLevel(Runtime.getRuntime().availableProcessors() * 2)
                 //at maximum we can hold no more than 100 instances of the same component
@@ -37,13 +37,12 @@ public final class ComponentVertex extends ConcurrentLinkedQueue<ComponentVertex
         this.instances = Collections.newSetFromMap(instances);
         this.arrivals = new ArrivalsRecorder(id.toString());
         this.lastUpdate = new AtomicLong(0L);
-        handleSpan(span);
     }
 
     private void handleSpan(final Span span) {
         lastUpdate.set(System.nanoTime());
         instances.add(span.getInstanceName());
-        arrivals.accept(span.convertTo(Duration.class));
+        arrivals.record(span.toNanos());
         arrivals.setChannels(instances.size());
     }
 
@@ -71,6 +70,20 @@ public final class ComponentVertex extends ConcurrentLinkedQueue<ComponentVertex
             handleSpan(span);
     }
 
+    /**
+     * Adds child vertex if it is not already linked with this vertex.
+     * @param child Child vertex.
+     * @return {@literal true}, if child vertex is linked first time; otherwise, {@literal false}.
+     */
+    boolean addChild(final ComponentVertex child) {
+        //the number of children is small so linear search is cheaper than allocation of the new node on every span
+        if (contains(child))
+            return false;
+        synchronized (this) {
+            return !contains(child) && add(child);
+        }
+    }
+
     void removeChild(final String componentName){
         removeIf(vertex -> vertex.getName().equals(componentName));
     }
@@ -44,7 +44,8 @@ public final class ComponentVertexIdentity implements JsonSerializableWithType {
     
     @Override
     public int hashCode() {
-        return Objects.hash(componentName, moduleName);
+        //avoid varargs allocation of Objects.hash because identity is computed for every span
+        return 31 * componentName.hashCode() + moduleName.hashCode();
     }
 
     private boolean equals(final ComponentVertexIdentity other){
@@ -8,12 +8,11 @@ import com.bytex.snamp.instrumentation.measurements.Span;
 import com.bytex.snamp.instrumentation.measurements.jmx.SpanNotification;
 import com.googlecode.concurrentlinkedhashmap.ConcurrentLinkedHashMap;
 
-import java.util.concurrent.ArrayBlockingQueue;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
-import static com.google.common.base.MoreObjects.firstNonNull;
-
 /**
  * Provides analysis of topology between components based on stream of {@link Span}.
  * @author Roman Sakno
@@ -23,20 +22,18 @@ import static com.google.common.base.MoreObjects.firstNonNull;
 public class GraphOfComponents extends ConcurrentHashMap<ComponentVertexIdentity, ComponentVertex> implements Consumer<Span>, Stateful {//key in map is a component name
     private static final long serialVersionUID = 2292647118511712487L;
 
-    private static final class SpanQueue extends ArrayBlockingQueue<Span> {
-        private static final long serialVersionUID = -5482006202965410683L;
-
-        SpanQueue() {
-            super(20);
-        }
-    }
+    /*
+        Maximum number of orphaned children buffered for the single parent span.
+     */
+    private static final int MAX_ORPHANS_PER_PARENT = 20;
 
     private final ConcurrentLinkedHashMap<Identifier, ComponentVertex> idToVertexCache; //key is a spanID of the node
     /*
         UC: we have two correlated spans: A => B. Span B can be received earlier than A. In this case cache will not contain a vertex with appropriate spanID
         and span B will be lost. To avoid this we use buffer to save spans like B.
     */
-    private final ConcurrentLinkedHashMap<Identifier, SpanQueue> spanBuffer; //key is a parentSpanId
+    private final ConcurrentLinkedHashMap<Identifier, Span[]> spanBuffer; //key is a parentSpanId, value is immutable array of children
+    private final TopologyBuckets buckets;  //recent activity of components used to build windowed snapshots
 
     public GraphOfComponents(final long historySize,
                              final int concurrencyLevel){
@@ -44,10 +41,11 @@ public class GraphOfComponents extends ConcurrentHashMap<ComponentVertexIdentity
                 .concurrencyLevel(concurrencyLevel)
                 .maximumWeightedCapacity(historySize)  //this setting helps to remove eldest spans from the cache
                 .build();
-        spanBuffer = new ConcurrentLinkedHashMap.Builder<Identifier, SpanQueue>()
+        spanBuffer = new ConcurrentLinkedHashMap.Builder<Identifier, Span[]>()
                 .concurrencyLevel(concurrencyLevel)
                 .maximumWeightedCapacity(historySize)
                 .build();
+        buckets = new TopologyBuckets();
     }
 
     public GraphOfComponents(final long historySize) {
@@ -72,33 +70,49 @@ public class GraphOfComponents extends ConcurrentHashMap<ComponentVertexIdentity
         //drop span if its source is not allowed
         if(!filterSpan(span))
             return;
-        //detect whether the vertex representing the component exists in the map of vertices
-        ComponentVertex vertex = new ComponentVertex(span);
-        vertex = firstNonNull(putIfAbsent(vertex.getIdentity(), vertex), vertex);
+        final ComponentVertex vertex = getOrCreateVertex(span);
         vertex.accept(span);
+        buckets.record(vertex, span);
         //add a new span ID into the cache that provides O(1) search of vertex by its spanID
         if (!span.getSpanID().isEmpty()) {
             idToVertexCache.put(span.getSpanID(), vertex);  //spanID is unique so we sure that there is no duplicate key in the map. Eldest span will be removed automatically
-            //correlate buffered span with newly supplied span
-            final SpanQueue children = spanBuffer.remove(span.getSpanID());
-            if (children != null) {
-                children.forEach(this);
-                children.clear();   //help GC
-            }
+            //correlate buffered span with newly supplied span. Buffered spans are already recorded by their vertices
+            final Span[] children = spanBuffer.remove(span.getSpanID());
+            if (children != null)
+                for (final Span child : children)
+                    link(vertex, getOrCreateVertex(child));
         }
         //try to resolve vertex by spanID using cache and create edge between parent/child vertices
         if (!span.getParentSpanID().isEmpty()) {
             final ComponentVertex parentVertex = idToVertexCache.get(span.getParentSpanID());     //expecting O(1) access to the parent vertex
-            if (parentVertex == null) {
-                SpanQueue queue = new SpanQueue();
-                queue = firstNonNull(spanBuffer.putIfAbsent(span.getParentSpanID(), queue), queue);
-                queue.offer(span);
-            }
+            if (parentVertex == null)
+                spanBuffer.merge(span.getParentSpanID(), new Span[]{span}, GraphOfComponents::appendOrphan);
             else
-                parentVertex.add(vertex);
+                link(parentVertex, vertex);
         }
     }
 
+    private void link(final ComponentVertex parent, final ComponentVertex child) {
+        parent.addChild(child);
+        buckets.link(parent, child);
+    }
+
+    private ComponentVertex getOrCreateVertex(final Span span) {
+        final ComponentVertexIdentity id = new ComponentVertexIdentity(span);
+        //fast path: vertex already exists so there is no need to construct a new vertex
+        final ComponentVertex vertex = get(id);
+        return vertex == null ? computeIfAbsent(id, ComponentVertex::new) : vertex;
+    }
+
+    private static Span[] appendOrphan(final Span[] orphans, final Span[] orphan) {
+        //the newest orphan is dropped when buffer of the parent is full
+        if (orphans.length >= MAX_ORPHANS_PER_PARENT)
+            return orphans;
+        final Span[] result = Arrays.copyOf(orphans, orphans.length + orphan.length);
+        System.arraycopy(orphan, 0, result, orphans.length, orphan.length);
+        return result;
+    }
+
     public final ComponentVertex get(final String componentName){
         return get(componentName, "");
     }
@@ -112,9 +126,23 @@ public class GraphOfComponents extends ConcurrentHashMap<ComponentVertexIdentity
         idToVertexCache.values().removeIf(entry -> entry.getName().equals(componentName));
         spanBuffer.clear();
         values().forEach(vertex -> vertex.removeChild(componentName));
+        buckets.remove(componentName);
         return success;
     }
 
+    /**
+     * Gets the most recent snapshot of this graph.
+     * <p>
+     *     Snapshots are published periodically and contain only components and links between them
+     *     observed within the time window. Available windows are 1, 5 and 15 minutes.
+     * @param window Requested time window. The snapshot of the shortest window which covers the requested window will be returned.
+     *               If {@literal null} then snapshot of the longest window will be returned.
+     * @return The most recent snapshot of this graph.
+     */
+    public final TopologySnapshot getSnapshot(final Duration window) {
+        return buckets.getSnapshot(window);
+    }
+
     public final <E extends Throwable> void forEach(final Acceptor<? super ComponentVertex, E> visitor) throws E {
         for (final ComponentVertex vertex : values())
             visitor.accept(vertex);
@@ -127,6 +155,7 @@ public class GraphOfComponents extends ConcurrentHashMap<ComponentVertexIdentity
     public final void clear() {
         idToVertexCache.clear();
         spanBuffer.clear();
+        buckets.clear();
         super.clear();
     }
 
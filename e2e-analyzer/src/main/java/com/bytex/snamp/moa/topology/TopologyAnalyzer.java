@@ -3,6 +3,8 @@ package com.bytex.snamp.moa.topology;
 import com.bytex.snamp.Acceptor;
 import com.bytex.snamp.moa.DataAnalyzer;
 
+import java.time.Duration;
+
 /**
  * Represents MOA service responsible for building network topology.
  * @author Roman Sakno
@@ -11,4 +13,11 @@ import com.bytex.snamp.moa.DataAnalyzer;
  */
 public interface TopologyAnalyzer extends DataAnalyzer {
     <E extends Throwable> void visitVertices(final Acceptor<? super ComponentVertex, E> visitor) throws E;
+
+    /**
+     * Gets the most recent snapshot of the topology.
+     * @param window Requested time window; or {@literal null} to obtain snapshot with the longest available window.
+     * @return The most recent snapshot of the topology.
+     */
+    TopologySnapshot getSnapshot(final Duration window);
 }
@@ -0,0 +1,336 @@
+package com.bytex.snamp.moa.topology;
+
+import com.bytex.snamp.instrumentation.measurements.Span;
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSetMultimap;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Multimaps;
+import com.google.common.collect.Ordering;
+import com.google.common.collect.SetMultimap;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Represents rotating time buckets with statistics about components and links between them.
+ * <p>
+ *     Spans are recorded into the current bucket. When the current bucket expires it is frozen into immutable completed bucket
+ *     and immutable snapshots for all windows are recomputed from the current and completed buckets. Therefore, components
+ *     and links not observed within the window are excluded from its snapshot automatically.
+ *     Changes of the current bucket are republished at most once per {@link #PUBLISH_INTERVAL} so recent activity
+ *     is visible without waiting for the rotation.
+ * @author Roman Sakno
+ * @version 2.0
+ * @since 2.0
+ */
+@ThreadSafe
+final class TopologyBuckets {
+    static final Duration BUCKET_DURATION = Duration.ofSeconds(10L);
+    static final ImmutableList<Duration> WINDOWS = ImmutableList.of(Duration.ofMinutes(1L), Duration.ofMinutes(5L), Duration.ofMinutes(15L));
+    static final Duration PUBLISH_INTERVAL = Duration.ofSeconds(1L);
+
+    private static final class VertexCounter {
+        private final LongAdder spans;
+        private final LongAdder summaryDuration;
+        private final LongAccumulator maxDuration;
+        private final Set<String> instances;
+
+        private VertexCounter() {
+            spans = new LongAdder();
+            summaryDuration = new LongAdder();
+            maxDuration = new LongAccumulator(Long::max, 0L);
+            instances = ConcurrentHashMap.newKeySet();
+        }
+
+        private void record(final Span span) {
+            final long duration = span.toNanos();
+            spans.increment();
+            summaryDuration.add(duration);
+            maxDuration.accumulate(duration);
+            instances.add(span.getInstanceName());
+        }
+
+        private VertexStatistics freeze() {
+            return new VertexStatistics(spans.sum(), summaryDuration.sum(), maxDuration.get(), ImmutableSet.copyOf(instances));
+        }
+    }
+
+    private static final class VertexStatistics {
+        private final long spans;
+        private final long summaryDuration;
+        private final long maxDuration;
+        private final ImmutableSet<String> instances;
+
+        private VertexStatistics(final long spans,
+                                 final long summaryDuration,
+                                 final long maxDuration,
+                                 final ImmutableSet<String> instances) {
+            this.spans = spans;
+            this.summaryDuration = summaryDuration;
+            this.maxDuration = maxDuration;
+            this.instances = instances;
+        }
+    }
+
+    /**
+     * Represents read-only copy of the bucket.
+     */
+    private static final class CompletedBucket {
+        private static final CompletedBucket EMPTY = new CompletedBucket(ImmutableMap.of(), ImmutableSetMultimap.of());
+
+        private final ImmutableMap<ComponentVertex, VertexStatistics> vertices;
+        private final ImmutableSetMultimap<ComponentVertex, ComponentVertex> edges;
+
+        private CompletedBucket(final ImmutableMap<ComponentVertex, VertexStatistics> vertices,
+                                final ImmutableSetMultimap<ComponentVertex, ComponentVertex> edges) {
+            this.vertices = vertices;
+            this.edges = edges;
+        }
+
+        private CompletedBucket remove(final String componentName) {
+            final Predicate<ComponentVertex> retained = vertex -> !vertex.getName().equals(componentName);
+            return new CompletedBucket(ImmutableMap.copyOf(Maps.filterKeys(vertices, retained::test)),
+                    ImmutableSetMultimap.copyOf(Multimaps.filterEntries(edges, edge -> retained.test(edge.getKey()) && retained.test(edge.getValue()))));
+        }
+    }
+
+    private static final class Bucket {
+        private final ConcurrentMap<ComponentVertex, VertexCounter> vertices;
+        private final ConcurrentMap<ComponentVertex, Set<ComponentVertex>> edges;
+
+        private Bucket() {
+            vertices = new ConcurrentHashMap<>();
+            edges = new ConcurrentHashMap<>();
+        }
+
+        private VertexCounter getCounter(final ComponentVertex vertex) {
+            final VertexCounter counter = vertices.get(vertex);
+            return counter == null ? vertices.computeIfAbsent(vertex, v -> new VertexCounter()) : counter;
+        }
+
+        private void link(final ComponentVertex parent, final ComponentVertex child) {
+            //both components are alive within this bucket even if their spans were recorded in the previous buckets
+            getCounter(parent);
+            getCounter(child);
+            Set<ComponentVertex> children = edges.get(parent);
+            if (children == null)
+                children = edges.computeIfAbsent(parent, v -> ConcurrentHashMap.newKeySet());
+            children.add(child);
+        }
+
+        private void remove(final String componentName) {
+            vertices.keySet().removeIf(vertex -> vertex.getName().equals(componentName));
+            edges.keySet().removeIf(vertex -> vertex.getName().equals(componentName));
+            edges.values().forEach(children -> children.removeIf(vertex -> vertex.getName().equals(componentName)));
+        }
+
+        private CompletedBucket freeze() {
+            final ImmutableMap.Builder<ComponentVertex, VertexStatistics> vertices = ImmutableMap.builder();
+            this.vertices.forEach((vertex, counter) -> vertices.put(vertex, counter.freeze()));
+            final ImmutableSetMultimap.Builder<ComponentVertex, ComponentVertex> edges = ImmutableSetMultimap.builder();
+            this.edges.forEach(edges::putAll);
+            return new CompletedBucket(vertices.build(), edges.build());
+        }
+    }
+
+    private static final class StatisticsAccumulator {
+        private long spans;
+        private long summaryDuration;
+        private long maxDuration;
+        private final Set<String> instances = new HashSet<>();
+
+        private void add(final VertexStatistics statistics) {
+            spans += statistics.spans;
+            summaryDuration += statistics.summaryDuration;
+            maxDuration = Long.max(maxDuration, statistics.maxDuration);
+            instances.addAll(statistics.instances);
+        }
+    }
+
+    private final LongSupplier clock;
+    private final long bucketNanos;
+    private final ImmutableList<Duration> windows;
+    private final int[] windowSizes;    //number of completed buckets in each window
+    private final Deque<CompletedBucket> completedBuckets;   //newest bucket is a head of the deque
+    private volatile Bucket currentBucket;
+    private volatile long bucketStart;
+    private volatile boolean modified;  //the current bucket was changed since the last publication
+    private volatile long publishedAt;
+    private volatile ImmutableList<TopologySnapshot> snapshots;
+
+    TopologyBuckets(final LongSupplier clock, final Duration bucketDuration, final List<Duration> windows) {
+        this.clock = Objects.requireNonNull(clock);
+        bucketNanos = bucketDuration.toNanos();
+        if (bucketNanos <= 0L)
+            throw new IllegalArgumentException("Duration of bucket should be positive");
+        this.windows = Ordering.natural().immutableSortedCopy(windows);
+        windowSizes = this.windows.stream()
+                .mapToInt(window -> (int) Long.max(window.toNanos() / bucketNanos, 1L))
+                .toArray();
+        completedBuckets = new ArrayDeque<>(windowSizes[windowSizes.length - 1] + 1);
+        currentBucket = new Bucket();
+        bucketStart = clock.getAsLong();
+        publishedAt = bucketStart - PUBLISH_INTERVAL.toNanos(); //first change is published immediately
+        snapshots = createEmptySnapshots();
+    }
+
+    TopologyBuckets() {
+        this(System::nanoTime, BUCKET_DURATION, WINDOWS);
+    }
+
+    private ImmutableList<TopologySnapshot> createEmptySnapshots() {
+        final ImmutableList.Builder<TopologySnapshot> snapshots = ImmutableList.builder();
+        windows.forEach(window -> snapshots.add(new TopologySnapshot(window)));
+        return snapshots.build();
+    }
+
+    private boolean isExpired() {
+        return clock.getAsLong() - bucketStart >= bucketNanos;
+    }
+
+    private Bucket getCurrentBucket() {
+        if (isExpired())
+            rotate();
+        return currentBucket;
+    }
+
+    private void markModified() {
+        if (!modified)
+            modified = true;
+    }
+
+    /**
+     * Records span into the current bucket.
+     * @param vertex Vertex associated with span.
+     * @param span Span to record.
+     */
+    void record(final ComponentVertex vertex, final Span span) {
+        getCurrentBucket().getCounter(vertex).record(span);
+        markModified();
+    }
+
+    /**
+     * Records link between two components into the current bucket.
+     * @param parent Parent component.
+     * @param child Child component.
+     */
+    void link(final ComponentVertex parent, final ComponentVertex child) {
+        getCurrentBucket().link(parent, child);
+        markModified();
+    }
+
+    private synchronized void rotate() {
+        final long elapsed = (clock.getAsLong() - bucketStart) / bucketNanos;
+        if (elapsed <= 0L)
+            return; //already rotated by another thread
+        final int capacity = windowSizes[windowSizes.length - 1];
+        final Bucket completedBucket = currentBucket;
+        bucketStart += elapsed * bucketNanos;
+        currentBucket = new Bucket();
+        //the completed bucket is copied so spans recorded concurrently with rotation can't change published snapshots
+        completedBuckets.addFirst(completedBucket.freeze());
+        //buckets without any spans if there was no activity during several periods
+        for (long i = 1L; i < Long.min(elapsed, capacity); i++)
+            completedBuckets.addFirst(CompletedBucket.EMPTY);
+        while (completedBuckets.size() > capacity)
+            completedBuckets.removeLast();
+        publish();
+    }
+
+    private synchronized void republish() {
+        if (modified && clock.getAsLong() - publishedAt >= PUBLISH_INTERVAL.toNanos())
+            publish();
+    }
+
+    private synchronized void publish() {
+        final Instant timeStamp = Instant.now();
+        final long now = clock.getAsLong();
+        //changes made after this point will be published by the next call
+        modified = false;
+        publishedAt = now;
+        final Map<ComponentVertex, StatisticsAccumulator> vertices = new HashMap<>();
+        final SetMultimap<ComponentVertex, ComponentVertex> edges = HashMultimap.create();
+        final ImmutableList.Builder<TopologySnapshot> snapshots = ImmutableList.builder();
+        //each window consists of the current bucket and completed buckets
+        addBucket(currentBucket.freeze(), vertices, edges);
+        final long currentBucketNanos = Long.max(now - bucketStart, 0L);
+        //all windows are computed in single pass from the newest bucket to the eldest
+        final Iterator<CompletedBucket> buckets = completedBuckets.iterator();
+        for (int window = 0, index = 0; window < windowSizes.length; window++) {
+            for (; index < windowSizes[window] && buckets.hasNext(); index++)
+                addBucket(buckets.next(), vertices, edges);
+            final Duration windowDuration = windows.get(window);
+            //rate is computed using the time actually covered by the buckets
+            final Duration coveredDuration = Duration.ofNanos(Long.max(index * bucketNanos + currentBucketNanos, bucketNanos));
+            final ImmutableMap.Builder<ComponentVertex, TopologySnapshot.ComponentStatistics> statistics = ImmutableMap.builder();
+            vertices.forEach((vertex, accumulator) -> statistics.put(vertex, new TopologySnapshot.ComponentStatistics(accumulator.spans,
+                    accumulator.summaryDuration,
+                    accumulator.maxDuration,
+                    accumulator.instances,
+                    coveredDuration)));
+            snapshots.add(new TopologySnapshot(windowDuration, timeStamp, statistics.build(), ImmutableSetMultimap.copyOf(edges)));
+        }
+        this.snapshots = snapshots.build();
+    }
+
+    private static void addBucket(final CompletedBucket bucket,
+                                  final Map<ComponentVertex, StatisticsAccumulator> vertices,
+                                  final SetMultimap<ComponentVertex, ComponentVertex> edges) {
+        bucket.vertices.forEach((vertex, statistics) -> vertices.computeIfAbsent(vertex, v -> new StatisticsAccumulator()).add(statistics));
+        edges.putAll(bucket.edges);
+    }
+
+    /**
+     * Gets the most recent snapshot.
+     * @param window Requested time window. The snapshot of the shortest window which covers the requested window will be returned.
+     *               If {@literal null} then snapshot of the longest window will be returned.
+     * @return The most recent snapshot.
+     */
+    TopologySnapshot getSnapshot(final Duration window) {
+        if (isExpired())
+            rotate();
+        else if (modified)
+            republish();
+        final ImmutableList<TopologySnapshot> snapshots = this.snapshots;
+        if (window != null)
+            for (final TopologySnapshot snapshot : snapshots)
+                if (snapshot.getWindow().compareTo(window) >= 0)
+                    return snapshot;
+        return snapshots.get(snapshots.size() - 1);
+    }
+
+    /**
+     * Removes the specified component from all buckets.
+     * @param componentName Name of the component to remove.
+     */
+    synchronized void remove(final String componentName) {
+        currentBucket.remove(componentName);
+        final List<CompletedBucket> buckets = new ArrayList<>(completedBuckets);
+        completedBuckets.clear();
+        buckets.forEach(bucket -> completedBuckets.addLast(bucket.remove(componentName)));
+        publish();
+    }
+
+    /**
+     * Removes all buckets.
+     */
+    synchronized void clear() {
+        completedBuckets.clear();
+        currentBucket = new Bucket();
+        bucketStart = clock.getAsLong();
+        modified = false;
+        publishedAt = bucketStart - PUBLISH_INTERVAL.toNanos();
+        snapshots = createEmptySnapshots();
+    }
+}
@@ -0,0 +1,175 @@
+package com.bytex.snamp.moa.topology;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.ImmutableSetMultimap;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.Immutable;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Represents immutable snapshot of the graph of components within the specified time window.
+ * <p>
+ *     Snapshot contains only those components and links between them which were observed within the window.
+ *     New snapshot is published on each rotation of time buckets and on changes of the current bucket so views can be built once per snapshot
+ *     and shared across all requests.
+ * @author Roman Sakno
+ * @version 2.0
+ * @since 2.0
+ */
+@Immutable
+public final class TopologySnapshot {
+    /**
+     * Represents statistics of the component collected within the time window.
+     */
+    @Immutable
+    public static final class ComponentStatistics {
+        private final long spans;
+        private final long summaryDurationNanos;
+        private final long maxDurationNanos;
+        private final ImmutableSet<String> instances;
+        private final double window;  //in seconds
+
+        ComponentStatistics(final long spans,
+                            final long summaryDurationNanos,
+                            final long maxDurationNanos,
+                            final Set<String> instances,
+                            final Duration window) {
+            this.spans = spans;
+            this.summaryDurationNanos = summaryDurationNanos;
+            this.maxDurationNanos = maxDurationNanos;
+            this.instances = ImmutableSet.copyOf(instances);
+            this.window = window.toMillis() / 1000D;
+        }
+
+        /**
+         * Gets number of spans received within the window.
+         * @return Number of spans.
+         */
+        public long getSpans() {
+            return spans;
+        }
+
+        /**
+         * Gets mean number of spans per second within the window.
+         * @return Mean number of spans per second.
+         */
+        public double getMeanRate() {
+            return spans / window;
+        }
+
+        /**
+         * Gets mean duration of spans received within the window.
+         * @return Mean duration of spans.
+         */
+        public Duration getMeanDuration() {
+            return spans == 0L ? Duration.ZERO : Duration.ofNanos(summaryDurationNanos / spans);
+        }
+
+        /**
+         * Gets max duration of spans received within the window.
+         * @return Max duration of spans.
+         */
+        public Duration getMaxDuration() {
+            return Duration.ofNanos(maxDurationNanos);
+        }
+
+        /**
+         * Gets instances of the component observed within the window.
+         * @return Immutable set of instances.
+         */
+        public Set<String> getInstances() {
+            return instances;
+        }
+    }
+
+    private final Duration window;
+    private final Instant timeStamp;
+    private final ImmutableMap<ComponentVertex, ComponentStatistics> vertices;
+    private final ImmutableSetMultimap<ComponentVertex, ComponentVertex> edges;
+    private final ConcurrentMap<Object, Object> views;
+
+    TopologySnapshot(@Nonnull final Duration window,
+                     @Nonnull final Instant timeStamp,
+                     @Nonnull final ImmutableMap<ComponentVertex, ComponentStatistics> vertices,
+                     @Nonnull final ImmutableSetMultimap<ComponentVertex, ComponentVertex> edges) {
+        this.window = Objects.requireNonNull(window);
+        this.timeStamp = Objects.requireNonNull(timeStamp);
+        this.vertices = Objects.requireNonNull(vertices);
+        this.edges = Objects.requireNonNull(edges);
+        views = new ConcurrentHashMap<>();
+    }
+
+    TopologySnapshot(final Duration window) {
+        this(window, Instant.now(), ImmutableMap.of(), ImmutableSetMultimap.of());
+    }
+
+    /**
+     * Gets time window covered by this snapshot.
+     * @return Time window.
+     */
+    public Duration getWindow() {
+        return window;
+    }
+
+    /**
+     * Gets time of this snapshot.
+     * @return Time of this snapshot.
+     */
+    public Instant getTimeStamp() {
+        return timeStamp;
+    }
+
+    /**
+     * Gets components observed within the window.
+     * @return Immutable set of components.
+     */
+    public Set<ComponentVertex> getVertices() {
+        return vertices.keySet();
+    }
+
+    /**
+     * Gets child components called by the specified component within the window.
+     * @param vertex Parent component.
+     * @return Immutable set of child components.
+     */
+    public Set<ComponentVertex> getChildren(final ComponentVertex vertex) {
+        return edges.get(vertex);
+    }
+
+    /**
+     * Gets statistics of the component collected within the window.
+     * @param vertex Component.
+     * @return Statistics of the component; or empty if component was not observed within the window.
+     */
+    public Optional<ComponentStatistics> getStatistics(final ComponentVertex vertex) {
+        return Optional.ofNullable(vertices.get(vertex));
+    }
+
+    /**
+     * Gets view computed from this snapshot.
+     * <p>
+     *     View is computed only once and shared across all callers with the same key.
+     * @param key Key that uniquely identifies the view.
+     * @param factory Function used to compute the view.
+     * @param <V> Type of the view.
+     * @return Computed view.
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V getView(@Nonnull final Object key, @Nonnull final Function<? super TopologySnapshot, ? extends V> factory) {
+        return (V) views.computeIfAbsent(key, k -> factory.apply(this));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("window=%s, timeStamp=%s, vertices=%s, edges=%s", window, timeStamp, vertices.size(), edges.size());
+    }
+}
@@ -181,6 +181,38 @@ public final class GraphOfComponentsTest extends Assert {
 
 
 
+        graph.clear();
+    }
+
+    @Test
+    public void orphanedSpansTest(){
+        final Span rootSpan = new Span();
+        rootSpan.setComponentName(COMPONENT1);
+        rootSpan.setInstanceName("node1");
+        rootSpan.setDuration(15, TimeUnit.MILLISECONDS);
+        rootSpan.generateIDs();
+        //children are received before the parent
+        for (int i = 0; i < 30; i++) {
+            final Span span = new Span();
+            span.setComponentName(i % 2 == 0 ? COMPONENT2 : COMPONENT3);
+            span.setInstanceName("node1");
+            span.setDuration(5, TimeUnit.MILLISECONDS);
+            span.setCorrelationID(rootSpan.getCorrelationID());
+            span.setSpanID(Identifier.randomID(4));
+            span.setParentSpanID(rootSpan.getSpanID());
+            graph.accept(span);
+        }
+        graph.accept(rootSpan);
+
+        assertEquals(3, graph.size());
+        final ComponentVertex rootComponent = graph.get(COMPONENT1);
+        assertNotNull(rootComponent);
+        //every child component is linked once regardless of the number of spans
+        assertEquals(2, rootComponent.size());
+        assertEquals(1L, rootComponent.getArrivals().getTotalRate());
+        //buffered spans are not recorded twice
+        assertEquals(30L, graph.get(COMPONENT2).getArrivals().getTotalRate() + graph.get(COMPONENT3).getArrivals().getTotalRate());
+
         graph.clear();
     }
 }
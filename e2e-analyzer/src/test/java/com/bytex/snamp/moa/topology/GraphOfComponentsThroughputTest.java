@@ -0,0 +1,48 @@
+package com.bytex.snamp.moa.topology;
+
+import com.bytex.snamp.instrumentation.Identifier;
+import com.bytex.snamp.instrumentation.measurements.Span;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+/**
+ * Measures throughput of span ingestion by {@link GraphOfComponents}.
+ * <p>
+ *     This test is disabled by default. Use "Throughput test" profile to run it.
+ */
+public final class GraphOfComponentsThroughputTest extends Assert {
+    private static final String THROUGHPUT_TEST_PROPERTY = "com.bytex.snamp.moa.throughput.test";
+
+    @Test
+    public void ingestionThroughputTest() {
+        Assume.assumeTrue("Throughput test is disabled. Please check the profile if needed", Boolean.getBoolean(THROUGHPUT_TEST_PROPERTY));
+        final int spansCount = 500_000;
+        final Span[] spans = new Span[spansCount];
+        IntStream.range(0, spansCount).forEach(index -> {
+            final Span span = new Span();
+            span.setComponentName("component" + index % 10);
+            span.setInstanceName("node" + index % 3);
+            span.setDuration(index % 100, TimeUnit.MILLISECONDS);
+            span.setSpanID(Identifier.ofLong(index));
+            if (index % 10 != 0)
+                span.setParentSpanID(spans[index - 1].getSpanID());
+            spans[index] = span;
+        });
+        final GraphOfComponents graph = new GraphOfComponents(1000);
+        //warm up
+        for (int i = 0; i < spansCount / 5; i++)
+            graph.accept(spans[i]);
+        final long startTime = System.nanoTime();
+        for (final Span span : spans)
+            graph.accept(span);
+        final double spansPerSecond = spansCount / ((System.nanoTime() - startTime) / 1E9);
+        Logger.getLogger(getClass().getName()).info(String.format("Span ingestion throughput: %.0f spans/s", spansPerSecond));
+        assertEquals(10, graph.size());
+        graph.clear();
+    }
+}
@@ -0,0 +1,114 @@
+package com.bytex.snamp.moa.topology;
+
+import com.bytex.snamp.instrumentation.measurements.Span;
+import com.google.common.collect.ImmutableList;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Represents tests for {@link TopologyBuckets}.
+ * @author Roman Sakno
+ * @version 2.0
+ * @since 2.0
+ */
+public final class TopologyBucketsTest extends Assert {
+    private static final Duration MINUTE = Duration.ofMinutes(1L);
+    private static final Duration FIVE_MINUTES = Duration.ofMinutes(5L);
+
+    private static Span createSpan(final String componentName, final long durationMillis) {
+        final Span span = new Span();
+        span.setComponentName(componentName);
+        span.setInstanceName("node1");
+        span.setDuration(durationMillis, TimeUnit.MILLISECONDS);
+        return span;
+    }
+
+    private static ComponentVertex createVertex(final String componentName) {
+        return new ComponentVertex(new ComponentVertexIdentity(componentName, ""));
+    }
+
+    @Test
+    public void rotationTest() {
+        final AtomicLong clock = new AtomicLong(0L);
+        final TopologyBuckets buckets = new TopologyBuckets(clock::get, MINUTE, ImmutableList.of(FIVE_MINUTES, MINUTE));
+        final ComponentVertex parent = createVertex("dispatcher");
+        final ComponentVertex child = createVertex("database");
+        buckets.record(parent, createSpan("dispatcher", 10L));
+        buckets.record(parent, createSpan("dispatcher", 30L));
+        buckets.record(child, createSpan("database", 5L));
+        buckets.link(parent, child);
+        //the current bucket is published immediately
+        assertEquals(2, buckets.getSnapshot(MINUTE).getVertices().size());
+
+        clock.addAndGet(MINUTE.toNanos());
+        TopologySnapshot snapshot = buckets.getSnapshot(MINUTE);
+        assertEquals(MINUTE, snapshot.getWindow());
+        assertEquals(2, snapshot.getVertices().size());
+        assertTrue(snapshot.getChildren(parent).contains(child));
+        final TopologySnapshot.ComponentStatistics statistics = snapshot.getStatistics(parent).orElseThrow(AssertionError::new);
+        assertEquals(2L, statistics.getSpans());
+        assertEquals(Duration.ofMillis(20L), statistics.getMeanDuration());
+        assertEquals(Duration.ofMillis(30L), statistics.getMaxDuration());
+        //view is computed once per snapshot
+        assertSame(snapshot.getView("key", TopologySnapshot::toString), snapshot.getView("key", s -> "another"));
+
+        //component without activity is excluded from the short window and remains in the long window
+        buckets.record(child, createSpan("database", 5L));
+        clock.addAndGet(MINUTE.toNanos());
+        snapshot = buckets.getSnapshot(MINUTE);
+        assertFalse(snapshot.getVertices().contains(parent));
+        assertTrue(snapshot.getVertices().contains(child));
+        assertTrue(snapshot.getChildren(parent).isEmpty());
+        snapshot = buckets.getSnapshot(Duration.ofMinutes(2L));
+        assertEquals(FIVE_MINUTES, snapshot.getWindow());
+        assertTrue(snapshot.getVertices().contains(parent));
+        assertEquals(2L, snapshot.getStatistics(child).orElseThrow(AssertionError::new).getSpans());
+
+        //all components are expired
+        clock.addAndGet(FIVE_MINUTES.toNanos());
+        assertTrue(buckets.getSnapshot(null).getVertices().isEmpty());
+    }
+
+    @Test
+    public void currentBucketTest() {
+        final AtomicLong clock = new AtomicLong(0L);
+        final TopologyBuckets buckets = new TopologyBuckets(clock::get, MINUTE, ImmutableList.of(MINUTE));
+        final ComponentVertex vertex = createVertex("dispatcher");
+        buckets.record(vertex, createSpan("dispatcher", 10L));
+        final TopologySnapshot snapshot = buckets.getSnapshot(MINUTE);
+        assertEquals(1L, snapshot.getStatistics(vertex).orElseThrow(AssertionError::new).getSpans());
+        //changes of the current bucket are republished not more often than publication interval
+        buckets.record(vertex, createSpan("dispatcher", 10L));
+        assertSame(snapshot, buckets.getSnapshot(MINUTE));
+        clock.addAndGet(TopologyBuckets.PUBLISH_INTERVAL.toNanos());
+        assertEquals(2L, buckets.getSnapshot(MINUTE).getStatistics(vertex).orElseThrow(AssertionError::new).getSpans());
+        //published snapshot is a copy of the bucket
+        assertEquals(1L, snapshot.getStatistics(vertex).orElseThrow(AssertionError::new).getSpans());
+        //completed bucket is a copy too
+        clock.addAndGet(MINUTE.toNanos());
+        final TopologySnapshot completed = buckets.getSnapshot(MINUTE);
+        buckets.record(vertex, createSpan("dispatcher", 10L));
+        buckets.remove("database");
+        assertEquals(2L, completed.getStatistics(vertex).orElseThrow(AssertionError::new).getSpans());
+        assertEquals(3L, buckets.getSnapshot(MINUTE).getStatistics(vertex).orElseThrow(AssertionError::new).getSpans());
+    }
+
+    @Test
+    public void removeTest() {
+        final AtomicLong clock = new AtomicLong(0L);
+        final TopologyBuckets buckets = new TopologyBuckets(clock::get, MINUTE, ImmutableList.of(MINUTE));
+        final ComponentVertex parent = createVertex("dispatcher");
+        final ComponentVertex child = createVertex("database");
+        buckets.link(parent, child);
+        clock.addAndGet(MINUTE.toNanos());
+        assertEquals(2, buckets.getSnapshot(null).getVertices().size());
+        buckets.remove("database");
+        final TopologySnapshot snapshot = buckets.getSnapshot(null);
+        assertEquals(1, snapshot.getVertices().size());
+        assertTrue(snapshot.getChildren(parent).isEmpty());
+    }
+}
@@ -5,17 +5,18 @@ import com.bytex.snamp.MethodStub;
 import javax.annotation.concurrent.ThreadSafe;
 import java.time.Duration;
 import java.util.Objects;
-import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
-import static com.bytex.snamp.internal.Utils.callUnchecked;
-
 /**
  * Represents lightweight timer that is used to repeat some action in time.
+ * <p>
+ *     Repeater doesn't own a thread. All repeaters share the worker threads of {@link RepeaterScheduler}.
+ *     The next execution is scheduled only when the previous one is completed, so the action is never executed concurrently
+ *     with itself.
  * @author Roman Sakno
  * @version 2.0
  * @since 1.0
@@ -59,7 +60,7 @@ public abstract class Repeater implements AutoCloseable, Runnable {
     private RepeaterState state;
     private Throwable exception;
     private final Duration period;
-    private Thread repeatThread;
+    private RepeaterTask repeatTask;
     private final Lock monitor;
 
     /**
@@ -71,7 +72,7 @@ public abstract class Repeater implements AutoCloseable, Runnable {
         this.state = RepeaterState.STOPPED;
         this.period = Objects.requireNonNull(period);
         this.exception = null;
-        this.repeatThread = null;
+        this.repeatTask = null;
         this.monitor = new ReentrantLock();
     }
 
@@ -85,6 +86,8 @@ public abstract class Repeater implements AutoCloseable, Runnable {
 
     /**
      * Generates name of the repeater thread.
+     * <p>
+     *     The worker thread is renamed using this name while executing the action.
      * @return A new unique name of the repeater thread.
      */
     protected String generateThreadName(){
@@ -97,6 +100,8 @@ public abstract class Repeater implements AutoCloseable, Runnable {
 
     /**
      * Gets priority of the repeater thread.
+     * <p>
+     *     The worker thread is switched to this priority while executing the action.
      * @return Priority of the repeater thread.
      */
     protected int getPriority(){
@@ -147,68 +152,126 @@ public abstract class Repeater implements AutoCloseable, Runnable {
      */
     protected abstract void doAction() throws Exception;
 
-    private void runImpl() {
-        final class RepeaterThread extends Thread implements Thread.UncaughtExceptionHandler, Callable<Void> {
-            private RepeaterThread() {
-                super(generateThreadName());
-                setDaemon(true);
-                setPriority(getPriority());
-                setUncaughtExceptionHandler(this);
-            }
+    private final class RepeaterTask extends RepeaterScheduler.ScheduledTask {
+        private final String name;
+        private volatile boolean cancelled;
+        private volatile Throwable pendingError;    //error that is not reported because monitor was busy
+        private Thread runner;  //guarded by this
 
-            @Override
-            public void uncaughtException(final Thread t, final Throwable e) {
-                if (monitor.tryLock())    //to avoid deadlock
-                    try {
-                        switch (state) {
-                            case STARTED:
-                                final RepeaterState newState = e instanceof InterruptedException ?
-                                        RepeaterState.STOPPED :
-                                        RepeaterState.FAILED;
-                                exception = e;
-                                stateChanged(state = newState);
-                                t.interrupt();
-                                break;
-                            default:
-                                throw new IllegalStateException(String.format("The repeater must be in %s state but actual state is %s", RepeaterState.STARTED, state));
-                        }
-                    } finally {
-                        monitor.unlock();
-                    }
-            }
+        private RepeaterTask() {
+            name = generateThreadName();
+        }
 
-            @Override
-            public Void call() throws Exception {
-                doAction();
-                return null;
-            }
+        @Override
+        boolean isCancelled() {
+            return cancelled;
+        }
+
+        synchronized void cancel() {
+            cancelled = true;
+            if (runner != null)
+                runner.interrupt();
+        }
+
+        /**
+         * Waits for completion of the action executed at this moment.
+         * @param timeoutMillis Time to wait, in millis.
+         * @return {@literal true}, if action is not executed at this moment; otherwise, {@literal false}.
+         * @throws InterruptedException The current thread is interrupted.
+         */
+        synchronized boolean await(final long timeoutMillis) throws InterruptedException {
+            final long deadline = System.currentTimeMillis() + timeoutMillis;
+            for (long remaining = timeoutMillis; runner != null; remaining = deadline - System.currentTimeMillis())
+                if (remaining > 0L)
+                    wait(remaining);
+                else
+                    return false;
+            return true;
+        }
 
-            @Override
-            public void run() {
-                while (!isInterrupted()) {
-                    //sleep for a specified time
-                    try {
-                        Thread.sleep(getPeriod().toMillis());
-                    } catch (final InterruptedException e) {
-                        return;
+        private synchronized boolean enter(final Thread current) {
+            if (cancelled)
+                return false;
+            runner = current;
+            return true;
+        }
+
+        private synchronized void exit() {
+            runner = null;
+            Thread.interrupted();   //interruption of the worker thread must not affect the next task
+            notifyAll();
+        }
+
+        private void failed(final Throwable e) {
+            if (monitor.tryLock())    //to avoid deadlock
+                try {
+                    if (state == RepeaterState.STARTED && repeatTask == this) {
+                        exception = e;
+                        stateChanged(state = e instanceof InterruptedException ? RepeaterState.STOPPED : RepeaterState.FAILED);
                     }
-                    callUnchecked(this);
+                } finally {
+                    monitor.unlock();
+                }
+            else if (!cancelled) {
+                //repeater is busy so try to report the error on the next tick instead of dropping the task
+                pendingError = e;
+                try {
+                    RepeaterScheduler.getInstance().schedule(this, Duration.ZERO);
+                } catch (final IllegalStateException ignored) {
+                    pendingError = null;    //scheduler is stopped together with the framework bundle
                 }
             }
+        }
 
-            @Override
-            public String toString() {
-                return getName();
+        @Override
+        void execute() {
+            final Throwable pendingError = this.pendingError;
+            if (pendingError != null) {
+                this.pendingError = null;
+                failed(pendingError);
+                return;
             }
+            final Thread current = Thread.currentThread();
+            if (!enter(current))
+                return;
+            final String workerName = current.getName();
+            final int workerPriority = current.getPriority();
+            current.setName(name);
+            current.setPriority(getPriority());
+            Throwable error = null;
+            try {
+                doAction();
+            } catch (final Throwable e) {
+                error = e;
+            } finally {
+                current.setName(workerName);
+                current.setPriority(workerPriority);
+                exit();
+            }
+            if (error != null)
+                failed(error);
+            else if (!cancelled)
+                try {
+                    RepeaterScheduler.getInstance().schedule(this, getPeriod());
+                } catch (final IllegalStateException e) {
+                    failed(e);
+                }
         }
 
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    private void runImpl() {
         switch (state) {
             case STOPPED:
             case FAILED:
                 exception = null;
-                repeatThread = new RepeaterThread();
-                //execute periodic thread
-                repeatThread.start();
+                repeatTask = new RepeaterTask();
+                //execute periodic task
+                RepeaterScheduler.getInstance().schedule(repeatTask, getPeriod());
                 stateChanged(state = RepeaterState.STARTED);
                 return;
             default:
@@ -237,15 +300,13 @@ public abstract class Repeater implements AutoCloseable, Runnable {
             default:
                 return;  //already stopped
             case STARTED:
-                repeatThread.interrupt();
+                repeatTask.cancel();
                 stateChanged(state = RepeaterState.STOPPING);
             case STOPPING:
-                if (timeoutMillis > 0L)
-                    repeatThread.join(timeoutMillis);
-                if (repeatThread.isAlive())
-                    throw new TimeoutException(String.format("Thread %s still alive", repeatThread));
+                if (!repeatTask.await(timeoutMillis))
+                    throw new TimeoutException(String.format("Task %s still running", repeatTask));
         }
-        repeatThread = null;
+        repeatTask = null;
         stateChanged(state = RepeaterState.STOPPED);
     }
 
@@ -305,12 +366,12 @@ public abstract class Repeater implements AutoCloseable, Runnable {
     public final void close() throws InterruptedException {
         monitor.lockInterruptibly();
         try {
-            if (repeatThread != null)
-                repeatThread.interrupt();
+            if (repeatTask != null)
+                repeatTask.cancel();
             closeImpl();
         } finally {
             monitor.unlock();
-            repeatThread = null;
+            repeatTask = null;
         }
     }
 }
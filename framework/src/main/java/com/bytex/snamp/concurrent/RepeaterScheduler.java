@@ -0,0 +1,268 @@
+package com.bytex.snamp.concurrent;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Represents hashed timing wheel that multiplexes all periodic tasks of {@link Repeater}s
+ * onto the small pool of worker threads.
+ * <p>
+ *     The single wheel thread moves expired tasks into the worker pool. The task is placed into the wheel again
+ *     only when its execution is completed, therefore, executions of the same task never overlap.
+ *     The number of worker threads can be configured using {@value #WORKER_COUNT_PROPERTY} system property.
+ *     Threads of the scheduler are started lazily and stopped together with the framework bundle.
+ * @author Roman Sakno
+ * @version 2.0
+ * @since 2.0
+ */
+@ThreadSafe
+public final class RepeaterScheduler {
+    /**
+     * Represents task that can be scheduled by the wheel.
+     * @author Roman Sakno
+     * @version 2.0
+     * @since 2.0
+     */
+    static abstract class ScheduledTask implements Runnable {
+        private RepeaterScheduler scheduler;
+        private long deadline;  //in terms of System.nanoTime()
+
+        /**
+         * Determines whether this task is cancelled.
+         * @return {@literal true}, if this task is cancelled and should be removed from the wheel.
+         */
+        abstract boolean isCancelled();
+
+        /**
+         * Executes this task in the worker thread.
+         */
+        abstract void execute();
+
+        @Override
+        public final void run() {
+            scheduler.recordLag(System.nanoTime() - deadline);
+            execute();
+        }
+    }
+
+    /**
+     * Name of the system property that defines number of worker threads.
+     */
+    public static final String WORKER_COUNT_PROPERTY = "com.bytex.snamp.concurrent.repeaterThreads";
+    private static final long TICK_DURATION = TimeUnit.MILLISECONDS.toNanos(10L);
+    private static final int WHEEL_SIZE = 512;  //must be a power of 2
+
+    private static volatile RepeaterScheduler instance;
+    private static boolean stopped;    //guarded by RepeaterScheduler.class
+
+    private final Queue<ScheduledTask> incoming;
+    private final AtomicInteger scheduledTasks;
+    private final ThreadPoolExecutor workers;
+    private final Thread wheelThread;
+    private final LongAdder executions;
+    private final LongAdder summaryLag;
+    private final AtomicLong maxLag;
+
+    private RepeaterScheduler(final int workerCount) {
+        if (workerCount <= 0)
+            throw new IllegalArgumentException("Number of worker threads must be greater than zero");
+        incoming = new ConcurrentLinkedQueue<>();
+        scheduledTasks = new AtomicInteger(0);
+        executions = new LongAdder();
+        summaryLag = new LongAdder();
+        maxLag = new AtomicLong(0L);
+        final GroupedThreadFactory threadFactory = new GroupedThreadFactory("RepeaterScheduler");
+        workers = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), threadFactory);
+        wheelThread = threadFactory.newThread(new Wheel());
+        wheelThread.start();
+    }
+
+    /**
+     * Gets scheduler shared by all repeaters.
+     * @return The scheduler shared by all repeaters.
+     * @throws IllegalStateException The scheduler is stopped together with the framework bundle.
+     */
+    public static RepeaterScheduler getInstance() {
+        RepeaterScheduler result = instance;
+        if (result == null)
+            synchronized (RepeaterScheduler.class) {
+                if (stopped)
+                    throw new IllegalStateException("Repeater scheduler is stopped");
+                else if ((result = instance) == null)
+                    instance = result = new RepeaterScheduler(Integer.getInteger(WORKER_COUNT_PROPERTY,
+                            Math.max(2, Runtime.getRuntime().availableProcessors())));
+            }
+        return result;
+    }
+
+    /**
+     * Allows to start the shared scheduler again after {@link #stop()}.
+     * <p>
+     *     This method is intended to be called by activator of the framework bundle.
+     */
+    public static synchronized void start() {
+        stopped = false;
+    }
+
+    /**
+     * Stops wheel and worker threads of the shared scheduler.
+     * <p>
+     *     This method is intended to be called by activator of the framework bundle. All scheduled tasks are discarded
+     *     and running tasks are interrupted.
+     */
+    public static synchronized void stop() {
+        stopped = true;
+        final RepeaterScheduler scheduler = instance;
+        instance = null;
+        if (scheduler != null)
+            scheduler.shutdown();
+    }
+
+    private void shutdown() {
+        wheelThread.interrupt();
+        workers.shutdownNow();
+    }
+
+    /**
+     * Determines whether the threads of this scheduler are terminated.
+     * @return {@literal true}, if this scheduler is terminated; otherwise, {@literal false}.
+     */
+    boolean isTerminated() {
+        return workers.isTerminated() && !wheelThread.isAlive();
+    }
+
+    /**
+     * Gets number of worker threads.
+     * @return Number of worker threads.
+     */
+    public int getWorkerCount(){
+        return workers.getMaximumPoolSize();
+    }
+
+    /**
+     * Gets number of tasks waiting for their next execution.
+     * @return Number of tasks waiting for their next execution.
+     */
+    public int getScheduledTasks(){
+        return scheduledTasks.get();
+    }
+
+    /**
+     * Gets number of expired tasks waiting for the free worker thread.
+     * @return Number of expired tasks waiting for the free worker thread.
+     */
+    public int getQueueDepth(){
+        return workers.getQueue().size();
+    }
+
+    private void recordLag(final long lag) {
+        executions.increment();
+        summaryLag.add(lag);
+        maxLag.accumulateAndGet(lag, Math::max);
+    }
+
+    /**
+     * Gets mean delay between scheduled and actual start of the task.
+     * @return Mean delay between scheduled and actual start of the task.
+     */
+    public Duration getMeanLag() {
+        final long executions = this.executions.sum();
+        return executions == 0L ? Duration.ZERO : Duration.ofNanos(summaryLag.sum() / executions);
+    }
+
+    /**
+     * Gets maximum delay between scheduled and actual start of the task.
+     * @return Maximum delay between scheduled and actual start of the task.
+     */
+    public Duration getMaxLag() {
+        return Duration.ofNanos(maxLag.get());
+    }
+
+    void schedule(final ScheduledTask task, final Duration delay) {
+        task.scheduler = this;
+        task.deadline = System.nanoTime() + delay.toNanos();
+        scheduledTasks.incrementAndGet();
+        incoming.offer(task);
+        LockSupport.unpark(wheelThread);
+    }
+
+    private final class Wheel implements Runnable {
+        private final Queue<ScheduledTask>[] buckets;
+        private final long startTime;
+        private long processedTick;
+
+        @SuppressWarnings("unchecked")
+        private Wheel() {
+            buckets = new Queue[WHEEL_SIZE];
+            for (int i = 0; i < WHEEL_SIZE; i++)
+                buckets[i] = new ArrayDeque<>();
+            startTime = System.nanoTime();
+            processedTick = 0L;
+        }
+
+        private Queue<ScheduledTask> getBucket(final long tick){
+            return buckets[(int) (tick & (WHEEL_SIZE - 1))];
+        }
+
+        private void transferIncoming() {
+            for (ScheduledTask task; (task = incoming.poll()) != null; )
+                if (task.isCancelled())
+                    scheduledTasks.decrementAndGet();
+                else {
+                    //round up to the nearest tick
+                    final long tick = Math.max((task.deadline - startTime + TICK_DURATION - 1L) / TICK_DURATION, processedTick + 1L);
+                    getBucket(tick).add(task);
+                }
+        }
+
+        private void expire(final Queue<ScheduledTask> bucket, final long now) {
+            for (final Iterator<ScheduledTask> tasks = bucket.iterator(); tasks.hasNext(); ) {
+                final ScheduledTask task = tasks.next();
+                if (task.isCancelled()) {
+                    tasks.remove();
+                    scheduledTasks.decrementAndGet();
+                } else if (task.deadline - now <= 0L) {
+                    tasks.remove();
+                    scheduledTasks.decrementAndGet();
+                    workers.execute(task);
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            final Thread current = Thread.currentThread();
+            try {
+                while (!current.isInterrupted()) {
+                    if (scheduledTasks.get() == 0)
+                        LockSupport.park(this);
+                    final long now = System.nanoTime();
+                    final long currentTick = (now - startTime) / TICK_DURATION;
+                    transferIncoming();
+                    if (currentTick > processedTick) {
+                        //the whole wheel should be inspected at most once
+                        for (long tick = Math.max(processedTick + 1L, currentTick - WHEEL_SIZE + 1L); tick <= currentTick; tick++)
+                            expire(getBucket(tick), now);
+                        processedTick = currentTick;
+                    }
+                    LockSupport.parkNanos(this, startTime + (processedTick + 1L) * TICK_DURATION - System.nanoTime());
+                }
+            } catch (final RejectedExecutionException e) {
+                //worker pool is shut down concurrently with the wheel
+                current.interrupt();
+            } finally {
+                incoming.clear();
+                for (final Queue<ScheduledTask> bucket : buckets)
+                    bucket.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.bytex.snamp.concurrent;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Represents value loaded at most once per freshness window.
+ * <p>
+ *     Concurrent callers that find the value stale wait for the single in-flight load instead of starting their own.
+ *     The loader is called in the thread of the caller that started loading. Failed load is never reused
+ *     so the next caller repeats it.
+ * @param <V> Type of the value.
+ * @author Roman Sakno
+ * @version 2.0
+ * @since 2.0
+ */
+@ThreadSafe
+public final class SingleFlightValue<V> {
+    private static final class LoadedValue<V> extends CompletableFuture<V> {
+        private final long createdAt;
+
+        private LoadedValue() {
+            createdAt = System.nanoTime();
+        }
+
+        private boolean isFresh(final Duration freshness) {
+            //in-flight load is always reused
+            return !isDone() || !isCompletedExceptionally() && System.nanoTime() - createdAt <= freshness.toNanos();
+        }
+    }
+
+    private final AtomicReference<LoadedValue<V>> value;
+
+    public SingleFlightValue() {
+        value = new AtomicReference<>();
+    }
+
+    private static <V> V join(final LoadedValue<V> value) throws Exception {
+        try {
+            return value.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof Exception)
+                throw (Exception) e.getCause();
+            else
+                throw e;
+        }
+    }
+
+    /**
+     * Gets the value loaded in the specified freshness window or loads a new value.
+     * @param freshness Freshness window of the loaded value.
+     * @param loader Loader of the value. Cannot be {@literal null}.
+     * @return Loaded value.
+     * @throws Exception Unable to load value.
+     */
+    public V get(final Duration freshness, final Callable<? extends V> loader) throws Exception {
+        while (true) {
+            final LoadedValue<V> current = value.get();
+            if (current != null && current.isFresh(freshness))
+                return join(current);
+            final LoadedValue<V> loading = new LoadedValue<>();
+            if (value.compareAndSet(current, loading)) {
+                try {
+                    loading.complete(loader.call());
+                } catch (final Throwable e) {
+                    loading.completeExceptionally(e);   //waiting callers must be released in any case
+                }
+                return join(loading);
+            }
+            //else: another caller started loading concurrently
+        }
+    }
+
+    /**
+     * Discards the loaded value so the next call of {@link #get(Duration, Callable)} loads a new value.
+     */
+    public void invalidate() {
+        value.set(null);
+    }
+}
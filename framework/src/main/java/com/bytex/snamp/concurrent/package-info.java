@@ -1,7 +1,7 @@
 /**
  * Represents utilities for concurrent programming such as
  * <ul>
- *     <li>Lightweight timer: {@link com.bytex.snamp.concurrent.Repeater}.</li>
+ *     <li>Lightweight timer: {@link com.bytex.snamp.concurrent.Repeater} backed by shared {@link com.bytex.snamp.concurrent.RepeaterScheduler}.</li>
  *     <li>Working with threads: {@link com.bytex.snamp.concurrent.GroupedThreadFactory}</li>
  *     <li>Concurrent containers: {@link com.bytex.snamp.concurrent.ConcurrentResourceAccessor}, {@link com.bytex.snamp.concurrent.LazyReference}</li>
  *     <li>Synchronization primitives: {@link com.bytex.snamp.concurrent.SpinWait}, {@link com.bytex.snamp.concurrent.LockDecorator}, {@link com.bytex.snamp.concurrent.SpinWait}</li>
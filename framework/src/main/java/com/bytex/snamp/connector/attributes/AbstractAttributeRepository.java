@@ -74,7 +74,7 @@ public abstract class AbstractAttributeRepository<M extends MBeanAttributeInfo>
 
         @Override
         Attribute call(final AbstractAttributeRepository<M> repository) throws Exception {
-            return new Attribute(attributeName, repository.getAttribute(metadata));
+            return new Attribute(attributeName, repository.readAttribute(attributeName, metadata));
         }
     }
 
@@ -99,6 +99,7 @@ public abstract class AbstractAttributeRepository<M extends MBeanAttributeInfo>
 
     private final KeyedObjects<String, M> attributes;
     private final AttributeMetricsRecorder metrics;
+    private final AttributeValueCache cache;
     private final LockDecorator readLock;
     private final LockDecorator writeLock;
 
@@ -113,6 +114,7 @@ public abstract class AbstractAttributeRepository<M extends MBeanAttributeInfo>
         super(resourceName, attributeMetadataType);
         attributes = AbstractKeyedObjects.create(MBeanAttributeInfo::getName);
         metrics = new AttributeMetricsRecorder();
+        cache = new AttributeValueCache(metrics);
         final ReadWriteLock rwLock = new ReentrantReadWriteLock();
         readLock = LockDecorator.readLock(rwLock);
         writeLock = LockDecorator.writeLock(rwLock);
@@ -125,6 +127,7 @@ public abstract class AbstractAttributeRepository<M extends MBeanAttributeInfo>
 
     //this method should be called before removing attribute from this manager
     private void attributeRemoved(final M metadata) {
+        cache.invalidate(metadata.getName());
         fireResourceEvent(AttributeModifiedEvent.attributedRemoving(this, getResourceName(), metadata));
     }
 
@@ -182,7 +185,7 @@ public abstract class AbstractAttributeRepository<M extends MBeanAttributeInfo>
                 case 1:
                     final Map.Entry<String, M> attribute = Iterables.getFirst(attributes.entrySet(), null);
                     assert attribute != null;
-                    return toAttributeList(new Attribute(attribute.getKey(), getAttribute(attribute.getValue())));
+                    return toAttributeList(new Attribute(attribute.getKey(), readAttribute(attribute.getKey(), attribute.getValue())));
                 default:
                     final Collection<ReadAttributeTask<M>> tasks = new LinkedList<>();
                     attributes.forEach((name, metadata) -> tasks.add(new ReadAttributeTask<>(name, metadata, this)));
@@ -206,7 +209,7 @@ public abstract class AbstractAttributeRepository<M extends MBeanAttributeInfo>
                 return new AttributeList();
             final AttributeList result = new AttributeList();
             final EntryReader<String, M, Exception> walker = (name, metadata) -> {
-                result.add(new Attribute(name, getAttribute(metadata)));
+                result.add(new Attribute(name, readAttribute(name, metadata)));
                 return true;
             };
             walker.walk(this.attributes);
@@ -242,7 +245,7 @@ public abstract class AbstractAttributeRepository<M extends MBeanAttributeInfo>
                     assert attribute != null;
                     for (final String attributeName : attributes)
                         if (attribute.getKey().equals(attributeName))
-                            return toAttributeList(new Attribute(attributeName, getAttribute(attribute.getValue())));
+                            return toAttributeList(new Attribute(attributeName, readAttribute(attributeName, attribute.getValue())));
                 case 0:
                     return new AttributeList();
                 default:
@@ -439,16 +442,48 @@ public abstract class AbstractAttributeRepository<M extends MBeanAttributeInfo>
      */
     protected abstract Object getAttribute(final M metadata) throws Exception;
 
+    private Object readAttribute(final String attributeName, final M metadata) throws Exception {
+        final Duration cacheTTL = AttributeDescriptor.getCacheTTL(metadata.getDescriptor());
+        return cacheTTL == null ?
+                getAttribute(metadata) :
+                cache.get(attributeName, cacheTTL, () -> getAttribute(metadata));
+    }
+
     private Object getAttributeImpl(final String attributeName) throws Exception {
-        if (attributes.containsKey(attributeName))
-            return getAttribute(attributes.get(attributeName));
-        else
+        final M metadata = attributes.get(attributeName);
+        if (metadata == null)
             throw JMExceptionUtils.attributeNotFound(attributeName);
+        return readAttribute(attributeName, metadata);
+    }
+
+    /**
+     * Reads attributes with {@link AttributeSupport#CACHE_TTL_FIELD} through the cache of attribute values.
+     * <p>
+     *     This method should be used by derived repositories which read attributes in batch manner
+     *     without calling {@link #getAttribute(String)}.
+     * @param attributes Attributes to read.
+     * @param output The list of read cached attributes.
+     * @return Attributes without cache which should be read by the derived repository.
+     */
+    protected final List<M> readCachedAttributes(final Collection<? extends M> attributes, final AttributeList output) {
+        final List<M> result = new ArrayList<>(attributes.size());
+        for (final M metadata : attributes)
+            if (AttributeDescriptor.getCacheTTL(metadata.getDescriptor()) == null)
+                result.add(metadata);
+            else
+                try {
+                    output.add(new Attribute(metadata.getName(), readAttribute(metadata.getName(), metadata)));
+                } catch (final Exception e) {
+                    failedToGetAttribute(metadata.getName(), e);
+                }
+        return result;
     }
 
     /**
      * Obtains the value of a specific attribute of the managed resource.
-     *
+     * <p>
+     *     If attribute declares {@link AttributeSupport#CACHE_TTL_FIELD} then its value is shared
+     *     across all callers during the specified period of time.
      * @param attributeName The name of the attribute to be retrieved
      * @return The value of the attribute retrieved.
      * @throws javax.management.AttributeNotFoundException
@@ -495,7 +530,11 @@ public abstract class AbstractAttributeRepository<M extends MBeanAttributeInfo>
 
     private void setAttributeImpl(final Attribute attribute) throws Exception{
         if (attributes.containsKey(attribute.getName()))
-            setAttribute(attributes.get(attribute.getName()), attribute.getValue());
+            try {
+                setAttribute(attributes.get(attribute.getName()), attribute.getValue());
+            } finally {
+                cache.invalidate(attribute.getName());
+            }
         else throw JMExceptionUtils.attributeNotFound(attribute.getName());
     }
 
@@ -619,6 +658,13 @@ public abstract class AbstractAttributeRepository<M extends MBeanAttributeInfo>
         return readLock.apply(attributes, attrs -> ImmutableSet.copyOf(attrs.keySet()));
     }
 
+    /**
+     * Records read of attributes performed by the derived repository without calling {@link #getAttribute(MBeanAttributeInfo)}.
+     */
+    protected final void attributesRead() {
+        metrics.updateReads();
+    }
+
     /**
      * Gets metrics associated with activity of the features in this repository.
      *
@@ -9,6 +9,7 @@ import com.bytex.snamp.connector.FeatureDescriptor;
 import com.bytex.snamp.jmx.DescriptorUtils;
 import com.bytex.snamp.jmx.WellKnownType;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.primitives.Longs;
 
 import javax.management.Descriptor;
 import javax.management.ImmutableDescriptor;
@@ -19,6 +20,7 @@ import java.time.Duration;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 
 import static com.bytex.snamp.connector.attributes.AttributeSupport.*;
 import static com.google.common.base.Strings.isNullOrEmpty;
@@ -147,6 +149,47 @@ public class AttributeDescriptor extends ImmutableDescriptor implements FeatureD
         return getReadWriteTimeout(metadata.getDescriptor());
     }
 
+    private static Optional<Duration> parseCacheTTL(final Object value) {
+        if (value instanceof String) {
+            final Long millis = Longs.tryParse((String) value);
+            if (millis != null)
+                return Optional.of(Duration.ofMillis(millis));
+        }
+        return Convert.toDuration(value);
+    }
+
+    /**
+     * Gets time-to-live of the cached attribute value.
+     * @param metadata Attribute metadata.
+     * @return Time-to-live of the cached attribute value; or {@literal null}, if caching is disabled.
+     * @since 2.0
+     */
+    public static Duration getCacheTTL(final Descriptor metadata) {
+        return DescriptorUtils.getField(metadata, CACHE_TTL_FIELD, Function.identity())
+                .flatMap(AttributeDescriptor::parseCacheTTL)
+                .filter(ttl -> !ttl.isNegative() && !ttl.isZero())
+                .orElse(null);
+    }
+
+    /**
+     * Gets time-to-live of the cached attribute value.
+     * @return Time-to-live of the cached attribute value; or {@literal null}, if caching is disabled.
+     * @since 2.0
+     */
+    public final Duration getCacheTTL(){
+        return getCacheTTL(this);
+    }
+
+    /**
+     * Enables caching of the attribute value.
+     * @param value Time-to-live of the cached attribute value.
+     * @return A new instance of modified descriptor.
+     * @since 2.0
+     */
+    public final AttributeDescriptor setCacheTTL(final Duration value){
+        return setFields(ImmutableMap.of(CACHE_TTL_FIELD, value));
+    }
+
     public static String getDescription(final Descriptor metadata, final String defVal){
         return DescriptorUtils.getField(metadata, DESCRIPTION_FIELD, Objects::toString).orElse(defVal);
     }
@@ -53,6 +53,14 @@ public interface AttributeSupport extends ManagedResourceAggregatedService {
      */
     String OPEN_TYPE = JMX.OPEN_TYPE_FIELD;
 
+    /**
+     * The name of the field in {@link javax.management.Descriptor} which contains
+     * time-to-live of the cached attribute value. The value can be specified as the number of milliseconds or
+     * as {@link java.time.Duration} in ISO-8601 format.
+     * @since 2.0
+     */
+    String CACHE_TTL_FIELD = "cacheTTL";
+
     /**
      * Registers a new attribute in the managed resource connector.
      * @param attributeName The name of the attribute in the managed resource.
@@ -0,0 +1,76 @@
+package com.bytex.snamp.connector.attributes;
+
+import com.bytex.snamp.concurrent.SingleFlightValue;
+import com.bytex.snamp.connector.metrics.AttributeMetricsRecorder;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Represents read-through cache of attribute values.
+ * <p>
+ *     Concurrent reads of the same attribute are coalesced into the single read of the managed resource.
+ * @author Roman Sakno
+ * @version 2.0
+ * @since 2.0
+ * @see AttributeDescriptor#getCacheTTL()
+ */
+final class AttributeValueCache {
+    private static final class AttributeReader implements Callable<Object> {
+        private final Callable<?> reader;
+        private boolean called; //loader is always called in the thread of the caller
+
+        private AttributeReader(final Callable<?> reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public Object call() throws Exception {
+            called = true;
+            return reader.call();
+        }
+    }
+
+    private final ConcurrentMap<String, SingleFlightValue<Object>> values;
+    private final AttributeMetricsRecorder metrics;
+
+    AttributeValueCache(final AttributeMetricsRecorder metrics) {
+        values = new ConcurrentHashMap<>();
+        this.metrics = metrics;
+    }
+
+    private SingleFlightValue<Object> getValue(final String attributeName) {
+        final SingleFlightValue<Object> value = values.get(attributeName);
+        return value == null ? values.computeIfAbsent(attributeName, name -> new SingleFlightValue<>()) : value;
+    }
+
+    /**
+     * Gets value of the attribute from this cache or from the managed resource.
+     * @param attributeName The name of the attribute.
+     * @param ttl Time-to-live of the cached value.
+     * @param reader Reader of the attribute value.
+     * @return Attribute value.
+     * @throws Exception Unable to read attribute.
+     */
+    Object get(final String attributeName, final Duration ttl, final Callable<?> reader) throws Exception {
+        final AttributeReader attributeReader = new AttributeReader(reader);
+        try {
+            return getValue(attributeName).get(ttl, attributeReader);
+        } finally {
+            if (attributeReader.called)
+                metrics.updateCacheMisses();
+            else
+                metrics.updateCacheHits();
+        }
+    }
+
+    /**
+     * Removes cached value of the attribute.
+     * @param attributeName The name of the attribute.
+     */
+    void invalidate(final String attributeName) {
+        values.remove(attributeName);
+    }
+}
@@ -3,12 +3,24 @@ package com.bytex.snamp.connector.attributes;
 import com.bytex.snamp.concurrent.WeakRepeater;
 import com.bytex.snamp.core.ClusterMember;
 import com.bytex.snamp.core.KeyValueStorage;
+import com.bytex.snamp.core.LoggerProvider;
+import com.bytex.snamp.io.IOUtils;
+import com.bytex.snamp.io.SerializationMode;
 
 import javax.management.MBeanAttributeInfo;
+import java.io.IOException;
 import java.io.Serializable;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeoutException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import static com.bytex.snamp.core.SharedObjectType.KV_STORAGE;
 import static com.bytex.snamp.internal.Utils.callUnchecked;
@@ -16,6 +28,11 @@ import static com.bytex.snamp.internal.Utils.getBundleContextOfObject;
 
 /**
  * Represents repository for attributes which state can be synchronized across cluster nodes.
+ * <p>
+ *     Active node writes into the cluster-wide storage only snapshots of attributes marked as modified
+ *     using {@link #attributeModified(MBeanAttributeInfo)} since the last synchronization. All snapshots are written in the single transaction
+ *     if storage supports transactions. Snapshots are stored in compact serialized form which contains only names and
+ *     serial version UIDs of classes instead of their full descriptors.
  * @author Roman Sakno
  * @version 2.0
  * @since 2.0
@@ -70,6 +87,7 @@ public abstract class DistributedAttributeRepository<M extends MBeanAttributeInf
     private final SynchronizationJob syncThread;
     private final KeyValueStorage storage;
     private final ClusterMember clusterMember;
+    private final ConcurrentMap<String, M> modifiedAttributes;
 
     protected DistributedAttributeRepository(final String resourceName,
                                              final Class<M> attributeMetadataType,
@@ -77,25 +95,105 @@ public abstract class DistributedAttributeRepository<M extends MBeanAttributeInf
         super(resourceName, attributeMetadataType);
         clusterMember = ClusterMember.get(getBundleContextOfObject(this));
         storage = clusterMember.getService(getResourceName().concat(STORAGE_NAME_POSTFIX), KV_STORAGE).orElseThrow(AssertionError::new);
+        modifiedAttributes = new ConcurrentHashMap<>();
         syncThread = new SynchronizationJob<>(syncPeriod, this);
         syncThread.run();
         assert storage.isViewSupported(KeyValueStorage.SerializableRecordView.class);
     }
 
-    final void sync(){
-        forEach(this::sync);
+    private Logger getLogger() {
+        return LoggerProvider.getLoggerForObject(this);
     }
 
-    private void sync(final String storageKey, final M attribute) {
-        if (clusterMember.isActive())    //save snapshot of the active node into cluster-wide storage
-            takeSnapshot(attribute)
-                    .ifPresent(serializable -> storage.updateOrCreateRecord(storageKey, KeyValueStorage.SerializableRecordView.class, record -> record.setValue(serializable)));
-        else     //passive node should reload its state from the storage
-            storage.getRecord(storageKey, KeyValueStorage.SerializableRecordView.class).ifPresent(record -> loadFromSnapshot(attribute, record.getValue()));
+    final void sync() {
+        if (clusterMember.isActive())    //save snapshots of the active node into cluster-wide storage
+            saveModifiedAttributes();
+        else {   //passive node should reload its state from the storage
+            modifiedAttributes.clear();
+            forEach(this::loadAttribute);
+        }
+    }
+
+    private Serializable encodeSnapshot(final Serializable snapshot) {
+        try {
+            return IOUtils.serialize(snapshot, SerializationMode.COMPACT);
+        } catch (final IOException e) {
+            //snapshot will be serialized by the storage itself
+            getLogger().log(Level.WARNING, String.format("Unable to encode snapshot %s in compact form", snapshot), e);
+            return snapshot;
+        }
+    }
+
+    private Serializable decodeSnapshot(final Serializable snapshot) throws IOException {
+        return snapshot instanceof byte[] ?
+                IOUtils.deserialize((byte[]) snapshot, Serializable.class, getClass().getClassLoader(), SerializationMode.COMPACT) :
+                snapshot;
     }
 
-    private void sync(final M attribute) {
-        getStorageKey(attribute).ifPresent(storageKey -> sync(storageKey, attribute));
+    private void saveAttribute(final String storageKey, final M attribute) {
+        takeSnapshot(attribute)
+                .map(this::encodeSnapshot)
+                .ifPresent(serializable -> storage.updateOrCreateRecord(storageKey, KeyValueStorage.SerializableRecordView.class, record -> record.setValue(serializable)));
+    }
+
+    private void saveAttributes(final Collection<Map.Entry<String, M>> attributes) {
+        for (final Map.Entry<String, M> entry : attributes)
+            saveAttribute(entry.getKey(), entry.getValue());
+    }
+
+    private void saveModifiedAttributes() {
+        if (modifiedAttributes.isEmpty())
+            return;
+        //attribute should be removed from the map before taking snapshot. Otherwise, concurrent modification can be lost
+        final Collection<Map.Entry<String, M>> attributes = new ArrayList<>(modifiedAttributes.size());
+        for (final Iterator<Map.Entry<String, M>> iterator = modifiedAttributes.entrySet().iterator(); iterator.hasNext(); ) {
+            final Map.Entry<String, M> entry = iterator.next();
+            iterator.remove();
+            attributes.add(entry);
+        }
+        try {
+            if (storage.isTransactional())
+                try (final KeyValueStorage.TransactionScope transaction = storage.beginTransaction(KeyValueStorage.IsolationLevel.READ_COMMITTED)) {
+                    try {
+                        saveAttributes(attributes);
+                    } catch (final RuntimeException e) {
+                        transaction.rollback();
+                        throw e;
+                    }
+                    transaction.commit();
+                }
+            else
+                saveAttributes(attributes);
+        } catch (final RuntimeException e) {
+            //attributes should be saved in the next synchronization cycle
+            attributes.forEach(entry -> modifiedAttributes.putIfAbsent(entry.getKey(), entry.getValue()));
+            throw e;
+        }
+    }
+
+    private void loadAttribute(final String storageKey, final M attribute) {
+        final Optional<? extends KeyValueStorage.SerializableRecordView> record = storage.getRecord(storageKey, KeyValueStorage.SerializableRecordView.class);
+        if (record.isPresent())
+            try {
+                loadFromSnapshot(attribute, decodeSnapshot(record.get().getValue()));
+            } catch (final IOException e) {
+                getLogger().log(Level.WARNING, String.format("Unable to decode snapshot of attribute %s", storageKey), e);
+            }
+    }
+
+    private void loadAttribute(final M attribute) {
+        getStorageKey(attribute).ifPresent(storageKey -> loadAttribute(storageKey, attribute));
+    }
+
+    /**
+     * Marks the attribute as modified so its state will be written into the cluster-wide storage at the next synchronization.
+     * @param attribute The modified attribute. Cannot be {@literal null}.
+     */
+    protected final void attributeModified(final M attribute) {
+        getStorageKey(attribute).ifPresent(storageKey -> {
+            if (modifiedAttributes.get(storageKey) != attribute)  //avoid contended write when attribute is already marked
+                modifiedAttributes.put(storageKey, attribute);
+        });
     }
 
     /**
@@ -105,7 +203,10 @@ public abstract class DistributedAttributeRepository<M extends MBeanAttributeInf
      */
     @Override
     protected void disconnectAttribute(final M attributeInfo) {
-        getStorageKey(attributeInfo).ifPresent(storage::delete);
+        getStorageKey(attributeInfo).ifPresent(storageKey -> {
+            modifiedAttributes.remove(storageKey, attributeInfo);
+            storage.delete(storageKey);
+        });
         super.disconnectAttribute(attributeInfo);
     }
 
@@ -1,9 +1,10 @@
 package com.bytex.snamp.connector.metrics;
 
-import com.bytex.snamp.moa.Average;
 import com.bytex.snamp.moa.DoubleReservoir;
+import com.bytex.snamp.moa.MultiIntervalEWMA;
+import com.bytex.snamp.moa.Reservoir;
 
-import java.util.function.Supplier;
+import java.util.Objects;
 
 /**
  * Abstract class for numeric gauges.
@@ -12,21 +13,25 @@ import java.util.function.Supplier;
  * @since 2.0
  */
 abstract class AbstractNumericGauge extends AbstractMetric implements NumericGauge {
-    static final int DEFAULT_SAMPLING_SIZE = 4096;
-    private static final long serialVersionUID = 6307047277703768318L;
-    private final DoubleReservoir reservoir;
-    private final MetricsIntervalMap<Average> meanValues;
+    static final int DEFAULT_SAMPLING_SIZE = DoubleReservoir.DEFAULT_SAMPLING_SIZE;
+    private static final long serialVersionUID = -5941127829334025774L;
+    private final Reservoir reservoir;
+    private final MultiIntervalEWMA meanValues;
 
     AbstractNumericGauge(final AbstractNumericGauge source) {
         super(source);
-        reservoir = ((Supplier<DoubleReservoir>) source.reservoir.takeSnapshot()).get();
-        meanValues = new MetricsIntervalMap<>(source.meanValues, Average::clone);
+        reservoir = source.reservoir.clone();
+        meanValues = source.meanValues.clone();
     }
 
-    AbstractNumericGauge(final String name, final int samplingSize) {
+    AbstractNumericGauge(final String name, final Reservoir reservoir) {
         super(name);
-        reservoir = new DoubleReservoir(samplingSize);
-        meanValues = new MetricsIntervalMap<>(MetricsInterval::createAverage);
+        this.reservoir = Objects.requireNonNull(reservoir);
+        meanValues = MetricsInterval.createAverages();
+    }
+
+    AbstractNumericGauge(final String name, final int samplingSize) {
+        this(name, new DoubleReservoir(samplingSize));
     }
 
     @Override
@@ -34,12 +39,12 @@ abstract class AbstractNumericGauge extends AbstractMetric implements NumericGau
 
     final void updateReservoir(final double value){
         reservoir.add(value);
-        meanValues.forEachAcceptDouble(value, Average::accept);
+        meanValues.accept(value);
     }
 
     @Override
     public final double getMeanValue(final MetricsInterval interval) {
-        return meanValues.getAsDouble(interval, Average::doubleValue);
+        return meanValues.doubleValue(interval.ordinal());
     }
 
     @Override
@@ -58,6 +63,6 @@ abstract class AbstractNumericGauge extends AbstractMetric implements NumericGau
     @Override
     public void reset() {
         reservoir.reset();
-        meanValues.values().forEach(Average::reset);
+        meanValues.reset();
     }
 }
@@ -1,6 +1,7 @@
 package com.bytex.snamp.connector.metrics;
 
 import com.bytex.snamp.moa.Correlation;
+import com.bytex.snamp.moa.Reservoir;
 
 import javax.annotation.Nonnull;
 import java.time.Duration;
@@ -31,6 +32,13 @@ public final class ArrivalsRecorder extends RatedTimeRecorder implements Arrival
         startTime = Instant.now();
     }
 
+    public ArrivalsRecorder(final String name, final Reservoir reservoir){
+        super(name, reservoir, NANOS_IN_SECOND);
+        rpsAndTimeCorrelation = new Correlation();
+        channels = 1;
+        startTime = Instant.now();
+    }
+
     public ArrivalsRecorder(final String name){
         this(name, AbstractNumericGauge.DEFAULT_SAMPLING_SIZE);
     }
@@ -63,9 +71,9 @@ public final class ArrivalsRecorder extends RatedTimeRecorder implements Arrival
     }
 
     @Override
-    protected void writeValue(final Duration value) {
-        super.writeValue(value);
-        rpsAndTimeCorrelation.applyAsDouble(getTotalRate(), toSeconds(getSummaryValue()));
+    protected void writeValue(final long nanos) {
+        super.writeValue(nanos);
+        rpsAndTimeCorrelation.applyAsDouble(getTotalRate(), getSummaryNanos() / NANOS_IN_SECOND);
     }
 
     @Override
@@ -75,7 +83,7 @@ public final class ArrivalsRecorder extends RatedTimeRecorder implements Arrival
 
     @Override
     public double getInstantAvailability(){
-        return getAvailability(getLastRate(MetricsInterval.SECOND), toSeconds(getLastValue()), channels);
+        return getAvailability(getLastRate(MetricsInterval.SECOND), getLastNanos() / NANOS_IN_SECOND, channels);
     }
 
     /**
@@ -84,7 +92,7 @@ public final class ArrivalsRecorder extends RatedTimeRecorder implements Arrival
      */
     @Override
     public double getEfficiency(){
-        final double summaryDuration = toSeconds(getSummaryValue());
+        final double summaryDuration = getSummaryNanos() / NANOS_IN_SECOND;
         final double uptime = toSeconds(Duration.between(startTime, Instant.now()));
         return Double.min(summaryDuration / uptime, 1D);
     }
@@ -19,6 +19,20 @@ public interface AttributeMetrics extends Metric {
      */
     Rate reads();
 
+    /**
+     * Gets rate of attribute reads served by the cache of attribute values.
+     * @return Rate of cache hits.
+     * @since 2.0
+     */
+    Rate cacheHits();
+
+    /**
+     * Gets rate of attribute reads that missed the cache of attribute values.
+     * @return Rate of cache misses.
+     * @since 2.0
+     */
+    Rate cacheMisses();
+
     @Override
     AttributeMetrics clone();
 }
@@ -8,20 +8,26 @@ package com.bytex.snamp.connector.metrics;
  */
 public class AttributeMetricsRecorder extends AbstractMetric implements AttributeMetrics {
     public static final String DEFAULT_NAME = "attributes";
-    private static final long serialVersionUID = 8697867855627851983L;
+    private static final long serialVersionUID = -1527049318418325474L;
     private final RateRecorder readRate;
     private final RateRecorder writeRate;
+    private final RateRecorder cacheHitRate;
+    private final RateRecorder cacheMissRate;
 
     public AttributeMetricsRecorder(final String name){
         super(name);
         readRate = new RateRecorder(name);
         writeRate = new RateRecorder(name);
+        cacheHitRate = new RateRecorder(name);
+        cacheMissRate = new RateRecorder(name);
     }
 
     protected AttributeMetricsRecorder(final AttributeMetricsRecorder source){
         super(source);
         readRate = source.readRate.clone();
         writeRate = source.writeRate.clone();
+        cacheHitRate = source.cacheHitRate.clone();
+        cacheMissRate = source.cacheMissRate.clone();
     }
 
     public AttributeMetricsRecorder(){
@@ -47,6 +53,20 @@ public class AttributeMetricsRecorder extends AbstractMetric implements Attribut
         writeRate.mark();
     }
 
+    /**
+     * Marks single read served by the cache.
+     */
+    public final void updateCacheHits(){
+        cacheHitRate.mark();
+    }
+
+    /**
+     * Marks single read that missed the cache.
+     */
+    public final void updateCacheMisses(){
+        cacheMissRate.mark();
+    }
+
     /**
      * Gets rate of attribute writes.
      *
@@ -67,6 +87,26 @@ public class AttributeMetricsRecorder extends AbstractMetric implements Attribut
         return readRate;
     }
 
+    /**
+     * Gets rate of attribute reads served by the cache of attribute values.
+     *
+     * @return Rate of cache hits.
+     */
+    @Override
+    public final Rate cacheHits() {
+        return cacheHitRate;
+    }
+
+    /**
+     * Gets rate of attribute reads that missed the cache of attribute values.
+     *
+     * @return Rate of cache misses.
+     */
+    @Override
+    public final Rate cacheMisses() {
+        return cacheMissRate;
+    }
+
     /**
      * Resets all metrics.
      */
@@ -74,5 +114,7 @@ public class AttributeMetricsRecorder extends AbstractMetric implements Attribut
     public void reset() {
         writeRate.reset();
         readRate.reset();
+        cacheHitRate.reset();
+        cacheMissRate.reset();
     }
 }
@@ -1,5 +1,8 @@
 package com.bytex.snamp.connector.metrics;
 
+import com.bytex.snamp.moa.DoubleReservoir;
+import com.bytex.snamp.moa.Reservoir;
+
 import javax.annotation.concurrent.ThreadSafe;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.LongBinaryOperator;
@@ -14,18 +17,22 @@ import java.util.function.LongUnaryOperator;
  */
 @ThreadSafe
 public class Gauge64Recorder extends AbstractNumericGauge implements Gauge64, LongConsumer {
-    private static final long serialVersionUID = 7528670309055651559L;
+    private static final long serialVersionUID = -3259259258733986469L;
     private final AtomicLong maxValue;
     private final AtomicLong minValue;
     private final AtomicLong lastValue;
 
-    public Gauge64Recorder(final String name, final int samplingSize) {
-        super(name, samplingSize);
+    public Gauge64Recorder(final String name, final Reservoir reservoir) {
+        super(name, reservoir);
         maxValue = new AtomicLong(Long.MIN_VALUE);
         minValue = new AtomicLong(Long.MAX_VALUE);
         lastValue = new AtomicLong(0L);
     }
 
+    public Gauge64Recorder(final String name, final int samplingSize) {
+        this(name, new DoubleReservoir(samplingSize));
+    }
+
     public Gauge64Recorder(final String name){
         this(name, DEFAULT_SAMPLING_SIZE);
     }
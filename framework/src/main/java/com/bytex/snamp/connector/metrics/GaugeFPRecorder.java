@@ -1,6 +1,8 @@
 package com.bytex.snamp.connector.metrics;
 
 import com.bytex.snamp.concurrent.TimeLimitedDouble;
+import com.bytex.snamp.moa.DoubleReservoir;
+import com.bytex.snamp.moa.Reservoir;
 import com.google.common.util.concurrent.AtomicDouble;
 
 import javax.annotation.concurrent.ThreadSafe;
@@ -15,15 +17,15 @@ import java.util.function.DoubleUnaryOperator;
  */
 @ThreadSafe
 public class GaugeFPRecorder extends AbstractNumericGauge implements GaugeFP, DoubleConsumer {
-    private static final long serialVersionUID = 8109332123969613035L;
+    private static final long serialVersionUID = -6982523258965601595L;
     private final AtomicDouble maxValue;
     private final AtomicDouble minValue;
     private final AtomicDouble lastValue;
     private final MetricsIntervalMap<TimeLimitedDouble> lastMaxValues;
     private final MetricsIntervalMap<TimeLimitedDouble> lastMinValues;
 
-    public GaugeFPRecorder(final String name, final int samplingSize){
-        super(name, samplingSize);
+    public GaugeFPRecorder(final String name, final Reservoir reservoir){
+        super(name, reservoir);
         maxValue = new AtomicDouble(Double.MIN_VALUE);
         minValue = new AtomicDouble(Double.MAX_VALUE);
         lastValue = new AtomicDouble(0L);
@@ -31,6 +33,10 @@ public class GaugeFPRecorder extends AbstractNumericGauge implements GaugeFP, Do
         lastMinValues = new MetricsIntervalMap<>(interval -> interval.createDoubleMinDetector(Double.MAX_VALUE));
     }
 
+    public GaugeFPRecorder(final String name, final int samplingSize){
+        this(name, new DoubleReservoir(samplingSize));
+    }
+
     public GaugeFPRecorder(final String name){
         this(name, DEFAULT_SAMPLING_SIZE);
     }
@@ -3,8 +3,7 @@ package com.bytex.snamp.connector.metrics;
 import com.bytex.snamp.concurrent.TimeLimitedDouble;
 import com.bytex.snamp.concurrent.TimeLimitedLong;
 import com.bytex.snamp.concurrent.TimeLimitedObject;
-import com.bytex.snamp.moa.Average;
-import com.bytex.snamp.moa.DoubleEWMA;
+import com.bytex.snamp.moa.MultiIntervalEWMA;
 import com.google.common.collect.ImmutableSortedSet;
 
 import java.io.Serializable;
@@ -86,12 +85,12 @@ public enum MetricsInterval implements Comparable<MetricsInterval>, Serializable
         return TimeLimitedLong.peak(0L, duration);
     }
 
-    final MeanRate createMeanRate(){
-        return new MeanRate(duration, Duration.ofSeconds(1L));
+    final TimeLimitedLong createLongMinDetector(){
+        return TimeLimitedLong.min(Long.MAX_VALUE, duration);
     }
 
-    final Average createAverage(){
-        return DoubleEWMA.floatingInterval(duration);
+    static MultiIntervalEWMA createAverages(){
+        return new MultiIntervalEWMA(ALL_INTERVALS.stream().map(interval -> interval.duration).toArray(Duration[]::new));
     }
 
     final double divide(final Duration value) {
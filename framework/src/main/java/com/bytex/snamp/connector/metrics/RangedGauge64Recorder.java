@@ -1,5 +1,8 @@
 package com.bytex.snamp.connector.metrics;
 
+import com.bytex.snamp.moa.DoubleReservoir;
+import com.bytex.snamp.moa.Reservoir;
+
 import javax.annotation.concurrent.ThreadSafe;
 import java.util.function.LongBinaryOperator;
 import java.util.function.LongUnaryOperator;
@@ -20,9 +23,13 @@ public class RangedGauge64Recorder extends RangedValue64Recorder implements Rang
         gauge64 = source.gauge64.clone();
     }
 
-    public RangedGauge64Recorder(final String name, final long from, final long to) {
+    public RangedGauge64Recorder(final String name, final long from, final long to, final Reservoir reservoir) {
         super(name, from, to);
-        gauge64 = new Gauge64Recorder(name);
+        gauge64 = new Gauge64Recorder(name, reservoir);
+    }
+
+    public RangedGauge64Recorder(final String name, final long from, final long to) {
+        this(name, from, to, new DoubleReservoir(AbstractNumericGauge.DEFAULT_SAMPLING_SIZE));
     }
 
     /**
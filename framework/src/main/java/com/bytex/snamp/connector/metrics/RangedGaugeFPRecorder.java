@@ -1,5 +1,8 @@
 package com.bytex.snamp.connector.metrics;
 
+import com.bytex.snamp.moa.DoubleReservoir;
+import com.bytex.snamp.moa.Reservoir;
+
 import javax.annotation.concurrent.ThreadSafe;
 import java.util.function.DoubleBinaryOperator;
 import java.util.function.DoubleUnaryOperator;
@@ -19,9 +22,13 @@ public class RangedGaugeFPRecorder extends RangedValueFPRecorder implements Rang
         gaugeFP = source.gaugeFP.clone();
     }
 
-    public RangedGaugeFPRecorder(final String name, final double from, final double to) {
+    public RangedGaugeFPRecorder(final String name, final double from, final double to, final Reservoir reservoir) {
         super(name, from, to);
-        gaugeFP = new GaugeFPRecorder(name);
+        gaugeFP = new GaugeFPRecorder(name, reservoir);
+    }
+
+    public RangedGaugeFPRecorder(final String name, final double from, final double to) {
+        this(name, from, to, new DoubleReservoir(AbstractNumericGauge.DEFAULT_SAMPLING_SIZE));
     }
 
     /**
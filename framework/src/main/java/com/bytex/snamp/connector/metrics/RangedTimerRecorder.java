@@ -1,5 +1,8 @@
 package com.bytex.snamp.connector.metrics;
 
+import com.bytex.snamp.moa.DoubleReservoir;
+import com.bytex.snamp.moa.Reservoir;
+
 import javax.annotation.concurrent.ThreadSafe;
 import java.time.Duration;
 import java.util.function.Consumer;
@@ -25,8 +28,12 @@ public class RangedTimerRecorder extends AbstractRangedRecorder implements Range
     }
 
     public RangedTimerRecorder(final String name, final Duration from, final Duration to) {
+        this(name, from, to, new DoubleReservoir(AbstractNumericGauge.DEFAULT_SAMPLING_SIZE));
+    }
+
+    public RangedTimerRecorder(final String name, final Duration from, final Duration to, final Reservoir reservoir) {
         super(name);
-        timer = new TimeRecorder(name);
+        timer = new TimeRecorder(name, reservoir);
         if(from.compareTo(to) > 0)
             throw new IllegalArgumentException("Illegal range definition");
         rangeStart = from;
@@ -45,8 +52,16 @@ public class RangedTimerRecorder extends AbstractRangedRecorder implements Range
      */
     @Override
     public void accept(final Duration value) {
-        updateValue(HitResult.compute(rangeStart, rangeEnd, value));
-        timer.accept(value);
+        record(value.toNanos());
+    }
+
+    /**
+     * Records a new duration without boxing it into {@link Duration}.
+     * @param nanos Duration, in nanoseconds.
+     */
+    public void record(final long nanos) {
+        updateValue(HitResult.compute(rangeStart.toNanos(), rangeEnd.toNanos(), nanos));
+        timer.record(nanos);
     }
 
     /**
@@ -1,12 +1,6 @@
 package com.bytex.snamp.connector.metrics;
 
-import com.bytex.snamp.concurrent.TimeLimitedLong;
-
 import javax.annotation.concurrent.ThreadSafe;
-import java.time.Instant;
-import java.util.concurrent.atomic.AtomicLong;
-
-import static com.bytex.snamp.connector.metrics.MetricsInterval.ALL_INTERVALS;
 
 /**
  * Represents rate counter.
@@ -16,35 +10,17 @@ import static com.bytex.snamp.connector.metrics.MetricsInterval.ALL_INTERVALS;
  */
 @ThreadSafe
 public class RateRecorder extends AbstractMetric implements Rate {
-    private static final long serialVersionUID = -6735931494509416689L;
-    private final MetricsIntervalMap<TimeLimitedLong> lastRate;
-    private final MetricsIntervalMap<MeanRate> meanRate;
-    private final MetricsIntervalMap<AtomicLong> maxRate;
-    private final MetricsIntervalMap<TimeLimitedLong> lastMaxRatePerSecond;
-    private final MetricsIntervalMap<TimeLimitedLong> lastMaxRatePerMinute;
-    private final MetricsIntervalMap<TimeLimitedLong> lastMaxRatePer12Hours;
-    private final AtomicLong totalRate;
+    private static final long serialVersionUID = 5286213372806335487L;
+    private final TimeSlicedRate rate;
 
     public RateRecorder(final String name){
         super(name);
-        meanRate = new MetricsIntervalMap<>(MetricsInterval::createMeanRate);
-        totalRate = new AtomicLong(0L);
-        lastRate = new MetricsIntervalMap<>(MetricsInterval::createdAdder);
-        maxRate = new MetricsIntervalMap<>(interval -> new AtomicLong(0L));
-        lastMaxRatePerSecond = new MetricsIntervalMap<>(MetricsInterval.SECOND.greater(), MetricsInterval::createLongPeakDetector);
-        lastMaxRatePerMinute = new MetricsIntervalMap<>(MetricsInterval.MINUTE.greater(), MetricsInterval::createLongPeakDetector);
-        lastMaxRatePer12Hours = new MetricsIntervalMap<>(MetricsInterval.HALF_DAY.greater(), MetricsInterval::createLongPeakDetector);
+        rate = new TimeSlicedRate();
     }
 
     protected RateRecorder(final RateRecorder source) {
         super(source);
-        totalRate = new AtomicLong(source.totalRate.get());
-        maxRate = new MetricsIntervalMap<>(source.maxRate, al -> new AtomicLong(al.get()));
-        lastRate = new MetricsIntervalMap<>(source.lastRate, TimeLimitedLong::clone);
-        lastMaxRatePerSecond = new MetricsIntervalMap<>(source.lastMaxRatePerSecond, TimeLimitedLong::clone);
-        lastMaxRatePerMinute = new MetricsIntervalMap<>(source.lastMaxRatePerMinute, TimeLimitedLong::clone);
-        lastMaxRatePer12Hours = new MetricsIntervalMap<>(source.lastMaxRatePer12Hours, TimeLimitedLong::clone);
-        meanRate = new MetricsIntervalMap<>(source.meanRate, MeanRate::clone);
+        rate = new TimeSlicedRate(source.rate);
     }
 
     @Override
@@ -53,25 +29,7 @@ public class RateRecorder extends AbstractMetric implements Rate {
     }
 
     public void mark() {
-        totalRate.incrementAndGet();
-        for (final MetricsInterval interval : ALL_INTERVALS) {
-            meanRate.get(interval).mark();
-            final long lastRate = this.lastRate.getAsLong(interval, TimeLimitedLong::updateByOne);
-            maxRate.acceptAsLong(interval, lastRate, (counter, lr) -> counter.accumulateAndGet(lr, Math::max));
-            switch (interval){
-                case SECOND: //write rate for the last second
-                    lastMaxRatePerSecond.forEachAcceptLong(lastRate, TimeLimitedLong::accept);
-                    break;
-                case MINUTE: //write rate for the last minute
-                    lastMaxRatePerMinute.forEachAcceptLong(lastRate, TimeLimitedLong::accept);
-                case HALF_DAY:   //write rate for the last 12 hours
-                    lastMaxRatePer12Hours.forEachAcceptLong(lastRate, TimeLimitedLong::accept);
-            }
-        }
-    }
-
-    private static Instant minInstant(final Instant current, final Instant provided){
-        return current.compareTo(provided) < 0 ? current : provided;
+        rate.mark();
     }
 
     /**
@@ -81,7 +39,7 @@ public class RateRecorder extends AbstractMetric implements Rate {
      */
     @Override
     public final long getTotalRate() {
-        return totalRate.get();
+        return rate.getTotalRate();
     }
 
     /**
@@ -92,7 +50,7 @@ public class RateRecorder extends AbstractMetric implements Rate {
      */
     @Override
     public final long getLastRate(final MetricsInterval interval) {
-        return lastRate.getAsLong(interval, TimeLimitedLong::getAsLong);
+        return rate.getLastRate(interval);
     }
 
     /**
@@ -103,12 +61,12 @@ public class RateRecorder extends AbstractMetric implements Rate {
      */
     @Override
     public final double getMeanRate(final MetricsInterval scale) {
-        return meanRate.get(scale).getAsDouble();
+        return rate.getMeanRate(scale);
     }
 
     @Override
     public final long getMaxRate(final MetricsInterval interval) {
-        return maxRate.getAsLong(interval, AtomicLong::get);
+        return rate.getMaxRate(interval);
     }
 
     /**
@@ -119,9 +77,7 @@ public class RateRecorder extends AbstractMetric implements Rate {
      */
     @Override
     public final long getLastMaxRatePerSecond(final MetricsInterval interval) {
-        return lastMaxRatePerSecond.containsKey(interval) ?
-                lastMaxRatePerSecond.getAsLong(interval, TimeLimitedLong::getAsLong) :
-                getLastRate(interval);
+        return rate.getLastMaxRatePerSecond(interval);
     }
 
     /**
@@ -132,9 +88,7 @@ public class RateRecorder extends AbstractMetric implements Rate {
      */
     @Override
     public final long getLastMaxRatePerMinute(final MetricsInterval interval) {
-        return lastMaxRatePerMinute.containsKey(interval) ?
-                lastMaxRatePerMinute.getAsLong(interval, TimeLimitedLong::getAsLong) :
-                getLastRate(interval);
+        return rate.getLastMaxRatePerMinute(interval);
     }
 
     /**
@@ -145,9 +99,7 @@ public class RateRecorder extends AbstractMetric implements Rate {
      */
     @Override
     public final long getLastMaxRatePer12Hours(final MetricsInterval interval) {
-        return lastMaxRatePer12Hours.containsKey(interval) ?
-                lastMaxRatePer12Hours.getAsLong(interval, TimeLimitedLong::getAsLong) :
-                getLastRate(interval);
+        return rate.getLastMaxRatePer12Hours(interval);
     }
 
     /**
@@ -155,12 +107,6 @@ public class RateRecorder extends AbstractMetric implements Rate {
      */
     @Override
     public void reset() {
-        totalRate.set(0L);
-        lastRate.values().forEach(TimeLimitedLong::reset);
-        maxRate.values().forEach(rate -> rate.set(0L));
-        meanRate.values().forEach(MeanRate::reset);
-        lastMaxRatePerSecond.values().forEach(TimeLimitedLong::reset);
-        lastMaxRatePerMinute.values().forEach(TimeLimitedLong::reset);
-        lastMaxRatePer12Hours.values().forEach(TimeLimitedLong::reset);
+        rate.reset();
     }
 }
@@ -1,5 +1,7 @@
 package com.bytex.snamp.connector.metrics;
 
+import com.bytex.snamp.moa.Reservoir;
+
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
@@ -10,7 +12,7 @@ import javax.annotation.concurrent.ThreadSafe;
  */
 @ThreadSafe
 public class RatedGauge64Recorder extends Gauge64Recorder implements RatedGauge64 {
-    private static final long serialVersionUID = -3550800590753361866L;
+    private static final long serialVersionUID = -8600120433584297308L;
     private final RateRecorder rate;
 
     public RatedGauge64Recorder(final String name, final int samplingSize) {
@@ -18,6 +20,11 @@ public class RatedGauge64Recorder extends Gauge64Recorder implements RatedGauge6
         rate = new RateRecorder(name);
     }
 
+    public RatedGauge64Recorder(final String name, final Reservoir reservoir) {
+        super(name, reservoir);
+        rate = new RateRecorder(name);
+    }
+
     public RatedGauge64Recorder(final String name) {
         super(name);
         rate = new RateRecorder(name);
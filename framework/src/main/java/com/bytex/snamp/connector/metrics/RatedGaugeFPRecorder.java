@@ -1,5 +1,7 @@
 package com.bytex.snamp.connector.metrics;
 
+import com.bytex.snamp.moa.Reservoir;
+
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
@@ -10,7 +12,7 @@ import javax.annotation.concurrent.ThreadSafe;
  */
 @ThreadSafe
 public class RatedGaugeFPRecorder extends GaugeFPRecorder implements RatedGaugeFP {
-    private static final long serialVersionUID = 1843602850458733111L;
+    private static final long serialVersionUID = 5344008223854334859L;
     private final RateRecorder rate;
 
     public RatedGaugeFPRecorder(final String name, final int samplingSize) {
@@ -18,6 +20,11 @@ public class RatedGaugeFPRecorder extends GaugeFPRecorder implements RatedGaugeF
         rate = new RateRecorder(name);
     }
 
+    public RatedGaugeFPRecorder(final String name, final Reservoir reservoir) {
+        super(name, reservoir);
+        rate = new RateRecorder(name);
+    }
+
     public RatedGaugeFPRecorder(final String name) {
         super(name);
         rate = new RateRecorder(name);
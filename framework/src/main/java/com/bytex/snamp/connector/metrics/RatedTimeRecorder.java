@@ -1,7 +1,8 @@
 package com.bytex.snamp.connector.metrics;
 
+import com.bytex.snamp.moa.Reservoir;
+
 import javax.annotation.concurrent.ThreadSafe;
-import java.time.Duration;
 
 /**
  * Represents implementation of {@link RatedTimer}.
@@ -18,11 +19,21 @@ public class RatedTimeRecorder extends TimeRecorder implements RatedTimer {
         rate = new RateRecorder(name);
     }
 
+    public RatedTimeRecorder(final String name, final Reservoir reservoir) {
+        super(name, reservoir);
+        rate = new RateRecorder(name);
+    }
+
     RatedTimeRecorder(final String name, final int samplingSize, final double scaleFactor){
         super(name, samplingSize, scaleFactor);
         rate = new RateRecorder(name);
     }
 
+    RatedTimeRecorder(final String name, final Reservoir reservoir, final double scaleFactor){
+        super(name, reservoir, scaleFactor);
+        rate = new RateRecorder(name);
+    }
+
     public RatedTimeRecorder(final String name) {
         super(name);
         rate = new RateRecorder(name);
@@ -45,9 +56,9 @@ public class RatedTimeRecorder extends TimeRecorder implements RatedTimer {
     }
 
     @Override
-    protected void writeValue(final Duration value) {
+    protected void writeValue(final long nanos) {
         rate.mark();
-        super.writeValue(value);
+        super.writeValue(nanos);
     }
 
     @Override
@@ -1,46 +1,75 @@
 package com.bytex.snamp.connector.metrics;
 
 
-import com.bytex.snamp.concurrent.TimeLimitedObject;
-import com.bytex.snamp.io.SerializableBinaryOperator;
-import com.bytex.snamp.io.SerializedState;
-import com.bytex.snamp.moa.Average;
+import com.bytex.snamp.concurrent.TimeLimitedLong;
 import com.bytex.snamp.moa.DoubleReservoir;
+import com.bytex.snamp.moa.MultiIntervalEWMA;
+import com.bytex.snamp.moa.Reservoir;
 
 import javax.annotation.concurrent.ThreadSafe;
 import java.time.Duration;
+import java.util.Objects;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
-import java.util.function.Supplier;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.function.ToLongFunction;
 
 /**
  * Represents implementation of {@link Timer}.
+ * <p>
+ *     All durations are stored as a number of nanoseconds. {@link Duration} is constructed only when timer is read,
+ *     so {@link #record(long)} doesn't allocate any objects on the heap.
  * @author Roman Sakno
  * @version 2.0
  * @since 2.0
  */
 @ThreadSafe
-public class TimeRecorder extends GaugeImpl<Duration> implements Timer {
-    private static final long serialVersionUID = 7250210436685797077L;
-    private final MetricsIntervalMap<Average> meanValues;
-    private final AtomicLong count;
-    private final DoubleReservoir reservoir;
-    private final AtomicReference<Duration> summary;
+public class TimeRecorder extends AbstractMetric implements Timer, Consumer<Duration>, LongConsumer {
+    private static final long serialVersionUID = -3394312553316429702L;
+    private final MultiIntervalEWMA meanValues;
+    private final LongAdder count;
+    private final Reservoir reservoir;
+    private final LongAdder summary;
     private final double timeScaleFactor;
-    private final MetricsIntervalMap<TimeLimitedObject<Duration>> lastDurations;
+    private final TimeLimitedLong[] lastDurations;  //indexed by ordinal of MetricsInterval
+    private final AtomicLong lastValue;
+    private final AtomicLong maxValue;
+    private final AtomicLong minValue;
+    private final TimeLimitedLong[] lastMaxValues;
+    private final TimeLimitedLong[] lastMinValues;
 
-    TimeRecorder(final String name, final int samplingSize, final double scaleFactor) {
-        super(name, Duration.ZERO);
-        meanValues = new MetricsIntervalMap<>(MetricsInterval::createAverage);
-        reservoir = new DoubleReservoir(samplingSize);
-        summary = new AtomicReference<>(Duration.ZERO);
+    TimeRecorder(final String name, final Reservoir reservoir, final double scaleFactor) {
+        super(name);
+        meanValues = MetricsInterval.createAverages();
+        this.reservoir = Objects.requireNonNull(reservoir);
+        summary = new LongAdder();
         timeScaleFactor = scaleFactor;
-        count = new AtomicLong(0L);
-        lastDurations = new MetricsIntervalMap<>(MetricsInterval.ALL_INTERVALS, interval -> interval.createTemporaryBox(Duration.ZERO, (SerializableBinaryOperator<Duration>) Duration::plus));
+        count = new LongAdder();
+        lastDurations = createAccumulators(MetricsInterval::createdAdder);
+        lastValue = new AtomicLong(0L);
+        maxValue = new AtomicLong(Long.MIN_VALUE);
+        minValue = new AtomicLong(Long.MAX_VALUE);
+        lastMaxValues = createAccumulators(MetricsInterval::createLongPeakDetector);
+        lastMinValues = createAccumulators(MetricsInterval::createLongMinDetector);
+    }
+
+    TimeRecorder(final String name, final int samplingSize, final double scaleFactor) {
+        this(name, new DoubleReservoir(samplingSize), scaleFactor);
+    }
+
+    /**
+     * Initializes a new timer which uses the specified reservoir for computing quantiles.
+     * @param name Name of the timer.
+     * @param reservoir Reservoir used to store durations. Cannot be {@literal null}.
+     */
+    public TimeRecorder(final String name, final Reservoir reservoir) {
+        this(name, reservoir, 1000D);    //store duration in reservoir in microseconds
     }
 
     public TimeRecorder(final String name, final int samplingSize) {
-        this(name, samplingSize, 1000D);    //store duration in reservoir in microseconds
+        this(name, new DoubleReservoir(samplingSize));
     }
 
     public TimeRecorder(final String name){
@@ -49,12 +78,44 @@ public class TimeRecorder extends GaugeImpl<Duration> implements Timer {
 
     protected TimeRecorder(final TimeRecorder source) {
         super(source);
-        meanValues = new MetricsIntervalMap<>(source.meanValues, Average::clone);
-        count = new AtomicLong(source.count.get());
-        reservoir = ((SerializedState<DoubleReservoir>) source.reservoir.takeSnapshot()).get();
-        summary = new AtomicReference<>(source.summary.get());
+        meanValues = source.meanValues.clone();
+        count = new LongAdder();
+        count.add(source.count.sum());
+        reservoir = source.reservoir.clone();
+        summary = new LongAdder();
+        summary.add(source.summary.sum());
         timeScaleFactor = source.timeScaleFactor;
-        lastDurations = new MetricsIntervalMap<>(source.lastDurations, TimeLimitedObject::clone);
+        lastDurations = cloneAccumulators(source.lastDurations);
+        lastValue = new AtomicLong(source.lastValue.get());
+        maxValue = new AtomicLong(source.maxValue.get());
+        minValue = new AtomicLong(source.minValue.get());
+        lastMaxValues = cloneAccumulators(source.lastMaxValues);
+        lastMinValues = cloneAccumulators(source.lastMinValues);
+    }
+
+    private static TimeLimitedLong[] createAccumulators(final Function<? super MetricsInterval, ? extends TimeLimitedLong> factory) {
+        final MetricsInterval[] intervals = MetricsInterval.values();
+        final TimeLimitedLong[] result = new TimeLimitedLong[intervals.length];
+        for (final MetricsInterval interval : intervals)
+            result[interval.ordinal()] = factory.apply(interval);
+        return result;
+    }
+
+    private static TimeLimitedLong[] cloneAccumulators(final TimeLimitedLong[] source) {
+        final TimeLimitedLong[] result = new TimeLimitedLong[source.length];
+        for (int i = 0; i < source.length; i++)
+            result[i] = source[i].clone();
+        return result;
+    }
+
+    private static void acceptAll(final TimeLimitedLong[] accumulators, final long value) {
+        for (final TimeLimitedLong accumulator : accumulators)
+            accumulator.accept(value);
+    }
+
+    private static void resetAll(final TimeLimitedLong[] accumulators) {
+        for (final TimeLimitedLong accumulator : accumulators)
+            accumulator.reset();
     }
 
     @Override
@@ -67,21 +128,29 @@ public class TimeRecorder extends GaugeImpl<Duration> implements Timer {
      */
     @Override
     public void reset() {
-        super.reset();
-        meanValues.values().forEach(Average::reset);
+        meanValues.reset();
         reservoir.reset();
-        summary.set(Duration.ZERO);
-        count.set(0L);
-        lastDurations.values().forEach(TimeLimitedObject::reset);
+        summary.reset();
+        count.reset();
+        resetAll(lastDurations);
+        lastValue.set(0L);
+        maxValue.set(Long.MIN_VALUE);
+        minValue.set(Long.MAX_VALUE);
+        resetAll(lastMaxValues);
+        resetAll(lastMinValues);
+    }
+
+    private static Duration toDuration(final long nanos, final long emptyValue) {
+        return nanos == emptyValue ? Duration.ZERO : Duration.ofNanos(nanos);
     }
 
     @Override
-    public Duration getSummaryValue(final MetricsInterval interval) {
-        return lastDurations.get(interval, TimeLimitedObject::get);
+    public final Duration getSummaryValue(final MetricsInterval interval) {
+        return Duration.ofNanos(lastDurations[interval.ordinal()].getAsLong());
     }
 
-    private double toDouble(final Duration value){
-        return value.toNanos() / timeScaleFactor;
+    private double toDouble(final long nanos){
+        return nanos / timeScaleFactor;
     }
 
     private Duration fromDouble(final double value) {
@@ -90,23 +159,57 @@ public class TimeRecorder extends GaugeImpl<Duration> implements Timer {
 
     @Override
     public final Duration getMeanValue() {
-        return fromDouble(toDouble(getSummaryValue()) / count.get());
+        return Duration.ofNanos(Math.round(getSummaryNanos() / (double) count.sum()));
     }
 
     @Override
     public final Duration getMeanValue(final MetricsInterval interval) {
-        return meanValues.get(interval, avg -> fromDouble(avg.doubleValue()));
+        return fromDouble(meanValues.doubleValue(interval.ordinal()));
     }
 
+    /**
+     * Records a new duration.
+     * @param nanos Duration, in nanoseconds.
+     * @implSpec This method calls {@link #writeValue(long)}.
+     */
+    public final void record(final long nanos) {
+        lastValue.set(nanos);
+        writeValue(nanos);
+    }
+
+    /**
+     * Records a new duration.
+     * @param nanos Duration, in nanoseconds.
+     */
+    @Override
+    public final void accept(final long nanos) {
+        record(nanos);
+    }
+
+    /**
+     * Records a new duration.
+     * @param value Duration to record.
+     */
     @Override
-    protected void writeValue(final Duration value) {
-        super.writeValue(value);
-        meanValues.forEachAcceptDouble(toDouble(value), Average::accept);
-        reservoir.accept(toDouble(value));
-        summary.accumulateAndGet(value, Duration::plus);
-        count.incrementAndGet();
-        for (final MetricsInterval interval : MetricsInterval.ALL_INTERVALS)
-            lastDurations.get(interval).accept(value);
+    public final void accept(final Duration value) {
+        record(value.toNanos());
+    }
+
+    /**
+     * Updates all statistics using the recorded duration.
+     * @param nanos Duration, in nanoseconds.
+     */
+    protected void writeValue(final long nanos) {
+        maxValue.accumulateAndGet(nanos, Math::max);
+        minValue.accumulateAndGet(nanos, Math::min);
+        acceptAll(lastMaxValues, nanos);
+        acceptAll(lastMinValues, nanos);
+        final double scaledValue = toDouble(nanos);
+        meanValues.accept(scaledValue);
+        reservoir.add(scaledValue);
+        summary.add(nanos);
+        count.increment();
+        acceptAll(lastDurations, nanos);
     }
 
     /**
@@ -130,6 +233,14 @@ public class TimeRecorder extends GaugeImpl<Duration> implements Timer {
         return fromDouble(Math.round(reservoir.getDeviation()));
     }
 
+    /**
+     * Gets summary duration of all events, in nanoseconds.
+     * @return The summary duration of all events, in nanoseconds.
+     */
+    protected final long getSummaryNanos() {
+        return summary.sum();
+    }
+
     /**
      * Gets summary duration of all events.
      *
@@ -137,25 +248,85 @@ public class TimeRecorder extends GaugeImpl<Duration> implements Timer {
      */
     @Override
     public final Duration getSummaryValue() {
-        return summary.get();
+        return Duration.ofNanos(getSummaryNanos());
+    }
+
+    /**
+     * Gets maximum duration ever presented.
+     *
+     * @return The maximum duration ever presented.
+     */
+    @Override
+    public final Duration getMaxValue() {
+        return toDuration(maxValue.get(), Long.MIN_VALUE);
+    }
+
+    /**
+     * Gets maximum duration for the last period.
+     *
+     * @param interval Period.
+     * @return Maximum duration of the last period.
+     */
+    @Override
+    public final Duration getLastMaxValue(final MetricsInterval interval) {
+        return Duration.ofNanos(lastMaxValues[interval.ordinal()].getAsLong());
+    }
+
+    /**
+     * The minimum duration ever presented.
+     *
+     * @return The minimum duration ever presented.
+     */
+    @Override
+    public final Duration getMinValue() {
+        return toDuration(minValue.get(), Long.MAX_VALUE);
+    }
+
+    /**
+     * Gets minimum duration for the last period.
+     *
+     * @param interval Period.
+     * @return Minimum duration for the last period.
+     */
+    @Override
+    public final Duration getLastMinValue(final MetricsInterval interval) {
+        return toDuration(lastMinValues[interval.ordinal()].getAsLong(), Long.MAX_VALUE);
+    }
+
+    /**
+     * The last presented duration.
+     *
+     * @return The last presented duration.
+     */
+    @Override
+    public final Duration getLastValue() {
+        return Duration.ofNanos(getLastNanos());
+    }
+
+    /**
+     * Gets the last presented duration, in nanoseconds.
+     * @return The last presented duration, in nanoseconds.
+     */
+    protected final long getLastNanos() {
+        return lastValue.get();
     }
 
-    private double getNumberOfCompletedTasks(final MetricsInterval interval, final Supplier<Duration> durationProvider){
-        return 1D / interval.divide(durationProvider.get());
+    private double getNumberOfCompletedTasks(final MetricsInterval interval, final ToLongFunction<? super TimeRecorder> durationProvider){
+        return (double) interval.duration.toNanos() / durationProvider.applyAsLong(this);
     }
 
     @Override
     public final double getMeanNumberOfCompletedTasks(final MetricsInterval scale) {
-        return getNumberOfCompletedTasks(scale, this::getMeanValue);
+        return getNumberOfCompletedTasks(scale, timer -> timer.getMeanValue().toNanos());
     }
 
     @Override
     public final double getMaxNumberOfCompletedTasks(final MetricsInterval scale){
-        return getNumberOfCompletedTasks(scale, this::getMinValue);
+        return getNumberOfCompletedTasks(scale, timer -> timer.getMinValue().toNanos());
     }
 
     @Override
     public final double getMinNumberOfCompletedTasks(final MetricsInterval scale){
-        return getNumberOfCompletedTasks(scale, this::getMaxValue);
+        return getNumberOfCompletedTasks(scale, timer -> timer.getMaxValue().toNanos());
     }
 }
@@ -0,0 +1,240 @@
+package com.bytex.snamp.connector.metrics;
+
+import com.bytex.snamp.SpecialUse;
+import com.bytex.snamp.Stateful;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.bytex.snamp.connector.metrics.MetricsInterval.*;
+
+/**
+ * Represents rate counter sliced by seconds.
+ * <p>
+ *     Events are counted by the striped counter of the current second. Two counters are used in turn.
+ *     The counter of the completed second is replaced with a fresh counter instead of being reset,
+ *     so increments racing with the rotation are never lost: they are drained from the retired counter
+ *     at the next rotation. Completed seconds are folded into primitive statistics for all intervals
+ *     exactly once. Therefore, recording of event is a single uncontended increment and all interval
+ *     rates, means and peaks are computed from the folded statistics at read time.
+ * @author Roman Sakno
+ * @version 2.0
+ * @since 2.0
+ */
+@ThreadSafe
+final class TimeSlicedRate implements Serializable, Stateful {
+    private static final long serialVersionUID = -2251416062413826307L;
+    private static final long NANOS_IN_SECOND = Duration.ofSeconds(1L).toNanos();
+    private static final MetricsInterval[] INTERVALS = ALL_INTERVALS.toArray(new MetricsInterval[ALL_INTERVALS.size()]);
+    private static final long[] PERIODS;   //length of each interval, in seconds
+    private static final double[] DECAYS;  //EWMA decay of each interval for measurement interval of one second
+
+    static {
+        PERIODS = new long[INTERVALS.length];
+        DECAYS = new double[INTERVALS.length];
+        for (final MetricsInterval interval : INTERVALS) {
+            PERIODS[interval.ordinal()] = interval.duration.getSeconds();
+            DECAYS[interval.ordinal()] = 1D - Math.exp(-1D / interval.duration.getSeconds());
+        }
+    }
+
+    private final AtomicReferenceArray<LongAdder> slices;   //striped counters of the current and the next second
+    private volatile long currentSecond;
+    private volatile long origin;
+    //statistics of completed seconds guarded by this object
+    private LongAdder retiredSlice; //counter of the last completed second which may receive late increments
+    private long retiredRate;   //number of events in the retired counter folded into statistics
+    private long completedTotal;
+    private final long[] periodRate;    //number of events in the current period of each interval
+    private final long[] maxRate;   //max number of events observed in the completed periods of each interval
+    private final long[] maxRatePerSecond;  //max number of events per second in the current period of each interval
+    private final long[] maxRatePerMinute;  //max number of events per minute in the current period of each interval
+    private final long[] maxRatePer12Hours; //max number of events per 12 hours in the current period of each interval
+    private final double[] meanRate;    //EWMA of events per second for each interval
+
+    TimeSlicedRate() {
+        slices = new AtomicReferenceArray<>(new LongAdder[]{new LongAdder(), new LongAdder()});
+        periodRate = new long[INTERVALS.length];
+        maxRate = new long[INTERVALS.length];
+        maxRatePerSecond = new long[INTERVALS.length];
+        maxRatePerMinute = new long[INTERVALS.length];
+        maxRatePer12Hours = new long[INTERVALS.length];
+        meanRate = new double[INTERVALS.length];
+        Arrays.fill(meanRate, Double.NaN);
+        origin = System.nanoTime();
+        currentSecond = 0L;
+    }
+
+    TimeSlicedRate(final TimeSlicedRate source) {
+        synchronized (source) {
+            slices = new AtomicReferenceArray<>(new LongAdder[]{new LongAdder(), new LongAdder()});
+            slices.get(0).add(source.slices.get(0).sum());
+            slices.get(1).add(source.slices.get(1).sum());
+            //late increments of the source are counted in the current second of the copy
+            slices.get(slice(source.currentSecond)).add(source.getLateRate());
+            completedTotal = source.completedTotal;
+            periodRate = source.periodRate.clone();
+            maxRate = source.maxRate.clone();
+            maxRatePerSecond = source.maxRatePerSecond.clone();
+            maxRatePerMinute = source.maxRatePerMinute.clone();
+            maxRatePer12Hours = source.maxRatePer12Hours.clone();
+            meanRate = source.meanRate.clone();
+            origin = source.origin;
+            currentSecond = source.currentSecond;
+        }
+    }
+
+    @SpecialUse(SpecialUse.Case.SERIALIZATION)        //deserialization hook
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        origin = System.nanoTime() - currentSecond * NANOS_IN_SECOND; //continue the current second using the local time
+    }
+
+    private long getSecond() {
+        return (System.nanoTime() - origin) / NANOS_IN_SECOND;
+    }
+
+    private static int slice(final long second) {
+        return (int) (second & 1L);
+    }
+
+    void mark() {
+        long current = currentSecond;
+        final long second = getSecond();
+        if (second > current)
+            current = advance(second);
+        slices.get(slice(current)).increment();
+    }
+
+    private void completePeriod(final int interval) {
+        final long rate = periodRate[interval];
+        maxRate[interval] = Long.max(maxRate[interval], rate);
+        //propagate rate of the completed period to the peaks of greater intervals
+        if (interval == MINUTE.ordinal())
+            for (int i = interval + 1; i < INTERVALS.length; i++)
+                maxRatePerMinute[i] = Long.max(maxRatePerMinute[i], rate);
+        else if (interval == HALF_DAY.ordinal())
+            for (int i = interval + 1; i < INTERVALS.length; i++)
+                maxRatePer12Hours[i] = Long.max(maxRatePer12Hours[i], rate);
+        periodRate[interval] = maxRatePerSecond[interval] = maxRatePerMinute[interval] = maxRatePer12Hours[interval] = 0L;
+    }
+
+    /*
+        Folds the number of events in the completed second into statistics. All seconds between
+        the completed second and the new second are empty.
+     */
+    private void fold(final long second, final long rate, final long newSecond) {
+        completedTotal += rate;
+        final long emptySeconds = newSecond - second - 1L;
+        for (int interval = 0; interval < INTERVALS.length; interval++) {
+            periodRate[interval] += rate;
+            maxRatePerSecond[interval] = Long.max(maxRatePerSecond[interval], rate);
+            final double mean = meanRate[interval], decay = DECAYS[interval];
+            meanRate[interval] = (Double.isNaN(mean) ? rate : mean + decay * (rate - mean)) * Math.pow(1D - decay, emptySeconds);
+        }
+        //intervals are sorted and nested so the period of the smaller interval is completed first
+        for (int interval = 0; interval < INTERVALS.length; interval++)
+            if (second / PERIODS[interval] != newSecond / PERIODS[interval])
+                completePeriod(interval);
+    }
+
+    private long getLateRate() {
+        return retiredSlice == null ? 0L : retiredSlice.sum() - retiredRate;
+    }
+
+    private synchronized long advance(final long second) {
+        final long current = currentSecond;
+        if (second > current) {
+            //the counter is replaced because marking thread may still hold a reference to it
+            final LongAdder completedSlice = slices.getAndSet(slice(current), new LongAdder());
+            final long completedRate = completedSlice.sum();
+            //late increments of the previously completed second are folded into this second
+            final long lateRate = getLateRate();
+            retiredSlice = completedSlice;
+            retiredRate = completedRate;
+            fold(current, completedRate + lateRate, second);
+            currentSecond = second;
+            return second;
+        } else
+            return current;
+    }
+
+    /**
+     * Folds all completed seconds and gets the number of events in the current second.
+     * @return The number of events in the current second.
+     */
+    private long getCurrentRate() {
+        return slices.get(slice(advance(getSecond()))).sum();
+    }
+
+    synchronized long getTotalRate() {
+        //late increments of the previous second are not lost and will be folded into the next second
+        return completedTotal + getLateRate() + slices.get(0).sum() + slices.get(1).sum();
+    }
+
+    synchronized long getLastRate(final MetricsInterval interval) {
+        final long currentRate = getCurrentRate();
+        return periodRate[interval.ordinal()] + currentRate;
+    }
+
+    synchronized double getMeanRate(final MetricsInterval interval) {
+        advance(getSecond());
+        final double result = meanRate[interval.ordinal()];
+        return Double.isNaN(result) ? 0D : result;
+    }
+
+    synchronized long getMaxRate(final MetricsInterval interval) {
+        final long lastRate = getLastRate(interval);
+        return Long.max(maxRate[interval.ordinal()], lastRate);
+    }
+
+    synchronized long getLastMaxRatePerSecond(final MetricsInterval interval) {
+        if (interval.compareTo(SECOND) > 0) {
+            final long currentRate = getCurrentRate();
+            return Long.max(maxRatePerSecond[interval.ordinal()], currentRate);
+        } else
+            return getLastRate(interval);
+    }
+
+    synchronized long getLastMaxRatePerMinute(final MetricsInterval interval) {
+        if (interval.compareTo(MINUTE) > 0) {
+            final long lastRate = getLastRate(MINUTE);
+            return Long.max(maxRatePerMinute[interval.ordinal()], lastRate);
+        } else
+            return getLastRate(interval);
+    }
+
+    synchronized long getLastMaxRatePer12Hours(final MetricsInterval interval) {
+        if (interval.compareTo(HALF_DAY) > 0) {
+            final long lastRate = getLastRate(HALF_DAY);
+            return Long.max(maxRatePer12Hours[interval.ordinal()], lastRate);
+        } else
+            return getLastRate(interval);
+    }
+
+    /**
+     * Resets all statistics.
+     */
+    @Override
+    public synchronized void reset() {
+        slices.set(0, new LongAdder());
+        slices.set(1, new LongAdder());
+        retiredSlice = null;
+        retiredRate = 0L;
+        completedTotal = 0L;
+        Arrays.fill(periodRate, 0L);
+        Arrays.fill(maxRate, 0L);
+        Arrays.fill(maxRatePerSecond, 0L);
+        Arrays.fill(maxRatePerMinute, 0L);
+        Arrays.fill(maxRatePer12Hours, 0L);
+        Arrays.fill(meanRate, Double.NaN);
+        origin = System.nanoTime();
+        currentSecond = 0L;
+    }
+}
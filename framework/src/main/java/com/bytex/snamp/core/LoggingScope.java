@@ -3,7 +3,6 @@ package com.bytex.snamp.core;
 import com.bytex.snamp.SafeCloseable;
 import com.google.common.base.Joiner;
 import com.google.common.base.MoreObjects;
-import com.google.common.base.Stopwatch;
 import com.google.common.collect.Maps;
 import org.osgi.framework.BundleContext;
 
@@ -17,6 +16,11 @@ import java.util.logging.*;
 
 /**
  * Logical operation represented as logging scope in which all log messages are correlated.
+ * <p>
+ *     Scope can be deferred. Deferred scope is created only when the operation has something to log,
+ *     such as failure, so the successful operation doesn't allocate the scope and doesn't generate
+ *     correlation identifier at all. The caller captures only the start time of the operation
+ *     using {@link System#nanoTime()}.
  * @author Roman Sakno
  * @version 2.0
  * @since 1.0
@@ -66,19 +70,36 @@ public class LoggingScope extends Logger implements SafeCloseable {
 
     private final String operationName;
     private final long correlationID;
-    private final Stopwatch timer;
+    private final long startTime;   //in nanos
+    private volatile long elapsedTime;    //in nanos; negative if operation is not completed
+    private final boolean deferred;
     private final Logger logger;
     private final String source;
 
     private LoggingScope(final Logger logger,
                          final String source,
                          final String operationName,
-                         final long correlationID) {
+                         final long correlationID,
+                         final long startTime,
+                         final boolean deferred) {
         super(logger.getName(), logger.getResourceBundleName());
         this.operationName = Objects.requireNonNull(operationName);
         this.correlationID = correlationID;
-        this.timer = Stopwatch.createStarted();
-        (this.logger = logger).entering(this.source = source, operationName);
+        this.startTime = startTime;
+        this.elapsedTime = -1L;
+        this.deferred = deferred;
+        this.logger = logger;
+        this.source = source;
+        //deferred scope is created after the operation was started so there is nothing to trace
+        if (!deferred)
+            logger.entering(source, operationName);
+    }
+
+    private LoggingScope(final Logger logger,
+                         final String source,
+                         final String operationName,
+                         final long correlationID) {
+        this(logger, source, operationName, correlationID, System.nanoTime(), false);
     }
 
     LoggingScope(final Logger logger,
@@ -113,6 +134,23 @@ public class LoggingScope extends Logger implements SafeCloseable {
         this(requester, operationName, null);
     }
 
+    /**
+     * Initializes a new deferred logical operation.
+     * @param requester The requester of the logical operation.
+     * @param operationName The name of the logical operation.
+     * @param startTime The start time of the logical operation obtained from {@link System#nanoTime()}.
+     */
+    protected LoggingScope(final Object requester,
+                           final String operationName,
+                           final long startTime) {
+        this(LoggerProvider.getLoggerForObject(requester),
+                requester.getClass().getName(),
+                operationName,
+                CORREL_ID_GEN.generate(),
+                startTime,
+                true);
+    }
+
     private static long getCorrelationID(final CorrelationIdentifierGenerator generator) {
         return MoreObjects.firstNonNull(generator, CORREL_ID_GEN).generate();
     }
@@ -389,7 +427,8 @@ public class LoggingScope extends Logger implements SafeCloseable {
      * @return The duration of logical operation execution.
      */
     public final long getDuration(final TimeUnit desiredUnit){
-        return timer.elapsed(desiredUnit);
+        final long elapsedTime = this.elapsedTime;
+        return desiredUnit.convert(elapsedTime < 0L ? System.nanoTime() - startTime : elapsedTime, TimeUnit.NANOSECONDS);
     }
 
     /**
@@ -406,7 +445,7 @@ public class LoggingScope extends Logger implements SafeCloseable {
      */
     protected void collectStringData(final Map<String, Object> output) {
         output.put("name", operationName);
-        output.put("duration", timer);
+        output.put("duration", getDuration());
         output.put("correlationID", correlationID);
     }
 
@@ -426,7 +465,9 @@ public class LoggingScope extends Logger implements SafeCloseable {
      */
     @Override
     public final void close() {
-        exiting(source, operationName);
-        timer.stop();
+        if (!deferred)
+            exiting(source, operationName);
+        if (elapsedTime < 0L)
+            elapsedTime = System.nanoTime() - startTime;
     }
 }
@@ -19,4 +19,14 @@ public class AttributeRelatedLoggingScope extends LoggingScope {
         this.attributeID = attributeID;
         this.attributeName = attributeName;
     }
+
+    protected AttributeRelatedLoggingScope(final Object requester,
+                                           final String operationName,
+                                           final String attributeName,
+                                           final String attributeID,
+                                           final long startTime){
+        super(requester, operationName, startTime);
+        this.attributeID = attributeID;
+        this.attributeName = attributeName;
+    }
 }
@@ -9,6 +9,8 @@ import com.bytex.snamp.connector.attributes.AttributeSupport;
 import com.bytex.snamp.jmx.DescriptorUtils;
 import com.bytex.snamp.jmx.JMExceptionUtils;
 import com.bytex.snamp.jmx.WellKnownType;
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
 import com.google.common.reflect.TypeToken;
 
 import javax.annotation.OverridingMethodsMustInvokeSuper;
@@ -17,8 +19,11 @@ import javax.management.openmbean.OpenType;
 import java.math.BigDecimal;
 import java.text.DecimalFormat;
 import java.text.ParseException;
-import java.util.Objects;
-import java.util.Optional;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 
 import static com.bytex.snamp.internal.Utils.callAndWrapException;
 import static com.bytex.snamp.internal.Utils.wrapException;
@@ -329,6 +334,66 @@ public class AttributeAccessor extends FeatureAccessor<MBeanAttributeInfo> imple
         return !(minValue.isPresent() && actualValue.compareTo(minValue.get()) <= 0) && !(maxValue.isPresent() && actualValue.compareTo(maxValue.get()) >= 0);
     }
 
+    private static <A extends AttributeAccessor> Map<A, Object> getValues(final AttributeSupport support,
+                                                                         final Collection<A> attributes) {
+        final ListMultimap<String, A> accessors = ArrayListMultimap.create(attributes.size(), 1);
+        attributes.forEach(accessor -> accessors.put(accessor.getName(), accessor));
+        final Map<A, Object> result = new HashMap<>(attributes.size());
+        for (final Attribute attribute : support.getAttributes(accessors.keySet().toArray(new String[accessors.keySet().size()])).asList())
+            for (final A accessor : accessors.get(attribute.getName()))
+                try {
+                    result.put(accessor, accessor.interceptGet(attribute.getValue()));
+                } catch (final InterceptionException ignored) {
+                    //this attribute should be read individually
+                }
+        return result;
+    }
+
+    /**
+     * Reads values of the attributes in bulk.
+     * <p>
+     *     Attributes are grouped by managed resource and each group is read using the single invocation
+     *     of {@link AttributeSupport#getAttributes(String[])}. Groups are read in parallel using the specified executor.
+     *     The caller thread reads the groups not yet started by the executor so it never waits for the busy executor.
+     *     Attributes that cannot be read are absent in the resulting map; individual reading should be used to obtain the error.
+     * @param attributes A set of attributes to read.
+     * @param executor Executor used to read groups of attributes in parallel.
+     * @param <A> Type of the attribute accessor.
+     * @return Values of the attributes.
+     * @since 2.0
+     */
+    public static <A extends AttributeAccessor> Map<A, Object> getValues(final Collection<A> attributes,
+                                                                       final Executor executor) {
+        final ListMultimap<AttributeSupport, A> groups = ArrayListMultimap.create();
+        for (final A accessor : attributes) {
+            final AttributeSupport support = ((AttributeAccessor) accessor).attributeSupport;
+            if (support != null)
+                groups.put(support, accessor);
+        }
+        final List<FutureTask<Map<A, Object>>> tasks = new ArrayList<>(groups.keySet().size());
+        groups.asMap().forEach((support, group) -> tasks.add(new FutureTask<>(() -> getValues(support, group))));
+        //the first group is always read by the caller thread
+        for (int i = 1; i < tasks.size(); i++)
+            try {
+                executor.execute(tasks.get(i));
+            } catch (final RejectedExecutionException ignored) {
+                //the task will be executed by the caller thread
+            }
+        final Map<A, Object> result = new HashMap<>(attributes.size());
+        for (final FutureTask<Map<A, Object>> task : tasks) {
+            task.run(); //do nothing if the task was already started by the executor
+            try {
+                result.putAll(task.get());
+            } catch (final ExecutionException ignored) {
+                //attributes of the failed group should be read individually
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return result;
+    }
+
     public static int removeAll(final Iterable<? extends AttributeAccessor> attributes,
                              final MBeanAttributeInfo metadata){
         return FeatureAccessor.removeAll(attributes, metadata);
@@ -15,4 +15,20 @@ public class WriteAttributeLoggingScope extends AttributeRelatedLoggingScope {
                                       final String attributeID) {
         super(requester, OPERATION_NAME, attributeName, attributeID);
     }
-}
\ No newline at end of file
+
+    /**
+     * Initializes deferred scope of the attribute writing operation.
+     * <p>
+     *     Deferred scope should be created only if the operation failed or has something to log.
+     * @param requester The requester of the operation.
+     * @param attributeName The name of the attribute.
+     * @param attributeID The identifier of the attribute.
+     * @param startTime The start time of the operation obtained from {@link System#nanoTime()}.
+     */
+    public WriteAttributeLoggingScope(final Object requester,
+                                      final String attributeName,
+                                      final String attributeID,
+                                      final long startTime) {
+        super(requester, OPERATION_NAME, attributeName, attributeID, startTime);
+    }
+}
@@ -0,0 +1,25 @@
+package com.bytex.snamp.internal;
+
+import com.bytex.snamp.concurrent.RepeaterScheduler;
+import org.osgi.framework.BundleActivator;
+import org.osgi.framework.BundleContext;
+
+/**
+ * Represents activator of the framework bundle.
+ * <p>
+ *     Controls lifetime of the shared resources owned by the framework such as threads of {@link RepeaterScheduler}.
+ * @author Roman Sakno
+ * @version 2.0
+ * @since 2.0
+ */
+public final class FrameworkActivator implements BundleActivator {
+    @Override
+    public void start(final BundleContext context) {
+        RepeaterScheduler.start();
+    }
+
+    @Override
+    public void stop(final BundleContext context) {
+        RepeaterScheduler.stop();
+    }
+}
@@ -69,13 +69,13 @@ final class ByteBufferOutputStream extends OutputStream {
     }
 
     byte[] toByteArray(){
-        if(buf.hasArray())
-            return buf.array();
-        else if(buf.position() == 0)
+        if(buf.position() == 0)
             return ArrayUtils.emptyByteArray();
         else {
-            buf.position(0);
-            return Buffers.readRemaining(buf);
+            //only written part of the buffer should be returned
+            final ByteBuffer written = buf.duplicate();
+            written.flip();
+            return Buffers.readRemaining(written);
         }
     }
 
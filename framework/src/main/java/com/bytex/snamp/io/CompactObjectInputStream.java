@@ -0,0 +1,51 @@
+package com.bytex.snamp.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
+import java.util.Objects;
+
+/**
+ * Represents object stream which reads objects written by {@link CompactObjectOutputStream}.
+ * <p>
+ *     Class descriptors are restored from the local classes so the serialized form can be read
+ *     only if serial version UID of the local class is the same.
+ * @author Roman Sakno
+ * @version 2.0
+ * @since 2.0
+ */
+final class CompactObjectInputStream extends ObjectInputStream {
+    private final ClassLoader loader;
+
+    CompactObjectInputStream(final InputStream in, final ClassLoader loader) throws IOException {
+        super(in);
+        this.loader = Objects.requireNonNull(loader);
+    }
+
+    private Class<?> loadClass(final String className) throws ClassNotFoundException {
+        try {
+            return Class.forName(className, false, loader);
+        } catch (final ClassNotFoundException e) {
+            //class may be not visible for the custom loader but visible for the framework
+            return Class.forName(className, false, getClass().getClassLoader());
+        }
+    }
+
+    @Override
+    protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+        final String className = readUTF();
+        final long serialVersionUID = readLong();
+        final ObjectStreamClass desc = ObjectStreamClass.lookupAny(loadClass(className));
+        if (desc.getSerialVersionUID() != serialVersionUID)
+            throw new InvalidClassException(className, String.format("Local class has serial version UID %s but stream contains %s", desc.getSerialVersionUID(), serialVersionUID));
+        return desc;
+    }
+
+    @Override
+    protected Class<?> resolveClass(final ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+        final Class<?> result = desc.forClass();   //descriptor is already resolved by readClassDescriptor
+        return result == null ? super.resolveClass(desc) : result;
+    }
+}
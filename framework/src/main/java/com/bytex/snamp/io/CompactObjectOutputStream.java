@@ -0,0 +1,26 @@
+package com.bytex.snamp.io;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+
+/**
+ * Represents object stream which writes only name and serial version UID of the class
+ * instead of the full class descriptor with names and types of all fields.
+ * @author Roman Sakno
+ * @version 2.0
+ * @since 2.0
+ * @see CompactObjectInputStream
+ */
+final class CompactObjectOutputStream extends ObjectOutputStream {
+    CompactObjectOutputStream(final OutputStream out) throws IOException {
+        super(out);
+    }
+
+    @Override
+    protected void writeClassDescriptor(final ObjectStreamClass desc) throws IOException {
+        writeUTF(desc.getName());
+        writeLong(desc.getSerialVersionUID());
+    }
+}
@@ -159,6 +159,21 @@ public final class IOUtils {
         return deserialize(serializedForm, TypeToken.of(expectedType), resolver);
     }
 
+    public static <T extends Serializable> T deserialize(final byte[] serializedForm,
+                                                         final Class<T> expectedType,
+                                                         final ClassLoader customLoader,
+                                                         final SerializationMode mode) throws IOException {
+        if (ArrayUtils.isNullOrEmpty(serializedForm))
+            return null;
+        else
+            try (final ByteBufferInputStream stream = new ByteBufferInputStream(serializedForm);
+                 final ObjectInputStream deserializer = mode.createStream(stream, customLoader)) {
+                return Convert.toType(deserializer.readObject(), expectedType).orElseThrow(ClassCastException::new);
+            } catch (final ClassNotFoundException e) {
+                throw new IOException(e);
+            }
+    }
+
     public static byte[] readFully(final InputStream inputStream) throws IOException {
         try (final ByteBufferOutputStream out = new ByteBufferOutputStream(1024)) {
             final byte[] buffer = new byte[512];
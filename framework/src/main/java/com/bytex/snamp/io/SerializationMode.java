@@ -1,6 +1,8 @@
 package com.bytex.snamp.io;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.OutputStream;
 import java.io.Serializable;
@@ -18,6 +20,23 @@ public class SerializationMode {
      */
     public static final SerializationMode DEFAULT = new SerializationMode();
 
+    /**
+     * Compact serialization mode which writes only name and serial version UID of every class instead of its full descriptor.
+     * <p>
+     *     Serialized form can be restored only in the same mode and with the same versions of serialized classes.
+     */
+    public static final SerializationMode COMPACT = new SerializationMode() {
+        @Override
+        ObjectOutputStream createStream(final OutputStream output) throws IOException {
+            return new CompactObjectOutputStream(output);
+        }
+
+        @Override
+        ObjectInputStream createStream(final InputStream input, final ClassLoader loader) throws IOException {
+            return new CompactObjectInputStream(input, loader);
+        }
+    };
+
     private SerializationMode(){
 
     }
@@ -54,4 +73,8 @@ public class SerializationMode {
     ObjectOutputStream createStream(final OutputStream output) throws IOException{
         return new ObjectOutputStream(output);
     }
+
+    ObjectInputStream createStream(final InputStream input, final ClassLoader loader) throws IOException {
+        return new CustomObjectInputStream(input, ClassResolver.forClassLoader(loader));
+    }
 }
@@ -0,0 +1,616 @@
+package com.bytex.snamp.moa;
+
+import com.bytex.snamp.io.SerializableSnapshotSupport;
+import com.bytex.snamp.io.SerializedState;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import java.io.Serializable;
+import java.util.OptionalInt;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Provides lock-free reservoir of {@code double} values based on log-linear histogram.
+ * <p>
+ *     In contrast to {@link DoubleReservoir} this reservoir doesn't store values. Each value is counted
+ *     in the bucket which relative width is {@code 1/64} of its magnitude. Buckets are striped across recording threads
+ *     so concurrent writers never block each other. Stripes are merged only when reservoir is read.
+ *     Quantiles are approximated with relative error less than {@code 1%}, mean, min, max and standard deviation are exact.
+ * @author Roman Sakno
+ * @version 2.0
+ * @since 2.0
+ */
+@ThreadSafe
+public final class DoubleHistogram implements Reservoir, SerializableSnapshotSupport<DoubleHistogram>, ToDoubleFunction<ReduceOperation> {
+    private static final long serialVersionUID = 3806311366380618112L;
+    private static final int PRECISION_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << PRECISION_BITS;
+    private static final int MANTISSA_BITS = 52;
+    private static final long MANTISSA_MASK = (1L << MANTISSA_BITS) - 1L;
+    //values with magnitude less than 2^MIN_EXPONENT are counted as zero
+    private static final int MIN_EXPONENT = -64;
+    //values with magnitude greater than 2^(MAX_EXPONENT + 1) are counted in the last bucket
+    private static final int MAX_EXPONENT = 127;
+    private static final int EXPONENTS = MAX_EXPONENT - MIN_EXPONENT + 1;
+    //slots [0, EXPONENTS) are reserved for positive values, [EXPONENTS, 2 * EXPONENTS) for negative values
+    private static final int SLOTS = EXPONENTS * 2;
+    private static final int ZERO_BUCKET = -1;
+    private static final int MAX_STRIPES = 16;
+
+    private static final class DoubleHistogramSnapshot extends SerializedState<DoubleHistogram> {
+        private static final long serialVersionUID = -3402417541911722906L;
+        private final int[] buckets;
+        private final long[] counts;
+        private final long zeros;
+        private final double sum;
+        private final double sumOfSquares;
+        private final double min;
+        private final double max;
+
+        private DoubleHistogramSnapshot(final DoubleHistogram histogram) {
+            final long[] merged = histogram.mergeStripes();
+            int length = 0;
+            for (final long count : merged)
+                if (count > 0L)
+                    length += 1;
+            buckets = new int[length];
+            counts = new long[length];
+            length = 0;
+            for (int bucket = 0; bucket < merged.length; bucket++)
+                if (merged[bucket] > 0L) {
+                    buckets[length] = bucket;
+                    counts[length++] = merged[bucket];
+                }
+            zeros = histogram.mergeZeros();
+            sum = histogram.sum.sum();
+            sumOfSquares = histogram.sumOfSquares.sum();
+            min = Double.longBitsToDouble(histogram.min.get());
+            max = Double.longBitsToDouble(histogram.max.get());
+        }
+
+        @Override
+        public DoubleHistogram get() {
+            return new DoubleHistogram(this);
+        }
+    }
+
+    /**
+     * Represents recording buffer owned by the group of threads.
+     */
+    private static final class Stripe {
+        private final AtomicReferenceArray<AtomicLongArray> slots;
+        private final AtomicLong zeros;
+
+        private Stripe() {
+            slots = new AtomicReferenceArray<>(SLOTS);
+            zeros = new AtomicLong(0L);
+        }
+
+        private AtomicLongArray getOrCreateSlot(final int slot) {
+            AtomicLongArray result = slots.get(slot);
+            if (result == null && !slots.compareAndSet(slot, null, result = new AtomicLongArray(SUB_BUCKETS)))
+                result = slots.get(slot);
+            return result;
+        }
+
+        private void add(final int bucket, final long count) {
+            if (bucket == ZERO_BUCKET)
+                zeros.addAndGet(count);
+            else
+                getOrCreateSlot(bucket / SUB_BUCKETS).addAndGet(bucket % SUB_BUCKETS, count);
+        }
+
+        private void increment(final int bucket) {
+            if (bucket == ZERO_BUCKET)
+                zeros.incrementAndGet();
+            else
+                getOrCreateSlot(bucket / SUB_BUCKETS).incrementAndGet(bucket % SUB_BUCKETS);
+        }
+
+        private void mergeTo(final long[] buckets) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                final AtomicLongArray counters = slots.get(slot);
+                if (counters != null)
+                    for (int subBucket = 0; subBucket < SUB_BUCKETS; subBucket++)
+                        buckets[slot * SUB_BUCKETS + subBucket] += counters.get(subBucket);
+            }
+        }
+
+        private void reset() {
+            for (int slot = 0; slot < SLOTS; slot++)
+                slots.set(slot, null);
+            zeros.set(0L);
+        }
+    }
+
+    /**
+     * Represents merged view of all stripes ordered by value.
+     */
+    private static final class Distribution {
+        private final double[] lowerBounds;
+        private final double[] upperBounds;
+        private final long[] counts;
+        private final int length;
+        private final long total;
+
+        private Distribution(final long[] buckets, final long zeros, final double min, final double max) {
+            int capacity = zeros > 0L ? 1 : 0;
+            for (final long count : buckets)
+                if (count > 0L)
+                    capacity += 1;
+            lowerBounds = new double[capacity];
+            upperBounds = new double[capacity];
+            counts = new long[capacity];
+            int length = 0;
+            long total = 0L;
+            //negative values from the greatest magnitude to the lowest
+            for (int bucket = buckets.length - 1; bucket >= EXPONENTS * SUB_BUCKETS; bucket--)
+                if (buckets[bucket] > 0L) {
+                    lowerBounds[length] = Math.max(-upperBound(bucket), min);
+                    upperBounds[length] = Math.min(-lowerBound(bucket), max);
+                    total += counts[length++] = buckets[bucket];
+                }
+            if (zeros > 0L)
+                total += counts[length++] = zeros;
+            for (int bucket = 0; bucket < EXPONENTS * SUB_BUCKETS; bucket++)
+                if (buckets[bucket] > 0L) {
+                    lowerBounds[length] = Math.max(lowerBound(bucket), min);
+                    upperBounds[length] = Math.min(upperBound(bucket), max);
+                    total += counts[length++] = buckets[bucket];
+                }
+            this.length = length;
+            this.total = total;
+        }
+
+        private static int getExponent(final int bucket) {
+            return (bucket / SUB_BUCKETS) % EXPONENTS + MIN_EXPONENT;
+        }
+
+        private static double lowerBound(final int bucket) {
+            return Math.scalb(1D + (double) (bucket % SUB_BUCKETS) / SUB_BUCKETS, getExponent(bucket));
+        }
+
+        private static double upperBound(final int bucket) {
+            return Math.scalb(1D + (bucket % SUB_BUCKETS + 1D) / SUB_BUCKETS, getExponent(bucket));
+        }
+
+        //position is zero-based and may be fractional
+        private double getValue(final double position) {
+            long before = 0L;
+            for (int i = 0; i < length; i++) {
+                final long count = counts[i];
+                if (position < before + count) {
+                    final double offset = (position - before + 0.5D) / count;
+                    return lowerBounds[i] + offset * (upperBounds[i] - lowerBounds[i]);
+                }
+                before += count;
+            }
+            return length > 0 ? upperBounds[length - 1] : Double.NaN;
+        }
+
+        private double getQuantile(final float quantile) {
+            return total == 0L ? Double.NaN : getValue(quantile * (total - 1D));
+        }
+
+        private double[][] toArray() {
+            final double[][] result = new double[length][];
+            for (int i = 0; i < length; i++)
+                result[i] = new double[]{lowerBounds[i], upperBounds[i], counts[i]};
+            return result;
+        }
+    }
+
+    private final Stripe[] stripes;
+    private final LongAdder count;
+    private final DoubleAdder sum;
+    private final DoubleAdder sumOfSquares;
+    private final AtomicLong min;
+    private final AtomicLong max;
+
+    private DoubleHistogram(final DoubleHistogramSnapshot snapshot) {
+        this();
+        for (int i = 0; i < snapshot.buckets.length; i++) {
+            stripes[0].add(snapshot.buckets[i], snapshot.counts[i]);
+            count.add(snapshot.counts[i]);
+        }
+        stripes[0].add(ZERO_BUCKET, snapshot.zeros);
+        count.add(snapshot.zeros);
+        sum.add(snapshot.sum);
+        sumOfSquares.add(snapshot.sumOfSquares);
+        min.set(Double.doubleToLongBits(snapshot.min));
+        max.set(Double.doubleToLongBits(snapshot.max));
+    }
+
+    /**
+     * Initializes a new empty histogram.
+     */
+    public DoubleHistogram() {
+        stripes = new Stripe[Math.min(Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1), MAX_STRIPES)];
+        for (int i = 0; i < stripes.length; i++)
+            stripes[i] = new Stripe();
+        count = new LongAdder();
+        sum = new DoubleAdder();
+        sumOfSquares = new DoubleAdder();
+        min = new AtomicLong(Double.doubleToLongBits(Double.POSITIVE_INFINITY));
+        max = new AtomicLong(Double.doubleToLongBits(Double.NEGATIVE_INFINITY));
+    }
+
+    @Override
+    public DoubleHistogramSnapshot takeSnapshot() {
+        return new DoubleHistogramSnapshot(this);
+    }
+
+    @Override
+    public Object writeReplace() {
+        return takeSnapshot();
+    }
+
+    @Override
+    @Nonnull
+    public DoubleHistogram clone() {
+        return takeSnapshot().get();
+    }
+
+    private static int computeBucket(final double value) {
+        final double magnitude = Math.abs(value);
+        final int exponent = Math.getExponent(magnitude);
+        final int slot, subBucket;
+        if (exponent < MIN_EXPONENT)
+            return ZERO_BUCKET;
+        else if (exponent > MAX_EXPONENT) {
+            slot = EXPONENTS - 1;
+            subBucket = SUB_BUCKETS - 1;
+        } else {
+            slot = exponent - MIN_EXPONENT;
+            subBucket = (int) ((Double.doubleToRawLongBits(magnitude) & MANTISSA_MASK) >>> (MANTISSA_BITS - PRECISION_BITS));
+        }
+        return ((value < 0D ? EXPONENTS : 0) + slot) * SUB_BUCKETS + subBucket;
+    }
+
+    private static void accumulateMin(final AtomicLong min, final double value) {
+        long current;
+        do {
+            current = min.get();
+        } while (value < Double.longBitsToDouble(current) && !min.compareAndSet(current, Double.doubleToLongBits(value)));
+    }
+
+    private static void accumulateMax(final AtomicLong max, final double value) {
+        long current;
+        do {
+            current = max.get();
+        } while (value > Double.longBitsToDouble(current) && !max.compareAndSet(current, Double.doubleToLongBits(value)));
+    }
+
+    private Stripe getStripe() {
+        return stripes[(int) Thread.currentThread().getId() & (stripes.length - 1)];
+    }
+
+    /**
+     * Adds a new value to this reservoir.
+     * @param value A value to add. {@link Double#NaN} is ignored.
+     */
+    @Override
+    public void add(final double value) {
+        if (Double.isNaN(value))
+            return;
+        getStripe().increment(computeBucket(value));
+        count.increment();
+        sum.add(value);
+        sumOfSquares.add(value * value);
+        accumulateMin(min, value);
+        accumulateMax(max, value);
+    }
+
+    /**
+     * Adds a new value to this reservoir.
+     *
+     * @param value A value to add.
+     */
+    @Override
+    public void add(final Number value) {
+        add(value.doubleValue());
+    }
+
+    /**
+     * Adds a new value to this reservoir.
+     * @param value A value to add.
+     */
+    @Override
+    public void accept(final double value) {
+        add(value);
+    }
+
+    /**
+     * Merges all values recorded by another histogram into this histogram.
+     * @param other Histogram to merge.
+     */
+    public void merge(@Nonnull final DoubleHistogram other) {
+        final long[] buckets = other.mergeStripes();
+        final Stripe stripe = getStripe();
+        for (int bucket = 0; bucket < buckets.length; bucket++)
+            if (buckets[bucket] > 0L) {
+                stripe.add(bucket, buckets[bucket]);
+                count.add(buckets[bucket]);
+            }
+        final long zeros = other.mergeZeros();
+        stripe.add(ZERO_BUCKET, zeros);
+        count.add(zeros);
+        sum.add(other.sum.sum());
+        sumOfSquares.add(other.sumOfSquares.sum());
+        accumulateMin(min, Double.longBitsToDouble(other.min.get()));
+        accumulateMax(max, Double.longBitsToDouble(other.max.get()));
+    }
+
+    private long[] mergeStripes() {
+        final long[] buckets = new long[SLOTS * SUB_BUCKETS];
+        for (final Stripe stripe : stripes)
+            stripe.mergeTo(buckets);
+        return buckets;
+    }
+
+    private long mergeZeros() {
+        long result = 0L;
+        for (final Stripe stripe : stripes)
+            result += stripe.zeros.get();
+        return result;
+    }
+
+    private Distribution getDistribution() {
+        return new Distribution(mergeStripes(), mergeZeros(), Double.longBitsToDouble(min.get()), Double.longBitsToDouble(max.get()));
+    }
+
+    public double getMin() {
+        return count.sum() > 0L ? Double.longBitsToDouble(min.get()) : Double.NaN;
+    }
+
+    public double getMax() {
+        return count.sum() > 0L ? Double.longBitsToDouble(max.get()) : Double.NaN;
+    }
+
+    /**
+     * Computes sum of all elements in this reservoir.
+     * @return Sum of all elements in this reservoir.
+     */
+    public double getSum() {
+        return sum.sum();
+    }
+
+    /**
+     * Resets internal state of the object.
+     */
+    @Override
+    public void reset() {
+        for (final Stripe stripe : stripes)
+            stripe.reset();
+        count.reset();
+        sum.reset();
+        sumOfSquares.reset();
+        min.set(Double.doubleToLongBits(Double.POSITIVE_INFINITY));
+        max.set(Double.doubleToLongBits(Double.NEGATIVE_INFINITY));
+    }
+
+    /**
+     * Gets number of values recorded by this reservoir.
+     *
+     * @return The number of values recorded by this reservoir.
+     */
+    @Override
+    public int getSize() {
+        return (int) Math.min(count.sum(), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Gets capacity of this reservoir.
+     *
+     * @return Always {@link Integer#MAX_VALUE} because histogram doesn't store values.
+     */
+    @Override
+    public int getCapacity() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public double getMean() {
+        return sum.sum() / count.sum();
+    }
+
+    /**
+     * Gets standard deviation of the values in this reservoir.
+     *
+     * @return The standard deviation of the values in this reservoir.
+     */
+    @Override
+    public double getDeviation() {
+        final long count = this.count.sum();
+        if (count <= 1L) return 0D;
+        final double mean = sum.sum() / count;
+        final double variance = sumOfSquares.sum() / count - mean * mean;
+        return variance > 0D ? Math.sqrt(variance) : 0D;
+    }
+
+    @Override
+    public double getQuantile(final float quantile) {
+        return getDistribution().getQuantile(quantile);
+    }
+
+    /**
+     * Gets approximated value at the specified position in this reservoir.
+     * @param index Index of the value.
+     * @return Approximated value.
+     * @throws IndexOutOfBoundsException Incorrect index.
+     */
+    public double getAsDouble(final int index) {
+        final Distribution distribution = getDistribution();
+        if (index >= 0 && index < distribution.total)
+            return distribution.getValue(index);
+        else
+            throw new IndexOutOfBoundsException();
+    }
+
+    /**
+     * Returns the element at the specified position in this reservoir.
+     *
+     * @param index Index of requested element.
+     * @return Requested element.
+     * @throws IndexOutOfBoundsException Index is out of range
+     */
+    @Override
+    public Number get(final int index) {
+        return getAsDouble(index);
+    }
+
+    @Override
+    public Number apply(@Nonnull final ReduceOperation reduceOperation) {
+        return applyAsDouble(reduceOperation);
+    }
+
+    @Override
+    public double applyAsDouble(@Nonnull final ReduceOperation value) {
+        switch (value) {
+            case MAX:
+                return getMax();
+            case MIN:
+                return getMin();
+            case MEAN:
+                return getMean();
+            case MEDIAN:
+                return getQuantile(0.5F);
+            case PERCENTILE_90:
+                return getQuantile(0.9F);
+            case PERCENTILE_97:
+                return getQuantile(0.97F);
+            case PERCENTILE_95:
+                return getQuantile(0.95F);
+            case SUM:
+                return getSum();
+            default:
+                throw new UnsupportedOperationException("Unsupported operation: " + value.name());
+        }
+    }
+
+    //number of values in buckets that are strictly less than the bucket of the specified value
+    private static long countLessThan(final int bucket, final long[] buckets, final long zeros) {
+        long result = 0L;
+        if (bucket == ZERO_BUCKET || bucket < EXPONENTS * SUB_BUCKETS) {
+            //all negative values
+            for (int i = EXPONENTS * SUB_BUCKETS; i < buckets.length; i++)
+                result += buckets[i];
+            if (bucket != ZERO_BUCKET) {
+                result += zeros;
+                for (int i = 0; i < bucket; i++)
+                    result += buckets[i];
+            }
+        } else
+            for (int i = bucket + 1; i < buckets.length; i++)
+                result += buckets[i];
+        return result;
+    }
+
+    private static long countAll(final long[] buckets, final long zeros) {
+        long result = zeros;
+        for (final long count : buckets)
+            result += count;
+        return result;
+    }
+
+    private static long countInBucket(final int bucket, final long[] buckets, final long zeros) {
+        return bucket == ZERO_BUCKET ? zeros : buckets[bucket];
+    }
+
+    /**
+     * Finds approximated location of the value in this reservoir.
+     *
+     * @param value The value to find.
+     * @return The location of the first value in the bucket of the specified value.
+     */
+    @Override
+    public OptionalInt find(final Number value) {
+        return find(value.doubleValue());
+    }
+
+    /**
+     * Finds approximated location of the value in this reservoir.
+     *
+     * @param value The value to find.
+     * @return The location of the first value in the bucket of the specified value.
+     */
+    public OptionalInt find(final double value) {
+        final int bucket = computeBucket(value);
+        final long[] buckets = mergeStripes();
+        final long zeros = mergeZeros();
+        return countInBucket(bucket, buckets, zeros) > 0L ?
+                OptionalInt.of((int) Math.min(countLessThan(bucket, buckets, zeros), Integer.MAX_VALUE)) :
+                OptionalInt.empty();
+    }
+
+    /**
+     * Computes a percent of values that are greater than or equal to the specified value.
+     *
+     * @param value A value to compute.
+     * @return A percent of values that are greater that or equal to the specified value.
+     */
+    @Override
+    public double greaterThanOrEqualValues(final Number value) {
+        return greaterThanOrEqualValues(value.doubleValue());
+    }
+
+    /**
+     * Computes a percent of values that are greater than or equal to the specified value.
+     *
+     * @param value A value to compute.
+     * @return A percent of values that are greater that or equal to the specified value.
+     */
+    public double greaterThanOrEqualValues(final double value) {
+        final long[] buckets = mergeStripes();
+        final long zeros = mergeZeros();
+        final long total = countAll(buckets, zeros);
+        if (total == 0L)
+            return 0D;
+        final int bucket = computeBucket(value);
+        return (total - (double) countLessThan(bucket, buckets, zeros)) / total;
+    }
+
+    /**
+     * Computes a percent of values that are less than or equal to the specified value.
+     *
+     * @param value A value to compute.
+     * @return A percent of values that are less that or equal to the specified value.
+     */
+    @Override
+    public double lessThanOrEqualValues(final Number value) {
+        return lessThanOrEqualValues(value.doubleValue());
+    }
+
+    /**
+     * Computes a percent of values that are less than or equal to the specified value.
+     *
+     * @param value A value to compute.
+     * @return A percent of values that are less that or equal to the specified value.
+     */
+    public double lessThanOrEqualValues(final double value) {
+        final long[] buckets = mergeStripes();
+        final long zeros = mergeZeros();
+        final long total = countAll(buckets, zeros);
+        if (total == 0L)
+            return 1D;
+        final int bucket = computeBucket(value);
+        return (countLessThan(bucket, buckets, zeros) + (double) countInBucket(bucket, buckets, zeros)) / total;
+    }
+
+    /**
+     * Extracts non-empty buckets of this reservoir ordered by value.
+     * <p>
+     *     Each element of the returned array is a triple of lower bound, upper bound and number of values in the bucket.
+     *     Size of the array is limited by the number of buckets and doesn't depend on the number of values.
+     * @return Array of buckets.
+     */
+    @Override
+    public Serializable toArray() {
+        return getDistribution().toArray();
+    }
+}
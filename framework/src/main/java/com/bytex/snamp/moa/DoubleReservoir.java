@@ -22,13 +22,15 @@ import java.util.function.ToDoubleFunction;
  */
 public final class DoubleReservoir  implements DoubleConsumer, Reservoir, SerializableSnapshotSupport<DoubleReservoir>, ToDoubleFunction<ReduceOperation> {
     private static final class DoubleReservoirSnapshot extends SerializedState<DoubleReservoir>{
-        private static final long serialVersionUID = -6080572664395210068L;
-        private final double[] values;
-        private final int actualSize;
+        private static final long serialVersionUID = 2874541925366716455L;
+        private final double[] values;  //only occupied part of the reservoir is stored
+        private final int capacity;
 
         private DoubleReservoirSnapshot(final DoubleReservoir reservoir){
-            this.values = reservoir.values;
-            this.actualSize = reservoir.actualSize;
+            try (final SafeCloseable ignored = reservoir.readLock.acquireLock()) {
+                this.values = Arrays.copyOf(reservoir.values, reservoir.actualSize);
+                this.capacity = reservoir.values.length;
+            }
         }
 
         @Override
@@ -38,13 +40,17 @@ public final class DoubleReservoir  implements DoubleConsumer, Reservoir, Serial
     }
 
     private static final long serialVersionUID = -2597353518482200745L;
+    /**
+     * Default size of the reservoir used by metrics.
+     */
+    public static final int DEFAULT_SAMPLING_SIZE = 4096;
     private final double[] values;
     private int actualSize;
     private final LockDecorator readLock, writeLock;
 
     private DoubleReservoir(final DoubleReservoirSnapshot snapshot){
-        values = snapshot.values;
-        actualSize = snapshot.actualSize;
+        values = Arrays.copyOf(snapshot.values, snapshot.capacity);
+        actualSize = snapshot.values.length;
         final ReadWriteLock rwLock = new ReentrantReadWriteLock();
         readLock = LockDecorator.readLock(rwLock);
         writeLock = LockDecorator.writeLock(rwLock);
@@ -74,6 +80,12 @@ public final class DoubleReservoir  implements DoubleConsumer, Reservoir, Serial
         return takeSnapshot();
     }
 
+    @Override
+    @Nonnull
+    public DoubleReservoir clone() {
+        return takeSnapshot().get();
+    }
+
     private double getMinImpl(){
         switch (actualSize) {
             case 0:
@@ -183,6 +195,7 @@ public final class DoubleReservoir  implements DoubleConsumer, Reservoir, Serial
      * Adds a new value to this reservoir.
      * @param value A value to add.
      */
+    @Override
     public void add(final double value) {
         try (final SafeCloseable ignored = writeLock.acquireLock()) {
             int index = computeIndex(value);
@@ -279,6 +292,7 @@ public final class DoubleReservoir  implements DoubleConsumer, Reservoir, Serial
      * Adds a new value to this reservoir.
      * @param value A value to add.
      */
+    @Override
     public void accept(final double value) {
         add(value);
     }
@@ -0,0 +1,257 @@
+package com.bytex.snamp.moa;
+
+import com.bytex.snamp.SpecialUse;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Represents exponentially weighted moving average computed for several mean lifetimes simultaneously.
+ * <p>
+ *     Every average has the same decay semantics as {@link DoubleEWMA#floatingInterval(Duration)} with time resolution
+ *     of the slice which is a tenth of the shortest mean lifetime. Recording threads only add the value into the striped
+ *     accumulator of the current slice and never wait for the lock. Completed slices are folded into the averages
+ *     exactly once by the first thread that acquired the lock after the end of the slice, so the exponents are computed
+ *     once per slice instead of once per value. Values of the current slice are taken into account by readers without folding.
+ * @author Roman Sakno
+ * @version 2.0
+ * @since 2.0
+ */
+@ThreadSafe
+public final class MultiIntervalEWMA extends Average {
+    private static final long serialVersionUID = 3598611466458096410L;
+    private static final int SLICES_PER_LIFETIME = 10;
+
+    private static final class Slice {
+        private final DoubleAdder sum;
+        private final LongAdder count;
+
+        private Slice() {
+            sum = new DoubleAdder();
+            count = new LongAdder();
+        }
+
+        private void accept(final double value) {
+            count.increment();
+            sum.add(value);
+        }
+    }
+
+    private final double[] meanLifetimes;   //in nanos
+    private final double[] means;
+    private final long sliceNanos;
+    private transient ReentrantLock lock;
+    private transient AtomicReferenceArray<Slice> slices; //striped accumulators of the current and the next slice
+    private transient volatile long origin;
+    private transient volatile long currentSlice;
+    //state guarded by the lock
+    private transient long lastSlice;   //the last slice folded into the averages
+    private transient Slice retiredSlice;   //accumulator of the last completed slice which may receive late values
+    private transient double retiredSum;    //sum of values in the retired accumulator folded into the averages
+    private transient long retiredCount;    //number of values in the retired accumulator folded into the averages
+
+    /**
+     * Initializes a new set of averages.
+     * @param meanLifetimes Mean lifetime of every average. Cannot be empty.
+     */
+    public MultiIntervalEWMA(@Nonnull final Duration... meanLifetimes) {
+        if (meanLifetimes.length == 0)
+            throw new IllegalArgumentException("At least one mean lifetime expected");
+        this.meanLifetimes = Arrays.stream(meanLifetimes).mapToDouble(Duration::toNanos).toArray();
+        means = new double[meanLifetimes.length];
+        Arrays.fill(means, Double.NaN);
+        sliceNanos = Long.max(Arrays.stream(meanLifetimes).mapToLong(Duration::toNanos).min().orElse(0L) / SLICES_PER_LIFETIME, 1L);
+        initialize();
+    }
+
+    private MultiIntervalEWMA(final MultiIntervalEWMA source) {
+        source.lock.lock();
+        try {
+            meanLifetimes = source.meanLifetimes;
+            sliceNanos = source.sliceNanos;
+            means = source.computeMeans();
+        } finally {
+            source.lock.unlock();
+        }
+        initialize();
+    }
+
+    private void initialize() {
+        lock = new ReentrantLock();
+        slices = new AtomicReferenceArray<>(new Slice[]{new Slice(), new Slice()});
+        origin = System.nanoTime();
+        currentSlice = 0L;
+        lastSlice = -1L;    //the first slice is one slice away from the last update
+        retiredSlice = null;
+        retiredSum = 0D;
+        retiredCount = 0L;
+    }
+
+    @Nonnull
+    @Override
+    public MultiIntervalEWMA clone() {
+        return new MultiIntervalEWMA(this);
+    }
+
+    /**
+     * Gets number of averages.
+     * @return Number of averages.
+     */
+    public int size() {
+        return means.length;
+    }
+
+    private long getSlice() {
+        return (System.nanoTime() - origin) / sliceNanos;
+    }
+
+    private static int slot(final long slice) {
+        return (int) (slice & 1L);
+    }
+
+    /**
+     * Records a new value into all averages.
+     * @param value A new value.
+     */
+    @Override
+    public void accept(final double value) {
+        long current = currentSlice;
+        final long slice = getSlice();
+        //recording thread doesn't wait while another thread folds the completed slice; the value will be drained as a late value
+        if (slice > current && lock.tryLock())
+            try {
+                current = advance(slice);
+            } finally {
+                lock.unlock();
+            }
+        slices.get(slot(current)).accept(value);
+    }
+
+    private void update(final double[] means, final long elapsedSlices, final double sum, final long count) {
+        final double value = sum / count;
+        final double elapsed = elapsedSlices * (double) sliceNanos;
+        for (int i = 0; i < means.length; i++) {
+            final double mean = means[i];
+            means[i] = Double.isNaN(mean) ? value : mean + (1D - Math.exp(-elapsed / meanLifetimes[i])) * (value - mean);
+        }
+    }
+
+    //must be called under the lock
+    private long advance(final long slice) {
+        final long current = currentSlice;
+        if (slice > current) {
+            //the accumulator is replaced because recording threads may still hold a reference to it
+            final Slice completedSlice = slices.getAndSet(slot(current), new Slice());
+            final double completedSum = completedSlice.sum.sum();
+            final long completedCount = completedSlice.count.sum();
+            //late values of the previously completed slice are folded into this slice
+            double sum = completedSum;
+            long count = completedCount;
+            if (retiredSlice != null) {
+                sum += retiredSlice.sum.sum() - retiredSum;
+                count += retiredSlice.count.sum() - retiredCount;
+            }
+            retiredSlice = completedSlice;
+            retiredSum = completedSum;
+            retiredCount = completedCount;
+            if (count > 0L) {
+                update(means, current - lastSlice, sum, count);
+                lastSlice = current;
+            }
+            currentSlice = slice;
+            return slice;
+        } else
+            return current;
+    }
+
+    //must be called under the lock
+    private double[] computeMeans() {
+        final long current = advance(getSlice());
+        final double[] result = means.clone();
+        final Slice slice = slices.get(slot(current));
+        final long count = slice.count.sum();
+        if (count > 0L)
+            update(result, current - lastSlice, slice.sum.sum(), count);
+        return result;
+    }
+
+    /**
+     * Computes average value with the specified mean lifetime.
+     * @param index Index of the mean lifetime passed to the constructor.
+     * @return Average value.
+     */
+    public double doubleValue(final int index) {
+        final double result;
+        lock.lock();
+        try {
+            result = computeMeans()[index];
+        } finally {
+            lock.unlock();
+        }
+        return Double.isNaN(result) ? 0D : result;
+    }
+
+    /**
+     * Computes average value with the first mean lifetime.
+     *
+     * @return Average value.
+     */
+    @Override
+    public double doubleValue() {
+        return doubleValue(0);
+    }
+
+    /**
+     * Resets all averages.
+     */
+    @Override
+    public void reset() {
+        lock.lock();
+        try {
+            slices.set(0, new Slice());
+            slices.set(1, new Slice());
+            Arrays.fill(means, Double.NaN);
+            retiredSlice = null;
+            retiredSum = 0D;
+            retiredCount = 0L;
+            lastSlice = currentSlice - 1L;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Replaces this object with its copy containing values of the current slice.
+     * @return A copy of this object to be serialized.
+     */
+    @SpecialUse(SpecialUse.Case.SERIALIZATION)
+    private Object writeReplace() {
+        return new MultiIntervalEWMA(this);
+    }
+
+    @SpecialUse(SpecialUse.Case.SERIALIZATION)        //deserialization hook
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        initialize();
+    }
+
+    @Override
+    public String toString() {
+        final double[] means;
+        lock.lock();
+        try {
+            means = computeMeans();
+        } finally {
+            lock.unlock();
+        }
+        return Arrays.toString(means);
+    }
+}
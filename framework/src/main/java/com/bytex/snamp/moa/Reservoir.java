@@ -5,6 +5,7 @@ import com.bytex.snamp.Stateful;
 import javax.annotation.Nonnull;
 import java.io.Serializable;
 import java.util.OptionalInt;
+import java.util.function.DoubleConsumer;
 import java.util.function.Function;
 
 /**
@@ -13,7 +14,7 @@ import java.util.function.Function;
  * @version 2.0
  * @since 2.0
  */
-public interface Reservoir extends Stateful, Serializable, Function<ReduceOperation, Number> {
+public interface Reservoir extends Stateful, Serializable, Cloneable, DoubleConsumer, Function<ReduceOperation, Number> {
     /**
      * Gets size of this reservoir.
      *
@@ -90,6 +91,20 @@ public interface Reservoir extends Stateful, Serializable, Function<ReduceOperat
      */
     void add(final Number value);
 
+    /**
+     * Adds a new value to this reservoir.
+     *
+     * @param value A value to add.
+     */
+    void add(final double value);
+
+    /**
+     * Creates independent copy of this reservoir.
+     * @return A copy of this reservoir.
+     */
+    @Nonnull
+    Reservoir clone();
+
     /**
      * Extracts content of this reservoir as array.
      * @return Generic copy of reservoir values.
@@ -0,0 +1,42 @@
+package com.bytex.snamp.supervision;
+
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Represents snapshot of attribute values of all resources in the group taken during single supervision cycle.
+ * <p>
+ *     Health checks, scaling policies and triggers evaluated in the same supervision cycle share the same attribute values.
+ *     Snapshot can be obtained via {@link Supervisor#queryObject(Class)} only while supervision cycle is in progress.
+ * @author Roman Sakno
+ * @version 2.0
+ * @since 2.0
+ */
+public interface AttributeSnapshot extends SupervisorAggregatedService {
+    /**
+     * Gets resources captured by this snapshot.
+     * @return Immutable set of resources.
+     */
+    Set<String> getResources();
+
+    /**
+     * Gets value of the attribute.
+     * @param resourceName Name of the resource.
+     * @param attributeName Name of the attribute.
+     * @return Attribute value.
+     * @throws InstanceNotFoundException Resource doesn't exist.
+     * @throws JMException Unable to read attribute.
+     */
+    Object getAttribute(final String resourceName, final String attributeName) throws JMException;
+
+    /**
+     * Gets values of the attribute across all resources in the group.
+     * <p>
+     *     Resources without the attribute or failed to provide its value are ignored.
+     * @param attributeName Name of the attribute.
+     * @return Map of attribute values where key is a name of the resource.
+     */
+    Map<String, ?> getAttributeValues(final String attributeName);
+}
@@ -5,6 +5,7 @@ import org.junit.Test;
 
 import java.time.Duration;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -77,4 +78,61 @@ public class RepeaterTest extends Assert {
             assertEquals(Repeater.RepeaterState.FAILED, rep.getState());
         }
     }
+
+    @Test
+    public final void sharedSchedulerTest() throws InterruptedException, TimeoutException {
+        final int count = RepeaterScheduler.getInstance().getWorkerCount() * 10;
+        final AtomicLong executions = new AtomicLong(0L);
+        final AtomicLong overlaps = new AtomicLong(0L);
+        final Repeater[] repeaters = new Repeater[count];
+        for (int i = 0; i < count; i++)
+            repeaters[i] = new Repeater(Duration.ofMillis(20)) {
+                private final AtomicBoolean running = new AtomicBoolean(false);
+
+                @Override
+                protected void doAction() throws InterruptedException {
+                    if (!running.compareAndSet(false, true))
+                        overlaps.incrementAndGet();
+                    Thread.sleep(5);
+                    executions.incrementAndGet();
+                    running.set(false);
+                }
+            };
+        final int threadCount = Thread.activeCount();
+        for (final Repeater repeater : repeaters)
+            repeater.run();
+        Thread.sleep(1000);
+        assertTrue(Thread.activeCount() <= threadCount + RepeaterScheduler.getInstance().getWorkerCount() + 1);
+        for (final Repeater repeater : repeaters) {
+            repeater.stop(Duration.ofSeconds(1));
+            assertEquals(Repeater.RepeaterState.STOPPED, repeater.getState());
+            repeater.close();
+        }
+        assertEquals(0L, overlaps.get());
+        assertTrue(executions.get() >= count);
+        assertTrue(RepeaterScheduler.getInstance().getMaxLag().compareTo(RepeaterScheduler.getInstance().getMeanLag()) >= 0);
+    }
+
+    @Test
+    public final void schedulerLifecycleTest() throws InterruptedException {
+        final RepeaterScheduler scheduler = RepeaterScheduler.getInstance();
+        final SecondsCounter counter = new SecondsCounter();
+        counter.run();
+        RepeaterScheduler.stop();
+        try {
+            Thread.sleep(500);
+            assertTrue(scheduler.isTerminated());
+            try {
+                RepeaterScheduler.getInstance();
+                fail("Scheduler must be stopped");
+            } catch (final IllegalStateException e) {
+                assertNotNull(e.getMessage());
+            }
+        } finally {
+            RepeaterScheduler.start();
+            counter.close();
+        }
+        //new threads are started after restart of the framework
+        assertNotSame(scheduler, RepeaterScheduler.getInstance());
+    }
 }
@@ -0,0 +1,75 @@
+package com.bytex.snamp.concurrent;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Represents tests for {@link SingleFlightValue}.
+ * @author Roman Sakno
+ * @version 2.0
+ * @since 2.0
+ */
+public final class SingleFlightValueTest extends Assert {
+    @Test
+    public void freshnessTest() throws Exception {
+        final SingleFlightValue<Integer> value = new SingleFlightValue<>();
+        final AtomicInteger loads = new AtomicInteger(0);
+        for (int i = 0; i < 10; i++)
+            assertEquals(1, value.get(Duration.ofMinutes(1), loads::incrementAndGet).intValue());
+        value.invalidate();
+        assertEquals(2, value.get(Duration.ofMinutes(1), loads::incrementAndGet).intValue());
+        //expired value
+        assertEquals(3, value.get(Duration.ofNanos(1L), loads::incrementAndGet).intValue());
+        Thread.sleep(1);
+        assertEquals(4, value.get(Duration.ofNanos(1L), loads::incrementAndGet).intValue());
+    }
+
+    @Test
+    public void failedLoadTest() throws Exception {
+        final SingleFlightValue<String> value = new SingleFlightValue<>();
+        try {
+            value.get(Duration.ofMinutes(1), () -> {
+                throw new IOException("Connection refused");
+            });
+            fail("Exception expected");
+        } catch (final IOException e) {
+            assertEquals("Connection refused", e.getMessage());
+        }
+        //failed load should not be reused
+        assertEquals("value", value.get(Duration.ofMinutes(1), () -> "value"));
+    }
+
+    @Test
+    public void coalescingTest() throws Exception {
+        final SingleFlightValue<Integer> value = new SingleFlightValue<>();
+        final AtomicInteger loads = new AtomicInteger(0);
+        final CountDownLatch loading = new CountDownLatch(1);
+        final Callable<Integer> loader = () -> {
+            loading.await();
+            return loads.incrementAndGet();
+        };
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final CountDownLatch started = new CountDownLatch(4);
+            final Future<?>[] callers = new Future<?>[4];
+            for (int i = 0; i < callers.length; i++)
+                callers[i] = executor.submit(() -> {
+                    started.countDown();
+                    return value.get(Duration.ofMinutes(1), loader);
+                });
+            started.await();
+            Thread.sleep(100);  //let callers wait for the in-flight load
+            loading.countDown();
+            for (final Future<?> caller : callers)
+                assertEquals(1, caller.get(5, TimeUnit.SECONDS));
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.bytex.snamp.connector.attributes;
+
+import com.bytex.snamp.connector.metrics.AttributeMetricsRecorder;
+import com.google.common.collect.ImmutableMap;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author Roman Sakno
+ * @version 2.0
+ * @since 2.0
+ */
+public final class AttributeValueCacheTest extends Assert {
+    private static final class TestAttributeRepository extends AbstractAttributeRepository<MBeanAttributeInfo> {
+        private final AtomicInteger reads = new AtomicInteger(0);
+
+        private TestAttributeRepository() {
+            super("testResource", MBeanAttributeInfo.class);
+        }
+
+        @Override
+        protected MBeanAttributeInfo connectAttribute(final String attributeName, final AttributeDescriptor descriptor) {
+            return new MBeanAttributeInfo(attributeName, Integer.class.getName(), "", true, false, false, descriptor);
+        }
+
+        @Override
+        protected Integer getAttribute(final MBeanAttributeInfo metadata) {
+            return reads.incrementAndGet();
+        }
+
+        @Override
+        protected void setAttribute(final MBeanAttributeInfo attribute, final Object value) {
+            throw new UnsupportedOperationException();
+        }
+
+        private AttributeList getAttributesParallel(final ExecutorService executor, final String[] attributes) throws MBeanException {
+            return getAttributesParallel(executor, attributes, null);
+        }
+
+        //emulates batch reading used by JMX and SNMP connectors
+        private AttributeList getAttributesInBatch(final String[] attributes) {
+            final List<MBeanAttributeInfo> metadata = new ArrayList<>(attributes.length);
+            for (final String attributeName : attributes)
+                getAttributeInfo(attributeName).ifPresent(metadata::add);
+            final AttributeList result = new AttributeList(attributes.length);
+            for (final MBeanAttributeInfo attribute : readCachedAttributes(metadata, result))
+                result.add(new Attribute(attribute.getName(), getAttribute(attribute)));
+            return result;
+        }
+    }
+
+    @Test
+    public void cacheTtlTest(){
+        assertNull(AttributeDescriptor.EMPTY_DESCRIPTOR.getCacheTTL());
+        assertEquals(Duration.ofMillis(500), new AttributeDescriptor(null, ImmutableMap.of(AttributeSupport.CACHE_TTL_FIELD, "500")).getCacheTTL());
+        assertEquals(Duration.ofSeconds(2), new AttributeDescriptor(null, ImmutableMap.of(AttributeSupport.CACHE_TTL_FIELD, "PT2S")).getCacheTTL());
+        assertNull(new AttributeDescriptor(null, ImmutableMap.of(AttributeSupport.CACHE_TTL_FIELD, "0")).getCacheTTL());
+        assertEquals(Duration.ofSeconds(1), AttributeDescriptor.EMPTY_DESCRIPTOR.setCacheTTL(Duration.ofSeconds(1)).getCacheTTL());
+    }
+
+    @Test
+    public void hitAndMissTest() throws Exception {
+        final AttributeMetricsRecorder metrics = new AttributeMetricsRecorder();
+        final AttributeValueCache cache = new AttributeValueCache(metrics);
+        final AtomicInteger reads = new AtomicInteger(0);
+        for (int i = 0; i < 10; i++)
+            assertEquals(1, cache.get("attr", Duration.ofMinutes(1), reads::incrementAndGet));
+        assertEquals(1L, metrics.cacheMisses().getTotalRate());
+        assertEquals(9L, metrics.cacheHits().getTotalRate());
+        cache.invalidate("attr");
+        assertEquals(2, cache.get("attr", Duration.ofMinutes(1), reads::incrementAndGet));
+        assertEquals(2L, metrics.cacheMisses().getTotalRate());
+        //expired value
+        assertEquals(3, cache.get("attr", Duration.ofNanos(1L), reads::incrementAndGet));
+        Thread.sleep(1);
+        assertEquals(4, cache.get("attr", Duration.ofNanos(1L), reads::incrementAndGet));
+    }
+
+    @Test
+    public void failedReadTest() throws Exception {
+        final AttributeValueCache cache = new AttributeValueCache(new AttributeMetricsRecorder());
+        try {
+            cache.get("attr", Duration.ofMinutes(1), () -> {
+                throw new IOException("Connection refused");
+            });
+            fail("Exception expected");
+        } catch (final IOException e) {
+            assertEquals("Connection refused", e.getMessage());
+        }
+        assertEquals("value", cache.get("attr", Duration.ofMinutes(1), () -> "value"));
+    }
+
+    @Test
+    public void batchReadTest() throws Exception {
+        final TestAttributeRepository repository = new TestAttributeRepository();
+        repository.addAttribute("cached", new AttributeDescriptor(null, ImmutableMap.of(AttributeSupport.CACHE_TTL_FIELD, "PT1M")));
+        repository.addAttribute("uncached", AttributeDescriptor.EMPTY_DESCRIPTOR);
+        final String[] attributes = {"cached", "uncached"};
+        assertEquals(2, repository.getAttributes(attributes).size());
+        assertEquals(2, repository.reads.get());
+        assertEquals(2, repository.getAttributes().size());
+        assertEquals(3, repository.reads.get());
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            assertEquals(2, repository.getAttributesParallel(executor, attributes).size());
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(4, repository.reads.get());
+        assertEquals(2, repository.getAttributesInBatch(attributes).size());
+        assertEquals(5, repository.reads.get());
+        //cached attribute is read only once
+        assertEquals(1L, repository.getMetrics().cacheMisses().getTotalRate());
+        assertEquals(3L, repository.getMetrics().cacheHits().getTotalRate());
+    }
+}
@@ -1,6 +1,8 @@
 package com.bytex.snamp.connector.metrics;
 
 import com.bytex.snamp.io.IOUtils;
+import com.bytex.snamp.io.SerializationMode;
+import com.bytex.snamp.moa.DoubleHistogram;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -8,6 +10,7 @@ import java.io.IOException;
 import java.time.Duration;
 import java.util.Random;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * @author Roman Sakno
@@ -113,6 +116,33 @@ public final class SimpleMetricsTest extends Assert {
         assertEquals(Duration.ofMillis(1500), writer.getMaxValue());
     }
 
+    @Test
+    public void timingNanosTest(){
+        final RatedTimeRecorder writer = new RatedTimeRecorder("testMetrics");
+        writer.record(450_000_000L);
+        writer.record(500_000_000L);
+        writer.record(1500_000_000L);
+        assertEquals(Duration.ofMillis(1500), writer.getLastValue());
+        assertEquals(Duration.ofMillis(2450), writer.getSummaryValue());
+        assertEquals(Duration.ofMillis(2450), writer.getSummaryValue(MetricsInterval.MINUTE));
+        assertEquals(Duration.ofMillis(450), writer.getMinValue());
+        assertEquals(Duration.ofMillis(450), writer.getLastMinValue(MetricsInterval.MINUTE));
+        assertEquals(Duration.ofMillis(1500), writer.getLastMaxValue(MetricsInterval.MINUTE));
+        assertEquals(3L, writer.getTotalRate());
+    }
+
+    @Test
+    public void histogramTimingTest() throws IOException {
+        TimeRecorder writer = new TimeRecorder("testMetrics", new DoubleHistogram());
+        writer.accept(Duration.ofMillis(450));
+        writer.accept(Duration.ofMillis(500));
+        writer.accept(Duration.ofMillis(1500));
+        writer = IOUtils.deserialize(IOUtils.serialize(writer), TimeRecorder.class);
+        assertEquals(500, writer.getQuantile(0.5F).toMillis(), 5);
+        assertEquals(Duration.ofMillis(450), writer.getMinValue());
+        assertEquals(Duration.ofMillis(1500), writer.getMaxValue());
+    }
+
     @Test
     public void rateTest() throws InterruptedException {
         final RateRecorder writer = new RateRecorder("testMetrics");
@@ -131,6 +161,52 @@ public final class SimpleMetricsTest extends Assert {
         assertEquals(3L, writer.getMaxRate(MetricsInterval.SECOND));
     }
 
+    @Test
+    public void concurrentRateTest() throws InterruptedException {
+        final RateRecorder writer = new RateRecorder("testMetrics");
+        final Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++)
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 100_000; j++)
+                    writer.mark();
+            });
+        for (final Thread thread : threads)
+            thread.start();
+        for (final Thread thread : threads)
+            thread.join();
+        assertEquals(400_000L, writer.getTotalRate());
+        assertEquals(400_000L, writer.getLastRate(MetricsInterval.DAY));
+        assertEquals(400_000L, writer.clone().getTotalRate());
+        writer.reset();
+        assertEquals(0L, writer.getTotalRate());
+        assertEquals(0L, writer.getMaxRate(MetricsInterval.SECOND));
+    }
+
+    @Test
+    public void concurrentRotationRateTest() throws InterruptedException {
+        final RateRecorder writer = new RateRecorder("testMetrics");
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(2500L);
+        final AtomicLong marks = new AtomicLong(0L);
+        final Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++)
+            threads[i] = new Thread(() -> {
+                long count = 0L;
+                //increments racing with the rotation of seconds should not be lost
+                for (; System.nanoTime() < deadline; count++)
+                    writer.mark();
+                marks.addAndGet(count);
+            });
+        for (final Thread thread : threads)
+            thread.start();
+        while (System.nanoTime() < deadline)
+            writer.getLastRate(MetricsInterval.SECOND);
+        for (final Thread thread : threads)
+            thread.join();
+        assertEquals(marks.get(), writer.getTotalRate());
+        Thread.sleep(1001);
+        assertEquals(marks.get(), writer.getLastRate(MetricsInterval.DAY));
+    }
+
     @Test
     public void rateSerializationTest() throws IOException {
         RateRecorder writer = new RateRecorder("testMetrics");
@@ -156,6 +232,22 @@ public final class SimpleMetricsTest extends Assert {
         assertEquals(Duration.ofMillis(1500), writer.getMaxValue());
     }
 
+    @Test
+    public void compactSerializationTest() throws IOException {
+        RatedTimeRecorder writer = new RatedTimeRecorder("testMetrics");
+        writer.accept(Duration.ofMillis(450));
+        writer.accept(Duration.ofMillis(500));
+        writer.accept(Duration.ofMillis(1500));
+        final byte[] serializationData = IOUtils.serialize(writer, SerializationMode.COMPACT);
+        //class descriptors are not included into compact form
+        assertTrue(serializationData.length < IOUtils.serialize(writer).length);
+        writer = IOUtils.deserialize(serializationData, RatedTimeRecorder.class, getClass().getClassLoader(), SerializationMode.COMPACT);
+        assertEquals(Duration.ofMillis(1500), writer.getLastValue());
+        assertEquals(500, writer.getQuantile(0.5F).toMillis());
+        assertEquals(Duration.ofMillis(450), writer.getMinValue());
+        assertEquals(3, writer.getTotalRate());
+    }
+
     @Test
     public void ratedFlagSerializationTest() throws IOException {
         RatedFlagRecorder recorder = new RatedFlagRecorder("testMetrics");
@@ -0,0 +1,55 @@
+package com.bytex.snamp.core;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Represents tests for {@link LoggingScope}.
+ * @author Roman Sakno
+ * @version 2.0
+ * @since 2.0
+ */
+public final class LoggingScopeTest extends Assert {
+    private static final class DeferredScope extends LoggingScope {
+        private DeferredScope(final Object requester, final long startTime) {
+            super(requester, "deferredOperation", startTime);
+        }
+    }
+
+    @Test
+    public void deferredScopeTest() throws InterruptedException {
+        final long startTime = System.nanoTime();
+        Thread.sleep(50L);
+        final StringBuilder messages = new StringBuilder();
+        final Handler handler = new Handler() {
+            @Override
+            public void publish(final LogRecord record) {
+                messages.append(record.getMessage());
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        final DeferredScope scope;
+        try (final DeferredScope logger = scope = new DeferredScope(this, startTime)) {
+            logger.addHandler(handler);
+            logger.setUseParentHandlers(false);
+            logger.log(Level.WARNING, "Operation failed");
+        }
+        assertTrue(scope.getDuration(TimeUnit.MILLISECONDS) >= 50L);
+        //duration is fixed after closing
+        assertEquals(scope.getDuration(), scope.getDuration());
+        assertTrue(messages.toString().startsWith("Operation failed Context: "));
+        assertTrue(messages.toString().contains("name=deferredOperation"));
+    }
+}
@@ -0,0 +1,74 @@
+package com.bytex.snamp.gateway.modeling;
+
+import com.bytex.snamp.connector.attributes.AttributeModifiedEvent;
+import com.bytex.snamp.connector.attributes.AttributeSupport;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.MBeanAttributeInfo;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Represents tests for {@link AttributeAccessor}.
+ * @author Roman Sakno
+ * @version 2.0
+ * @since 2.0
+ */
+public final class AttributeAccessorTest extends Assert {
+    private static AttributeSupport createResource(final Map<String, ?> attributes, final AtomicInteger requests) {
+        return (AttributeSupport) Proxy.newProxyInstance(AttributeSupport.class.getClassLoader(),
+                new Class<?>[]{AttributeSupport.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("getAttributes") && args != null && args.length == 1) {
+                        requests.incrementAndGet();
+                        final AttributeList result = new AttributeList();
+                        for (final String name : (String[]) args[0])
+                            if (attributes.containsKey(name))
+                                result.add(new Attribute(name, attributes.get(name)));
+                        return result;
+                    } else if (method.getName().equals("hashCode"))
+                        return System.identityHashCode(proxy);
+                    else if (method.getName().equals("equals"))
+                        return proxy == args[0];
+                    else
+                        throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static AttributeAccessor connect(final String attributeName, final AttributeSupport resource) {
+        final MBeanAttributeInfo metadata = new MBeanAttributeInfo(attributeName, String.class.getName(), "", true, false, false);
+        final AttributeAccessor accessor = new AttributeAccessor(metadata);
+        accessor.processEvent(AttributeModifiedEvent.attributedAdded(resource, "resource", metadata));
+        return accessor;
+    }
+
+    @Test
+    public void bulkReadTest() {
+        final AtomicInteger requests = new AtomicInteger(0);
+        final AttributeSupport resource1 = createResource(ImmutableMap.of("a", "1", "b", "2"), requests);
+        final AttributeSupport resource2 = createResource(ImmutableMap.of("c", "3"), requests);
+        final AttributeAccessor a = connect("a", resource1), b = connect("b", resource1), c = connect("c", resource2),
+                missing = connect("d", resource2);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Map<AttributeAccessor, Object> values = AttributeAccessor.getValues(ImmutableList.of(a, b, c, missing), executor);
+            assertEquals(3, values.size());
+            assertEquals("1", values.get(a));
+            assertEquals("2", values.get(b));
+            assertEquals("3", values.get(c));
+            assertFalse(values.containsKey(missing));
+            //single request per resource
+            assertEquals(2, requests.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
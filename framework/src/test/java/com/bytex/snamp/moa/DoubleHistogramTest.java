@@ -0,0 +1,135 @@
+package com.bytex.snamp.moa;
+
+import com.bytex.snamp.io.IOUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.OptionalInt;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Represents test for {@link DoubleHistogram}.
+ * @author Roman Sakno
+ * @version 2.0
+ * @since 2.0
+ */
+public final class DoubleHistogramTest extends Assert {
+    @Test
+    public void simpleTest(){
+        final DoubleHistogram histogram = new DoubleHistogram();
+        histogram.add(10);
+        histogram.add(20);
+        histogram.add(30);
+        histogram.add(5);
+        histogram.add(3);
+        histogram.add(15);
+        histogram.add(18);
+        histogram.add(19);
+        histogram.add(32);
+        histogram.add(26);
+        assertEquals(10, histogram.getSize());
+        assertEquals(17.8D, histogram.getMean(), 0.01D);
+        assertEquals(17.8D, histogram.applyAsDouble(ReduceOperation.MEAN), 0.01D);
+        assertEquals(3D, histogram.getMin(), 0.001D);
+        assertEquals(32D, histogram.getMax(), 0.001D);
+        assertEquals(178D, histogram.getSum(), 0.001D);
+        assertEquals(18.5D, histogram.getQuantile(0.5F), 0.5D);
+    }
+
+    @Test
+    public void quantileTest(){
+        final DoubleHistogram histogram = new DoubleHistogram();
+        for (int i = 1; i <= 10000; i++)
+            histogram.accept(i);
+        assertEquals(5000D, histogram.getQuantile(0.5F), 50D);
+        assertEquals(9000D, histogram.getQuantile(0.9F), 90D);
+        assertEquals(9900D, histogram.getQuantile(0.99F), 99D);
+        assertEquals(2886.75D, histogram.getDeviation(), 0.01D);
+        assertEquals(0.1D, histogram.greaterThanOrEqualValues(9001D), 0.01D);
+        assertEquals(0.5D, histogram.lessThanOrEqualValues(5000D), 0.01D);
+    }
+
+    @Test
+    public void negativeValuesTest(){
+        final DoubleHistogram histogram = new DoubleHistogram();
+        histogram.add(-5D);
+        histogram.add(0D);
+        histogram.add(5D);
+        assertEquals(-5D, histogram.getAsDouble(0), 0.1D);
+        assertEquals(0D, histogram.getAsDouble(1), 0.1D);
+        assertEquals(5D, histogram.getAsDouble(2), 0.1D);
+        final OptionalInt index = histogram.find(0D);
+        assertTrue(index.isPresent());
+        assertEquals(1, index.getAsInt());
+        assertFalse(histogram.find(100D).isPresent());
+    }
+
+    @Test
+    public void mergeTest(){
+        final DoubleHistogram first = new DoubleHistogram();
+        final DoubleHistogram second = new DoubleHistogram();
+        for (int i = 0; i < 100; i++) {
+            first.add(i);
+            second.add(i + 100);
+        }
+        first.merge(second);
+        assertEquals(200, first.getSize());
+        assertEquals(0D, first.getMin(), 0.001D);
+        assertEquals(199D, first.getMax(), 0.001D);
+        assertEquals(99.5D, first.getMean(), 0.001D);
+        assertEquals(100D, first.getQuantile(0.5F), 2D);
+    }
+
+    @Test
+    public void concurrentRecordingTest() throws InterruptedException {
+        final DoubleHistogram histogram = new DoubleHistogram();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int thread = 0; thread < 4; thread++)
+            executor.execute(() -> {
+                for (int i = 1; i <= 10000; i++)
+                    histogram.add(i);
+            });
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(40000, histogram.getSize());
+        assertEquals(5000D, histogram.getQuantile(0.5F), 50D);
+    }
+
+    @Test
+    public void serializationTest() throws IOException {
+        final DoubleHistogram histogram = new DoubleHistogram();
+        for (int i = 1; i <= 100; i++)
+            histogram.add(i);
+        final DoubleHistogram copy = IOUtils.deserialize(IOUtils.serialize(histogram), DoubleHistogram.class);
+        assertEquals(histogram.getSize(), copy.getSize());
+        assertEquals(histogram.getMean(), copy.getMean(), 0.001D);
+        assertEquals(histogram.getQuantile(0.9F), copy.getQuantile(0.9F), 0.001D);
+        final DoubleHistogram clone = histogram.clone();
+        clone.add(1000D);
+        assertEquals(100, histogram.getSize());
+        assertEquals(101, clone.getSize());
+    }
+
+    @Test
+    public void toArrayTest() {
+        final DoubleHistogram histogram = new DoubleHistogram();
+        for (int i = 0; i < 100_000; i++)
+            histogram.add(i % 10 + 1);
+        final double[][] buckets = (double[][]) histogram.toArray();
+        //size of the array depends on the number of buckets only
+        assertEquals(10, buckets.length);
+        double previousBound = Double.NEGATIVE_INFINITY;
+        long total = 0L;
+        for (final double[] bucket : buckets) {
+            assertEquals(3, bucket.length);
+            assertTrue(bucket[0] <= bucket[1]);
+            assertTrue(bucket[0] >= previousBound);
+            previousBound = bucket[1];
+            total += (long) bucket[2];
+        }
+        assertEquals(100_000L, total);
+    }
+}
@@ -1,8 +1,11 @@
 package com.bytex.snamp.moa;
 
+import com.bytex.snamp.io.IOUtils;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.OptionalInt;
 
 /**
@@ -30,6 +33,25 @@ public final class DoubleReservoirTest extends Assert {
         assertEquals(15D, reservoir.applyAsDouble(ReduceOperation.MAX), 0.1D);
     }
 
+    @Test
+    public void serializationTest() throws IOException {
+        final DoubleReservoir reservoir = new DoubleReservoir(1024);
+        reservoir.add(10D);
+        reservoir.add(20D);
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        IOUtils.serialize(reservoir, output);
+        final byte[] serializedForm = output.toByteArray();
+        //only occupied part of the reservoir should be serialized
+        assertTrue(serializedForm.length < 1024);
+        final DoubleReservoir deserialized = IOUtils.deserialize(serializedForm, DoubleReservoir.class);
+        assertEquals(2, deserialized.getSize());
+        assertEquals(1024, deserialized.getCapacity());
+        assertEquals(10D, deserialized.getMin(), 0.1D);
+        assertEquals(20D, deserialized.getMax(), 0.1D);
+        deserialized.add(15D);
+        assertEquals(3, deserialized.getSize());
+    }
+
     @Test
     public void simpleTest(){
         final DoubleReservoir reservoir = new DoubleReservoir(15);
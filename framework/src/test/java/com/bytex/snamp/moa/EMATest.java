@@ -5,6 +5,9 @@ import org.junit.Test;
 
 import java.math.MathContext;
 import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Represents tests for {@link DoubleEWMA}.
@@ -42,4 +45,40 @@ public final class EMATest extends Assert {
 
         assertEquals(2.7D, ema.doubleValue(), 0.1D);
     }
+
+    @Test
+    public void multiIntervalEmaTest() throws InterruptedException {
+        final MultiIntervalEWMA ema = new MultiIntervalEWMA(Duration.ofMillis(300), Duration.ofSeconds(10));
+        Thread.sleep(100);
+        ema.accept(3);
+
+        Thread.sleep(100);
+        ema.accept(3);
+
+        Thread.sleep(100);
+        ema.accept(2);
+
+        assertEquals(2.7D, ema.doubleValue(0), 0.1D);
+        assertEquals(ema.doubleValue(0), ema.doubleValue(), 0D);
+        assertEquals(2.99D, ema.doubleValue(1), 0.01D);
+        final MultiIntervalEWMA clone = ema.clone();
+        assertEquals(ema.doubleValue(1), clone.doubleValue(1), 0D);
+        ema.reset();
+        assertEquals(0D, ema.doubleValue(1), 0D);
+    }
+
+    @Test
+    public void multiIntervalEmaConcurrencyTest() throws InterruptedException {
+        final MultiIntervalEWMA ema = new MultiIntervalEWMA(Duration.ofSeconds(1), Duration.ofMinutes(1));
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int thread = 0; thread < 4; thread++)
+            executor.execute(() -> {
+                for (int i = 0; i < 100_000; i++)
+                    ema.accept(42D);
+            });
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(42D, ema.doubleValue(0), 0.0001D);
+        assertEquals(42D, ema.doubleValue(1), 0.0001D);
+    }
 }
@@ -0,0 +1,45 @@
+package com.bytex.snamp.moa;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Measures throughput of recording values into {@link MultiIntervalEWMA}.
+ * <p>
+ *     This test is disabled by default. Use "Throughput test" profile to run it.
+ */
+public final class MultiIntervalEWMAThroughputTest extends Assert {
+    private static final String THROUGHPUT_TEST_PROPERTY = "com.bytex.snamp.moa.throughput.test";
+    private static final int THREADS = 4;
+
+    @Test
+    public void recordingThroughputTest() throws InterruptedException {
+        Assume.assumeTrue("Throughput test is disabled. Please check the profile if needed", Boolean.getBoolean(THROUGHPUT_TEST_PROPERTY));
+        final int valuesCount = 5_000_000;
+        final MultiIntervalEWMA ema = new MultiIntervalEWMA(Duration.ofSeconds(1L), Duration.ofMinutes(1L), Duration.ofMinutes(5L),
+                Duration.ofMinutes(15L), Duration.ofHours(1L), Duration.ofHours(12L), Duration.ofDays(1L));
+        //warm up
+        for (int i = 0; i < valuesCount / 5; i++)
+            ema.accept(42D);
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        final long startTime = System.nanoTime();
+        for (int thread = 0; thread < THREADS; thread++)
+            executor.execute(() -> {
+                for (int i = 0; i < valuesCount; i++)
+                    ema.accept(42D);
+            });
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        final double valuesPerSecond = THREADS * valuesCount / ((System.nanoTime() - startTime) / 1E9);
+        Logger.getLogger(getClass().getName()).info(String.format("EWMA recording throughput: %.0f values/s", valuesPerSecond));
+        for (int i = 0; i < ema.size(); i++)
+            assertEquals(42D, ema.doubleValue(i), 0.0001D);
+    }
+}
@@ -0,0 +1,100 @@
+package com.bytex.snamp.gateway.snmp;
+
+import com.bytex.snamp.gateway.modeling.AttributeAccessor;
+import org.snmp4j.CommandResponderEvent;
+import org.snmp4j.PDU;
+import org.snmp4j.agent.CommandProcessor;
+import org.snmp4j.agent.mo.snmp.CoexistenceInfo;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.OctetString;
+
+import javax.management.JMException;
+import java.util.*;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Represents command processor which prefetches attributes covered by GETNEXT and GETBULK requests.
+ * <p>
+ *     Before processing of the request, processor resolves scalar objects covered by the request
+ *     and reads their attributes in bulk, using a single request per managed resource.
+ *     Managed objects answer variable bindings from this request-scoped snapshot
+ *     instead of sequential reading of each attribute.
+ * @author Roman Sakno
+ * @version 2.0
+ * @since 2.0
+ */
+final class PrefetchingCommandProcessor extends CommandProcessor {
+    private static final int MAX_PREFETCH_SIZE = 1000;
+    private static final ThreadLocal<Map<AttributeAccessor, Object>> SNAPSHOT = new ThreadLocal<>();
+
+    private final ConcurrentNavigableMap<OID, SnmpAttributeAccessor> scalars;   //instance OID of the scalar -> accessor
+    private final ExecutorService threadPool;
+
+    PrefetchingCommandProcessor(final OctetString contextEngineID, final ExecutorService threadPool) {
+        super(contextEngineID);
+        this.threadPool = Objects.requireNonNull(threadPool);
+        scalars = new ConcurrentSkipListMap<>();
+    }
+
+    /**
+     * Registers scalar object to be prefetched.
+     * @param instanceID Instance OID of the scalar object, including trailing zero.
+     * @param accessor Accessor of the attribute.
+     */
+    void registerScalar(final OID instanceID, final SnmpAttributeAccessor accessor) {
+        scalars.put(instanceID, accessor);
+    }
+
+    void unregisterScalar(final SnmpAttributeAccessor accessor) {
+        scalars.values().remove(accessor);
+    }
+
+    /**
+     * Gets value of the attribute prefetched by the current request or reads it directly.
+     * @param accessor Attribute to read.
+     * @return The value of the attribute.
+     * @throws JMException Unable to read attribute.
+     */
+    static Object getValue(final AttributeAccessor accessor) throws JMException {
+        final Map<AttributeAccessor, Object> snapshot = SNAPSHOT.get();
+        return snapshot != null && snapshot.containsKey(accessor) ? snapshot.get(accessor) : accessor.getValue();
+    }
+
+    private void collectNext(final OID oid, final int count, final Set<AttributeAccessor> output) {
+        int remaining = count;
+        for (final Iterator<SnmpAttributeAccessor> accessors = scalars.tailMap(oid, false).values().iterator(); accessors.hasNext() && remaining > 0 && output.size() < MAX_PREFETCH_SIZE; remaining--)
+            output.add(accessors.next());
+    }
+
+    Set<AttributeAccessor> resolveScalars(final PDU pdu) {
+        final Set<AttributeAccessor> result = new LinkedHashSet<>();
+        switch (pdu.getType()) {
+            case PDU.GETNEXT:
+                for (int i = 0; i < pdu.size(); i++)
+                    collectNext(pdu.get(i).getOid(), 1, result);
+                break;
+            case PDU.GETBULK:
+                final int nonRepeaters = Math.min(Math.max(pdu.getNonRepeaters(), 0), pdu.size());
+                for (int i = 0; i < pdu.size(); i++)
+                    collectNext(pdu.get(i).getOid(), i < nonRepeaters ? 1 : Math.max(pdu.getMaxRepetitions(), 0), result);
+                break;
+        }
+        return result;
+    }
+
+    @Override
+    protected void dispatchCommand(final CommandResponderEvent request, final CoexistenceInfo cinfo) {
+        final Set<AttributeAccessor> attributes = resolveScalars(request.getPDU());
+        if (attributes.size() > 1) {  //nothing to prefetch for the single attribute
+            SNAPSHOT.set(AttributeAccessor.getValues(attributes, threadPool));
+            try {
+                super.dispatchCommand(request, cinfo);
+            } finally {
+                SNAPSHOT.remove();
+            }
+        } else
+            super.dispatchCommand(request, cinfo);
+    }
+}
@@ -43,20 +43,20 @@ final class SnmpAgent extends BaseAgent implements SnmpNotificationListener, Gat
     private final ExecutorService threadPool;
     private final SecurityConfiguration security;
     private final OID prefix;
-
-    SnmpAgent(final OID prefix,
-            final OctetString engineID,
-            final int port,
-            final String hostName,
-            final SecurityConfiguration securityOptions,
-            final int socketTimeout,
-            final ExecutorService threadPool) {
+    private final PrefetchingCommandProcessor processor;
+
+    private SnmpAgent(final OID prefix,
+                      final int port,
+                      final String hostName,
+                      final SecurityConfiguration securityOptions,
+                      final int socketTimeout,
+                      final ExecutorService threadPool,
+                      final PrefetchingCommandProcessor processor) {
 		// These files does not exist and are not used but has to be specified
 		// Read snmp4j docs for more info
-		super(new File("conf.agent"), null,
-                new CommandProcessor(
-                        new OctetString(engineID)));
-        this.threadPool = Objects.requireNonNull(threadPool);
+		super(new File("conf.agent"), null, processor);
+        this.processor = processor;
+        this.threadPool = threadPool;
         coldStart = true;
         this.hostName = hostName;
         this.port = port;
@@ -65,11 +65,31 @@ final class SnmpAgent extends BaseAgent implements SnmpNotificationListener, Gat
         this.prefix = prefix;
 	}
 
+    SnmpAgent(final OID prefix,
+              final OctetString engineID,
+              final int port,
+              final String hostName,
+              final SecurityConfiguration securityOptions,
+              final int socketTimeout,
+              final ExecutorService threadPool) {
+        this(prefix,
+                port,
+                hostName,
+                securityOptions,
+                socketTimeout,
+                threadPool,
+                new PrefetchingCommandProcessor(new OctetString(engineID), Objects.requireNonNull(threadPool)));
+    }
+
     void registerManagedObject(final SnmpAttributeAccessor accessor) throws DuplicateRegistrationException {
-        accessor.registerManagedObject(prefix, server);
+        final SnmpAttributeMapping mapping = accessor.registerManagedObject(prefix, server);
+        //scalar objects can be prefetched by GETNEXT and GETBULK requests
+        if (mapping instanceof SnmpScalarObject<?>)
+            processor.registerScalar(((SnmpScalarObject<?>) mapping).getOid(), accessor);
     }
 
     ManagedObject unregisterManagedObject(final SnmpAttributeAccessor accessor) {
+        processor.unregisterScalar(accessor);
         return accessor.unregisterManagedObject(server);
     }
 
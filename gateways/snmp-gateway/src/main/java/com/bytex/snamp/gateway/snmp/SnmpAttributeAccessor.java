@@ -7,6 +7,7 @@ import org.snmp4j.agent.ManagedObject;
 import org.snmp4j.smi.OID;
 
 import javax.management.MBeanAttributeInfo;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -24,6 +25,12 @@ abstract class SnmpAttributeAccessor extends AttributeAccessor implements SnmpEn
 
     abstract ManagedObject unregisterManagedObject(final MOServer server);
 
+    /**
+     * Gets properties of the registered managed object.
+     * @return Properties of the registered managed object; or empty map if the object is not registered.
+     */
+    abstract Map<String, ?> getBindingProperties();
+
     final SnmpType getSnmpType(){
         return SnmpType.map(getType());
     }
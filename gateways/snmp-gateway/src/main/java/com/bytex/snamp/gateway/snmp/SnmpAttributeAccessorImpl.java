@@ -1,10 +1,12 @@
 package com.bytex.snamp.gateway.snmp;
 
 import com.bytex.snamp.internal.Utils;
+import com.google.common.collect.ImmutableMap;
 import org.snmp4j.agent.*;
 import org.snmp4j.smi.OID;
 
 import javax.management.MBeanAttributeInfo;
+import java.util.Map;
 
 
 /**
@@ -14,6 +16,7 @@ import javax.management.MBeanAttributeInfo;
  */
 final class SnmpAttributeAccessorImpl extends SnmpAttributeAccessor {
     private final OID attributeID;
+    private volatile SnmpAttributeMapping mapping;
 
     SnmpAttributeAccessorImpl(final MBeanAttributeInfo metadata) {
         super(metadata);
@@ -30,7 +33,7 @@ final class SnmpAttributeAccessorImpl extends SnmpAttributeAccessor {
             server.register(mapping, null);
         }
         else mapping = null;
-        return mapping;
+        return this.mapping = mapping;
     }
 
     private static ManagedObject unregisterManagedObject(final OID attributeID,
@@ -44,9 +47,16 @@ final class SnmpAttributeAccessorImpl extends SnmpAttributeAccessor {
 
     @Override
     ManagedObject unregisterManagedObject(final MOServer server) {
+        mapping = null;
         return unregisterManagedObject(attributeID, server);
     }
 
+    @Override
+    Map<String, ?> getBindingProperties() {
+        final SnmpAttributeMapping mapping = this.mapping;
+        return mapping == null ? ImmutableMap.of() : mapping.getBindingProperties();
+    }
+
     @Override
     public OID getID() {
         return attributeID;
@@ -1,6 +1,7 @@
 package com.bytex.snamp.gateway.snmp;
 
 import com.bytex.snamp.gateway.modeling.AttributeAccessor;
+import com.google.common.collect.ImmutableMap;
 import org.snmp4j.agent.DuplicateRegistrationException;
 import org.snmp4j.agent.MOServer;
 import org.snmp4j.agent.ManagedObjectValueAccess;
@@ -8,6 +9,7 @@ import org.snmp4j.agent.RegisteredManagedObject;
 import org.snmp4j.smi.OID;
 
 import javax.management.MBeanAttributeInfo;
+import java.util.Map;
 
 /**
  * Represents SNMP mapping for the management connector attribute.
@@ -16,4 +18,12 @@ import javax.management.MBeanAttributeInfo;
 interface SnmpAttributeMapping extends ManagedObjectValueAccess, RegisteredManagedObject, SnmpEntity<MBeanAttributeInfo> {
     boolean connect(final OID context, final MOServer server) throws DuplicateRegistrationException;
     AttributeAccessor disconnect(final MOServer server);
+
+    /**
+     * Gets properties describing the state of this mapping, such as statistics of updates.
+     * @return Properties of this mapping exposed via binding of the attribute.
+     */
+    default Map<String, ?> getBindingProperties() {
+        return ImmutableMap.of();
+    }
 }
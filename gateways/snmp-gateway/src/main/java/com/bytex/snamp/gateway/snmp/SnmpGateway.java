@@ -7,6 +7,7 @@ import com.bytex.snamp.gateway.modeling.AttributeAccessor;
 import com.bytex.snamp.gateway.modeling.FeatureAccessor;
 import com.bytex.snamp.gateway.modeling.NotificationAccessor;
 import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Multimap;
 import org.osgi.service.jndi.JNDIContextManager;
 import org.snmp4j.agent.DuplicateRegistrationException;
@@ -229,8 +230,11 @@ final class SnmpGateway extends AbstractGateway {
         for(final String resourceName: attributes.keySet())
             for(final SnmpAttributeAccessor accessor: attributes.get(resourceName))
                 result.put(resourceName, new ReadOnlyFeatureBindingInfo<>(accessor,
-                        FeatureBindingInfo.MAPPED_TYPE, accessor.getSnmpType(),
-                        "OID", accessor.getID()
+                        ImmutableMap.<String, Object>builder()
+                                .put(FeatureBindingInfo.MAPPED_TYPE, accessor.getSnmpType())
+                                .put("OID", accessor.getID())
+                                .putAll(accessor.getBindingProperties())   //such as statistics of table refreshes
+                                .build()
                         ));
         return result;
     }
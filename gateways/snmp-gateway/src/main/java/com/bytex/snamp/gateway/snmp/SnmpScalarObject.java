@@ -33,8 +33,9 @@ abstract class SnmpScalarObject<T extends Variable> extends MOScalar<T> implemen
     private static final class SnmpWriteAttributeLoggingScope extends WriteAttributeLoggingScope {
 
         private SnmpWriteAttributeLoggingScope(final AttributeAccessor accessor,
-                                               final OID oid){
-            super(accessor, accessor.getName(), oid.toString());
+                                               final OID oid,
+                                               final long startTime){
+            super(accessor, accessor.getName(), oid.toString(), startTime);
         }
 
         private void failedToWrite(final JMException e){
@@ -44,8 +45,9 @@ abstract class SnmpScalarObject<T extends Variable> extends MOScalar<T> implemen
 
     private static final class SnmpReadAttributeLoggingScope extends ReadAttributeLoggingScope {
         private SnmpReadAttributeLoggingScope(final AttributeAccessor accessor,
-                                              final OID oid){
-            super(accessor, accessor.getName(), oid.toString());
+                                              final OID oid,
+                                              final long startTime){
+            super(accessor, accessor.getName(), oid.toString(), startTime);
         }
 
         private void failedToRead(final JMException e){
@@ -102,14 +104,15 @@ abstract class SnmpScalarObject<T extends Variable> extends MOScalar<T> implemen
     @Override
     public final T getValue() {
         Object result;
-        final SnmpReadAttributeLoggingScope logger = new SnmpReadAttributeLoggingScope(accessor, getOid());
+        final long startTime = System.nanoTime();
         try {
-            result = accessor.getValue();
+            result = PrefetchingCommandProcessor.getValue(accessor);
         } catch (final JMException e) {
-            logger.failedToRead(e);
+            //logging scope is created only on failure so successful reading allocates nothing
+            try (final SnmpReadAttributeLoggingScope logger = new SnmpReadAttributeLoggingScope(accessor, getOid(), startTime)) {
+                logger.failedToRead(e);
+            }
             result = getDefaultValue();
-        } finally {
-            logger.close();
         }
         return result == null ? getDefaultValue() : convert(result);
     }
@@ -123,16 +126,15 @@ abstract class SnmpScalarObject<T extends Variable> extends MOScalar<T> implemen
     @Override
     public final int setValue(final T value) {
         int result;
-        final SnmpWriteAttributeLoggingScope logger =
-                new SnmpWriteAttributeLoggingScope(accessor, getOid());
+        final long startTime = System.nanoTime();
         try {
             accessor.setValue(convert(value));
             result = SnmpConstants.SNMP_ERROR_SUCCESS;
         } catch (final JMException e) {
-            logger.failedToWrite(e);
+            try (final SnmpWriteAttributeLoggingScope logger = new SnmpWriteAttributeLoggingScope(accessor, getOid(), startTime)) {
+                logger.failedToWrite(e);
+            }
             result = SnmpConstants.SNMP_ERROR_RESOURCE_UNAVAILABLE;
-        } finally {
-            logger.close();
         }
         return result;
     }
@@ -1,13 +1,13 @@
 package com.bytex.snamp.gateway.snmp;
 
 import com.bytex.snamp.ArrayUtils;
-import com.bytex.snamp.IntBox;
 import com.bytex.snamp.SpecialUse;
 import com.bytex.snamp.core.LoggerProvider;
 import com.bytex.snamp.gateway.modeling.AttributeAccessor;
 import com.bytex.snamp.internal.Utils;
 import com.bytex.snamp.jmx.TabularDataUtils;
 import com.google.common.base.Stopwatch;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
@@ -179,10 +179,24 @@ final class SnmpTableObject extends DefaultMOTable<DefaultMOMutableRow2PC, MONam
         private Object updateSource;
         private Date updateTimeStamp;
         private final Stopwatch timer;
+        private final AtomicLong refreshCount;
+        private final AtomicLong refreshDuration;   //summary duration of all refreshes, in nanos
+        private volatile long lastRefreshDuration;  //in nanos
+        private final AtomicLong changedRows;
 
         private UpdateManager(final Duration initial){
             tableCacheTime = initial;
             timer = Stopwatch.createUnstarted();
+            refreshCount = new AtomicLong(0L);
+            refreshDuration = new AtomicLong(0L);
+            changedRows = new AtomicLong(0L);
+        }
+
+        private void refreshCompleted(final long duration, final int changedRows) {
+            refreshCount.incrementAndGet();
+            refreshDuration.addAndGet(duration);
+            lastRefreshDuration = duration;
+            this.changedRows.addAndGet(changedRows);
         }
 
         private boolean stop() {
@@ -225,8 +239,83 @@ final class SnmpTableObject extends DefaultMOTable<DefaultMOMutableRow2PC, MONam
         }
     }
 
+    /**
+     * Represents incremental update of the table rows.
+     * <p>
+     *     Rows are identified by their position in the attribute value rather than by the index of {@link TabularType}.
+     *     The row at position {@code i} has index {@code i + 1} so rows of arrays and composite data start from {@code .1}
+     *     while rows of tabular data start from {@code .2}. This is the same layout as before incremental updates.
+     *     Rows of tabular data are positioned in order of their index values, so the position of the row doesn't depend
+     *     on the iteration order of tabular data.
+     *     Rows are compared with the existing rows at the same position. Only changed cells are replaced,
+     *     so unchanged rows keep their cell values. Missing rows are added and redundant rows are removed.
+     *     Insertion or removal of a row in the middle of tabular data shifts all subsequent rows so they are counted as changed.
+     */
+    static final class TableUpdate {
+        private final MOTable<DefaultMOMutableRow2PC, MONamedColumn, MOTableModel<DefaultMOMutableRow2PC>> table;
+        private final int firstRow;
+        private int nextRow;
+        private int changedRows;
+
+        TableUpdate(final MOTable<DefaultMOMutableRow2PC, MONamedColumn, MOTableModel<DefaultMOMutableRow2PC>> table,
+                    final int firstRow) {
+            this.table = table;
+            this.firstRow = nextRow = firstRow;
+        }
+
+        /**
+         * Gets number of rows put by this update.
+         * @return Number of rows.
+         */
+        int getRowCount() {
+            return nextRow - firstRow;
+        }
+
+        void putRow(final Variable[] cells) {
+            final OID rowID = makeRowID(nextRow++);
+            final DefaultMOMutableRow2PC row = table.getModel().getRow(rowID);
+            if (row == null) {
+                table.addRow(table.createRow(rowID, cells));
+                changedRows += 1;
+                return;
+            }
+            boolean changed = false;
+            for (int columnIndex = 0; columnIndex < cells.length; columnIndex++)
+                if (!Objects.equals(row.getValue(columnIndex), cells[columnIndex])) {
+                    row.setValue(columnIndex, cells[columnIndex]);
+                    changed = true;
+                }
+            if (changed)
+                changedRows += 1;
+        }
+
+        /**
+         * Removes rows not put by this update.
+         * @return Number of added, changed or removed rows.
+         */
+        int complete() {
+            final MOTableModel<DefaultMOMutableRow2PC> model = table.getModel();
+            if (model.getRowCount() > getRowCount()) {
+                final List<OID> rowsToDelete = new ArrayList<>(model.getRowCount() - getRowCount());
+                final int firstIndex = makeRowID(firstRow).get(0), lastIndex = makeRowID(nextRow - 1).get(0);
+                for (final Iterator<DefaultMOMutableRow2PC> rows = model.iterator(); rows.hasNext(); ) {
+                    final OID rowID = rows.next().getIndex();
+                    if (rowID.get(0) < firstIndex || rowID.get(0) > lastIndex)
+                        rowsToDelete.add(rowID);
+                }
+                rowsToDelete.forEach(table::removeRow);
+                changedRows += rowsToDelete.size();
+            }
+            return changedRows;
+        }
+    }
+
     private final AttributeAccessor _connector;
     private static final String TABLE_CACHE_TIME_PARAM = "tableCacheTime";
+    private static final String REFRESH_COUNT_PROPERTY = "tableRefreshCount";
+    private static final String REFRESH_DURATION_PROPERTY = "tableRefreshDuration";
+    private static final String LAST_REFRESH_DURATION_PROPERTY = "lastTableRefreshDuration";
+    private static final String CHANGED_ROWS_PROPERTY = "changedTableRows";
     private static final String USE_ROW_STATUS_PARAM = "useRowStatus";
     private final UpdateManager cacheManager;
 
@@ -329,29 +418,49 @@ final class SnmpTableObject extends DefaultMOTable<DefaultMOMutableRow2PC, MONam
     }
 
     private static Object fill(final AttributeAccessor connector,
-                               final MOTable<DefaultMOMutableRow2PC, MONamedColumn, MOTableModel<DefaultMOMutableRow2PC>> table) throws JMException{
+                               final TableUpdate update) throws JMException{
         final Object lastUpdateSource;
         final OpenType<?> ot = connector.getOpenType();
             if (ot instanceof ArrayType<?>) {
-                fill(lastUpdateSource = connector.getValue(), table, connector.getMetadata());
+                fill(lastUpdateSource = connector.getValue(), update, connector.getMetadata());
             } else if (ot instanceof CompositeType) {
                 lastUpdateSource = connector.getValue(CompositeData.class);
-                fill((CompositeData) lastUpdateSource, table, connector.getMetadata());
+                fill((CompositeData) lastUpdateSource, update, connector.getMetadata());
             } else if (ot instanceof TabularType) {
                 lastUpdateSource = connector.getValue(TabularData.class);
-                fill((TabularData) lastUpdateSource, table, connector.getMetadata());
+                fill((TabularData) lastUpdateSource, update, connector.getMetadata());
             } else {
-                LoggerProvider.getLoggerForObject(connector).warning(() -> String.format("Source attribute table %s is not supported", table.getOID()));
+                LoggerProvider.getLoggerForObject(connector).warning(() -> String.format("Source attribute table %s is not supported", update.table.getOID()));
                 lastUpdateSource = null;
             }
         return lastUpdateSource;
     }
 
-    private static void fill(final TabularData data,
-                             final MOTable<DefaultMOMutableRow2PC, MONamedColumn, MOTableModel<DefaultMOMutableRow2PC>> table,
-                             final DescriptorRead conversionOptions){
-        final IntBox rowIndex = IntBox.of(1);
-        TabularDataUtils.forEachRow(data, row -> {
+    @SuppressWarnings("unchecked")
+    private static int compareIndexValues(final Object value1, final Object value2) {
+        if (value1 instanceof Comparable<?> && value2 != null && value1.getClass().equals(value2.getClass()))
+            return ((Comparable<Object>) value1).compareTo(value2);
+        else
+            return String.valueOf(value1).compareTo(String.valueOf(value2));
+    }
+
+    private static int compareIndexes(final Object[] index1, final Object[] index2) {
+        for (int i = 0; i < Math.min(index1.length, index2.length); i++) {
+            final int result = compareIndexValues(index1[i], index2[i]);
+            if (result != 0)
+                return result;
+        }
+        return Integer.compare(index1.length, index2.length);
+    }
+
+    static void fill(final TabularData data,
+                     final TableUpdate update,
+                     final DescriptorRead conversionOptions){
+        final MOTable<DefaultMOMutableRow2PC, MONamedColumn, MOTableModel<DefaultMOMutableRow2PC>> table = update.table;
+        //iteration order of tabular data is not specified so rows are sorted to keep their positions between updates
+        final List<CompositeData> rows = TabularDataUtils.getRows(data);
+        rows.sort((row1, row2) -> compareIndexes(data.calculateIndex(row1), data.calculateIndex(row2)));
+        rows.forEach(row -> {
             final List<Variable> cells = Lists.newArrayListWithExpectedSize(table.getColumnCount());
             for (int columnIndex = 0; columnIndex < table.getColumnCount(); columnIndex++) {
                 final MONamedColumn columnDef = table.getColumn(columnIndex);
@@ -362,25 +471,27 @@ final class SnmpTableObject extends DefaultMOTable<DefaultMOMutableRow2PC, MONam
                     cells.add(columnIndex, cell);
                 }
             }
-            table.addRow(table.createRow(makeRowID(rowIndex.getAndIncrement()), cells.toArray(emptyArray(Variable[].class))));
+            update.putRow(cells.toArray(emptyArray(Variable[].class)));
         });
     }
 
     private static void fill(final CompositeData data,
-                             final MOTable<DefaultMOMutableRow2PC, MONamedColumn, MOTableModel<DefaultMOMutableRow2PC>> table,
+                             final TableUpdate update,
                              final DescriptorRead conversionOptions){
+        final MOTable<DefaultMOMutableRow2PC, MONamedColumn, MOTableModel<DefaultMOMutableRow2PC>> table = update.table;
         final List<Variable> cells = Lists.newArrayListWithExpectedSize(table.getColumnCount());
         for(int columnIndex = 0; columnIndex < table.getColumnCount(); columnIndex++){
             final MONamedColumn columnDef = table.getColumn(columnIndex);
             final Variable cell = columnDef.createCellValue(data.get(columnDef.name), conversionOptions);
             cells.add(columnIndex, cell);
         }
-        table.addRow(table.createRow(makeRowID(0), cells.toArray(emptyArray(Variable[].class))));
+        update.putRow(cells.toArray(emptyArray(Variable[].class)));
     }
 
     private static void fill(final Object array,
-                             final MOTable<DefaultMOMutableRow2PC, MONamedColumn, MOTableModel<DefaultMOMutableRow2PC>> table,
+                             final TableUpdate update,
                              final DescriptorRead conversionOptions){
+        final MOTable<DefaultMOMutableRow2PC, MONamedColumn, MOTableModel<DefaultMOMutableRow2PC>> table = update.table;
         //for arrays we have only one column with values
         final MONamedColumn columnDef = table.getColumn(0);
         final boolean needRowStatus = SnmpHelpers.findColumnIndex(table, MORowStatusColumn.class) >= 0;
@@ -390,13 +501,25 @@ final class SnmpTableObject extends DefaultMOTable<DefaultMOMutableRow2PC, MONam
             //handle row status column
             if(needRowStatus)
                 cells.add(1, TableRowStatus.ACTIVE.toManagedScalarValue());
-            table.addRow(table.createRow(makeRowID(i), cells.toArray(emptyArray(Variable[].class))));
+            update.putRow(cells.toArray(emptyArray(Variable[].class)));
         }
     }
 
+    private Object refresh() throws JMException {
+        final long startTime = System.nanoTime();
+        //rows of tabular data have always started from .2
+        final TableUpdate update = new TableUpdate(this, _connector.getOpenType() instanceof TabularType ? 1 : 0);
+        final Object updateSource = fill(_connector, update);
+        final int changedRows = update.complete();
+        final long duration = System.nanoTime() - startTime;
+        cacheManager.refreshCompleted(duration, changedRows);
+        getLogger().fine(() -> String.format("Table %s refreshed in %s ns. Rows changed: %s of %s", getOID(), duration, changedRows, update.getRowCount()));
+        return updateSource;
+    }
+
     private void fillTableIfNecessary() throws JMException {
         if (isEmpty()) try {
-            cacheManager.updateCompleted(fill(_connector, this));
+            cacheManager.updateCompleted(refresh());
         }
         finally {
             cacheManager.stop();
@@ -407,8 +530,8 @@ final class SnmpTableObject extends DefaultMOTable<DefaultMOMutableRow2PC, MONam
             cacheManager.stop();
             try {
                 if (cacheManager.isEmpty()) {
-                    removeAll();
-                    cacheManager.updateCompleted(fill(_connector, this));
+                    //rows are updated incrementally instead of full rebuilding
+                    cacheManager.updateCompleted(refresh());
                     cacheManager.reset();
                 }
             } finally {
@@ -417,6 +540,50 @@ final class SnmpTableObject extends DefaultMOTable<DefaultMOMutableRow2PC, MONam
         }
     }
 
+    /**
+     * Gets number of refreshes of this table.
+     * @return Number of refreshes.
+     */
+    long getRefreshCount() {
+        return cacheManager.refreshCount.get();
+    }
+
+    /**
+     * Gets summary duration of all refreshes of this table.
+     * @return Summary duration of all refreshes.
+     */
+    Duration getRefreshDuration() {
+        return Duration.ofNanos(cacheManager.refreshDuration.get());
+    }
+
+    /**
+     * Gets duration of the last refresh of this table.
+     * @return Duration of the last refresh.
+     */
+    Duration getLastRefreshDuration() {
+        return Duration.ofNanos(cacheManager.lastRefreshDuration);
+    }
+
+    /**
+     * Gets number of rows added, changed or removed by all refreshes of this table.
+     * @return Number of changed rows.
+     */
+    long getChangedRows() {
+        return cacheManager.changedRows.get();
+    }
+
+    /**
+     * Gets statistics of refreshes of this table.
+     * @return Statistics of refreshes exposed as binding properties of the attribute.
+     */
+    @Override
+    public Map<String, ?> getBindingProperties() {
+        return ImmutableMap.of(REFRESH_COUNT_PROPERTY, getRefreshCount(),
+                REFRESH_DURATION_PROPERTY, getRefreshDuration(),
+                LAST_REFRESH_DURATION_PROPERTY, getLastRefreshDuration(),
+                CHANGED_ROWS_PROPERTY, getChangedRows());
+    }
+
     /**
      * Gets the date and time of the last update. If that time cannot be
      * determined <code>null</code> is returned.
@@ -0,0 +1,87 @@
+package com.bytex.snamp.gateway.snmp;
+
+import com.bytex.snamp.gateway.modeling.AttributeAccessor;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.MoreExecutors;
+import org.junit.Assert;
+import org.junit.Test;
+import org.snmp4j.PDU;
+import org.snmp4j.agent.MOServer;
+import org.snmp4j.agent.ManagedObject;
+import org.snmp4j.smi.OID;
+import org.snmp4j.smi.OctetString;
+import org.snmp4j.smi.VariableBinding;
+
+import javax.management.MBeanAttributeInfo;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Represents tests for {@link PrefetchingCommandProcessor}.
+ * @author Roman Sakno
+ * @version 2.0
+ * @since 2.0
+ */
+public final class PrefetchingCommandProcessorTest extends Assert {
+    private static final class TestScalarAccessor extends SnmpAttributeAccessor {
+        private final OID instanceID;
+
+        private TestScalarAccessor(final String attributeName, final OID instanceID) {
+            super(new MBeanAttributeInfo(attributeName, int.class.getName(), "", true, false, false));
+            this.instanceID = instanceID;
+        }
+
+        @Override
+        SnmpAttributeMapping registerManagedObject(final OID context, final MOServer server) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        ManagedObject unregisterManagedObject(final MOServer server) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        Map<String, ?> getBindingProperties() {
+            return ImmutableMap.of();
+        }
+
+        @Override
+        public OID getID() {
+            return instanceID;
+        }
+    }
+
+    private static final OID PREFIX = new OID("1.3.6.1.4.1.1");
+
+    private static PDU createRequest(final int type, final OID oid) {
+        final PDU request = new PDU();
+        request.setType(type);
+        request.add(new VariableBinding(oid));
+        return request;
+    }
+
+    @Test
+    public void walkTest() {
+        final PrefetchingCommandProcessor processor = new PrefetchingCommandProcessor(new OctetString("engine"), MoreExecutors.newDirectExecutorService());
+        final TestScalarAccessor first = new TestScalarAccessor("first", new OID(PREFIX).append("1.0"));
+        final TestScalarAccessor second = new TestScalarAccessor("second", new OID(PREFIX).append("2.0"));
+        processor.registerScalar(first.getID(), first);
+        processor.registerScalar(second.getID(), second);
+        Set<AttributeAccessor> scalars = processor.resolveScalars(createRequest(PDU.GETNEXT, PREFIX));
+        assertEquals(1, scalars.size());
+        assertTrue(scalars.contains(first));
+        //walk past the registered scalar
+        scalars = processor.resolveScalars(createRequest(PDU.GETNEXT, first.getID()));
+        assertEquals(1, scalars.size());
+        assertTrue(scalars.contains(second));
+        assertTrue(processor.resolveScalars(createRequest(PDU.GETNEXT, second.getID())).isEmpty());
+        //bulk request covers all scalars after the requested OID
+        final PDU bulkRequest = createRequest(PDU.GETBULK, PREFIX);
+        bulkRequest.setMaxRepetitions(10);
+        scalars = processor.resolveScalars(bulkRequest);
+        assertEquals(2, scalars.size());
+        processor.unregisterScalar(first);
+        assertTrue(processor.resolveScalars(createRequest(PDU.GETNEXT, PREFIX)).contains(second));
+    }
+}
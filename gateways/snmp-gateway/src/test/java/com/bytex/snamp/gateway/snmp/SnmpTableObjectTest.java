@@ -0,0 +1,131 @@
+package com.bytex.snamp.gateway.snmp;
+
+import com.bytex.snamp.jmx.WellKnownType;
+import org.junit.Assert;
+import org.junit.Test;
+import org.snmp4j.agent.mo.*;
+import org.snmp4j.smi.*;
+
+import javax.management.openmbean.*;
+
+/**
+ * Represents tests for incremental update of {@link SnmpTableObject}.
+ * @author Roman Sakno
+ * @version 2.0
+ * @since 2.0
+ */
+public final class SnmpTableObjectTest extends Assert {
+    private static DefaultMOTable<DefaultMOMutableRow2PC, MONamedColumn, MOTableModel<DefaultMOMutableRow2PC>> createTable() {
+        final DefaultMOTable<DefaultMOMutableRow2PC, MONamedColumn, MOTableModel<DefaultMOMutableRow2PC>> table = new DefaultMOTable<>(new OID("1.3.6.1.4.1.1.1"),
+                new MOTableIndex(new MOTableSubIndex[]{new MOTableSubIndex(null, SMIConstants.SYNTAX_INTEGER, 1, 1)}),
+                new MONamedColumn[]{
+                        new MONamedColumn(1, "key", WellKnownType.STRING, MOAccessImpl.ACCESS_READ_ONLY, true),
+                        new MONamedColumn(2, "value", WellKnownType.INT, MOAccessImpl.ACCESS_READ_ONLY, false)
+                });
+        final DefaultMOMutableTableModel<DefaultMOMutableRow2PC> model = new DefaultMOMutableTableModel<>();
+        model.setRowFactory(new DefaultMOMutableRow2PCFactory());
+        table.setModel(model);
+        return table;
+    }
+
+    private static Variable[] row(final String key, final int value) {
+        return new Variable[]{new OctetString(key), new Integer32(value)};
+    }
+
+    private static int update(final DefaultMOTable<DefaultMOMutableRow2PC, MONamedColumn, MOTableModel<DefaultMOMutableRow2PC>> table,
+                              final int firstRow,
+                              final Variable[]... rows) {
+        final SnmpTableObject.TableUpdate update = new SnmpTableObject.TableUpdate(table, firstRow);
+        for (final Variable[] row : rows)
+            update.putRow(row);
+        return update.complete();
+    }
+
+    @Test
+    public void tabularLayoutTest() {
+        final DefaultMOTable<DefaultMOMutableRow2PC, MONamedColumn, MOTableModel<DefaultMOMutableRow2PC>> table = createTable();
+        assertEquals(2, update(table, 1, row("a", 1), row("b", 2)));
+        //rows of tabular data start from .2
+        assertNull(table.getModel().getRow(new OID(new int[]{1})));
+        assertEquals(new Integer32(1), table.getModel().getRow(new OID(new int[]{2})).getValue(1));
+        assertEquals(new Integer32(2), table.getModel().getRow(new OID(new int[]{3})).getValue(1));
+    }
+
+    @Test
+    public void diffTest() {
+        final DefaultMOTable<DefaultMOMutableRow2PC, MONamedColumn, MOTableModel<DefaultMOMutableRow2PC>> table = createTable();
+        assertEquals(3, update(table, 0, row("a", 1), row("b", 2), row("c", 3)));
+        final Variable unchangedCell = table.getModel().getRow(new OID(new int[]{1})).getValue(1);
+        //nothing changed
+        assertEquals(0, update(table, 0, row("a", 1), row("b", 2), row("c", 3)));
+        assertSame(unchangedCell, table.getModel().getRow(new OID(new int[]{1})).getValue(1));
+        //only the second row is changed
+        assertEquals(1, update(table, 0, row("a", 1), row("b", 20), row("c", 3)));
+        assertSame(unchangedCell, table.getModel().getRow(new OID(new int[]{1})).getValue(1));
+        assertEquals(new Integer32(20), table.getModel().getRow(new OID(new int[]{2})).getValue(1));
+        //the last row is removed
+        assertEquals(1, update(table, 0, row("a", 1), row("b", 20)));
+        assertEquals(2, table.getModel().getRowCount());
+        assertNull(table.getModel().getRow(new OID(new int[]{3})));
+        //new row is added
+        assertEquals(1, update(table, 0, row("a", 1), row("b", 20), row("d", 4)));
+        assertEquals(new OctetString("d"), table.getModel().getRow(new OID(new int[]{3})).getValue(0));
+        //all rows are removed
+        assertEquals(3, update(table, 0));
+        assertEquals(0, table.getModel().getRowCount());
+    }
+
+    @Test
+    public void foreignRowTest() {
+        final DefaultMOTable<DefaultMOMutableRow2PC, MONamedColumn, MOTableModel<DefaultMOMutableRow2PC>> table = createTable();
+        //row outside of the layout, such as created by SNMP SET request
+        table.addRow(table.createRow(new OID(new int[]{1}), row("x", 0)));
+        assertEquals(2, update(table, 1, row("a", 1)));
+        assertEquals(1, table.getModel().getRowCount());
+        assertNull(table.getModel().getRow(new OID(new int[]{1})));
+    }
+
+    private static TabularData createTabularData(final String... keys) throws OpenDataException {
+        final CompositeType rowType = new CompositeType("row", "row", new String[]{"key", "value"}, new String[]{"key", "value"},
+                new OpenType<?>[]{SimpleType.STRING, SimpleType.INTEGER});
+        final TabularDataSupport result = new TabularDataSupport(new TabularType("table", "table", rowType, new String[]{"key"}));
+        for (final String key : keys)
+            result.put(new CompositeDataSupport(rowType, new String[]{"key", "value"}, new Object[]{key, key.length()}));
+        return result;
+    }
+
+    private static int update(final DefaultMOTable<DefaultMOMutableRow2PC, MONamedColumn, MOTableModel<DefaultMOMutableRow2PC>> table,
+                              final TabularData data) {
+        final SnmpTableObject.TableUpdate update = new SnmpTableObject.TableUpdate(table, 1);
+        SnmpTableObject.fill(data, update, null);
+        return update.complete();
+    }
+
+    private static void assertKeys(final DefaultMOTable<DefaultMOMutableRow2PC, MONamedColumn, MOTableModel<DefaultMOMutableRow2PC>> table,
+                                   final String... expectedKeys) {
+        assertEquals(expectedKeys.length, table.getModel().getRowCount());
+        //rows of tabular data start from .2
+        for (int i = 0; i < expectedKeys.length; i++)
+            assertEquals(new OctetString(expectedKeys[i]), table.getModel().getRow(new OID(new int[]{i + 2})).getValue(0));
+    }
+
+    @Test
+    public void insertTabularRowTest() throws OpenDataException {
+        final DefaultMOTable<DefaultMOMutableRow2PC, MONamedColumn, MOTableModel<DefaultMOMutableRow2PC>> table = createTable();
+        assertEquals(8, update(table, createTabularData("key07", "key01", "key05", "key03", "key09", "key02", "key08", "key04")));
+        //rows are positioned in order of their index values
+        assertKeys(table, "key01", "key02", "key03", "key04", "key05", "key07", "key08", "key09");
+        final Variable[] keptCells = new Variable[4];
+        for (int i = 0; i < keptCells.length; i++)
+            keptCells[i] = table.getModel().getRow(new OID(new int[]{i + 2})).getValue(0);
+        //key is inserted in the middle of the table. Only the inserted row and the subsequent shifted rows are changed
+        final TabularData data = createTabularData("key07", "key01", "key05", "key045", "key03", "key09", "key02", "key08", "key04");
+        assertEquals(5, update(table, data));
+        assertKeys(table, "key01", "key02", "key03", "key04", "key045", "key05", "key07", "key08", "key09");
+        //rows before the inserted row are kept
+        for (int i = 0; i < keptCells.length; i++)
+            assertSame(keptCells[i], table.getModel().getRow(new OID(new int[]{i + 2})).getValue(0));
+        //nothing changed
+        assertEquals(0, update(table, data));
+    }
+}
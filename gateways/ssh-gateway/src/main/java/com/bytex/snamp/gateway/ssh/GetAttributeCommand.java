@@ -9,6 +9,7 @@ import org.apache.commons.cli.Options;
 import javax.management.JMException;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.util.logging.Level;
 
 /**
  * @author Roman Sakno
@@ -45,10 +46,14 @@ final class GetAttributeCommand extends AbstractAttributeCommand {
             final String resourceName = input.getOptionValue(RESOURCE_OPTION.getOpt());
             final String attributeName = input.getOptionValue(NAME_OPTION.getOpt());
             if(!getGatewayController().processAttribute(resourceName, attributeName, attribute -> {
-                try(final LoggingScope ignored = new ReadAttributeLoggingScope(this, attribute.getOriginalName(), attributeName)) {
+                final long startTime = System.nanoTime();
+                try {
                     attribute.printValue(output, format);
                 }
                 catch (final IOException | JMException e){
+                    try (final LoggingScope logger = new ReadAttributeLoggingScope(this, attribute.getOriginalName(), attributeName, startTime)) {
+                        logger.log(Level.FINE, "Unable to read attribute %s", attributeName, e);
+                    }
                     throw new CommandException(e);
                 }
             })) throw new CommandException("Attribute %s doesn't exist", attributeName);
@@ -10,6 +10,7 @@ import javax.management.JMException;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringReader;
+import java.util.logging.Level;
 
 /**
  * @author Roman Sakno
@@ -44,11 +45,14 @@ final class SetAttributeCommand extends AbstractAttributeCommand {
             final String attributeName = input.getOptionValue(NAME_OPTION.getOpt());
             final String attributeValue = input.getOptionValue(VALUE_OPTION.getOpt());
             if(!getGatewayController().processAttribute(resourceName, attributeName, attribute -> {
-                try (final LoggingScope ignored = new WriteAttributeLoggingScope(this, attribute.getOriginalName(), attributeName);
-                     final StringReader reader = new StringReader(attributeValue)) {
+                final long startTime = System.nanoTime();
+                try (final StringReader reader = new StringReader(attributeValue)) {
                     attribute.setValue(reader);
                     output.println("OK");
                 } catch (final JMException | IOException e) {
+                    try (final LoggingScope logger = new WriteAttributeLoggingScope(this, attribute.getOriginalName(), attributeName, startTime)) {
+                        logger.log(Level.FINE, "Unable to write attribute %s", attributeName, e);
+                    }
                     throw new CommandException(e);
                 }
             })) throw new CommandException("Attribute %s doesn't exist.", attributeName);
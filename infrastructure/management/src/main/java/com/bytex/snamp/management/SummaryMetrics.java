@@ -62,17 +62,23 @@ public final class SummaryMetrics extends ImmutableMetrics {
         private static final String NAME = "summaryAttributes";
         private final Rate readRate;
         private final Rate writeRate;
+        private final Rate cacheHitRate;
+        private final Rate cacheMissRate;
 
         private SummaryAttributeMetrics(final BundleContext context) {
             super(AttributeMetrics.class, context);
             readRate = Summary.summaryRate(NAME, this::readsStream);
             writeRate = Summary.summaryRate(NAME, this::writesStream);
+            cacheHitRate = Summary.summaryRate(NAME, this::cacheHitsStream);
+            cacheMissRate = Summary.summaryRate(NAME, this::cacheMissesStream);
         }
 
         private SummaryAttributeMetrics(final SummaryAttributeMetrics source){
             super(source);
             readRate = source.readRate.clone();
             writeRate = source.writeRate.clone();
+            cacheHitRate = source.cacheHitRate.clone();
+            cacheMissRate = source.cacheMissRate.clone();
         }
 
         @Override
@@ -88,6 +94,14 @@ public final class SummaryMetrics extends ImmutableMetrics {
             return toStream(AttributeMetrics::writes);
         }
 
+        private Stream<Rate> cacheHitsStream(){
+            return toStream(AttributeMetrics::cacheHits);
+        }
+
+        private Stream<Rate> cacheMissesStream(){
+            return toStream(AttributeMetrics::cacheMisses);
+        }
+
         @Override
         public String getName() {
             return NAME;
@@ -102,6 +116,16 @@ public final class SummaryMetrics extends ImmutableMetrics {
         public Rate reads() {
             return readRate;
         }
+
+        @Override
+        public Rate cacheHits() {
+            return cacheHitRate;
+        }
+
+        @Override
+        public Rate cacheMisses() {
+            return cacheMissRate;
+        }
     }
 
     private static final class SummaryNotificationMetric extends SummaryMetric<NotificationMetric> implements NotificationMetric, Supplier<Stream<Rate>> {
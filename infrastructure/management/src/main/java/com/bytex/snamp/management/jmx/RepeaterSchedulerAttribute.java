@@ -0,0 +1,60 @@
+package com.bytex.snamp.management.jmx;
+
+import com.bytex.snamp.concurrent.RepeaterScheduler;
+import com.bytex.snamp.jmx.OpenMBean;
+
+import javax.management.openmbean.SimpleType;
+import java.util.function.ToLongFunction;
+
+/**
+ * JMX attribute that exposes statistics of the scheduler shared by all repeaters.
+ * @author Roman Sakno
+ * @version 2.0
+ * @since 2.0
+ */
+final class RepeaterSchedulerAttribute extends OpenMBean.OpenAttribute<Long, SimpleType<Long>> {
+    private final ToLongFunction<? super RepeaterScheduler> statistics;
+    private final String description;
+
+    private RepeaterSchedulerAttribute(final String attributeName,
+                                       final String description,
+                                       final ToLongFunction<? super RepeaterScheduler> statistics) {
+        super(attributeName, SimpleType.LONG);
+        this.statistics = statistics;
+        this.description = description;
+    }
+
+    static RepeaterSchedulerAttribute scheduledTasks() {
+        return new RepeaterSchedulerAttribute("RepeaterScheduledTasks",
+                "A number of periodic tasks waiting for their next execution.",
+                RepeaterScheduler::getScheduledTasks);
+    }
+
+    static RepeaterSchedulerAttribute queueDepth() {
+        return new RepeaterSchedulerAttribute("RepeaterQueueDepth",
+                "A number of expired periodic tasks waiting for the free worker thread. Increasing of this value means that the number of worker threads is not enough.",
+                RepeaterScheduler::getQueueDepth);
+    }
+
+    static RepeaterSchedulerAttribute meanLag() {
+        return new RepeaterSchedulerAttribute("RepeaterMeanLag",
+                "Mean delay between scheduled and actual start of periodic task, in millis.",
+                scheduler -> scheduler.getMeanLag().toMillis());
+    }
+
+    static RepeaterSchedulerAttribute maxLag() {
+        return new RepeaterSchedulerAttribute("RepeaterMaxLag",
+                "Maximum delay between scheduled and actual start of periodic task, in millis.",
+                scheduler -> scheduler.getMaxLag().toMillis());
+    }
+
+    @Override
+    protected String getDescription() {
+        return description;
+    }
+
+    @Override
+    public Long getValue() {
+        return statistics.applyAsLong(RepeaterScheduler.getInstance());
+    }
+}
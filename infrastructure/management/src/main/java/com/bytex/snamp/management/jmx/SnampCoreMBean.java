@@ -36,6 +36,10 @@ public final class SnampCoreMBean extends OpenMBean implements LogListener, Fram
                 new LogEventCountAttribute("WarningMessagesCount", counter, LogService.LOG_WARNING),
                 new LogEventCountAttribute("DebugMessagesCount", counter, LogService.LOG_DEBUG),
                 new LogEventCountAttribute("InformationMessagesCount", counter, LogService.LOG_INFO),
+                RepeaterSchedulerAttribute.scheduledTasks(),
+                RepeaterSchedulerAttribute.queueDepth(),
+                RepeaterSchedulerAttribute.meanLag(),
+                RepeaterSchedulerAttribute.maxLag(),
                 new LogEventNotification(),
                 new InstalledComponents(manager),
                 new InstalledGatewaysAttribute(),
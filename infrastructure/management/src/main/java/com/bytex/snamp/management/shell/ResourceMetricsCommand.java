@@ -63,6 +63,10 @@ public final class ResourceMetricsCommand extends SnampShellCommand {
         printMetrics(metrics.writes(), output);
         output.println("Attribute reads:");
         printMetrics(metrics.reads(), output);
+        output.println("Attribute cache hits:");
+        printMetrics(metrics.cacheHits(), output);
+        output.println("Attribute cache misses:");
+        printMetrics(metrics.cacheMisses(), output);
     }
 
     private static void collectMetrics(final NotificationMetric metrics, final PrintWriter output) {
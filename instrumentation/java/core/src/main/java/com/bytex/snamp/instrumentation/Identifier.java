@@ -9,7 +9,6 @@ import org.codehaus.jackson.map.annotate.JsonSerialize;
 import javax.xml.bind.DatatypeConverter;
 import java.io.*;
 import java.math.BigInteger;
-import java.security.SecureRandom;
 import java.util.Arrays;
 import java.util.UUID;
 
@@ -22,22 +21,6 @@ import java.util.UUID;
 @JsonSerialize(using = IdentifierSerializer.class)
 @JsonDeserialize(using = IdentifierDeserializer.class)
 public final class Identifier implements Serializable {
-    private static final class SecureRandomHolder{
-        private static final SecureRandom INSTANCE = new SecureRandom();
-
-        static long nextLong(){
-            return INSTANCE.nextLong();
-        }
-
-        static int nextInt(){
-            return INSTANCE.nextInt();
-        }
-
-        static void nextBytes(final byte[] bytes) {
-            INSTANCE.nextBytes(bytes);
-        }
-    }
-
     private static final long serialVersionUID = -767298982099087481L;
 
     /**
@@ -45,6 +28,9 @@ public final class Identifier implements Serializable {
      */
     public static final Identifier EMPTY = new Identifier();
 
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static volatile IdentifierGenerator generator = IdentifierGenerator.getDefault();
+
     private final char[] content;
 
     private Identifier(final char[] content, final boolean cloneNeeded){
@@ -55,6 +41,24 @@ public final class Identifier implements Serializable {
         this(new char[0], false);
     }
 
+    /**
+     * Gets generator of random identifiers.
+     * @return Generator of random identifiers.
+     */
+    public static IdentifierGenerator getGenerator() {
+        return generator;
+    }
+
+    /**
+     * Sets generator of random identifiers.
+     * @param value Generator of random identifiers. Cannot be {@literal null}.
+     */
+    public static void setGenerator(final IdentifierGenerator value) {
+        if (value == null)
+            throw new IllegalArgumentException();
+        generator = value;
+    }
+
     /**
      * Generates a new unique identifier.
      * @return A new unique identifier.
@@ -69,22 +73,44 @@ public final class Identifier implements Serializable {
      * @return A new unique identifier.
      */
     public static Identifier randomID(final int bytes) {
+        final IdentifierGenerator generator = Identifier.generator;
         switch (bytes){
             case 4:
-                return ofLong(SecureRandomHolder.nextInt());
+                return ofLong(generator.nextInt());
             case 8:
-                return ofLong(SecureRandomHolder.nextLong());
+                return ofLong(generator.nextLong());
             case 1:
                 byte[] randomBytes = new byte[1];
-                SecureRandomHolder.nextBytes(randomBytes);
+                generator.nextBytes(randomBytes);
                 return ofString(Byte.toString(randomBytes[0]));
             default:
                 randomBytes = new byte[bytes];
-                SecureRandomHolder.nextBytes(randomBytes);
+                generator.nextBytes(randomBytes);
                 return ofBytes(randomBytes);
         }
     }
 
+    private static int writeHex(long value, final char[] output, final int offset) {
+        for (int index = offset + 15; index >= offset; index--, value >>>= 4)
+            output[index] = HEX_DIGITS[(int) value & 0xF];
+        return offset + 16;
+    }
+
+    /**
+     * Generates a new 128-bit identifier ordered by time of its creation.
+     * <p>
+     *     The first 48 bits of identifier contain current time in millis, the rest are random.
+     *     Lexicographical order of such identifiers is the same as order of their creation with millisecond precision.
+     * @return A new unique identifier in hexadecimal format.
+     */
+    public static Identifier timeOrderedID() {
+        final IdentifierGenerator generator = Identifier.generator;
+        final long high = System.currentTimeMillis() << 16 | generator.nextInt() & 0xFFFFL;
+        final char[] content = new char[32];
+        writeHex(generator.nextLong(), content, writeHex(high, content, 0));
+        return new Identifier(content, false);
+    }
+
     /**
      * Wraps string identifier into {@link Identifier}.
      * @param value String representation of the identifier.
@@ -0,0 +1,78 @@
+package com.bytex.snamp.instrumentation;
+
+import java.security.SecureRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Represents source of random bits used to generate identifiers.
+ * <p>
+ *     Default generator can be specified using {@link #SYSTEM_PROPERTY} system property.
+ * @author Roman Sakno
+ * @version 2.0
+ * @since 2.0
+ * @see Identifier#setGenerator(IdentifierGenerator)
+ */
+public enum IdentifierGenerator {
+    /**
+     * Per-thread pseudo-random generator.
+     * <p>
+     *     Application threads never contend with each other but identifiers are predictable.
+     */
+    FAST {
+        @Override
+        long nextLong() {
+            return ThreadLocalRandom.current().nextLong();
+        }
+
+        @Override
+        int nextInt() {
+            return ThreadLocalRandom.current().nextInt();
+        }
+
+        @Override
+        void nextBytes(final byte[] bytes) {
+            ThreadLocalRandom.current().nextBytes(bytes);
+        }
+    },
+
+    /**
+     * Cryptographically strong generator shared across all threads.
+     */
+    SECURE {
+        @Override
+        long nextLong() {
+            return SecureRandomHolder.INSTANCE.nextLong();
+        }
+
+        @Override
+        int nextInt() {
+            return SecureRandomHolder.INSTANCE.nextInt();
+        }
+
+        @Override
+        void nextBytes(final byte[] bytes) {
+            SecureRandomHolder.INSTANCE.nextBytes(bytes);
+        }
+    };
+
+    private static final class SecureRandomHolder{
+        private static final SecureRandom INSTANCE = new SecureRandom();
+    }
+
+    /**
+     * Represents name of the system property used to select default generator.
+     * Possible values are {@code fast} and {@code secure}.
+     */
+    public static final String SYSTEM_PROPERTY = "com.bytex.snamp.instrumentation.idGenerator";
+
+    abstract long nextLong();
+
+    abstract int nextInt();
+
+    abstract void nextBytes(final byte[] bytes);
+
+    static IdentifierGenerator getDefault() {
+        final String name = Utils.getSystemProperty(SYSTEM_PROPERTY);
+        return SECURE.name().equalsIgnoreCase(name) ? SECURE : FAST;
+    }
+}
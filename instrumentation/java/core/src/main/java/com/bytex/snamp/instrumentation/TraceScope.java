@@ -59,7 +59,7 @@ public abstract class TraceScope implements RuntimeScope {
     }
 
     protected TraceScope(final Identifier correlationID, final Identifier parentSpanID, final String moduleName) {
-        this(correlationID, Identifier.randomID(), parentSpanID, moduleName);
+        this(correlationID, Identifier.randomID(8), parentSpanID, moduleName);
     }
 
     private static final class TransitiveScope extends TraceScope {
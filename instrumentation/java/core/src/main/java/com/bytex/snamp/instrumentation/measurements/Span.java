@@ -44,8 +44,8 @@ public final class Span extends TimeMeasurement implements ModuleScoped {
     }
 
     public void generateIDs(){
-        correlationID = Identifier.randomID();
-        spanID = Identifier.randomID();
+        correlationID = Identifier.timeOrderedID();
+        spanID = Identifier.randomID(8);
     }
 
     /**
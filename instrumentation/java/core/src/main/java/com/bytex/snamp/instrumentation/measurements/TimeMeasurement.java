@@ -54,6 +54,14 @@ public class TimeMeasurement extends Measurement {
         return unit.convert(duration, timeUnit);
     }
 
+    /**
+     * Gets duration in nanoseconds.
+     * @return Duration in nanoseconds.
+     */
+    public final long toNanos() {
+        return timeUnit.toNanos(duration);
+    }
+
     @Override
     public void writeExternal(final ObjectOutput out) throws IOException {
         out.writeLong(duration);
@@ -0,0 +1,21 @@
+package com.bytex.snamp.instrumentation.reporters.util;
+
+import com.bytex.snamp.instrumentation.measurements.Measurement;
+
+import java.util.Collection;
+
+/**
+ * Represents measurements buffer that supports removal of measurements in batches.
+ * @author Roman Sakno
+ * @version 1.0
+ * @since 1.0
+ */
+public interface BatchMeasurementBuffer extends MeasurementBuffer {
+    /**
+     * Removes at most the given number of measurements from this buffer and adds them to the given collection.
+     * @param output The collection to transfer measurements into.
+     * @param maxElements The maximum number of measurements to transfer.
+     * @return The number of measurements transferred.
+     */
+    int drainTo(final Collection<? super Measurement> output, final int maxElements);
+}
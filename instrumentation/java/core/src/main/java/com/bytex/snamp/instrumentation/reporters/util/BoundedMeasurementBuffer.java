@@ -10,7 +10,7 @@ import java.util.concurrent.ArrayBlockingQueue;
  * @version 1.0
  * @since 1.0
  */
-public class BoundedMeasurementBuffer extends ArrayBlockingQueue<Measurement> implements MeasurementBuffer {
+public class BoundedMeasurementBuffer extends ArrayBlockingQueue<Measurement> implements BatchMeasurementBuffer {
     private static final long serialVersionUID = 7887492090334489430L;
 
     /**
@@ -34,10 +34,9 @@ public class BoundedMeasurementBuffer extends ArrayBlockingQueue<Measurement> im
     @Override
     public PlacementResult place(final Measurement measurement) {
         PlacementResult result = PlacementResult.SUCCESS;
-        while (!offer(measurement)){
-            poll();
-            result = PlacementResult.DROP_OLD_MEASUREMENT;
-        }
+        while (!offer(measurement))
+            if (poll() != null)
+                result = PlacementResult.DROP_OLD_MEASUREMENT;
         return result;
     }
 
@@ -2,6 +2,8 @@ package com.bytex.snamp.instrumentation.reporters.util;
 
 import com.bytex.snamp.instrumentation.measurements.Measurement;
 
+import java.util.Collection;
+
 /**
  * Represents measurement buffer that can't save any measurement.
  * This class cannot be inherited.
@@ -9,7 +11,7 @@ import com.bytex.snamp.instrumentation.measurements.Measurement;
  * @version 1.0
  * @since 1.0
  */
-public final class EmptyMeasurementBuffer implements MeasurementBuffer {
+public final class EmptyMeasurementBuffer implements BatchMeasurementBuffer {
     /**
      * Gets singleton instance of this buffer.
      */
@@ -48,6 +50,18 @@ public final class EmptyMeasurementBuffer implements MeasurementBuffer {
         return null;
     }
 
+    /**
+     * Removes at most the given number of measurements from this buffer and adds them to the given collection.
+     *
+     * @param output      The collection to transfer measurements into.
+     * @param maxElements The maximum number of measurements to transfer.
+     * @return The number of measurements transferred.
+     */
+    @Override
+    public int drainTo(final Collection<? super Measurement> output, final int maxElements) {
+        return 0;
+    }
+
     /**
      * Gets number of measurements in this buffer.
      *
@@ -0,0 +1,153 @@
+package com.bytex.snamp.instrumentation.reporters.util;
+
+import com.bytex.snamp.instrumentation.measurements.Measurement;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Represents lock-free capacity-bounded buffer for measurements.
+ * <p />
+ *     This buffer is based on the ring of slots with sequence numbers so producers never block each other on the lock.
+ *     It is optimized for many producers and single consumer. When buffer is full then producer
+ *     drops the oldest measurement, the same way as {@link BoundedMeasurementBuffer}.
+ * @author Roman Sakno
+ * @version 1.0
+ * @since 1.0
+ */
+public final class RingMeasurementBuffer implements BatchMeasurementBuffer {
+    private final AtomicReferenceArray<Measurement> slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong head;  //position of the next measurement to remove
+    private final AtomicLong tail;  //position of the next measurement to place
+
+    /**
+     * Initializes a new buffer for measurements.
+     * @param capacity The capacity of this buffer. Actual capacity is rounded up to the nearest power of two.
+     * @throws IllegalArgumentException if {@code capacity < 1} or {@code capacity > 2^30}
+     */
+    public RingMeasurementBuffer(final int capacity) {
+        if (capacity < 1 || capacity > 1 << 30)
+            throw new IllegalArgumentException(String.format("Invalid capacity %s", capacity));
+        final int length = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        slots = new AtomicReferenceArray<>(length);
+        sequences = new AtomicLongArray(length);
+        for (int index = 0; index < length; index++)
+            sequences.set(index, index);
+        mask = length - 1;
+        head = new AtomicLong(0L);
+        tail = new AtomicLong(0L);
+    }
+
+    /**
+     * Gets capacity of this buffer.
+     * @return Capacity of this buffer.
+     */
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    private boolean offer(final Measurement measurement) {
+        while (true) {
+            final long position = tail.get();
+            final int index = (int) position & mask;
+            final long difference = sequences.get(index) - position;
+            if (difference == 0L) {
+                if (tail.compareAndSet(position, position + 1L)) {
+                    slots.lazySet(index, measurement);
+                    sequences.lazySet(index, position + 1L);    //publish the slot to the consumer
+                    return true;
+                }
+            } else if (difference < 0L && position - head.get() > mask)
+                return false;   //buffer is full
+            //else: slot was captured by another producer or
+            //consumer already advanced the head but not yet returned the slot, so the buffer is not full
+        }
+    }
+
+    /**
+     * Saves measurement into buffer.
+     * <p/>
+     *     This method always drops the old measurements and never
+     *     returns {@link PlacementResult#NOT_ENOUGH_SPACE}
+     *
+     * @param measurement A measurement to store in the buffer.
+     * @return A result of measurement handling.
+     */
+    @Override
+    public PlacementResult place(final Measurement measurement) {
+        if (measurement == null)
+            throw new NullPointerException();
+        PlacementResult result = PlacementResult.SUCCESS;
+        while (!offer(measurement))
+            if (remove() != null)   //the oldest measurement might be removed by consumer concurrently
+                result = PlacementResult.DROP_OLD_MEASUREMENT;
+        return result;
+    }
+
+    /**
+     * Removes a single measurement from this buffer.
+     *
+     * @return Measurement instance; or {@literal null}, if this buffer is empty.
+     */
+    @Override
+    public Measurement remove() {
+        while (true) {
+            final long position = head.get();
+            final int index = (int) position & mask;
+            final long difference = sequences.get(index) - (position + 1L);
+            if (difference == 0L) {
+                if (head.compareAndSet(position, position + 1L)) {
+                    final Measurement measurement = slots.get(index);
+                    slots.lazySet(index, null);
+                    sequences.lazySet(index, position + mask + 1L);  //return the slot to producers
+                    return measurement;
+                }
+            } else if (difference < 0L)
+                return null;    //buffer is empty
+            //else: slot was captured by another consumer
+        }
+    }
+
+    /**
+     * Removes at most the given number of measurements from this buffer and adds them to the given collection.
+     *
+     * @param output      The collection to transfer measurements into.
+     * @param maxElements The maximum number of measurements to transfer.
+     * @return The number of measurements transferred.
+     */
+    @Override
+    public int drainTo(final Collection<? super Measurement> output, final int maxElements) {
+        int count = 0;
+        Measurement measurement;
+        while (count < maxElements && (measurement = remove()) != null) {
+            output.add(measurement);
+            count += 1;
+        }
+        return count;
+    }
+
+    /**
+     * Removes all measurements.
+     */
+    @Override
+    public void clear() {
+        while (remove() != null) {
+            //drop measurements until buffer is empty
+        }
+    }
+
+    /**
+     * Gets number of measurements in this buffer.
+     *
+     * @return Number of measurements in this buffer.
+     */
+    @Override
+    public int size() {
+        final long size = tail.get() - head.get();
+        return size <= 0L ? 0 : (int) Math.min(size, mask + 1L);
+    }
+}
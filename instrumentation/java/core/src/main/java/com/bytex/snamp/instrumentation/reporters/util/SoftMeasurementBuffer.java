@@ -3,6 +3,7 @@ package com.bytex.snamp.instrumentation.reporters.util;
 import com.bytex.snamp.instrumentation.measurements.Measurement;
 
 import java.lang.ref.SoftReference;
+import java.util.Collection;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 
@@ -16,7 +17,7 @@ import java.util.concurrent.LinkedBlockingQueue;
  * @version 1.0
  * @since 1.0
  */
-public final class SoftMeasurementBuffer implements MeasurementBuffer {
+public final class SoftMeasurementBuffer implements BatchMeasurementBuffer {
     private volatile SoftReference<BlockingQueue<Measurement>> buffer;
 
     private synchronized BlockingQueue<Measurement> getQueueSync(){
@@ -55,6 +56,18 @@ public final class SoftMeasurementBuffer implements MeasurementBuffer {
         return getQueue().poll();
     }
 
+    /**
+     * Removes at most the given number of measurements from this buffer and adds them to the given collection.
+     *
+     * @param output      The collection to transfer measurements into.
+     * @param maxElements The maximum number of measurements to transfer.
+     * @return The number of measurements transferred.
+     */
+    @Override
+    public int drainTo(final Collection<? super Measurement> output, final int maxElements) {
+        return getQueue().drainTo(output, maxElements);
+    }
+
     /**
      * Removes all measurements.
      */
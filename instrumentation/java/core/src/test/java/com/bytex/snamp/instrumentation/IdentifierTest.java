@@ -0,0 +1,87 @@
+package com.bytex.snamp.instrumentation;
+
+import com.bytex.snamp.instrumentation.measurements.Span;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * @author Roman Sakno
+ * @version 2.0
+ * @since 2.0
+ */
+public final class IdentifierTest extends Assert {
+    private static final int SPANS_PER_THREAD = 10000;
+
+    @Test
+    public void timeOrderedIDTest() throws InterruptedException {
+        Identifier previous = Identifier.timeOrderedID();
+        assertEquals(32, previous.toString().length());
+        for (int i = 0; i < 5; i++) {
+            Thread.sleep(2);
+            final Identifier current = Identifier.timeOrderedID();
+            assertTrue(previous.toString().compareTo(current.toString()) < 0);
+            previous = current;
+        }
+    }
+
+    @Test
+    public void secureGeneratorTest() {
+        final IdentifierGenerator generator = Identifier.getGenerator();
+        Identifier.setGenerator(IdentifierGenerator.SECURE);
+        try {
+            assertNotEquals(Identifier.randomID(8), Identifier.randomID(8));
+            assertNotEquals(Identifier.randomID(), Identifier.randomID());
+        } finally {
+            Identifier.setGenerator(generator);
+        }
+    }
+
+    private static void spanCreationTest(final IdentifierGenerator generator, final int threads) throws InterruptedException {
+        final IdentifierGenerator defaultGenerator = Identifier.getGenerator();
+        Identifier.setGenerator(generator);
+        try {
+            final Set<Identifier> identifiers = Collections.newSetFromMap(new ConcurrentHashMap<Identifier, Boolean>());
+            final CountDownLatch start = new CountDownLatch(1);
+            final Thread[] workers = new Thread[threads];
+            for (int i = 0; i < threads; i++) {
+                workers[i] = new Thread(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            start.await();
+                        } catch (final InterruptedException e) {
+                            return;
+                        }
+                        for (int j = 0; j < SPANS_PER_THREAD; j++) {
+                            final Span span = new Span();
+                            span.generateIDs();
+                            identifiers.add(span.getCorrelationID());
+                        }
+                    }
+                });
+                workers[i].start();
+            }
+            start.countDown();
+            for (final Thread worker : workers)
+                worker.join();
+            assertEquals(threads * SPANS_PER_THREAD, identifiers.size());
+        } finally {
+            Identifier.setGenerator(defaultGenerator);
+        }
+    }
+
+    @Test
+    public void fastSpanCreationTest() throws InterruptedException {
+        spanCreationTest(IdentifierGenerator.FAST, 16);
+    }
+
+    @Test
+    public void secureSpanCreationTest() throws InterruptedException {
+        spanCreationTest(IdentifierGenerator.SECURE, 16);
+    }
+}
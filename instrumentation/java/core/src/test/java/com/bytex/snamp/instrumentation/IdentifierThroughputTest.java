@@ -0,0 +1,68 @@
+package com.bytex.snamp.instrumentation;
+
+import com.bytex.snamp.instrumentation.measurements.Span;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Measures throughput of span identifiers generation using {@link java.security.SecureRandom}
+ * in comparison with {@link java.util.concurrent.ThreadLocalRandom}.
+ * <p>
+ *     This test is disabled by default. Use "Throughput test" profile to run it.
+ * @author Roman Sakno
+ * @version 2.0
+ * @since 2.0
+ */
+public final class IdentifierThroughputTest extends Assert {
+    private static final String THROUGHPUT_TEST_PROPERTY = "com.bytex.snamp.instrumentation.throughput.test";
+    private static final int THREADS = 16;
+    private static final int SPANS_PER_THREAD = 200_000;
+
+    private static double measureThroughput(final IdentifierGenerator generator) throws InterruptedException {
+        final IdentifierGenerator defaultGenerator = Identifier.getGenerator();
+        Identifier.setGenerator(generator);
+        try {
+            final CountDownLatch start = new CountDownLatch(1);
+            final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+            for (int i = 0; i < THREADS; i++)
+                executor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            start.await();
+                        } catch (final InterruptedException e) {
+                            return;
+                        }
+                        for (int j = 0; j < SPANS_PER_THREAD; j++)
+                            new Span().generateIDs();
+                    }
+                });
+            executor.shutdown();
+            final long startTime = System.nanoTime();
+            start.countDown();
+            assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+            return (double) THREADS * SPANS_PER_THREAD / ((System.nanoTime() - startTime) / 1E9);
+        } finally {
+            Identifier.setGenerator(defaultGenerator);
+        }
+    }
+
+    @Test
+    public void spanCreationThroughputTest() throws InterruptedException {
+        Assume.assumeTrue("Throughput test is disabled. Please check the profile if needed", Boolean.getBoolean(THROUGHPUT_TEST_PROPERTY));
+        //warm up
+        measureThroughput(IdentifierGenerator.FAST);
+        measureThroughput(IdentifierGenerator.SECURE);
+        final double fast = measureThroughput(IdentifierGenerator.FAST);
+        final double secure = measureThroughput(IdentifierGenerator.SECURE);
+        Logger.getLogger(IdentifierThroughputTest.class.getName()).info(String.format("Span creation throughput with %s threads: ThreadLocalRandom %.0f spans/s, SecureRandom %.0f spans/s",
+                THREADS, fast, secure));
+    }
+}
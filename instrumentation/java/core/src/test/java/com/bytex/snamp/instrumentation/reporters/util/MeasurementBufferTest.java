@@ -0,0 +1,159 @@
+package com.bytex.snamp.instrumentation.reporters.util;
+
+import com.bytex.snamp.instrumentation.measurements.IntegerMeasurement;
+import com.bytex.snamp.instrumentation.measurements.Measurement;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * @author Roman Sakno
+ * @version 1.0
+ * @since 1.0
+ */
+public final class MeasurementBufferTest extends Assert {
+    private static final int MEASUREMENTS_PER_PRODUCER = 20000;
+
+    @Test
+    public void dropOldestTest() {
+        final RingMeasurementBuffer buffer = new RingMeasurementBuffer(3);
+        assertEquals(4, buffer.getCapacity());
+        for (int i = 0; i < 4; i++)
+            assertEquals(MeasurementBuffer.PlacementResult.SUCCESS, buffer.place(new IntegerMeasurement(i)));
+        assertEquals(MeasurementBuffer.PlacementResult.DROP_OLD_MEASUREMENT, buffer.place(new IntegerMeasurement(4)));
+        assertEquals(MeasurementBuffer.PlacementResult.DROP_OLD_MEASUREMENT, buffer.place(new IntegerMeasurement(5)));
+        assertEquals(4, buffer.size());
+        for (long expected = 2L; expected < 6L; expected++)
+            assertEquals(expected, ((IntegerMeasurement) buffer.remove()).getValue());
+        assertNull(buffer.remove());
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    public void drainToTest() {
+        final RingMeasurementBuffer buffer = new RingMeasurementBuffer(16);
+        for (int i = 0; i < 10; i++)
+            buffer.place(new IntegerMeasurement(i));
+        final List<Measurement> batch = new ArrayList<>();
+        assertEquals(4, buffer.drainTo(batch, 4));
+        assertEquals(4, batch.size());
+        assertEquals(6, buffer.drainTo(batch, 100));
+        assertEquals(10, batch.size());
+        assertEquals(0, buffer.drainTo(batch, 100));
+        buffer.place(new IntegerMeasurement(42L));
+        buffer.clear();
+        assertEquals(0, buffer.size());
+    }
+
+    @Test
+    public void noDropsWithoutOverflowTest() throws InterruptedException {
+        final RingMeasurementBuffer buffer = new RingMeasurementBuffer(16);
+        final AtomicBoolean producing = new AtomicBoolean(true);
+        final Thread consumer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                while (producing.get() || buffer.size() > 0)
+                    if (buffer.remove() == null)
+                        Thread.yield();
+            }
+        });
+        consumer.start();
+        try {
+            for (int i = 0; i < 100_000; i++) {
+                //single producer never overflows the buffer
+                while (buffer.size() >= buffer.getCapacity())
+                    Thread.yield();
+                assertEquals(MeasurementBuffer.PlacementResult.SUCCESS, buffer.place(new IntegerMeasurement(i)));
+            }
+        } finally {
+            producing.set(false);
+            consumer.join();
+        }
+    }
+
+    /**
+     * Checks that measurements are never duplicated and preserve order of each producer.
+     * @return Number of consumed measurements.
+     */
+    private static int concurrentProducersTest(final BatchMeasurementBuffer buffer, final int producers) throws InterruptedException {
+        final AtomicBoolean producing = new AtomicBoolean(true);
+        final CountDownLatch start = new CountDownLatch(1);
+        final Thread[] threads = new Thread[producers];
+        for (int i = 0; i < producers; i++) {
+            final long offset = (long) i * MEASUREMENTS_PER_PRODUCER;
+            threads[i] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                    } catch (final InterruptedException e) {
+                        return;
+                    }
+                    for (int j = 0; j < MEASUREMENTS_PER_PRODUCER; j++)
+                        buffer.place(new IntegerMeasurement(offset + j));
+                }
+            });
+            threads[i].start();
+        }
+        final Thread watcher = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                for (final Thread thread : threads)
+                    try {
+                        thread.join();
+                    } catch (final InterruptedException e) {
+                        return;
+                    }
+                producing.set(false);
+            }
+        });
+        final long[] lastValues = new long[producers];
+        Arrays.fill(lastValues, -1L);
+        final List<Measurement> batch = new ArrayList<>(64);
+        int consumed = 0;
+        start.countDown();
+        watcher.start();
+        boolean completed;
+        do {
+            completed = !producing.get();
+            buffer.drainTo(batch, 64);
+            for (final Measurement measurement : batch) {
+                final long value = ((IntegerMeasurement) measurement).getValue();
+                final int producer = (int) (value / MEASUREMENTS_PER_PRODUCER);
+                assertTrue(value > lastValues[producer]);
+                lastValues[producer] = value;
+            }
+            consumed += batch.size();
+            batch.clear();
+        } while (!completed || buffer.size() > 0);
+        watcher.join();
+        assertTrue(consumed <= producers * MEASUREMENTS_PER_PRODUCER);
+        return consumed;
+    }
+
+    private static void concurrentProducersTest(final int producers) throws InterruptedException {
+        concurrentProducersTest(new RingMeasurementBuffer(1024), producers);
+        concurrentProducersTest(new BoundedMeasurementBuffer(1024), producers);
+        assertEquals(producers * MEASUREMENTS_PER_PRODUCER, concurrentProducersTest(new SoftMeasurementBuffer(), producers));
+    }
+
+    @Test
+    public void singleProducerTest() throws InterruptedException {
+        concurrentProducersTest(1);
+    }
+
+    @Test
+    public void fourProducersTest() throws InterruptedException {
+        concurrentProducersTest(4);
+    }
+
+    @Test
+    public void sixteenProducersTest() throws InterruptedException {
+        concurrentProducersTest(16);
+    }
+}
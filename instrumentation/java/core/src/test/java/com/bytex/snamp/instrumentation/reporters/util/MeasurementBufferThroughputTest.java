@@ -0,0 +1,103 @@
+package com.bytex.snamp.instrumentation.reporters.util;
+
+import com.bytex.snamp.instrumentation.measurements.IntegerMeasurement;
+import com.bytex.snamp.instrumentation.measurements.Measurement;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+/**
+ * Measures throughput of placing measurements into {@link RingMeasurementBuffer} in comparison with
+ * {@link BoundedMeasurementBuffer} and {@link SoftMeasurementBuffer}.
+ * <p>
+ *     This test is disabled by default. Use "Throughput test" profile to run it.
+ * @author Roman Sakno
+ * @version 1.0
+ * @since 1.0
+ */
+public final class MeasurementBufferThroughputTest extends Assert {
+    private static final String THROUGHPUT_TEST_PROPERTY = "com.bytex.snamp.instrumentation.throughput.test";
+    private static final int CAPACITY = 1024;
+    private static final int MEASUREMENTS_COUNT = 4_000_000;    //total number of measurements placed by all producers
+
+    private static double measureThroughput(final BatchMeasurementBuffer buffer, final int producers) throws InterruptedException {
+        final Measurement measurement = new IntegerMeasurement(42L);
+        final int measurementsPerProducer = MEASUREMENTS_COUNT / producers;
+        final AtomicBoolean producing = new AtomicBoolean(true);
+        final CountDownLatch start = new CountDownLatch(1);
+        //consumer drains the buffer concurrently with producers as the reporter does
+        final Thread consumer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                final List<Measurement> batch = new ArrayList<>(64);
+                while (producing.get()) {
+                    if (buffer.drainTo(batch, 64) == 0)
+                        Thread.yield();
+                    batch.clear();
+                }
+            }
+        });
+        final ExecutorService executor = Executors.newFixedThreadPool(producers);
+        for (int i = 0; i < producers; i++)
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                    } catch (final InterruptedException e) {
+                        return;
+                    }
+                    for (int j = 0; j < measurementsPerProducer; j++)
+                        buffer.place(measurement);
+                }
+            });
+        executor.shutdown();
+        consumer.start();
+        final long startTime = System.nanoTime();
+        start.countDown();
+        try {
+            assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        } finally {
+            producing.set(false);
+            consumer.join();
+        }
+        return (double) measurementsPerProducer * producers / ((System.nanoTime() - startTime) / 1E9);
+    }
+
+    private static void measureThroughput(final int producers) throws InterruptedException {
+        Assume.assumeTrue("Throughput test is disabled. Please check the profile if needed", Boolean.getBoolean(THROUGHPUT_TEST_PROPERTY));
+        //warm up
+        measureThroughput(new RingMeasurementBuffer(CAPACITY), producers);
+        measureThroughput(new BoundedMeasurementBuffer(CAPACITY), producers);
+        measureThroughput(new SoftMeasurementBuffer(), producers);
+        final double ring = measureThroughput(new RingMeasurementBuffer(CAPACITY), producers);
+        final double bounded = measureThroughput(new BoundedMeasurementBuffer(CAPACITY), producers);
+        final double soft = measureThroughput(new SoftMeasurementBuffer(), producers);
+        Logger.getLogger(MeasurementBufferThroughputTest.class.getName()).info(String.format("Measurement buffer throughput with %s producer(s): ring %.0f ops/s, bounded %.0f ops/s, soft %.0f ops/s",
+                producers, ring, bounded, soft));
+    }
+
+    @Test
+    public void singleProducerTest() throws InterruptedException {
+        measureThroughput(1);
+    }
+
+    @Test
+    public void fourProducersTest() throws InterruptedException {
+        measureThroughput(4);
+    }
+
+    @Test
+    public void sixteenProducersTest() throws InterruptedException {
+        measureThroughput(16);
+    }
+}
@@ -0,0 +1,148 @@
+package com.bytex.snamp.instrumentation.reporters.http;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Represents backpressure statistics of {@link HttpReporter} working in batching mode.
+ * @author Roman Sakno
+ * @version 1.0
+ * @since 1.0
+ */
+public final class BatchStatistics {
+    private final AtomicLong queued;
+    private final AtomicLong dropped;
+    private final AtomicLong sent;
+    private final AtomicLong failed;
+    private final AtomicLong flushes;
+    private final AtomicLong failedFlushes;
+    private final AtomicLong summaryFlushLatency;
+    private final AtomicLong lastFlushLatency;
+    private final AtomicLong maxFlushLatency;
+
+    BatchStatistics() {
+        queued = new AtomicLong(0L);
+        dropped = new AtomicLong(0L);
+        sent = new AtomicLong(0L);
+        failed = new AtomicLong(0L);
+        flushes = new AtomicLong(0L);
+        failedFlushes = new AtomicLong(0L);
+        summaryFlushLatency = new AtomicLong(0L);
+        lastFlushLatency = new AtomicLong(0L);
+        maxFlushLatency = new AtomicLong(0L);
+    }
+
+    void measurementQueued() {
+        queued.incrementAndGet();
+    }
+
+    void measurementDropped() {
+        dropped.incrementAndGet();
+    }
+
+    void batchSent(final int size, final long latencyNanos) {
+        sent.addAndGet(size);
+        flushes.incrementAndGet();
+        summaryFlushLatency.addAndGet(latencyNanos);
+        lastFlushLatency.set(latencyNanos);
+        long current;
+        do {
+            current = maxFlushLatency.get();
+        } while (latencyNanos > current && !maxFlushLatency.compareAndSet(current, latencyNanos));
+    }
+
+    void batchFailed(final int size) {
+        failed.addAndGet(size);
+        failedFlushes.incrementAndGet();
+    }
+
+    /**
+     * Gets total number of measurements accepted into the outgoing queue.
+     * @return Total number of measurements accepted into the outgoing queue.
+     */
+    public long getQueuedMeasurements() {
+        return queued.get();
+    }
+
+    /**
+     * Gets total number of measurements dropped because the outgoing queue was full.
+     * @return Total number of dropped measurements.
+     */
+    public long getDroppedMeasurements() {
+        return dropped.get();
+    }
+
+    /**
+     * Gets total number of measurements delivered to SNAMP.
+     * @return Total number of delivered measurements.
+     */
+    public long getSentMeasurements() {
+        return sent.get();
+    }
+
+    /**
+     * Gets total number of measurements that were not delivered to SNAMP in batch.
+     * <p>
+     *     Such measurements are saved into the buffer of the reporter and can be delivered later.
+     * @return Total number of measurements that were not delivered in batch.
+     */
+    public long getFailedMeasurements() {
+        return failed.get();
+    }
+
+    /**
+     * Gets number of batches that were not delivered to SNAMP.
+     * @return Number of failed batches.
+     */
+    public long getFailedFlushes() {
+        return failedFlushes.get();
+    }
+
+    /**
+     * Gets number of batches delivered to SNAMP.
+     * @return Number of delivered batches.
+     */
+    public long getFlushes() {
+        return flushes.get();
+    }
+
+    /**
+     * Gets duration of the last flush.
+     * @param unit Time unit of the result.
+     * @return Duration of the last flush.
+     */
+    public long getLastFlushLatency(final TimeUnit unit) {
+        return unit.convert(lastFlushLatency.get(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Gets duration of the longest flush.
+     * @param unit Time unit of the result.
+     * @return Duration of the longest flush.
+     */
+    public long getMaxFlushLatency(final TimeUnit unit) {
+        return unit.convert(maxFlushLatency.get(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Gets mean duration of flush.
+     * @param unit Time unit of the result.
+     * @return Mean duration of flush.
+     */
+    public double getMeanFlushLatency(final TimeUnit unit) {
+        final long count = flushes.get();
+        return count == 0L ? 0D : (double) unit.convert(summaryFlushLatency.get(), TimeUnit.NANOSECONDS) / count;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("queued=%s, dropped=%s, sent=%s, failed=%s, flushes=%s, failedFlushes=%s, maxFlushLatency=%sms",
+                getQueuedMeasurements(),
+                getDroppedMeasurements(),
+                getSentMeasurements(),
+                getFailedMeasurements(),
+                getFlushes(),
+                getFailedFlushes(),
+                getMaxFlushLatency(TimeUnit.MILLISECONDS));
+    }
+}
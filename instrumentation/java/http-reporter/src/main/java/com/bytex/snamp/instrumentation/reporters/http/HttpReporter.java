@@ -2,6 +2,7 @@ package com.bytex.snamp.instrumentation.reporters.http;
 
 import com.bytex.snamp.instrumentation.measurements.Measurement;
 import com.bytex.snamp.instrumentation.reporters.Reporter;
+import com.bytex.snamp.instrumentation.reporters.util.BatchMeasurementBuffer;
 import com.bytex.snamp.instrumentation.reporters.util.MeasurementBuffer;
 import com.bytex.snamp.instrumentation.reporters.util.SoftMeasurementBuffer;
 import com.sun.jersey.api.client.*;
@@ -16,11 +17,14 @@ import java.io.IOException;
 import java.lang.ref.WeakReference;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -28,6 +32,10 @@ import java.util.logging.Logger;
  * Represents HTTP reporter that can be worker in synchronous our asynchronous mode.
  * <p />
  *     This report can be used in conjunction with HTTP Connector.
+ * <p />
+ *     In batching mode (see {@link #BATCHING_FEATURE}) measurements are placed into the bounded queue
+ *     and background thread sends them to SNAMP in batches limited by size and time. Measurements that don't fit
+ *     into the queue are dropped. Statistics of batching is available through {@link #getStatistics()}.
  * @author Roman Sakno
  * @version 1.0
  * @since 1.0
@@ -70,6 +78,84 @@ public final class HttpReporter implements Reporter {
         }
     }
 
+    private static final class BatchFlusher extends Thread {
+        private final WeakReference<HttpReporter> reporter;
+        private final BlockingQueue<Measurement> queue;
+        private final int batchSize;
+        private final long flushIntervalNanos;
+        private final Lock flushLock;
+
+        private BatchFlusher(final HttpReporter reporter,
+                             final BlockingQueue<Measurement> queue,
+                             final int batchSize,
+                             final long flushInterval) {
+            super("SnampHttpReporterFlusher");
+            setDaemon(true);
+            this.reporter = new WeakReference<>(reporter);
+            this.queue = queue;
+            this.batchSize = batchSize;
+            this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushInterval);
+            this.flushLock = reporter.flushLock;
+        }
+
+        /**
+         * Collects measurements until batch is full or flush interval is elapsed since the first measurement in the batch.
+         */
+        private void collect(final List<Measurement> batch) throws InterruptedException {
+            final long deadline = System.nanoTime() + flushIntervalNanos;
+            while (batch.size() < batchSize)
+                if (queue.drainTo(batch, batchSize - batch.size()) == 0) {
+                    final long remaining = deadline - System.nanoTime();
+                    final Measurement next;
+                    if (remaining <= 0L || (next = queue.poll(remaining, TimeUnit.NANOSECONDS)) == null)
+                        return;
+                    batch.add(next);
+                }
+        }
+
+        private boolean flush(final List<Measurement> batch) {
+            final HttpReporter reporter = this.reporter.get();
+            if (reporter == null)
+                return false;
+            reporter.sendBatches(batch);
+            batch.clear();
+            return true;
+        }
+
+        @Override
+        public void run() {
+            final List<Measurement> batch = new ArrayList<>(batchSize);
+            while (!isInterrupted())
+                try {
+                    //waiting for the first measurement doesn't block explicit flush of the reporter
+                    final Measurement first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                    if (first == null)
+                        continue;
+                    batch.add(first);   //will be sent after interruption if lock is not acquired
+                    //measurements taken from the queue are owned by this thread until they are sent,
+                    //so explicit flush of the reporter must wait for them
+                    flushLock.lockInterruptibly();
+                    try {
+                        collect(batch);
+                        if (!flush(batch))
+                            return;     //reporter was collected by GC
+                    } finally {
+                        flushLock.unlock();
+                    }
+                } catch (final InterruptedException e) {
+                    break;
+                }
+            //send the rest of measurements
+            flushLock.lock();
+            try {
+                queue.drainTo(batch);
+                flush(batch);
+            } finally {
+                flushLock.unlock();
+            }
+        }
+    }
+
     private static final Logger LOGGER = Logger.getLogger("SnampHttpReporter");
 
     /**
@@ -87,14 +173,43 @@ public final class HttpReporter implements Reporter {
      */
     public static final String BUFFER_PROPERTY = "com.bytex.snamp.reporter.http.buffer";
 
+    /**
+     * Represents configuration property of type {@link Boolean} indicating that HTTP reporter should send measurements in batches
+     * using background thread.
+     */
+    public static final String BATCHING_FEATURE = "com.bytex.snamp.reporter.http.batching";
+
+    /**
+     * Represents configuration property of type {@link Integer} that defines maximum number of measurements in the single batch.
+     */
+    public static final String BATCH_SIZE_PROPERTY = "com.bytex.snamp.reporter.http.batchSize";
+
+    /**
+     * Represents configuration property of type {@link Long} that defines maximum time (in millis) between receiving of measurement
+     * and sending it in the batch.
+     */
+    public static final String FLUSH_INTERVAL_PROPERTY = "com.bytex.snamp.reporter.http.flushInterval";
+
+    /**
+     * Represents configuration property of type {@link Integer} that defines capacity of the queue with measurements waiting for sending.
+     */
+    public static final String QUEUE_CAPACITY_PROPERTY = "com.bytex.snamp.reporter.http.queueCapacity";
+
+    private static final int DEFAULT_BATCH_SIZE = 512;
+    private static final long DEFAULT_FLUSH_INTERVAL = 1000L;
+    private static final int DEFAULT_QUEUE_CAPACITY = 65536;
+    private static final long CLOSE_TIMEOUT = 5000L;
     private static final String BATCH_PATH = "/snamp/data/acquisition/measurements";
-    private static final String NON_BATCH_PATH = "/snamp/data/acquisition/measurement";
     private final Client httpClient;
     private final WebResource batchResource;
-    private final WebResource nonBatchResource;
     private final MeasurementBuffer buffer;
     private final AtomicBoolean resending;
     private boolean asynchronous;
+    private final int batchSize;
+    private final BlockingQueue<Measurement> outgoing;
+    private final BatchFlusher flusher;
+    private final BatchStatistics statistics;
+    private final Lock flushLock;
 
     public HttpReporter(final URI snampLocation, final Map<String, ?> properties) {
         final DefaultClientConfig clientConfig = new SnampClientConfig(properties);
@@ -107,11 +222,21 @@ public final class HttpReporter implements Reporter {
         if(customExecutorService != null)
             httpClient.setExecutorService(customExecutorService);
         batchResource = httpClient.resource(UriBuilder.fromUri(snampLocation).path(BATCH_PATH).build());
-        nonBatchResource = httpClient.resource(UriBuilder.fromUri(snampLocation).path(NON_BATCH_PATH).build());
         final MeasurementBuffer buffer = (MeasurementBuffer) clientConfig.getProperty(BUFFER_PROPERTY);
         this.buffer = buffer == null ? new SoftMeasurementBuffer() : buffer;
         resending = new AtomicBoolean(false);
         asynchronous = true;
+        statistics = new BatchStatistics();
+        flushLock = new ReentrantLock(true);    //fairness prevents starvation of explicit flush by the flusher thread
+        batchSize = getProperty(clientConfig, BATCH_SIZE_PROPERTY, DEFAULT_BATCH_SIZE);
+        if (getProperty(clientConfig, BATCHING_FEATURE, false)) {
+            outgoing = new ArrayBlockingQueue<>(getProperty(clientConfig, QUEUE_CAPACITY_PROPERTY, DEFAULT_QUEUE_CAPACITY));
+            flusher = new BatchFlusher(this, outgoing, batchSize, getProperty(clientConfig, FLUSH_INTERVAL_PROPERTY, DEFAULT_FLUSH_INTERVAL));
+            flusher.start();
+        } else {
+            outgoing = null;
+            flusher = null;
+        }
     }
 
     public HttpReporter(final String snampLocation, final Map<String, ?> properties) throws URISyntaxException {
@@ -122,6 +247,36 @@ public final class HttpReporter implements Reporter {
         this(snampLocation, Collections.<String, Object>emptyMap());
     }
 
+    private static int getProperty(final DefaultClientConfig config, final String name, final int defaultValue) {
+        final Object value = config.getProperty(name);
+        if (value instanceof Number)
+            return ((Number) value).intValue();
+        else if (value instanceof String)
+            return Integer.parseInt((String) value);
+        else
+            return defaultValue;
+    }
+
+    private static long getProperty(final DefaultClientConfig config, final String name, final long defaultValue) {
+        final Object value = config.getProperty(name);
+        if (value instanceof Number)
+            return ((Number) value).longValue();
+        else if (value instanceof String)
+            return Long.parseLong((String) value);
+        else
+            return defaultValue;
+    }
+
+    private static boolean getProperty(final DefaultClientConfig config, final String name, final boolean defaultValue) {
+        final Object value = config.getProperty(name);
+        if (value instanceof Boolean)
+            return (Boolean) value;
+        else if (value instanceof String)
+            return Boolean.parseBoolean((String) value);
+        else
+            return defaultValue;
+    }
+
     /**
      * Determines whether this sender is asynchronous.
      *
@@ -129,7 +284,7 @@ public final class HttpReporter implements Reporter {
      */
     @Override
     public boolean isAsynchronous() {
-        return asynchronous;
+        return asynchronous || flusher != null;
     }
 
     public void setAsynchronous(final boolean value){
@@ -148,28 +303,51 @@ public final class HttpReporter implements Reporter {
 
     /**
      * Flushes buffered measurements.
-     *
+     * <p>
+     *     In batching mode this method waits for the batch collected by the background thread
+     *     and then sends all measurements from the outgoing queue. The background thread holds no lock while the queue is empty,
+     *     so the method doesn't wait for the flush interval.
      * @throws IOException HTTP error occurred when posting measurements to SNAMP.
      */
     @Override
     public void flush() throws IOException {
-        try {
-            resendMeasurements();
-        } catch (final ClientHandlerException e){
-            throw new IOException(e);
+        if (outgoing != null) {
+            flushLock.lock();
+            try {
+                final List<Measurement> pending = new ArrayList<>(outgoing.size());
+                outgoing.drainTo(pending);
+                sendBatches(pending);
+            } finally {
+                flushLock.unlock();
+            }
         }
+        if (!resendMeasurements())
+            throw new IOException(String.format("Unable to send buffered measurements to %s", batchResource.getURI()));
     }
 
-    private void resendMeasurements() throws ClientHandlerException {
-        Measurement measurement;
-        while ((measurement = buffer.remove()) != null)
-            try {
-                nonBatchResource.type(MediaType.APPLICATION_JSON_TYPE).post(measurement);
-            } catch (final ClientHandlerException e){
-                //save the measurement again and abort sending
-                saveMeasurements(measurement);
-                throw e;
+    private static int drainTo(final MeasurementBuffer buffer, final List<Measurement> output, final int maxElements) {
+        if (buffer instanceof BatchMeasurementBuffer)
+            return ((BatchMeasurementBuffer) buffer).drainTo(output, maxElements);
+        //custom buffer may not support batches
+        int count = 0;
+        for (Measurement measurement; count < maxElements && (measurement = buffer.remove()) != null; count++)
+            output.add(measurement);
+        return count;
+    }
+
+    private boolean resendMeasurements() {
+        final List<Measurement> batch = new ArrayList<>();
+        while (true) {
+            if (drainTo(buffer, batch, batchSize) == 0)
+                return true;
+            final Measurement[] measurements = batch.toArray(new Measurement[batch.size()]);
+            batch.clear();
+            if (!post(measurements)) {
+                //save the measurements again and abort sending
+                saveMeasurements(measurements);
+                return false;
             }
+        }
     }
 
     private void saveMeasurements(final Measurement... measurements) {
@@ -183,7 +361,7 @@ public final class HttpReporter implements Reporter {
             }
     }
 
-    private void reportSync(final Measurement[] measurements) {
+    private boolean post(final Measurement[] measurements) {
         final ClientRequest request = ClientRequest.create()
                 .type(MediaType.APPLICATION_JSON_TYPE)
                 .entity(measurements)
@@ -193,24 +371,55 @@ public final class HttpReporter implements Reporter {
             response = batchResource.getHeadHandler().handle(request);
         } catch (final ClientHandlerException e) {
             LOGGER.log(Level.WARNING, String.format("Unable to send measurements to %s", batchResource.getURI()), e);
+            return false;
+        }
+        try {
+            switch (response.getStatus()) {
+                case 204:
+                case 200:
+                    LOGGER.fine("Successfully submitted measurements");
+                    return true;
+                default:
+                    LOGGER.warning(String.format("Failed to submit measurements. Response code is %s (%s)", response.getStatus(), response.getStatusInfo().getReasonPhrase()));
+                    return false;
+            }
+        } finally {
+            response.close();   //connection can be reused by the next request only when response is consumed
+        }
+    }
+
+    private void resendBufferedMeasurements() {
+        //only one thread can be used for resending measurements at a time
+        if (resending.compareAndSet(false, true))
+            try {
+                resendMeasurements();
+            } finally {
+                resending.set(false);
+            }
+    }
+
+    private void reportSync(final Measurement[] measurements) {
+        if (post(measurements))
+            resendBufferedMeasurements();
+        else
             saveMeasurements(measurements);
-            return;
-        }
-        switch (response.getStatus()) {
-            case 204:
-            case 200:
-                LOGGER.fine("Successfully submitted measurements");
-                //only one thread can be used for resending measurements at a time
-                if (resending.compareAndSet(false, true))
-                    try {
-                        resendMeasurements();
-                    } finally {
-                        resending.set(false);
-                    }
-                return;
-            default:
-                LOGGER.warning(String.format("Failed to submit measurements. Response code is %s (%s)", response.getStatus(), response.getStatusInfo().getReasonPhrase()));
-                saveMeasurements(measurements);
+    }
+
+    private void sendBatch(final Measurement[] batch) {
+        final long startTime = System.nanoTime();
+        if (post(batch)) {
+            statistics.batchSent(batch.length, System.nanoTime() - startTime);
+            resendBufferedMeasurements();
+        } else {
+            statistics.batchFailed(batch.length);
+            saveMeasurements(batch);
+        }
+    }
+
+    private void sendBatches(final List<Measurement> measurements) {
+        for (int from = 0; from < measurements.size(); from += batchSize) {
+            final List<Measurement> portion = measurements.subList(from, Math.min(measurements.size(), from + batchSize));
+            sendBatch(portion.toArray(new Measurement[portion.size()]));
         }
     }
 
@@ -222,7 +431,13 @@ public final class HttpReporter implements Reporter {
     @Override
     public void report(final Measurement... measurements) {
         //send this portion of measurements
-        if (asynchronous)
+        if (outgoing != null)
+            for (final Measurement measurement : measurements)
+                if (outgoing.offer(measurement))
+                    statistics.measurementQueued();
+                else
+                    statistics.measurementDropped();
+        else if (asynchronous)
             httpClient.getExecutorService().execute(new MeasurementSender(this, measurements));
         else
             reportSync(measurements);
@@ -232,8 +447,32 @@ public final class HttpReporter implements Reporter {
         return buffer.size();
     }
 
+    /**
+     * Gets number of measurements in the outgoing queue.
+     * @return Number of measurements in the outgoing queue; or 0, if batching mode is disabled.
+     */
+    public int getQueuedMeasurements() {
+        return outgoing == null ? 0 : outgoing.size();
+    }
+
+    /**
+     * Gets statistics of batching mode.
+     * @return Statistics of batching mode.
+     */
+    public BatchStatistics getStatistics() {
+        return statistics;
+    }
+
     @Override
     public void close() throws IOException {
+        if (flusher != null) {
+            flusher.interrupt();
+            try {
+                flusher.join(CLOSE_TIMEOUT);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
         httpClient.destroy();
         buffer.clear();
     }
@@ -2,12 +2,20 @@ package com.bytex.snamp.instrumentation.reporters.http;
 
 import com.bytex.snamp.instrumentation.MetricRegistry;
 import com.bytex.snamp.instrumentation.measurements.IntegerMeasurement;
+import com.bytex.snamp.instrumentation.measurements.Measurement;
 import com.bytex.snamp.instrumentation.reporters.Reporter;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import org.codehaus.jackson.map.ObjectMapper;
 import org.junit.Assert;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
 import java.net.URISyntaxException;
+import java.util.*;
 
 /**
  * @author Roman Sakno
@@ -24,6 +32,86 @@ public final class HttpReporterTest extends Assert {
         reporter.close();
     }
 
+    @Test
+    public void batchingTest() throws URISyntaxException, IOException, InterruptedException {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put(HttpReporter.BATCHING_FEATURE, "true");
+        properties.put(HttpReporter.BATCH_SIZE_PROPERTY, 4);
+        properties.put(HttpReporter.FLUSH_INTERVAL_PROPERTY, 50L);
+        properties.put(HttpReporter.QUEUE_CAPACITY_PROPERTY, 16);
+        final HttpReporter reporter = new HttpReporter("http://localhost:9099", properties);
+        assertTrue(reporter.isAsynchronous());
+        for (int i = 0; i < 100; i++)
+            reporter.report(new IntegerMeasurement(i));
+        final BatchStatistics statistics = reporter.getStatistics();
+        assertEquals(100L, statistics.getQueuedMeasurements() + statistics.getDroppedMeasurements());
+        assertTrue(statistics.getDroppedMeasurements() > 0L);
+        Thread.sleep(1000);
+        assertEquals(0, reporter.getQueuedMeasurements());
+        assertEquals(0L, statistics.getSentMeasurements());
+        assertEquals(statistics.getQueuedMeasurements(), statistics.getFailedMeasurements());
+        assertTrue(statistics.getFailedFlushes() > 0L);
+        reporter.close();
+    }
+
+    @Test
+    public void idleFlushTest() throws URISyntaxException, IOException, InterruptedException {
+        final Map<String, Object> properties = new HashMap<>();
+        properties.put(HttpReporter.BATCHING_FEATURE, "true");
+        properties.put(HttpReporter.FLUSH_INTERVAL_PROPERTY, 10_000L);
+        final HttpReporter reporter = new HttpReporter("http://localhost:9099", properties);
+        Thread.sleep(100);  //background thread waits for the first measurement
+        final long startTime = System.currentTimeMillis();
+        reporter.flush();
+        //explicit flush doesn't wait for the flush interval when the queue is empty
+        assertTrue(System.currentTimeMillis() - startTime < 5_000L);
+        reporter.close();
+    }
+
+    @Test
+    public void batchDeliveryTest() throws IOException, URISyntaxException {
+        final List<Measurement> received = Collections.synchronizedList(new ArrayList<Measurement>());
+        final ObjectMapper mapper = new ObjectMapper();
+        final HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/snamp/data/acquisition/measurements", new HttpHandler() {
+            @Override
+            public void handle(final HttpExchange exchange) throws IOException {
+                try (final InputStream body = exchange.getRequestBody()) {
+                    received.addAll(Arrays.asList(mapper.readValue(body, Measurement[].class)));
+                }
+                exchange.sendResponseHeaders(204, -1L);
+                exchange.close();
+            }
+        });
+        server.start();
+        try {
+            final Map<String, Object> properties = new HashMap<>();
+            properties.put(HttpReporter.BATCHING_FEATURE, true);
+            properties.put(HttpReporter.BATCH_SIZE_PROPERTY, 8);
+            properties.put(HttpReporter.FLUSH_INTERVAL_PROPERTY, 50L);
+            final HttpReporter reporter = new HttpReporter("http://localhost:" + server.getAddress().getPort(), properties);
+            try {
+                for (int i = 0; i < 100; i++)
+                    reporter.report(new IntegerMeasurement(i));
+                reporter.flush();
+                final BatchStatistics statistics = reporter.getStatistics();
+                assertEquals(100L, statistics.getSentMeasurements());
+                assertEquals(0L, statistics.getFailedMeasurements());
+                assertTrue(statistics.getFlushes() >= 100 / 8);
+            } finally {
+                reporter.close();
+            }
+        } finally {
+            server.stop(0);
+        }
+        assertEquals(100, received.size());
+        final Set<Long> values = new HashSet<>();
+        for (final Measurement measurement : received)
+            values.add(((IntegerMeasurement) measurement).getValue());
+        for (long i = 0; i < 100; i++)
+            assertTrue(values.contains(i));
+    }
+
     @Test
     public void spiTest(){
         final MetricRegistry registry = new MetricRegistry();
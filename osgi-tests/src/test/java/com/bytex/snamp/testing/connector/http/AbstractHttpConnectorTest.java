@@ -63,6 +63,13 @@ public abstract class AbstractHttpConnectorTest extends AbstractResourceConnecto
         httpPost(Measurement.toJsonString(false, measurements), "http://localhost:8181/snamp/data/acquisition/measurements/", MediaType.APPLICATION_JSON_TYPE);
     }
 
+    protected static void sendMeasurementStream(final Measurement... measurements) throws IOException {
+        final StringBuilder body = new StringBuilder();
+        for (final Measurement measurement : measurements)
+            body.append(measurement.toJsonString(false)).append('\n');
+        httpPost(body.toString(), "http://localhost:8181/snamp/data/acquisition/measurements/stream", MediaType.valueOf("application/x-ndjson"));
+    }
+
     protected static void sendText(final String text) throws IOException{
         httpPost(text, "http://localhost:8181/snamp/data/acquisition", MediaType.TEXT_PLAIN_TYPE);
     }
@@ -11,6 +11,7 @@ import com.google.common.reflect.TypeToken;
 import org.junit.Test;
 
 import javax.management.JMException;
+import javax.management.openmbean.CompositeData;
 import java.io.File;
 import java.io.IOException;
 
@@ -21,6 +22,8 @@ import java.io.IOException;
  */
 public final class HttpConnectorTest extends AbstractHttpConnectorTest {
 
+    private static final String STREAMED_MEASUREMENT = "streamedValue";
+
     public HttpConnectorTest() {
         super("file:" + getPathToFileInProjectRoot("sample-groovy-scripts") + File.separator,
                 "HttpAcceptorParser.groovy");
@@ -49,6 +52,28 @@ public final class HttpConnectorTest extends AbstractHttpConnectorTest {
         testAttribute("longValue", TypeToken.of(Long.class), 42L, true);
     }
 
+    @Test
+    public void testMeasurementStream() throws IOException, JMException {
+        //more measurements than the size of the single chunk used by acceptor
+        final int count = 1500;
+        final IntegerMeasurement[] measurements = new IntegerMeasurement[count];
+        for (int i = 0; i < count; i++) {
+            measurements[i] = new IntegerMeasurement(i + 1);
+            measurements[i].setName(STREAMED_MEASUREMENT);
+            measurements[i].setInstanceName(TEST_RESOURCE_NAME);
+            measurements[i].setComponentName(COMPONENT_NAME);
+        }
+        sendMeasurementStream(measurements);
+        try {
+            final CompositeData gauge = (CompositeData) getManagementConnector().getAttribute("streamed");
+            assertEquals((long) count, gauge.get("totalRate"));
+            assertEquals(1L, gauge.get("minValue"));
+            assertEquals((long) count, gauge.get("maxValue"));
+        } finally {
+            releaseManagementConnector();
+        }
+    }
+
     @Test
     public void testCustomTextParser() throws IOException, JMException {
         sendText("Hello, world");
@@ -99,5 +124,9 @@ public final class HttpConnectorTest extends AbstractHttpConnectorTest {
         attributes.addAndConsume("strValue", attribute -> attribute.put("gauge", "get lastValue from stringGauge attribute2"));
         attributes.addAndConsume("min", attribute -> attribute.put("gauge", "get minValue from gauge64 attribute1"));
         attributes.addAndConsume("max", attribute -> attribute.put("gauge", "get maxValue from gauge64 attribute1"));
+        attributes.addAndConsume("streamed", attribute -> {
+            attribute.put("gauge", "gauge64");
+            attribute.setAlternativeName(STREAMED_MEASUREMENT);
+        });
     }
 }
@@ -0,0 +1,346 @@
+package com.bytex.snamp.supervision.def;
+
+import com.bytex.snamp.SafeCloseable;
+import com.bytex.snamp.connector.ManagedResourceConnector;
+import com.bytex.snamp.connector.ManagedResourceConnectorClient;
+import com.bytex.snamp.connector.attributes.AttributeSupport;
+import com.bytex.snamp.connector.health.HealthCheckSupport;
+import com.bytex.snamp.connector.health.HealthStatus;
+import com.bytex.snamp.connector.health.OkStatus;
+import com.bytex.snamp.supervision.AttributeSnapshot;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import org.osgi.framework.BundleContext;
+
+import javax.annotation.Nonnull;
+import javax.annotation.concurrent.ThreadSafe;
+import javax.management.*;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Represents default implementation of {@link AttributeSnapshot}.
+ * <p>
+ *     Every resource is resolved at most once and every attribute of the resource is read at most once
+ *     during lifetime of the snapshot. Resource connectors obtained by the snapshot are released
+ *     when the snapshot is closed and all its readers are completed.
+ * @author Roman Sakno
+ * @version 2.0
+ * @since 2.0
+ */
+@ThreadSafe
+public final class DefaultAttributeSnapshot implements AttributeSnapshot, SafeCloseable {
+    /**
+     * Default time of waiting for attribute which is read by another thread.
+     */
+    static final Duration DEFAULT_READ_TIMEOUT = Duration.ofSeconds(30L);
+
+    private static final class AttributeValue {
+        private final Object value;
+        private final JMException error;
+
+        private AttributeValue(final Object value, final JMException error) {
+            this.value = value;
+            this.error = error;
+        }
+
+        Object get() throws JMException {
+            if (error != null)
+                throw error;
+            return value;
+        }
+    }
+
+    /**
+     * Represents snapshot of the single resource.
+     */
+    static final class ResourceSnapshot {
+        private final ManagedResourceConnector connector;
+        private final Duration readTimeout;
+        private final ConcurrentMap<String, AttributeValue> values;  //completed reads only
+        private final ConcurrentMap<String, CompletableFuture<AttributeValue>> reads;    //reads in progress
+        private volatile HealthStatus connectorStatus;
+
+        ResourceSnapshot(@Nonnull final ManagedResourceConnector connector, @Nonnull final Duration readTimeout) {
+            this.connector = Objects.requireNonNull(connector);
+            this.readTimeout = Objects.requireNonNull(readTimeout);
+            values = new ConcurrentHashMap<>();
+            reads = new ConcurrentHashMap<>();
+        }
+
+        ResourceSnapshot(@Nonnull final ManagedResourceConnector connector) {
+            this(connector, DEFAULT_READ_TIMEOUT);
+        }
+
+        /**
+         * Gets health status provided by connector itself.
+         * @return Health status of the connector.
+         */
+        HealthStatus getConnectorStatus() {
+            HealthStatus result = connectorStatus;
+            if (result == null)
+                connectorStatus = result = connector.queryObject(HealthCheckSupport.class).map(HealthCheckSupport::getStatus).orElseGet(OkStatus::new);
+            return result;
+        }
+
+        private AttributeValue readAttribute(final String attributeName) {
+            final Optional<AttributeSupport> support = connector.queryObject(AttributeSupport.class);
+            try {
+                if (support.isPresent())
+                    return new AttributeValue(support.get().getAttribute(attributeName), null);
+                else
+                    throw new AttributeNotFoundException(String.format("Attribute %s is not supported", attributeName));
+            } catch (final JMException e) {
+                return new AttributeValue(null, e);
+            }
+        }
+
+        private AttributeValue readAttribute(final String attributeName, final CompletableFuture<AttributeValue> read) {
+            try {
+                final AttributeValue value = readAttribute(attributeName);
+                values.putIfAbsent(attributeName, value);
+                read.complete(value);
+                return value;
+            } catch (final RuntimeException e) {
+                read.completeExceptionally(e);  //waiting readers must be released in any case
+                throw e;
+            } finally {
+                reads.remove(attributeName, read);
+            }
+        }
+
+        private AttributeValue awaitAttribute(final String attributeName, final Future<AttributeValue> read) throws JMException {
+            try {
+                return read.get(readTimeout.toNanos(), TimeUnit.NANOSECONDS);
+            } catch (final TimeoutException e) {
+                throw new MBeanException(new IOException(String.format("Attribute %s is not read in %s", attributeName, readTimeout), e));
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MBeanException(e);
+            } catch (final ExecutionException e) {
+                throw new MBeanException(e.getCause() instanceof Exception ? (Exception) e.getCause() : e);
+            }
+        }
+
+        /**
+         * Reads the specified attributes using the single request to the connector.
+         * <p>
+         *     Attributes which were read earlier are not requested again. Attributes which are not returned
+         *     by the connector will be read individually by {@link #getAttribute(String)}.
+         * @param attributeNames Names of attributes to read.
+         */
+        void readAttributes(final Collection<String> attributeNames) {
+            final String[] missingAttributes = attributeNames.stream()
+                    .filter(attributeName -> !values.containsKey(attributeName) && !reads.containsKey(attributeName))
+                    .toArray(String[]::new);
+            if (missingAttributes.length > 0)
+                connector.queryObject(AttributeSupport.class).ifPresent(support -> {
+                    for (final Attribute attribute : support.getAttributes(missingAttributes).asList())
+                        values.putIfAbsent(attribute.getName(), new AttributeValue(attribute.getValue(), null));
+                });
+        }
+
+        /**
+         * Gets value of the attribute.
+         * <p>
+         *     Attribute is read in the thread of the first caller. Other callers wait for this read
+         *     no longer than read timeout.
+         * @param attributeName Name of the attribute.
+         * @return Attribute value.
+         * @throws JMException Unable to read attribute.
+         */
+        Object getAttribute(final String attributeName) throws JMException {
+            AttributeValue value = values.get(attributeName);
+            if (value != null)
+                return value.get();
+            final CompletableFuture<AttributeValue> read = new CompletableFuture<>();
+            final CompletableFuture<AttributeValue> concurrentRead = reads.putIfAbsent(attributeName, read);
+            if (concurrentRead != null)
+                return awaitAttribute(attributeName, concurrentRead).get();
+            //value may be cached by another reader after the first check
+            value = values.get(attributeName);
+            if (value == null)
+                value = readAttribute(attributeName, read);
+            else {
+                reads.remove(attributeName, read);
+                read.complete(value);
+            }
+            return value.get();
+        }
+
+        private void close() {
+            values.clear();
+            if (connector instanceof ManagedResourceConnectorClient)
+                ((ManagedResourceConnectorClient) connector).close();
+        }
+    }
+
+    private final Function<String, Optional<? extends ManagedResourceConnector>> resolver;
+    private final ImmutableSet<String> resources;
+    private final Duration readTimeout;
+    private final ConcurrentMap<String, Optional<ResourceSnapshot>> snapshots;
+    private final AtomicInteger references; //the owner of the snapshot holds the first reference
+    private final AtomicBoolean closed;
+
+    /**
+     * Initializes a new snapshot of the resource group.
+     * @param context Bundle context used to resolve resource connectors.
+     * @param resources A set of resources in the group.
+     * @param readTimeout Time of waiting for attribute which is read by another thread.
+     */
+    public DefaultAttributeSnapshot(@Nonnull final BundleContext context,
+                                    @Nonnull final Set<String> resources,
+                                    @Nonnull final Duration readTimeout) {
+        this(resources, connectorResolver(context), readTimeout);
+    }
+
+    /**
+     * Initializes a new snapshot of the resource group.
+     * @param context Bundle context used to resolve resource connectors.
+     * @param resources A set of resources in the group.
+     */
+    public DefaultAttributeSnapshot(@Nonnull final BundleContext context, @Nonnull final Set<String> resources) {
+        this(context, resources, DEFAULT_READ_TIMEOUT);
+    }
+
+    /**
+     * Initializes a new snapshot of the resource group.
+     * @param resources A set of resources in the group.
+     * @param resolver Resolver of resource connectors.
+     * @param readTimeout Time of waiting for attribute which is read by another thread.
+     */
+    DefaultAttributeSnapshot(@Nonnull final Set<String> resources,
+                             @Nonnull final Function<String, Optional<? extends ManagedResourceConnector>> resolver,
+                             @Nonnull final Duration readTimeout) {
+        this.resolver = Objects.requireNonNull(resolver);
+        this.resources = ImmutableSet.copyOf(resources);
+        this.readTimeout = Objects.requireNonNull(readTimeout);
+        snapshots = new ConcurrentHashMap<>();
+        references = new AtomicInteger(1);
+        closed = new AtomicBoolean(false);
+    }
+
+    private static Function<String, Optional<? extends ManagedResourceConnector>> connectorResolver(@Nonnull final BundleContext context) {
+        Objects.requireNonNull(context);
+        return resourceName -> ManagedResourceConnectorClient.tryCreate(context, resourceName);
+    }
+
+    /**
+     * Acquires this snapshot for reading.
+     * <p>
+     *     Resource connectors are not released until all acquired references are closed.
+     * @return Reference to this snapshot which should be closed by the reader.
+     * @throws IllegalStateException This snapshot is closed.
+     */
+    SafeCloseable acquire() {
+        int count;
+        do {
+            count = references.get();
+            if (count == 0 || closed.get())
+                throw new IllegalStateException("Attribute snapshot is closed");
+        } while (!references.compareAndSet(count, count + 1));
+        return this::release;
+    }
+
+    private void release() {
+        if (references.decrementAndGet() == 0) {
+            snapshots.values().forEach(snapshot -> snapshot.ifPresent(ResourceSnapshot::close));
+            snapshots.clear();
+        }
+    }
+
+    /**
+     * Gets resources captured by this snapshot.
+     * @return Immutable set of resources.
+     */
+    @Override
+    public Set<String> getResources() {
+        return resources;
+    }
+
+    private Optional<ResourceSnapshot> resolveResource(final String resourceName) {
+        return resources.contains(resourceName) ?
+                resolver.apply(resourceName).map(connector -> new ResourceSnapshot(connector, readTimeout)) :
+                Optional.empty();
+    }
+
+    /**
+     * Gets snapshot of the resource.
+     * <p>
+     *     This method should be called only when this snapshot is {@link #acquire() acquired}.
+     * @param resourceName Name of the resource.
+     * @return Snapshot of the resource; or empty if resource doesn't exist.
+     */
+    Optional<ResourceSnapshot> getResource(final String resourceName) {
+        return snapshots.computeIfAbsent(resourceName, this::resolveResource);
+    }
+
+    private Object getAttributeImpl(final String resourceName, final String attributeName) throws JMException {
+        final Optional<ResourceSnapshot> resource = getResource(resourceName);
+        if (resource.isPresent())
+            return resource.get().getAttribute(attributeName);
+        else
+            throw new InstanceNotFoundException(String.format("Resource %s doesn't exist", resourceName));
+    }
+
+    /**
+     * Gets value of the attribute.
+     * <p>
+     *     Attribute is read from the resource only on the first request.
+     * @param resourceName Name of the resource.
+     * @param attributeName Name of the attribute.
+     * @return Attribute value.
+     * @throws InstanceNotFoundException Resource doesn't exist.
+     * @throws JMException Unable to read attribute.
+     * @throws IllegalStateException This snapshot is closed.
+     */
+    @Override
+    public Object getAttribute(final String resourceName, final String attributeName) throws JMException {
+        try (final SafeCloseable ignored = acquire()) {
+            return getAttributeImpl(resourceName, attributeName);
+        }
+    }
+
+    /**
+     * Gets values of the attribute across all resources in the group.
+     * <p>
+     *     Resources without the attribute or failed to provide its value are ignored.
+     * @param attributeName Name of the attribute.
+     * @return Map of attribute values where key is a name of the resource.
+     * @throws IllegalStateException This snapshot is closed.
+     */
+    @Override
+    public Map<String, ?> getAttributeValues(final String attributeName) {
+        final Map<String, Object> result = Maps.newHashMapWithExpectedSize(resources.size());
+        try (final SafeCloseable ignored = acquire()) {
+            for (final String resourceName : resources)
+                try {
+                    result.put(resourceName, getAttributeImpl(resourceName, attributeName));
+                } catch (final JMException e) {
+                    continue;   //resource doesn't provide the attribute
+                }
+        }
+        return result;
+    }
+
+    /**
+     * Releases all resource connectors obtained by this snapshot.
+     * <p>
+     *     Connectors are released immediately if there are no readers of this snapshot. Otherwise,
+     *     they are released by the last reader.
+     */
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true))
+            release();
+    }
+}
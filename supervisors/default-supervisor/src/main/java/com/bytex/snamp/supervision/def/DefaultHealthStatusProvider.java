@@ -3,13 +3,12 @@ package com.bytex.snamp.supervision.def;
 import com.bytex.snamp.SafeCloseable;
 import com.bytex.snamp.Stateful;
 import com.bytex.snamp.connector.ManagedResourceConnector;
-import com.bytex.snamp.connector.ManagedResourceConnectorClient;
-import com.bytex.snamp.connector.attributes.AttributeSupport;
 import com.bytex.snamp.connector.attributes.checkers.AttributeChecker;
 import com.bytex.snamp.connector.health.*;
 import com.bytex.snamp.supervision.health.HealthStatusProvider;
 import com.bytex.snamp.supervision.health.ResourceGroupHealthStatus;
 import com.bytex.snamp.supervision.health.triggers.HealthStatusTrigger;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import org.osgi.framework.BundleContext;
 
@@ -17,13 +16,14 @@ import javax.annotation.Nonnull;
 import javax.annotation.OverridingMethodsMustInvokeSuper;
 import javax.annotation.concurrent.NotThreadSafe;
 import javax.management.Attribute;
-import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
 import javax.management.JMException;
+import javax.management.MBeanException;
 import java.io.IOException;
 import java.lang.ref.WeakReference;
+import java.time.Duration;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.*;
 
 /**
  * Represents default implementation of {@link HealthStatusProvider}.
@@ -75,36 +75,7 @@ public class DefaultHealthStatusProvider implements HealthStatusProvider, AutoCl
         void setResourceStatus(final String resourceName,
                                final ManagedResourceConnector connector,
                                final Map<String, AttributeChecker> checkers) {
-            //1. Using health check provided by connector itself
-            HealthStatus newStatus = connector.queryObject(HealthCheckSupport.class).map(HealthCheckSupport::getStatus).orElseGet(OkStatus::new);
-            if (OkStatus.notOk(newStatus)) {
-                put(resourceName, newStatus);
-                return;
-            }
-            //2. read attributes from connector
-            final AttributeList attributes;
-            {
-                final Optional<AttributeSupport> support = connector.queryObject(AttributeSupport.class);
-                if (support.isPresent())
-                    try {
-                        attributes = support.get().getAttributes();
-                    } catch (final JMException e) {
-                        if (e.getCause() instanceof IOException)
-                            put(resourceName, new ConnectionProblem((IOException) e.getCause()));
-                        else
-                            put(resourceName, new ResourceConnectorMalfunction(e));
-                        return;
-                    }
-                else
-                    attributes = new AttributeList();
-            }
-            //3. update health status using attribute checkers
-            for (final Attribute attribute : attributes.asList()) {
-                final AttributeChecker checker = checkers.get(attribute.getName());
-                if (checker != null)
-                    newStatus = checker.getStatus(attribute).createStatus(attribute).worst(newStatus);
-            }
-            put(resourceName, newStatus);
+            put(resourceName, getResourceStatus(connector, checkers));
         }
 
         @Override
@@ -116,6 +87,46 @@ public class DefaultHealthStatusProvider implements HealthStatusProvider, AutoCl
     private final ConcurrentMap<String, AttributeChecker> checkers;
     private volatile DefaultResourceGroupHealthStatus status;
 
+    private static HealthStatus getResourceStatus(final DefaultAttributeSnapshot.ResourceSnapshot resource,
+                                                  final Map<String, AttributeChecker> checkers) {
+        //1. Using health check provided by connector itself
+        HealthStatus newStatus = resource.getConnectorStatus();
+        if (OkStatus.notOk(newStatus))
+            return newStatus;
+        //2. read only those attributes which have checkers using single request to the connector
+        resource.readAttributes(checkers.keySet());
+        for (final Map.Entry<String, AttributeChecker> checker : checkers.entrySet()) {
+            final Attribute attribute;
+            try {
+                attribute = new Attribute(checker.getKey(), resource.getAttribute(checker.getKey()));
+            } catch (final AttributeNotFoundException e) {
+                continue;   //attribute is not declared by this resource
+            } catch (final JMException e) {
+                if (e.getCause() instanceof IOException)
+                    return new ConnectionProblem((IOException) e.getCause());
+                else
+                    return new ResourceConnectorMalfunction(e);
+            }
+            //3. update health status using attribute checker
+            newStatus = checker.getValue().getStatus(attribute).createStatus(attribute).worst(newStatus);
+        }
+        return newStatus;
+    }
+
+    private static HealthStatus getResourceStatus(final ManagedResourceConnector connector,
+                                                  final Map<String, AttributeChecker> checkers) {
+        return getResourceStatus(new DefaultAttributeSnapshot.ResourceSnapshot(connector), checkers);
+    }
+
+    private static HealthStatus getResourceStatus(final DefaultAttributeSnapshot snapshot,
+                                                  final String resourceName,
+                                                  final Map<String, AttributeChecker> checkers) {
+        //snapshot cannot release connector until the check is completed
+        try (final SafeCloseable ignored = snapshot.acquire()) {
+            return snapshot.getResource(resourceName).map(resource -> getResourceStatus(resource, checkers)).orElse(null);
+        }
+    }
+
     /**
      * Initializes a new health status provider.
      */
@@ -180,18 +191,85 @@ public class DefaultHealthStatusProvider implements HealthStatusProvider, AutoCl
             return this;
         }
 
-        private void updateAndClose(final ManagedResourceConnectorClient client) {
-            try {
-                updateResourceStatus(client.getManagedResourceName(), client);
-            } finally {
-                client.close();
+        /**
+         * Updates health statuses of the specified resources.
+         * @param context Bundle context used to obtain resource connectors.
+         * @param resources A set of resources to check.
+         * @return This builder.
+         */
+        public HealthStatusBuilder updateResourcesStatuses(final BundleContext context,
+                                                           final Set<String> resources) {
+            try (final DefaultAttributeSnapshot snapshot = new DefaultAttributeSnapshot(context, resources)) {
+                return updateResourcesStatuses(snapshot);
             }
         }
 
-        public HealthStatusBuilder updateResourcesStatuses(final BundleContext context,
-                                                           final Set<String> resources) {
-            for (final String resourceName : resources)
-                ManagedResourceConnectorClient.tryCreate(context, resourceName).ifPresent(this::updateAndClose);
+        /**
+         * Updates health statuses of all resources captured by the snapshot.
+         * @param snapshot Snapshot of attributes shared across single supervision cycle.
+         * @return This builder.
+         */
+        public HealthStatusBuilder updateResourcesStatuses(final DefaultAttributeSnapshot snapshot) {
+            final Map<String, AttributeChecker> checkers = get().checkers;
+            for (final String resourceName : snapshot.getResources()) {
+                final HealthStatus status = getResourceStatus(snapshot, resourceName, checkers);
+                if (status != null)
+                    getOrCreateStatus().put(resourceName, status);
+            }
+            return this;
+        }
+
+        private static HealthStatus timeoutStatus(final String resourceName,
+                                                  final Duration timeout,
+                                                  final TimeoutException e) {
+            return new ConnectionProblem(new IOException(String.format("Health check of resource %s is not completed in %s", resourceName, timeout), e));
+        }
+
+        private static HealthStatus failureStatus(final Throwable e) {
+            return e instanceof IOException ?
+                    new ConnectionProblem((IOException) e) :
+                    new ResourceConnectorMalfunction(new MBeanException(e instanceof Exception ? (Exception) e : new ExecutionException(e)));
+        }
+
+        /**
+         * Updates health statuses of the specified resources concurrently.
+         * <p>
+         *     Resources which health status is not computed within the specified timeout are marked with {@link ConnectionProblem}.
+         * @param snapshot Snapshot of attributes shared across single supervision cycle.
+         * @param executor Executor used to check resources concurrently.
+         * @param timeout Deadline of health check for all resources.
+         * @return This builder.
+         */
+        public HealthStatusBuilder updateResourcesStatuses(final DefaultAttributeSnapshot snapshot,
+                                                           final ExecutorService executor,
+                                                           final Duration timeout) {
+            final Map<String, AttributeChecker> checkers = get().checkers;
+            final Map<String, Future<HealthStatus>> tasks = Maps.newHashMapWithExpectedSize(snapshot.getResources().size());
+            try {
+                for (final String resourceName : snapshot.getResources())
+                    tasks.put(resourceName, executor.submit(() -> getResourceStatus(snapshot, resourceName, checkers)));
+            } catch (final RejectedExecutionException e) {
+                tasks.values().forEach(task -> task.cancel(true));
+                return updateResourcesStatuses(snapshot); //executor is overloaded so use sequential check
+            }
+            final long deadline = System.nanoTime() + timeout.toNanos();
+            for (final Map.Entry<String, Future<HealthStatus>> task : tasks.entrySet()) {
+                HealthStatus status;
+                try {
+                    status = task.getValue().get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                } catch (final TimeoutException e) {
+                    task.getValue().cancel(true);
+                    status = timeoutStatus(task.getKey(), timeout, e);
+                } catch (final ExecutionException e) {
+                    status = failureStatus(e.getCause());
+                } catch (final InterruptedException e) {
+                    tasks.values().forEach(t -> t.cancel(true));
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                if (status != null)    //resource may be removed during health check
+                    updateResourceStatus(task.getKey(), status);
+            }
             return this;
         }
 
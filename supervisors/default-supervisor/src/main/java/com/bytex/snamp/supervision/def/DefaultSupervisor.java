@@ -29,6 +29,7 @@ import javax.annotation.OverridingMethodsMustInvokeSuper;
 import java.time.Duration;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeoutException;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -88,7 +89,7 @@ public class DefaultSupervisor extends AbstractSupervisor implements HealthStatu
 
         @Override
         protected void doAction() throws InterruptedException {
-            getReferenceOrTerminate().supervise();
+            getReferenceOrTerminate().superviseWithSnapshot();
         }
 
         void terminate() throws TimeoutException, InterruptedException {
@@ -118,9 +119,13 @@ public class DefaultSupervisor extends AbstractSupervisor implements HealthStatu
     @Aggregation
     private DefaultResourceDiscoveryService discoveryService;
     private SupervisorRepeater updater;
+    private ExecutorService threadPool;
+    private Duration healthCheckTimeout;
     private HealthStatusTrigger userDefinedTrigger;
     @Aggregation
     private DefaultElasticityManager elasticityManager;
+    @Aggregation  //non-cached
+    private volatile DefaultAttributeSnapshot attributeSnapshot;
 
     /**
      * Gets a reference to the current member in SNAMP cluster.
@@ -196,19 +201,45 @@ public class DefaultSupervisor extends AbstractSupervisor implements HealthStatu
     public final void statusChanged(final ResourceGroupHealthStatus previousStatus, final ResourceGroupHealthStatus newStatus) {
         final HealthStatusTrigger userDefinedTrigger = this.userDefinedTrigger;
         if (userDefinedTrigger != null)
-            userDefinedTrigger.statusChanged(previousStatus, newStatus);
+            userDefinedTrigger.statusChanged(previousStatus, newStatus, attributeSnapshot);
         healthStatusChanged(new DefaultHealthStatusChangedEvent(previousStatus, newStatus));
     }
 
+    /**
+     * Gets snapshot of attributes shared across the current supervision cycle.
+     * @return Snapshot of attributes; or {@literal null} if this method is called outside of supervision cycle.
+     */
+    protected final DefaultAttributeSnapshot getAttributeSnapshot() {
+        return attributeSnapshot;
+    }
+
     private void updateHealthStatus(final DefaultHealthStatusProvider provider) {
-        provider.statusBuilder()
-                .updateResourcesStatuses(getBundleContext(), getResources())
-                .build(this)
-                .close();
+        final ExecutorService threadPool = this.threadPool;
+        final DefaultAttributeSnapshot snapshot = getAttributeSnapshot();
+        final DefaultHealthStatusProvider.HealthStatusBuilder builder = provider.statusBuilder();
+        if (snapshot == null)
+            builder.updateResourcesStatuses(getBundleContext(), getResources());
+        else if (threadPool == null)
+            builder.updateResourcesStatuses(snapshot);
+        else
+            builder.updateResourcesStatuses(snapshot, threadPool, healthCheckTimeout);
+        builder.build(this).close();
+    }
+
+    private void superviseWithSnapshot() {
+        //all attributes are read at most once per supervision cycle
+        try (final DefaultAttributeSnapshot snapshot = new DefaultAttributeSnapshot(getBundleContext(), getResources(), healthCheckTimeout)) {
+            attributeSnapshot = snapshot;
+            supervise();
+        } finally {
+            attributeSnapshot = null;
+        }
     }
 
     /**
      * Executes automatically using scheduling time.
+     * <p>
+     *     Health checks, scaling policies and triggers executed by this method share the same {@link #getAttributeSnapshot() snapshot of attributes}.
      */
     protected void supervise() {
         queryObject(DefaultHealthStatusProvider.class).ifPresent(this::updateHealthStatus);
@@ -237,6 +268,7 @@ public class DefaultSupervisor extends AbstractSupervisor implements HealthStatu
             Utils.closeAll(updater::terminate, healthStatusProvider, elasticityManager);
         } finally {
             updater = null;
+            threadPool = null;
             healthStatusProvider = null;
             triggerFactory = null;
             checkerFactory = null;
@@ -373,6 +405,9 @@ public class DefaultSupervisor extends AbstractSupervisor implements HealthStatu
         setupHealthCheck(configuration.getHealthCheckConfig());
         setupScalingPolicyFactory();
         setupScaling(configuration.getAutoScalingConfig());
+        //resources are checked concurrently using thread pool
+        threadPool = parser.parseThreadPool(configuration);
+        healthCheckTimeout = parser.parseHealthCheckTimeout(configuration);
         //start updater thread
         updater = new SupervisorRepeater(parser.parseCheckPeriod(configuration), this);
         updater.run();
@@ -13,6 +13,7 @@ import java.util.Map;
 import java.util.Optional;
 
 import static com.bytex.snamp.MapUtils.getValue;
+import static com.bytex.snamp.configuration.ThreadPoolConfigurationSupport.THREAD_POOL_KEY;
 
 /**
  * Represents description of configuration properties related to default supervisor.
@@ -22,11 +23,12 @@ import static com.bytex.snamp.MapUtils.getValue;
  */
 public class DefaultSupervisorConfigurationDescriptionProvider extends ConfigurationEntityDescriptionProviderImpl implements SupervisorDescriptionProvider {
     private static final String CHECK_PERIOD_PARAM = "checkPeriod";
+    private static final String HEALTH_CHECK_TIMEOUT_PARAM = "healthCheckTimeout";
 
     protected static class DefaultSupervisorDescription extends ResourceBasedConfigurationEntityDescription<SupervisorConfiguration>{
         private static final String RESOURCE_NAME = "SupervisorConfiguration";
         private final ResourceReader fallbackReader;
-        private static final String[] DEFAULT_PARAMS = {CHECK_PERIOD_PARAM};
+        private static final String[] DEFAULT_PARAMS = {CHECK_PERIOD_PARAM, HEALTH_CHECK_TIMEOUT_PARAM, THREAD_POOL_KEY};
 
         protected DefaultSupervisorDescription(final String baseName, final String... parameters){
             super(baseName, SupervisorConfiguration.class, parameters);
@@ -61,4 +63,15 @@ public class DefaultSupervisorConfigurationDescriptionProvider extends Configura
                 .map(Duration::ofMillis)
                 .orElseGet(() -> Duration.ofMillis(900L));
     }
+
+    /**
+     * Parses deadline of the single health check cycle.
+     * @param parameters Supervisor configuration parameters.
+     * @return Deadline of the single health check cycle. By default, it is equal to the check period.
+     */
+    public Duration parseHealthCheckTimeout(final Map<String, String> parameters) {
+        return getValue(parameters, HEALTH_CHECK_TIMEOUT_PARAM, Long::parseLong)
+                .map(Duration::ofMillis)
+                .orElseGet(() -> parseCheckPeriod(parameters));
+    }
 }
@@ -2,13 +2,14 @@ package com.bytex.snamp.supervision.elasticity.policies;
 
 import com.bytex.snamp.SpecialUse;
 import com.bytex.snamp.configuration.ScriptletConfiguration;
-import com.bytex.snamp.connector.ManagedResourceConnectorClient;
 import com.bytex.snamp.core.LoggerProvider;
 import com.bytex.snamp.internal.Utils;
 import com.bytex.snamp.json.DurationDeserializer;
 import com.bytex.snamp.json.DurationSerializer;
 import com.bytex.snamp.json.RangeSerializer;
 import com.bytex.snamp.moa.*;
+import com.bytex.snamp.supervision.AttributeSnapshot;
+import com.bytex.snamp.supervision.def.DefaultAttributeSnapshot;
 import com.google.common.collect.Range;
 import org.codehaus.jackson.annotate.JsonCreator;
 import org.codehaus.jackson.annotate.JsonIgnore;
@@ -19,11 +20,13 @@ import org.codehaus.jackson.map.annotate.JsonSerialize;
 import org.osgi.framework.BundleContext;
 
 import javax.annotation.Nonnull;
+import javax.management.InstanceNotFoundException;
 import javax.management.JMException;
 import java.io.IOException;
 import java.math.MathContext;
 import java.time.Duration;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.OptionalDouble;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -161,18 +164,19 @@ public final class AttributeBasedScalingPolicy extends AbstractWeightedScalingPo
         previousObservation = 0;
     }
 
-    private static void putAttributeIntoReservoir(final ManagedResourceConnectorClient connector,
+    private static void putAttributeIntoReservoir(final AttributeSnapshot snapshot,
+                                                  final String resourceName,
                                                   final String attributeName,
                                                   final DoubleReservoir reservoir,
                                                   final Logger logger) {
         final Object attributeValue;
         try {
-            attributeValue = connector.getAttribute(attributeName);
+            attributeValue = snapshot.getAttribute(resourceName, attributeName);
+        } catch (final InstanceNotFoundException e) {
+            return; //resource was removed from the group
         } catch (final JMException e) {
             logger.log(Level.SEVERE, String.format("Scaling policy for attribute %s cannot be evaluated", attributeName), e);
             return;
-        } finally {
-            connector.close();
         }
         final OptionalDouble convertedValue = toDouble(attributeValue);
         if (convertedValue.isPresent())
@@ -181,28 +185,36 @@ public final class AttributeBasedScalingPolicy extends AbstractWeightedScalingPo
             logger.warning(String.format("Scaling policy for attribute %s cannot be evaluated. Value %s cannot be converted to floating-point number", attributeName, attributeValue));
     }
 
+    private double evaluate(final AttributeSnapshot snapshot, final Logger logger) {
+        final int resources = snapshot.getResources().size();
+        switch (resources) {
+            case 0:
+                return 0D;
+            default:
+                final DoubleReservoir reservoir = new DoubleReservoir(resources);
+                for (final String resourceName : snapshot.getResources())
+                    putAttributeIntoReservoir(snapshot, resourceName, attributeName, reservoir, logger);
+                return reservoir.getSize() == 0 ? 0D : vote(reservoir);
+        }
+    }
+
     /**
      * Performs voting.
-     *
+     * <p>
+     *     Attribute values are taken from the snapshot shared across supervision cycle if it is provided by the context.
      * @param context An object containing all necessary data for voting by this voter.
      * @return Vote weight: &gt;0 - for scale-out; &lt;0 - for scale-in
      */
     @Override
     public double evaluate(final ScalingPolicyEvaluationContext context) {
+        final Logger logger = LoggerProvider.getLoggerForObject(context);
+        final Optional<AttributeSnapshot> sharedSnapshot = context.queryObject(AttributeSnapshot.class);
+        if (sharedSnapshot.isPresent())
+            return evaluate(sharedSnapshot.get(), logger);
         final BundleContext bc = Utils.getBundleContextOfObject(context);
         assert bc != null;
-
-        final int resources = context.getResources().size();
-        switch (resources) {
-            case 0:
-                return 0D;
-            default:
-                final DoubleReservoir reservoir = new DoubleReservoir(resources);
-                final String attributeName = this.attributeName;
-                final Logger logger = LoggerProvider.getLoggerForObject(context);
-                for (final String resourceName : context.getResources())
-                    ManagedResourceConnectorClient.tryCreate(bc, resourceName).ifPresent(client -> putAttributeIntoReservoir(client, attributeName, reservoir, logger));
-                return reservoir.getSize() == 0 ? 0D : vote(reservoir);
+        try (final DefaultAttributeSnapshot snapshot = new DefaultAttributeSnapshot(bc, context.getResources())) {
+            return evaluate(snapshot, logger);
         }
     }
 
@@ -2,11 +2,16 @@ package com.bytex.snamp.supervision.elasticity.policies;
 
 import com.bytex.snamp.Aggregator;
 import com.bytex.snamp.SpecialUse;
+import com.bytex.snamp.internal.Utils;
 import com.bytex.snamp.scripting.groovy.Scriptlet;
+import com.bytex.snamp.supervision.AttributeSnapshot;
+import com.bytex.snamp.supervision.def.DefaultAttributeSnapshot;
 import org.codehaus.groovy.runtime.typehandling.DefaultTypeTransformation;
+import org.osgi.framework.BundleContext;
 
 import javax.annotation.Nonnull;
 import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -45,6 +50,27 @@ public abstract class GroovyScalingPolicy extends Scriptlet implements ScalingPo
         return context.get();
     }
 
+    /**
+     * Gets values of the attribute across all resources in the group.
+     * <p>
+     *     Values are taken from the snapshot shared across supervision cycle. If policy is evaluated
+     *     outside of supervision cycle then values are read from resources directly.
+     * @param attributeName Name of the attribute.
+     * @return Map of attribute values where key is a name of the resource.
+     */
+    @SpecialUse(SpecialUse.Case.SCRIPTING)
+    protected final Map<String, ?> getAttributeValues(final String attributeName) {
+        final Optional<AttributeSnapshot> sharedSnapshot = queryObject(AttributeSnapshot.class);
+        if (sharedSnapshot.isPresent())
+            return sharedSnapshot.get().getAttributeValues(attributeName);
+        final BundleContext context = Utils.getBundleContextOfObject(this);
+        if (context == null)
+            return Collections.emptyMap();
+        try (final DefaultAttributeSnapshot snapshot = new DefaultAttributeSnapshot(context, getResources())) {
+            return snapshot.getAttributeValues(attributeName);
+        }
+    }
+
     @Override
     public final double evaluate(final ScalingPolicyEvaluationContext context) {
         this.context.set(context);
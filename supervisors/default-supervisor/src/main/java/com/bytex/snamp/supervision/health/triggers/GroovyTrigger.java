@@ -2,8 +2,12 @@ package com.bytex.snamp.supervision.health.triggers;
 
 import com.bytex.snamp.SpecialUse;
 import com.bytex.snamp.scripting.groovy.Scriptlet;
+import com.bytex.snamp.supervision.AttributeSnapshot;
 import com.bytex.snamp.supervision.health.ResourceGroupHealthStatus;
 
+import java.util.Collections;
+import java.util.Map;
+
 /**
  * Represents Groovy-based trigger.
  * @author Roman Sakno
@@ -13,6 +17,7 @@ import com.bytex.snamp.supervision.health.ResourceGroupHealthStatus;
 public abstract class GroovyTrigger extends Scriptlet implements HealthStatusTrigger {
     private final ThreadLocal<ResourceGroupHealthStatus> previousStatus = new ThreadLocal<>();
     private final ThreadLocal<ResourceGroupHealthStatus> newStatus = new ThreadLocal<>();
+    private final ThreadLocal<AttributeSnapshot> attributeSnapshot = new ThreadLocal<>();
 
     @SpecialUse(SpecialUse.Case.SCRIPTING)
     protected final ResourceGroupHealthStatus getPreviousStatus(){
@@ -24,15 +29,35 @@ public abstract class GroovyTrigger extends Scriptlet implements HealthStatusTri
         return newStatus.get();
     }
 
+    /**
+     * Gets values of the attribute across all resources in the group.
+     * <p>
+     *     Values are taken from the snapshot shared across supervision cycle.
+     * @param attributeName Name of the attribute.
+     * @return Map of attribute values where key is a name of the resource.
+     */
+    @SpecialUse(SpecialUse.Case.SCRIPTING)
+    protected final Map<String, ?> getAttributeValues(final String attributeName) {
+        final AttributeSnapshot snapshot = attributeSnapshot.get();
+        return snapshot == null ? Collections.emptyMap() : snapshot.getAttributeValues(attributeName);
+    }
+
     @Override
     public final void statusChanged(final ResourceGroupHealthStatus previousStatus, final ResourceGroupHealthStatus newStatus) {
+        statusChanged(previousStatus, newStatus, null);
+    }
+
+    @Override
+    public final void statusChanged(final ResourceGroupHealthStatus previousStatus, final ResourceGroupHealthStatus newStatus, final AttributeSnapshot snapshot) {
         this.previousStatus.set(previousStatus);
         this.newStatus.set(newStatus);
+        attributeSnapshot.set(snapshot);
         try {
             run();
         } finally {
             this.previousStatus.remove();
             this.newStatus.remove();
+            attributeSnapshot.remove();
         }
     }
 }
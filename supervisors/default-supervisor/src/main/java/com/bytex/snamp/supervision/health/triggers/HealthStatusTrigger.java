@@ -1,5 +1,6 @@
 package com.bytex.snamp.supervision.health.triggers;
 
+import com.bytex.snamp.supervision.AttributeSnapshot;
 import com.bytex.snamp.supervision.health.ResourceGroupHealthStatus;
 
 /**
@@ -11,4 +12,14 @@ import com.bytex.snamp.supervision.health.ResourceGroupHealthStatus;
 public interface HealthStatusTrigger {
     HealthStatusTrigger NO_OP = (p, n) -> {};
     void statusChanged(final ResourceGroupHealthStatus previousStatus, final ResourceGroupHealthStatus newStatus);
+
+    /**
+     * Invoked by supervisor when health status of the group was changed during supervision cycle.
+     * @param previousStatus Previous health status of the group.
+     * @param newStatus New health status of the group.
+     * @param snapshot Snapshot of attributes shared across supervision cycle; may be {@literal null}.
+     */
+    default void statusChanged(final ResourceGroupHealthStatus previousStatus, final ResourceGroupHealthStatus newStatus, final AttributeSnapshot snapshot) {
+        statusChanged(previousStatus, newStatus);
+    }
 }
@@ -0,0 +1,120 @@
+package com.bytex.snamp.supervision.def;
+
+import com.bytex.snamp.SafeCloseable;
+import com.bytex.snamp.connector.ManagedResourceConnectorBean;
+import com.bytex.snamp.connector.attributes.AttributeDescriptor;
+import com.bytex.snamp.connector.attributes.AttributeSupport;
+import com.bytex.snamp.connector.attributes.reflection.ManagementAttribute;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.management.AttributeNotFoundException;
+import javax.management.MBeanException;
+import java.beans.IntrospectionException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author Roman Sakno
+ * @version 2.0
+ * @since 2.0
+ */
+public final class DefaultAttributeSnapshotTest extends Assert {
+    public static final class CountingResourceConnector extends ManagedResourceConnectorBean {
+        private final AtomicInteger reads;
+        private volatile CountDownLatch responding;
+
+        private CountingResourceConnector(final String resourceName) throws IntrospectionException {
+            super(resourceName);
+            reads = new AtomicInteger(0);
+            responding = new CountDownLatch(0);
+        }
+
+        @ManagementAttribute
+        public int getCounter() throws InterruptedException {
+            responding.await();
+            return reads.incrementAndGet();
+        }
+    }
+
+    @Test
+    public void singleReadTest() throws Exception {
+        try (final CountingResourceConnector connector = new CountingResourceConnector("resource")) {
+            connector.queryObject(AttributeSupport.class).ifPresent(attributes -> attributes.addAttribute("counter", AttributeDescriptor.EMPTY_DESCRIPTOR));
+            final DefaultAttributeSnapshot.ResourceSnapshot snapshot = new DefaultAttributeSnapshot.ResourceSnapshot(connector);
+            for (int i = 0; i < 10; i++)
+                assertEquals(1, snapshot.getAttribute("counter"));
+            assertEquals(1, connector.reads.get());
+            //new snapshot should read fresh value
+            assertEquals(2, new DefaultAttributeSnapshot.ResourceSnapshot(connector).getAttribute("counter"));
+        }
+    }
+
+    @Test
+    public void batchReadTest() throws Exception {
+        try (final CountingResourceConnector connector = new CountingResourceConnector("resource")) {
+            connector.queryObject(AttributeSupport.class).ifPresent(attributes -> attributes.addAttribute("counter", AttributeDescriptor.EMPTY_DESCRIPTOR));
+            final DefaultAttributeSnapshot.ResourceSnapshot snapshot = new DefaultAttributeSnapshot.ResourceSnapshot(connector);
+            snapshot.readAttributes(ImmutableSet.of("counter", "missing"));
+            snapshot.readAttributes(ImmutableSet.of("counter"));
+            assertEquals(1, snapshot.getAttribute("counter"));
+            assertEquals(1, connector.reads.get());
+        }
+    }
+
+    @Test
+    public void readTimeoutTest() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (final CountingResourceConnector connector = new CountingResourceConnector("resource")) {
+            connector.queryObject(AttributeSupport.class).ifPresent(attributes -> attributes.addAttribute("counter", AttributeDescriptor.EMPTY_DESCRIPTOR));
+            connector.responding = new CountDownLatch(1);
+            final DefaultAttributeSnapshot.ResourceSnapshot snapshot = new DefaultAttributeSnapshot.ResourceSnapshot(connector, Duration.ofMillis(100));
+            final Future<?> slowReader = executor.submit(() -> snapshot.getAttribute("counter"));
+            Thread.sleep(100);  //let the first reader block on the resource
+            try {
+                snapshot.getAttribute("counter");
+                fail("Read timeout expected");
+            } catch (final MBeanException e) {
+                assertTrue(e.getCause() instanceof IOException);
+            }
+            connector.responding.countDown();
+            assertEquals(1, slowReader.get(5, TimeUnit.SECONDS));
+            //completed value is cached
+            assertEquals(1, snapshot.getAttribute("counter"));
+            assertEquals(1, connector.reads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void closeTest() throws Exception {
+        try (final CountingResourceConnector connector = new CountingResourceConnector("resource")) {
+            connector.queryObject(AttributeSupport.class).ifPresent(attributes -> attributes.addAttribute("counter", AttributeDescriptor.EMPTY_DESCRIPTOR));
+            final DefaultAttributeSnapshot snapshot = new DefaultAttributeSnapshot(ImmutableSet.of("resource"), resourceName -> Optional.of(connector), Duration.ofSeconds(1));
+            final SafeCloseable reader = snapshot.acquire();
+            snapshot.close();
+            //active reader can use the snapshot after it was closed by the owner
+            assertEquals(1, snapshot.getResource("resource").orElseThrow(AssertionError::new).getAttribute("counter"));
+            reader.close();
+            try {
+                snapshot.getAttribute("resource", "counter");
+                fail("Snapshot should be closed");
+            } catch (final IllegalStateException ignored) {
+                assertEquals(1, connector.reads.get());
+            }
+        }
+    }
+
+    @Test(expected = AttributeNotFoundException.class)
+    public void missingAttributeTest() throws Exception {
+        try (final CountingResourceConnector connector = new CountingResourceConnector("resource")) {
+            final DefaultAttributeSnapshot.ResourceSnapshot snapshot = new DefaultAttributeSnapshot.ResourceSnapshot(connector);
+            snapshot.getAttribute("counter");
+        }
+    }
+}
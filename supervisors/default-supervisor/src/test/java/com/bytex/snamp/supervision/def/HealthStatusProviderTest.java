@@ -8,23 +8,31 @@ import com.bytex.snamp.configuration.SupervisorInfo;
 import com.bytex.snamp.connector.ManagedResourceConnectorBean;
 import com.bytex.snamp.connector.attributes.AttributeDescriptor;
 import com.bytex.snamp.connector.attributes.AttributeSupport;
+import com.bytex.snamp.connector.attributes.checkers.AttributeChecker;
 import com.bytex.snamp.connector.attributes.checkers.AttributeCheckerFactory;
 import com.bytex.snamp.connector.attributes.checkers.ColoredAttributeChecker;
 import com.bytex.snamp.connector.attributes.checkers.IsInRangePredicate;
 import com.bytex.snamp.connector.attributes.checkers.NumberComparatorPredicate;
 import com.bytex.snamp.connector.attributes.reflection.ManagementAttribute;
+import com.bytex.snamp.connector.health.ConnectionProblem;
 import com.bytex.snamp.connector.health.InvalidAttributeValue;
 import com.bytex.snamp.connector.health.OkStatus;
 import com.bytex.snamp.connector.health.ResourceConnectorMalfunction;
 import com.bytex.snamp.core.ScriptletCompilationException;
 import com.bytex.snamp.supervision.health.triggers.HealthStatusTrigger;
 import com.bytex.snamp.supervision.health.triggers.TriggerFactory;
+import com.google.common.collect.ImmutableMap;
 import org.junit.Assert;
 import org.junit.Test;
 
 import javax.annotation.Nonnull;
 import java.beans.IntrospectionException;
+import java.time.Duration;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * @author Roman Sakno
@@ -79,6 +87,49 @@ public class HealthStatusProviderTest extends Assert {
         }
     }
 
+    public static final class SlowResourceConnector extends ManagedResourceConnectorBean {
+        private final CountDownLatch responding;
+
+        private SlowResourceConnector(final String resourceName, final CountDownLatch responding) throws IntrospectionException {
+            super(resourceName);
+            this.responding = responding;
+        }
+
+        @ManagementAttribute
+        public long getMemory() throws InterruptedException {
+            responding.await();
+            return 0L;
+        }
+    }
+
+    @Test
+    public void healthCheckTimeoutTest() throws Exception {
+        final CountDownLatch responding = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try (final TestHealthStatusProvider watcher = new TestHealthStatusProvider();
+             final TestResourceConnector connector1 = new TestResourceConnector("resource1");
+             final SlowResourceConnector connector2 = new SlowResourceConnector("resource2", responding)) {
+            connector1.queryObject(AttributeSupport.class).ifPresent(attributes -> attributes.addAttribute("memory", AttributeDescriptor.EMPTY_DESCRIPTOR));
+            connector2.queryObject(AttributeSupport.class).ifPresent(attributes -> attributes.addAttribute("memory", AttributeDescriptor.EMPTY_DESCRIPTOR));
+            watcher.addChecker("memory", AttributeChecker.OK);
+            final Map<String, ManagedResourceConnectorBean> connectors = ImmutableMap.of("resource1", connector1, "resource2", connector2);
+            try (final DefaultAttributeSnapshot snapshot = new DefaultAttributeSnapshot(connectors.keySet(), resourceName -> Optional.ofNullable(connectors.get(resourceName)), Duration.ofMillis(300))) {
+                watcher.statusBuilder()
+                        .updateResourcesStatuses(snapshot, executor, Duration.ofMillis(300))
+                        .build(HealthStatusTrigger.NO_OP)
+                        .close();
+            } finally {
+                responding.countDown();
+            }
+            assertTrue(watcher.getStatus().get("resource1") instanceof OkStatus);
+            //slow resource is not checked within the timeout
+            assertTrue(watcher.getStatus().get("resource2") instanceof ConnectionProblem);
+            assertTrue(watcher.getStatus().getSummaryStatus() instanceof ConnectionProblem);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Test
     public void changeCompositionTest() throws Exception {
         try(final TestHealthStatusProvider watcher = new TestHealthStatusProvider()) {
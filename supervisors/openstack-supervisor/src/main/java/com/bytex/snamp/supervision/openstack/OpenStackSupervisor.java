@@ -105,7 +105,7 @@ final class OpenStackSupervisor extends DefaultSupervisor implements OpenStackSc
     }
 
     private void updateHealthStatus(@Nonnull final SenlinService senlin, @Nonnull final OpenStackHealthStatusProvider provider){
-        provider.updateStatus(getBundleContext(), senlin, getResources(), this);
+        provider.updateStatus(getAttributeSnapshot(), senlin, this);
     }
 
     private boolean synchronizeNodes(@Nonnull final SenlinService senlin, @Nonnull final OpenStackDiscoveryService discoveryService) {
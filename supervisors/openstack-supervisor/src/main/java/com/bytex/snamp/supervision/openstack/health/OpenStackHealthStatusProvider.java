@@ -3,6 +3,7 @@ package com.bytex.snamp.supervision.openstack.health;
 import com.bytex.snamp.connector.health.HealthStatus;
 import com.bytex.snamp.connector.health.OkStatus;
 import com.bytex.snamp.core.ClusterMember;
+import com.bytex.snamp.supervision.def.DefaultAttributeSnapshot;
 import com.bytex.snamp.supervision.def.DefaultHealthStatusProvider;
 import com.bytex.snamp.supervision.health.ClusterMalfunctionStatus;
 import com.bytex.snamp.supervision.health.ClusterRecoveryStatus;
@@ -17,7 +18,6 @@ import org.openstack4j.model.senlin.Cluster;
 import org.openstack4j.model.senlin.ClusterActionCreate;
 import org.openstack4j.model.senlin.Node;
 import org.openstack4j.openstack.senlin.domain.SenlinClusterActionCreate;
-import org.osgi.framework.BundleContext;
 
 import javax.annotation.Nonnull;
 import java.util.Set;
@@ -99,17 +99,17 @@ public final class OpenStackHealthStatusProvider extends DefaultHealthStatusProv
         return status;
     }
 
-    public void updateStatus(final BundleContext context,
+    public void updateStatus(final DefaultAttributeSnapshot snapshot,
                              final SenlinService senlin,
-                             final Set<String> resources,
                              final HealthStatusTrigger callback) {
+        final Set<String> resources = snapshot.getResources();
         final Cluster cluster = senlin.cluster().get(clusterID);
         if (cluster == null)
             throw new OS4JException(String.format("Cluster %s doesn't exist", clusterID));
         final ClusterNodes nodes = ClusterNodes.discover(senlin.node(), clusterID);
         try(final HealthStatusBuilder builder = statusBuilder()) {
             //update health status using resources in the group and status of the cluster
-            builder.updateGroupStatus(getClusterStatus(cluster)).updateResourcesStatuses(context, resources);
+            builder.updateGroupStatus(getClusterStatus(cluster)).updateResourcesStatuses(snapshot);
             //extract health status for every cluster node
             for (final String resourceName : resources) {
                 final HealthStatus nodeStatus = nodes.getByName(resourceName).map(OpenStackHealthStatusProvider::getNodeStatus).orElseGet(OkStatus::new);
@@ -15,8 +15,12 @@ import java.io.*;
 import java.security.Principal;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -25,17 +29,27 @@ import java.util.logging.Logger;
  */
 final class WebSocketChannel extends WebSocketAdapter implements WebConsoleSession, WriteCallback {
     private static final String TYPE_PROPERTY = JsonTypeInfo.Id.NAME.getDefaultPropertyName();
+    private static final int MAX_QUEUE_SIZE = 1024;
     private final Principal principal;
     private final ObjectMapper jsonSerializer;
     /*
      *  Value may be of type JSONNode or already deserialized object
      */
     private final ConcurrentMap<String, Object> userData;
+    /*
+     *  Serialized messages waiting for transmission while previous frame is in flight
+     */
+    private final BlockingQueue<String> outbox;
+    private final AtomicBoolean writing;
+    private final AtomicLong droppedMessages;
 
     WebSocketChannel(final Principal owner){
         principal = Objects.requireNonNull(owner);
         jsonSerializer = new ObjectMapper();
         userData = new ConcurrentHashMap<>();
+        outbox = new ArrayBlockingQueue<>(MAX_QUEUE_SIZE);
+        writing = new AtomicBoolean(false);
+        droppedMessages = new AtomicLong(0L);
     }
 
     private Logger getLogger(){
@@ -52,6 +66,7 @@ final class WebSocketChannel extends WebSocketAdapter implements WebConsoleSessi
         getLogger().info(() -> String.format("WebSocket is closed with status %s(%s)", statusCode, reason));
         super.onWebSocketClose(statusCode, reason);
         userData.clear();
+        outbox.clear();
     }
 
     @Override
@@ -63,26 +78,52 @@ final class WebSocketChannel extends WebSocketAdapter implements WebConsoleSessi
     @Override
     public void writeFailed(final Throwable e) {
         getLogger().log(Level.WARNING, "Failed to write data into WebSocket", e);
+        writing.set(false);
+        flush();
     }
 
     @Override
     public void writeSuccess() {
+        writing.set(false);
+        flush();
+    }
 
+    private void reportDroppedMessages() {
+        final long dropped = droppedMessages.getAndSet(0L);
+        if (dropped > 0L)
+            getLogger().warning(String.format("%s message(s) for %s are dropped because WebSocket is overloaded", dropped, principal.getName()));
+    }
+
+    private void flush() {
+        //only one frame may be in flight. Completion of the frame causes flushing of the next message
+        while (isConnected() && !outbox.isEmpty() && writing.compareAndSet(false, true)) {
+            final String frame = outbox.poll();
+            if (frame != null) {
+                reportDroppedMessages();
+                try {
+                    getRemote().sendString(frame, this);
+                    return;
+                } catch (final RuntimeException e) {  //WebSocketException or IllegalStateException if connection is broken
+                    getLogger().log(Level.WARNING, "Failed to send message over WebSocket", e);
+                }
+            }
+            writing.set(false);
+        }
     }
 
     @Override
     public void sendMessage(final WebMessage message) {
         if (isConnected()) {
             final String serializedEvent;
-            try (final StringWriter writer = new StringWriter(1024)) {
-                jsonSerializer.writeValue(writer, message);
-                serializedEvent = writer.toString();
+            try {
+                serializedEvent = message.toJsonString();
             } catch (final IOException e) {
                 getLogger().log(Level.SEVERE, String.format("Unable to serialize event %s into JSON", message), e);
                 return;
             }
-            if (isConnected())
-                getRemote().sendString(serializedEvent, this);
+            if (!outbox.offer(serializedEvent))
+                droppedMessages.incrementAndGet();
+            flush();
         }
     }
 
@@ -3,6 +3,8 @@ package com.bytex.snamp.web.serviceModel;
 import com.bytex.snamp.core.ClusterMember;
 import com.bytex.snamp.core.KeyValueStorage;
 import com.bytex.snamp.core.SharedObjectType;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.codehaus.jackson.map.ObjectMapper;
 
 import javax.annotation.Nonnull;
@@ -15,7 +17,9 @@ import java.io.Reader;
 import java.io.UncheckedIOException;
 import java.io.Writer;
 import java.security.Principal;
+import java.time.Duration;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 import static com.bytex.snamp.core.KeyValueStorage.JsonRecordView;
 
@@ -26,13 +30,19 @@ import static com.bytex.snamp.core.KeyValueStorage.JsonRecordView;
  * @since 2.0
  */
 public abstract class AbstractPrincipalBoundedService<USERDATA> extends AbstractWebConsoleService {
+    private static final Duration USER_DATA_CACHE_TTL = Duration.ofSeconds(10L);
     private final KeyValueStorage userDataStorage;
     private final ObjectMapper mapper;
     private final Class<USERDATA> userDataType;
+    /*
+     *  Decoded user data. Entries are expired periodically because the storage may be modified by other cluster nodes
+     */
+    private final Cache<String, USERDATA> userDataCache;
 
     protected AbstractPrincipalBoundedService(final Class<USERDATA> userDataType) {
         mapper = new ObjectMapper();
         this.userDataType = Objects.requireNonNull(userDataType);
+        userDataCache = CacheBuilder.newBuilder().expireAfterWrite(USER_DATA_CACHE_TTL.toMillis(), TimeUnit.MILLISECONDS).build();
         final String storageName = userDataType.getName();
         userDataStorage = ClusterMember.get(getBundleContext()).getService(
                 storageName,
@@ -83,8 +93,13 @@ public abstract class AbstractPrincipalBoundedService<USERDATA> extends Abstract
      * @return Data associated with the specified user.
      */
     protected final USERDATA getUserData(final Principal principal) {
-        final JsonRecordView record = userDataStorage.getOrCreateRecord(principal.getName(), JsonRecordView.class, this::setDefaultUserData);
-        return getUserData(record);
+        final String userName = principal.getName();
+        USERDATA result = userDataCache.getIfPresent(userName);
+        if (result == null) {
+            final JsonRecordView record = userDataStorage.getOrCreateRecord(userName, JsonRecordView.class, this::setDefaultUserData);
+            userDataCache.put(userName, result = getUserData(record));
+        }
+        return result;
     }
 
     protected final USERDATA getUserData(final WebConsoleSession session) {
@@ -92,6 +107,10 @@ public abstract class AbstractPrincipalBoundedService<USERDATA> extends Abstract
     }
 
     protected final void setUserData(final Principal principal, final USERDATA data) {
-        userDataStorage.updateOrCreateRecord(principal.getName(), JsonRecordView.class, record -> setUserData(data, record));
+        try {
+            userDataStorage.updateOrCreateRecord(principal.getName(), JsonRecordView.class, record -> setUserData(data, record));
+        } finally {
+            userDataCache.invalidate(principal.getName());
+        }
     }
 }
@@ -2,7 +2,9 @@ package com.bytex.snamp.web.serviceModel;
 
 import org.codehaus.jackson.annotate.JsonIgnore;
 import org.codehaus.jackson.annotate.JsonTypeInfo;
+import org.codehaus.jackson.map.ObjectMapper;
 
+import java.io.IOException;
 import java.util.EventObject;
 
 /**
@@ -16,6 +18,8 @@ import java.util.EventObject;
 @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, include = JsonTypeInfo.As.PROPERTY, property = "@messageType")
 public abstract class WebMessage extends EventObject {
     private static final long serialVersionUID = 3426260188036037856L;
+    private static final ObjectMapper JSON_SERIALIZER = new ObjectMapper();
+    private transient volatile String serializedForm;
 
     /**
      * Constructs a prototypical Event.
@@ -37,4 +41,18 @@ public abstract class WebMessage extends EventObject {
     public WebConsoleService getSource() {
         return (WebConsoleService) super.getSource();
     }
+
+    /**
+     * Serializes this message into JSON.
+     * <p>
+     *     Message is serialized only once and the same JSON is sent to all sessions.
+     * @return JSON representation of this message.
+     * @throws IOException Unable to serialize message.
+     */
+    public final String toJsonString() throws IOException {
+        String result = serializedForm;
+        if (result == null)
+            serializedForm = result = JSON_SERIALIZER.writeValueAsString(this);
+        return result;
+    }
 }
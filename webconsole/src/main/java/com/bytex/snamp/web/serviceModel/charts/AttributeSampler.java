@@ -0,0 +1,277 @@
+package com.bytex.snamp.web.serviceModel.charts;
+
+import com.bytex.snamp.Box;
+import com.bytex.snamp.SafeCloseable;
+import com.bytex.snamp.concurrent.LockDecorator;
+import com.bytex.snamp.connector.ManagedResourceConnectorClient;
+import com.bytex.snamp.json.InstantSerializer;
+import com.bytex.snamp.web.serviceModel.ObjectMapperSingleton;
+import org.codehaus.jackson.JsonNode;
+import org.codehaus.jackson.annotate.JsonProperty;
+import org.codehaus.jackson.map.annotate.JsonSerialize;
+import org.osgi.framework.BundleContext;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.JMException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Represents sampler of attribute values shared across all charts and sessions.
+ * <p>
+ *     Only attributes referenced by recently requested charts are sampled. Every attribute is read
+ *     once per sampling period regardless of the number of charts and sessions referencing it.
+ *     Recent samples of every attribute are stored in the bounded ring. The most recent sample is returned to the chart
+ *     only if it is not older than its time-to-live; otherwise, the attribute is read again.
+ * @author Roman Sakno
+ * @version 2.0
+ * @since 2.0
+ */
+final class AttributeSampler {
+    /**
+     * Represents sample of the attribute value.
+     */
+    public static final class AttributeSample {
+        private final String resourceName;
+        private final Attribute attribute;
+        private final Instant timeStamp;
+
+        AttributeSample(final String resourceName, final Attribute attribute, final Instant timeStamp) {
+            this.resourceName = resourceName;
+            this.attribute = attribute;
+            this.timeStamp = timeStamp;
+        }
+
+        @JsonProperty("resourceName")
+        public String getResourceName() {
+            return resourceName;
+        }
+
+        @JsonProperty("attributeName")
+        public String getAttributeName() {
+            return attribute.getName();
+        }
+
+        @JsonProperty("attributeValue")
+        public JsonNode getAttributeValue() {
+            return ObjectMapperSingleton.INSTANCE.valueToTree(attribute.getValue());
+        }
+
+        @JsonProperty("timeStamp")
+        @JsonSerialize(using = InstantSerializer.class)
+        public Instant getTimeStamp() {
+            return timeStamp;
+        }
+
+        Attribute getAttribute() {
+            return attribute;
+        }
+
+        boolean isExpired(final Duration timeToLive) {
+            return Duration.between(timeStamp, Instant.now()).compareTo(timeToLive) > 0;
+        }
+    }
+
+    private static final class SampleRing {
+        private final AttributeSample[] samples;
+        private final LockDecorator readLock, writeLock;
+        private int head;
+        private int size;
+        private volatile long lastAccess;
+
+        private SampleRing(final int capacity) {
+            samples = new AttributeSample[capacity];
+            final ReadWriteLock rwLock = new ReentrantReadWriteLock();
+            readLock = LockDecorator.readLock(rwLock);
+            writeLock = LockDecorator.writeLock(rwLock);
+            head = size = 0;
+            touch();
+        }
+
+        private void touch() {
+            lastAccess = System.nanoTime();
+        }
+
+        private boolean isExpired(final long idleTimeNanos) {
+            return System.nanoTime() - lastAccess > idleTimeNanos;
+        }
+
+        private void add(final AttributeSample sample) {
+            try (final SafeCloseable ignored = writeLock.acquireLock()) {
+                samples[head] = sample;
+                head = (head + 1) % samples.length;
+                size = Math.min(size + 1, samples.length);
+            }
+        }
+
+        private AttributeSample getLast() {
+            try (final SafeCloseable ignored = readLock.acquireLock()) {
+                return size == 0 ? null : samples[(head - 1 + samples.length) % samples.length];
+            }
+        }
+
+        private List<AttributeSample> toList() {
+            try (final SafeCloseable ignored = readLock.acquireLock()) {
+                final List<AttributeSample> result = new ArrayList<>(size);
+                for (int i = size; i > 0; i--)
+                    result.add(samples[(head - i + samples.length) % samples.length]);
+                return result;
+            }
+        }
+    }
+
+    private final ConcurrentMap<String, ConcurrentMap<String, SampleRing>> resources;
+    private final int capacity;
+    private final long idleTimeNanos;
+    private final Duration sampleTimeToLive;
+
+    /**
+     * Initializes a new sampler.
+     * @param capacity Maximum number of samples stored for every attribute.
+     * @param idleTime Time after which the attribute not requested by any chart is no longer sampled.
+     * @param sampleTimeToLive Time after which the most recent sample is considered as outdated.
+     */
+    AttributeSampler(final int capacity, final Duration idleTime, final Duration sampleTimeToLive) {
+        if (capacity < 1)
+            throw new IllegalArgumentException("Capacity of sampler cannot be less than 1");
+        this.capacity = capacity;
+        idleTimeNanos = idleTime.toNanos();
+        this.sampleTimeToLive = Objects.requireNonNull(sampleTimeToLive);
+        resources = new ConcurrentHashMap<>();
+    }
+
+    private SampleRing getRing(final String resourceName, final String attributeName) {
+        final Box<SampleRing> ring = Box.of(null);
+        //ring is registered atomically with removal of idle resources in sample()
+        resources.compute(resourceName, (name, rings) -> {
+            if (rings == null)
+                rings = new ConcurrentHashMap<>();
+            ring.set(rings.computeIfAbsent(attributeName, attribute -> new SampleRing(capacity)));
+            return rings;
+        });
+        ring.get().touch();
+        return ring.get();
+    }
+
+    private static AttributeSample readSample(final BundleContext context,
+                                              final String resourceName,
+                                              final String attributeName) throws JMException {
+        final Optional<ManagedResourceConnectorClient> client = ManagedResourceConnectorClient.tryCreate(context, resourceName);
+        if (client.isPresent())
+            try {
+                return new AttributeSample(resourceName, new Attribute(attributeName, client.get().getAttribute(attributeName)), Instant.now());
+            } finally {
+                client.get().close();
+            }
+        else
+            return null;
+    }
+
+    private void evict(final String resourceName, final String attributeName) {
+        resources.computeIfPresent(resourceName, (name, rings) -> {
+            rings.remove(attributeName);
+            return rings.isEmpty() ? null : rings;
+        });
+    }
+
+    /**
+     * Gets the most recent sample of the attribute and subscribes the attribute to sampling.
+     * <p>
+     *     The attribute is read from the resource directly if it was not sampled yet or its most recent sample is outdated.
+     *     The attribute is no longer sampled if it cannot be read.
+     * @param context Bundle context used to obtain resource connector.
+     * @param resourceName Name of the resource.
+     * @param attributeName Name of the attribute.
+     * @return The most recent sample; or {@literal null} if resource doesn't exist or attribute cannot be read.
+     */
+    AttributeSample getLastSample(final BundleContext context,
+                                  final String resourceName,
+                                  final String attributeName) {
+        final SampleRing ring = getRing(resourceName, attributeName);
+        AttributeSample sample = ring.getLast();
+        if (sample == null || sample.isExpired(sampleTimeToLive)) {
+            try {
+                sample = readSample(context, resourceName, attributeName);
+            } catch (final JMException e) {
+                sample = null;  //attribute is not available
+            }
+            if (sample == null)
+                evict(resourceName, attributeName);
+            else
+                ring.add(sample);
+        }
+        return sample;
+    }
+
+    /**
+     * Gets recent samples of the attribute.
+     * @param resourceName Name of the resource.
+     * @param attributeName Name of the attribute.
+     * @return Recent samples of the attribute in chronological order.
+     */
+    List<AttributeSample> getSamples(final String resourceName, final String attributeName) {
+        return getRing(resourceName, attributeName).toList();
+    }
+
+    private void sample(final BundleContext context,
+                        final String resourceName,
+                        final Map<String, SampleRing> rings) {
+        final Optional<ManagedResourceConnectorClient> client = ManagedResourceConnectorClient.tryCreate(context, resourceName);
+        if (client.isPresent()) {
+            final AttributeList values;
+            try {
+                //read only those attributes which are referenced by charts
+                values = client.get().getAttributes(rings.keySet().toArray(new String[rings.size()]));
+            } finally {
+                client.get().close();
+            }
+            final Instant timeStamp = Instant.now();
+            for (final Attribute attribute : values.asList()) {
+                final SampleRing ring = rings.get(attribute.getName());
+                if (ring != null)
+                    ring.add(new AttributeSample(resourceName, attribute, timeStamp));
+            }
+        } else  //samples of the removed resource should not be displayed
+            resources.remove(resourceName, rings);
+    }
+
+    /**
+     * Reads all subscribed attributes.
+     * @param context Bundle context used to obtain resource connectors.
+     */
+    void sample(final BundleContext context) {
+        for (final String resourceName : resources.keySet()) {
+            //attributes which are not requested by any chart should not be sampled
+            final Map<String, SampleRing> rings = resources.computeIfPresent(resourceName, (name, attributes) -> {
+                attributes.values().removeIf(ring -> ring.isExpired(idleTimeNanos));
+                return attributes.isEmpty() ? null : attributes;
+            });
+            if (rings != null)
+                sample(context, resourceName, rings);
+        }
+    }
+
+    /**
+     * Determines whether the attribute is sampled.
+     * @param resourceName Name of the resource.
+     * @param attributeName Name of the attribute.
+     * @return {@literal true}, if the attribute is sampled; otherwise, {@literal false}.
+     */
+    boolean isSampled(final String resourceName, final String attributeName) {
+        final Map<String, SampleRing> rings = resources.get(resourceName);
+        return rings != null && rings.containsKey(attributeName);
+    }
+
+    /**
+     * Removes all samples.
+     */
+    void clear() {
+        resources.clear();
+    }
+}
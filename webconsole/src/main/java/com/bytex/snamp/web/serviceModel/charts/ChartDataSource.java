@@ -1,5 +1,8 @@
 package com.bytex.snamp.web.serviceModel.charts;
 
+import com.bytex.snamp.SafeCloseable;
+import com.bytex.snamp.concurrent.LockDecorator;
+import com.bytex.snamp.concurrent.WeakRepeater;
 import com.bytex.snamp.web.serviceModel.ComputingService;
 import com.bytex.snamp.web.serviceModel.RESTController;
 import com.google.common.collect.HashMultimap;
@@ -11,14 +14,14 @@ import javax.annotation.Nonnull;
 import javax.ws.rs.*;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
-import java.util.Collection;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Map;
+import java.time.Duration;
+import java.util.*;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -33,11 +36,58 @@ import static com.bytex.snamp.internal.Utils.callAndWrapException;
 @Path("/")
 public final class ChartDataSource extends ComputingService<List<Chart>, Map<String, Collection<ChartData>>, Dashboard> implements RESTController {
     private static final String URL_CONTEXT = "/charts";
+    private static final Duration SAMPLING_PERIOD = Duration.ofSeconds(1L);
+    private static final int SAMPLES_CAPACITY = 60;
+    private static final Duration SAMPLING_IDLE_TIME = Duration.ofMinutes(1L);
+    private static final Duration SAMPLE_TIME_TO_LIVE = SAMPLING_PERIOD.multipliedBy(2L);
+
+    private static final class SamplingRepeater extends WeakRepeater<ChartDataSource> {
+        private SamplingRepeater(final ChartDataSource input) {
+            super(SAMPLING_PERIOD, input);
+        }
+
+        @Override
+        protected String generateThreadName() {
+            return "ChartsSampling";
+        }
+
+        @Override
+        protected void doAction() throws InterruptedException {
+            getReferenceOrTerminate().sampleAttributes();
+        }
+    }
+
     private final ExecutorService threadPool;
+    private final AttributeSampler sampler;
+    private final LockDecorator readLock, writeLock;
+    private SamplingRepeater sampling;
 
     public ChartDataSource(@Nonnull final ExecutorService threadPool) {
         super(Dashboard.class);
         this.threadPool = threadPool;
+        sampler = new AttributeSampler(SAMPLES_CAPACITY, SAMPLING_IDLE_TIME, SAMPLE_TIME_TO_LIVE);
+        final ReadWriteLock rwLock = new ReentrantReadWriteLock();
+        readLock = LockDecorator.readLock(rwLock);
+        writeLock = LockDecorator.writeLock(rwLock);
+    }
+
+    private void sampleAttributes() {
+        sampler.sample(getBundleContext());
+    }
+
+    private boolean isSampling() {
+        return readLock.supplyBool(() -> sampling != null);
+    }
+
+    private void startSampling() {
+        //sampling is started once, so the exclusive lock is not acquired by every request
+        if (!isSampling())
+            try (final SafeCloseable ignored = writeLock.acquireLock()) {
+                if (sampling == null) {
+                    sampling = new SamplingRepeater(this);
+                    sampling.run();
+                }
+            }
     }
 
     private static final class ChartDataSeries{
@@ -45,16 +95,27 @@ public final class ChartDataSource extends ComputingService<List<Chart>, Map<Str
         private final Iterable<? extends ChartData> series;
 
         private ChartDataSeries(final Chart chart,
-                                final BundleContext context) throws Exception {
+                                final BundleContext context,
+                                final AttributeSampler sampler) throws Exception {
             chartName = chart.getName();
-            series = chart.collectChartData(context);
+            series = collectChartData(chart, context, sampler);
         }
 
         private <E extends Exception> ChartDataSeries(final Chart chart,
                                                       final BundleContext context,
+                                                      final AttributeSampler sampler,
                                                       final Function<? super Exception, E> exceptionFactory) throws E {
             chartName = chart.getName();
-            series = callAndWrapException(() -> chart.collectChartData(context), exceptionFactory);
+            series = callAndWrapException(() -> collectChartData(chart, context, sampler), exceptionFactory);
+        }
+
+        private static Iterable<? extends ChartData> collectChartData(final Chart chart,
+                                                                      final BundleContext context,
+                                                                      final AttributeSampler sampler) throws Exception {
+            //charts of attribute values are rendered from samples shared across all sessions
+            return chart instanceof ChartOfAttributeValues ?
+                    ((ChartOfAttributeValues) chart).collectChartData(context, sampler) :
+                    chart.collectChartData(context);
         }
 
         void exportTo(final Multimap<String, ChartData> output){
@@ -63,6 +124,7 @@ public final class ChartDataSource extends ComputingService<List<Chart>, Map<Str
     }
 
     private static Multimap<String, ChartData> compute(final BundleContext context,
+                                                       final AttributeSampler sampler,
                                                        final Collection<Chart> charts,
                                                        final ExecutorService threadPool) {
         final class ChartCollectionTaskList extends LinkedList<Callable<ChartDataSeries>> implements Callable<Multimap<String, ChartData>>, Consumer<Chart> {
@@ -81,7 +143,7 @@ public final class ChartDataSource extends ComputingService<List<Chart>, Map<Str
 
             @Override
             public void accept(final Chart chart) {
-                add(() -> new ChartDataSeries(chart, context));
+                add(() -> new ChartDataSeries(chart, context, sampler));
             }
         }
 
@@ -90,9 +152,9 @@ public final class ChartDataSource extends ComputingService<List<Chart>, Map<Str
         return callAndWrapException(tasks, e -> new WebApplicationException(e, Response.status(408).build()));
     }
 
-    private static Multimap<String, ChartData> compute(final BundleContext context, final Collection<Chart> charts) {
+    private static Multimap<String, ChartData> compute(final BundleContext context, final AttributeSampler sampler, final Collection<Chart> charts) {
         return charts.stream()
-                .map(chart -> new ChartDataSeries(chart, context, WebApplicationException::new))
+                .map(chart -> new ChartDataSeries(chart, context, sampler, WebApplicationException::new))
                 .collect(HashMultimap::<String, ChartData>create, (result, series) -> series.exportTo(result), HashMultimap::putAll);
     }
 
@@ -102,19 +164,36 @@ public final class ChartDataSource extends ComputingService<List<Chart>, Map<Str
     @Consumes(MediaType.APPLICATION_JSON)
     @Override
     public Map<String, Collection<ChartData>> compute(final List<Chart> charts) throws WebApplicationException {
+        startSampling();
         switch (charts.size()) {
             case 0:
                 return ImmutableMap.of();
             case 1:
             case 2:
-                return compute(getBundleContext(), charts).asMap();
+                return compute(getBundleContext(), sampler, charts).asMap();
             default:
-                return compute(getBundleContext(), charts, threadPool).asMap();
+                return compute(getBundleContext(), sampler, charts, threadPool).asMap();
         }
     }
 
+    /**
+     * Gets recent samples of the attribute.
+     * @param resourceName Name of the resource.
+     * @param attributeName Name of the attribute.
+     * @return Recent samples of the attribute in chronological order.
+     */
+    @GET
+    @Path("/samples/{resourceName}/{attributeName}")
+    @Produces(MediaType.APPLICATION_JSON)
+    public List<AttributeSampler.AttributeSample> getSamples(@PathParam("resourceName") final String resourceName,
+                                                             @PathParam("attributeName") final String attributeName) {
+        startSampling();
+        return sampler.getSamples(resourceName, attributeName);
+    }
+
     @Override
     protected void initialize() {
+        startSampling();
     }
 
     @Override
@@ -127,4 +206,20 @@ public final class ChartDataSource extends ComputingService<List<Chart>, Map<Str
     protected Dashboard createUserData() {
         return new Dashboard();
     }
+
+    @Override
+    public void close() throws Exception {
+        final SamplingRepeater sampling;
+        try (final SafeCloseable ignored = writeLock.acquireLock()) {
+            sampling = this.sampling;
+            this.sampling = null;
+        }
+        try {
+            if (sampling != null)
+                sampling.close(SAMPLING_PERIOD.multipliedBy(2L));
+        } finally {
+            sampler.clear();
+            super.close();
+        }
+    }
 }
@@ -5,9 +5,9 @@ import com.bytex.snamp.connector.ManagedResourceConnectorClient;
 import org.codehaus.jackson.annotate.JsonProperty;
 import org.osgi.framework.BundleContext;
 
-import javax.management.AttributeList;
+import javax.management.Attribute;
+import java.time.Instant;
 import java.util.*;
-import java.util.function.Consumer;
 
 import static com.google.common.base.Strings.isNullOrEmpty;
 
@@ -48,21 +48,50 @@ public abstract class ChartOfAttributeValues extends AbstractChart {
         instances.add(resourceName);
     }
 
-    abstract void fillChartData(final String resourceName, final AttributeList attributes, final Consumer<? super AttributeChartData> acceptor);
+    /**
+     * Gets name of the attribute displayed by this chart.
+     * @return Name of the attribute.
+     */
+    abstract String getSourceAttributeName();
 
-    @Override
-    public final Collection<? extends AttributeChartData> collectChartData(final BundleContext context) throws Exception {
-        final Set<String> resources = isNullOrEmpty(groupName) ?
+    abstract AttributeChartData createChartData(final String resourceName, final Attribute attribute, final Instant timeStamp);
+
+    private Set<String> getResources(final BundleContext context) {
+        return isNullOrEmpty(groupName) ?
                 instances :
                 ManagedResourceConnectorClient.selector().setGroupName(groupName).getResources(context);
+    }
+
+    @Override
+    public final Collection<? extends AttributeChartData> collectChartData(final BundleContext context) throws Exception {
+        final String attributeName = getSourceAttributeName();
         final List<AttributeChartData> result = new LinkedList<>();
-        for (final String resourceName : resources) {
+        for (final String resourceName : getResources(context)) {
             final Optional<ManagedResourceConnectorClient> clientRef = ManagedResourceConnectorClient.tryCreate(context, resourceName);
             if (clientRef.isPresent())
                 try (final ManagedResourceConnectorClient client = clientRef.get()) {
-                    fillChartData(resourceName, client.getAttributes(), result::add);
+                    //read only the attribute displayed by this chart
+                    for (final Attribute attribute : client.getAttributes(new String[]{attributeName}).asList())
+                        result.add(createChartData(resourceName, attribute, Instant.now()));
                 }
         }
         return result;
     }
+
+    /**
+     * Collects chart data using samples shared across all charts and sessions.
+     * @param context Bundle context.
+     * @param sampler Shared sampler of attribute values.
+     * @return Chart data series.
+     */
+    final Collection<? extends AttributeChartData> collectChartData(final BundleContext context, final AttributeSampler sampler) {
+        final String attributeName = getSourceAttributeName();
+        final List<AttributeChartData> result = new LinkedList<>();
+        for (final String resourceName : getResources(context)) {
+            final AttributeSampler.AttributeSample sample = sampler.getLastSample(context, resourceName, attributeName);
+            if (sample != null)
+                result.add(createChartData(resourceName, sample.getAttribute(), sample.getTimeStamp()));
+        }
+        return result;
+    }
 }
@@ -4,8 +4,7 @@ import org.codehaus.jackson.annotate.JsonTypeName;
 
 import javax.annotation.Nonnull;
 import javax.management.Attribute;
-import javax.management.AttributeList;
-import java.util.function.Consumer;
+import java.time.Instant;
 
 /**
  * Represents bar chart with horizontal bars where X-axis contains attribute value and Y-axis contains instance names.
@@ -34,9 +33,12 @@ public final class HorizontalBarChartOfAttributeValues extends TwoDimensionalCha
     }
 
     @Override
-    void fillChartData(final String resourceName, final AttributeList attributes, final Consumer<? super AttributeChartData> acceptor) {
-        for (final Attribute attribute : attributes.asList())
-            if (attribute.getName().equals(getAxisX().getAttributeInfo().getName()))
-                acceptor.accept(new ChartData(resourceName, attribute));
+    String getSourceAttributeName() {
+        return getAxisX().getAttributeInfo().getName();
+    }
+
+    @Override
+    ChartData createChartData(final String resourceName, final Attribute attribute, final Instant timeStamp) {
+        return new ChartData(resourceName, attribute);
     }
 }
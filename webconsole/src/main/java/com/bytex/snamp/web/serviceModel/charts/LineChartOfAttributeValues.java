@@ -8,9 +8,7 @@ import org.codehaus.jackson.node.ObjectNode;
 
 import javax.annotation.Nonnull;
 import javax.management.Attribute;
-import javax.management.AttributeList;
 import java.time.Instant;
-import java.util.function.Consumer;
 
 /**
  * Represents line chart where X is a timestamp of attribute values; Y is an attribute value.
@@ -23,9 +21,9 @@ public final class LineChartOfAttributeValues extends TwoDimensionalChartOfAttri
     public static final class ChartData extends AttributeChartData {
         private final Instant timeStamp;
 
-        private ChartData(final String instanceName, final Attribute attribute) {
+        private ChartData(final String instanceName, final Attribute attribute, final Instant timeStamp) {
             super(instanceName, attribute, LineChartOfAttributeValues.class);
-            timeStamp = Instant.now();
+            this.timeStamp = timeStamp;
         }
 
         @JsonIgnore
@@ -67,9 +65,12 @@ public final class LineChartOfAttributeValues extends TwoDimensionalChartOfAttri
     }
 
     @Override
-    void fillChartData(final String resourceName, final AttributeList attributes, final Consumer<? super AttributeChartData> acceptor) {
-        for(final Attribute attribute: attributes.asList())
-            if(attribute.getName().equals(getAxisY().getAttributeInfo().getName()))
-                acceptor.accept(new ChartData(resourceName, attribute));
+    String getSourceAttributeName() {
+        return getAxisY().getAttributeInfo().getName();
+    }
+
+    @Override
+    ChartData createChartData(final String resourceName, final Attribute attribute, final Instant timeStamp) {
+        return new ChartData(resourceName, attribute, timeStamp);
     }
 }
@@ -4,8 +4,7 @@ import org.codehaus.jackson.annotate.JsonTypeName;
 
 import javax.annotation.Nonnull;
 import javax.management.Attribute;
-import javax.management.AttributeList;
-import java.util.function.Consumer;
+import java.time.Instant;
 
 /**
  * Represents a panel with scalar values of attributes.
@@ -35,9 +34,12 @@ public final class PanelOfAttributeValues extends TwoDimensionalChartOfAttribute
     }
 
     @Override
-    void fillChartData(final String resourceName, final AttributeList attributes, final Consumer<? super AttributeChartData> acceptor) {
-        for(final Attribute attribute: attributes.asList())
-            if(attribute.getName().equals(getAxisY().getAttributeInfo().getName()))
-                acceptor.accept(new ChartData(resourceName, attribute));
+    String getSourceAttributeName() {
+        return getAxisY().getAttributeInfo().getName();
+    }
+
+    @Override
+    ChartData createChartData(final String resourceName, final Attribute attribute, final Instant timeStamp) {
+        return new ChartData(resourceName, attribute);
     }
 }
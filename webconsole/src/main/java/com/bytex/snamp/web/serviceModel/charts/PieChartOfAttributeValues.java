@@ -4,8 +4,7 @@ import org.codehaus.jackson.annotate.JsonTypeName;
 
 import javax.annotation.Nonnull;
 import javax.management.Attribute;
-import javax.management.AttributeList;
-import java.util.function.Consumer;
+import java.time.Instant;
 
 /**
  * @author Roman Sakno
@@ -33,9 +32,12 @@ import java.util.function.Consumer;
     }
 
     @Override
-    void fillChartData(final String resourceName, final AttributeList attributes, final Consumer<? super AttributeChartData> acceptor) {
-        for(final Attribute attribute: attributes.asList())
-            if(attribute.getName().equals(getAxisY().getAttributeInfo().getName()))
-                acceptor.accept(new ChartData(resourceName, attribute));
+    String getSourceAttributeName() {
+        return getAxisY().getAttributeInfo().getName();
+    }
+
+    @Override
+    ChartData createChartData(final String resourceName, final Attribute attribute, final Instant timeStamp) {
+        return new ChartData(resourceName, attribute);
     }
 }
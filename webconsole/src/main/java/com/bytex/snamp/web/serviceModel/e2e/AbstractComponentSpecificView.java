@@ -2,6 +2,7 @@ package com.bytex.snamp.web.serviceModel.e2e;
 
 import org.codehaus.jackson.annotate.JsonProperty;
 
+import java.util.Arrays;
 import java.util.Objects;
 
 /**
@@ -22,5 +23,9 @@ public abstract class AbstractComponentSpecificView extends MatrixBasedView {
         rootComponent = Objects.requireNonNull(value);
     }
 
+    @Override
+    final Object getViewKey() {
+        return Arrays.asList(getClass(), getShelfLife(), rootComponent);
+    }
 
 }
@@ -5,6 +5,7 @@ import com.bytex.snamp.ExceptionPlaceholder;
 import com.bytex.snamp.json.ThreadLocalJsonFactory;
 import com.bytex.snamp.moa.topology.ComponentVertex;
 import com.bytex.snamp.moa.topology.ComponentVertexIdentity;
+import com.bytex.snamp.moa.topology.TopologySnapshot;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
 import org.codehaus.jackson.JsonGenerator;
@@ -15,6 +16,7 @@ import org.codehaus.jackson.node.ArrayNode;
 import org.codehaus.jackson.node.ObjectNode;
 
 import java.io.IOException;
+import java.util.Optional;
 
 /**
  * Abstract adjacency matrix.
@@ -24,6 +26,29 @@ import java.io.IOException;
  */
 public abstract class AdjacencyMatrix implements Acceptor<ComponentVertex, ExceptionPlaceholder>, JsonSerializableWithType {
     private final Multimap<ComponentVertexIdentity, ComponentVertexIdentity> matrix = HashMultimap.create();
+    private TopologySnapshot snapshot;
+
+    /**
+     * Fills this matrix from the snapshot of the topology.
+     * @param snapshot Snapshot of the topology.
+     */
+    final void build(final TopologySnapshot snapshot) {
+        this.snapshot = snapshot;
+        snapshot.getVertices().forEach(this::accept);
+    }
+
+    /**
+     * Gets child components of the specified component.
+     * @param vertex Parent component.
+     * @return Children observed within the window of the snapshot; or all children if matrix is not built from snapshot.
+     */
+    final Iterable<ComponentVertex> getChildren(final ComponentVertex vertex) {
+        return snapshot == null ? vertex : snapshot.getChildren(vertex);
+    }
+
+    final Optional<TopologySnapshot.ComponentStatistics> getStatistics(final ComponentVertex vertex) {
+        return snapshot == null ? Optional.empty() : snapshot.getStatistics(vertex);
+    }
 
     final void setAdjacency(final ComponentVertex source, final ComponentVertex destination){
         matrix.put(source.getIdentity(), destination.getIdentity());
@@ -3,6 +3,7 @@ package com.bytex.snamp.web.serviceModel.e2e;
 import com.bytex.snamp.connector.metrics.Arrivals;
 import com.bytex.snamp.moa.topology.ComponentVertex;
 import com.bytex.snamp.moa.topology.ComponentVertexIdentity;
+import com.bytex.snamp.moa.topology.TopologySnapshot;
 import com.bytex.snamp.web.serviceModel.ObjectMapperSingleton;
 import org.codehaus.jackson.annotate.JsonProperty;
 import org.codehaus.jackson.node.ObjectNode;
@@ -10,6 +11,7 @@ import org.codehaus.jackson.node.ObjectNode;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 
 /**
@@ -52,7 +54,12 @@ public abstract class AdjacencyMatrixWithArrivals extends AdjacencyMatrix {
         @JsonProperty("meanRate")
         public final Map<String, Double> meanRate;
 
-        private ComponentArrivals(final ComponentVertex vertex) {
+        @JsonProperty("recentRate")
+        public final Double recentRate;
+        @JsonProperty("recentMeanResponseTime")
+        public final Long recentMeanResponseTime;
+
+        private ComponentArrivals(final ComponentVertex vertex, final Optional<TopologySnapshot.ComponentStatistics> recentStatistics) {
             final String ALL_TIME = "AllTime";
             final Arrivals metric = vertex.getArrivals();
             channels = metric.getChannels();
@@ -72,6 +79,9 @@ public abstract class AdjacencyMatrixWithArrivals extends AdjacencyMatrix {
             //rate
             maxRatePerSecond = fillMap(metric, Arrivals::getLastMaxRatePerSecond, Function.identity());
             meanRate = fillMap(metric, Arrivals::getMeanRate, Function.identity());
+            //statistics within the window of the snapshot
+            recentRate = recentStatistics.map(TopologySnapshot.ComponentStatistics::getMeanRate).orElse(null);
+            recentMeanResponseTime = recentStatistics.map(statistics -> statistics.getMeanDuration().toNanos()).orElse(null);
         }
     }
 
@@ -79,7 +89,7 @@ public abstract class AdjacencyMatrixWithArrivals extends AdjacencyMatrix {
 
     final void computeArrivals(final ComponentVertex vertex){
         if(arrivals.containsKey(vertex.getIdentity())) return; //little optimization because computing arrivals stat is expensive operation
-        arrivals.put(vertex.getIdentity(), new ComponentArrivals(vertex));
+        arrivals.put(vertex.getIdentity(), new ComponentArrivals(vertex, getStatistics(vertex)));
     }
 
     @Override
@@ -27,7 +27,7 @@ public final class ChildComponentsView extends AbstractComponentSpecificView {
             setAdjacency(source, destination);
             computeArrivals(source);
             computeArrivals(destination);
-            for (final ComponentVertex subDestination : destination)
+            for (final ComponentVertex subDestination : getChildren(destination))
                 accept(destination, subDestination);
         }
 
@@ -35,7 +35,7 @@ public final class ChildComponentsView extends AbstractComponentSpecificView {
         public void accept(final ComponentVertex vertex) {
             if (vertex.getName().equals(componentName) && vertex.checkAge(shelfLife)) { //analyze child components only for the specified component
                 computeArrivals(vertex);
-                vertex.forEach(child -> accept(vertex, child));
+                getChildren(vertex).forEach(child -> accept(vertex, child));
             }
         }
     }
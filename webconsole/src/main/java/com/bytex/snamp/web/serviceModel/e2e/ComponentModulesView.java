@@ -27,7 +27,7 @@ public final class ComponentModulesView extends AbstractComponentSpecificView {
                 setAdjacency(source, destination);
                 computeArrivals(source);
                 computeArrivals(destination);
-                for (final ComponentVertex subDestination : destination)
+                for (final ComponentVertex subDestination : getChildren(destination))
                     accept(destination, subDestination);
             }
         }
@@ -36,7 +36,7 @@ public final class ComponentModulesView extends AbstractComponentSpecificView {
         public void accept(final ComponentVertex vertex) {
             if (vertex.getName().equals(componentName) && vertex.checkAge(shelfTime)) { //analyze child components only for the specified component
                 computeArrivals(vertex);
-                vertex.forEach(child -> accept(vertex, child));
+                getChildren(vertex).forEach(child -> accept(vertex, child));
             }
         }
     }
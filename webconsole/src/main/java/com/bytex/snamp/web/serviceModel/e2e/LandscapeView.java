@@ -27,7 +27,7 @@ public final class LandscapeView extends MatrixBasedView{
         public void accept(final ComponentVertex vertex) {
             if(vertex.checkAge(shelfTime)) {
                 computeArrivals(vertex);
-                vertex.forEach(child -> setAdjacency(vertex, child));
+                getChildren(vertex).forEach(child -> setAdjacency(vertex, child));
             }
         }
     }
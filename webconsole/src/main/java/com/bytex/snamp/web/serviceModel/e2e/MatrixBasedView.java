@@ -4,11 +4,13 @@ import com.bytex.snamp.SpecialUse;
 import com.bytex.snamp.json.DurationDeserializer;
 import com.bytex.snamp.json.DurationSerializer;
 import com.bytex.snamp.moa.topology.TopologyAnalyzer;
+import com.bytex.snamp.moa.topology.TopologySnapshot;
 import org.codehaus.jackson.annotate.JsonProperty;
 import org.codehaus.jackson.map.annotate.JsonDeserialize;
 import org.codehaus.jackson.map.annotate.JsonSerialize;
 
 import java.time.Duration;
+import java.util.Arrays;
 
 /**
  * Represents view which data can be constructed as adjacency matrix.
@@ -38,8 +40,30 @@ public abstract class MatrixBasedView extends E2EView {
 
     abstract AdjacencyMatrix createMatrix();
 
+    /**
+     * Gets key that uniquely identifies data of this view within the snapshot of topology.
+     * @return Key of this view.
+     */
+    Object getViewKey() {
+        return Arrays.asList(getClass(), getShelfLife());
+    }
+
+    private AdjacencyMatrix buildMatrix(final TopologySnapshot snapshot) {
+        final AdjacencyMatrix matrix = createMatrix();
+        matrix.build(snapshot);
+        return matrix;
+    }
+
     @Override
     final AdjacencyMatrix build(final TopologyAnalyzer analyzer) {
+        final Duration shelfLife = getShelfLife();
+        if (shelfLife != null) {
+            final TopologySnapshot snapshot = analyzer.getSnapshot(shelfLife);
+            //matrix is computed once per published snapshot and shared by all requests of the same view
+            if (snapshot.getWindow().compareTo(shelfLife) >= 0)
+                return snapshot.getView(getViewKey(), this::buildMatrix);
+        }
+        //shelf life is not covered by any window of snapshots so the whole graph should be visited
         final AdjacencyMatrix matrix = createMatrix();
         analyzer.visitVertices(matrix);
         return matrix;
@@ -82,17 +82,19 @@ public final class NotificationService extends AbstractPrincipalBoundedService<N
         hub = new NotificationHub();
     }
 
-    private void handleNotification(final WebConsoleSession session, final Notification notification, final Severity severity) {
+    private void handleNotification(final WebConsoleSession session, final NotificationMessage message) {
         final NotificationSettings settings = getUserData(session);
-        if (settings.isNotificationEnabled(notification, severity))
-            session.sendMessage(new NotificationMessage(notification, severity));
+        if (settings.isNotificationEnabled(message.getNotification(), message.getSeverity()))
+            session.sendMessage(message);
     }
 
     @Override
     public void handleNotification(final NotificationEvent event) {
         final Notification notification = new NotificationBuilder(event.getNotification()).setSource(event.getResourceName()).get();
         final Severity severity = NotificationDescriptor.getSeverity(event.getMetadata());
-        forEachSession(session -> handleNotification(session, notification, severity));
+        //the same message is shared across all sessions, so it is serialized only once
+        final NotificationMessage message = new NotificationMessage(notification, severity);
+        forEachSession(session -> handleNotification(session, message));
     }
 
     @Override
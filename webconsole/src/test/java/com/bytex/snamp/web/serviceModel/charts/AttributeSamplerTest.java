@@ -0,0 +1,36 @@
+package com.bytex.snamp.web.serviceModel.charts;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.management.Attribute;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * @author Roman Sakno
+ * @version 2.0
+ * @since 2.0
+ */
+public final class AttributeSamplerTest extends Assert {
+    @Test
+    public void idleAttributeTest() throws InterruptedException {
+        final AttributeSampler sampler = new AttributeSampler(10, Duration.ofNanos(1L), Duration.ofSeconds(2L));
+        assertTrue(sampler.getSamples("resource", "memory").isEmpty());
+        assertTrue(sampler.isSampled("resource", "memory"));
+        Thread.sleep(1L);
+        //idle attribute is removed without reading the resource
+        sampler.sample(null);
+        assertFalse(sampler.isSampled("resource", "memory"));
+        //attribute can be subscribed again after removal of the resource
+        sampler.getSamples("resource", "memory");
+        assertTrue(sampler.isSampled("resource", "memory"));
+    }
+
+    @Test
+    public void sampleTimeToLiveTest() {
+        final AttributeSampler.AttributeSample sample = new AttributeSampler.AttributeSample("resource", new Attribute("memory", 42L), Instant.now().minusSeconds(3L));
+        assertTrue(sample.isExpired(Duration.ofSeconds(2L)));
+        assertFalse(sample.isExpired(Duration.ofSeconds(10L)));
+    }
+}